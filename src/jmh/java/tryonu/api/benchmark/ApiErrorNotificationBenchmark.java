@@ -0,0 +1,122 @@
+package tryonu.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tryonu.api.common.event.ApiErrorEvent;
+import tryonu.api.common.event.ApiErrorEventListener;
+import tryonu.api.common.event.ApiErrorPublisher;
+
+import java.lang.invoke.MethodHandle;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 응답마다 실행되는 슬랙 알림 준비 비용 벤치마크
+ * - ApiErrorPublisher.toStackTrace: 예외(원인 포함)를 문자열로 변환 (5xx 응답마다 요청 스레드에서 실행)
+ * - ApiErrorEventListener.buildBlockKitPayload: 슬랙 Block Kit 페이로드 생성 (4xx는 스택 트레이스 없음, 5xx는 포함)
+ * 스택 깊이는 컨트롤러 → 서비스까지 내려간 실제 요청(필터 체인 포함 100~150 프레임)과 비슷하게 맞춥니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiErrorNotificationBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiErrorNotificationBenchmark {
+
+    private static final MethodHandle TO_STACK_TRACE = BenchmarkTargets.method(ApiErrorPublisher.class,
+            "toStackTrace", String.class, Throwable.class);
+    private static final MethodHandle BUILD_BLOCK_KIT_PAYLOAD = BenchmarkTargets.method(ApiErrorEventListener.class,
+            "buildBlockKitPayload", Map.class, ApiErrorEvent.class);
+    private static final int PAYLOAD_STACK_DEPTH = 150; // 5xx 페이로드에 넣을 스택 트레이스 깊이
+
+    @State(Scope.Benchmark)
+    public static class ThrowableState {
+
+        @Param({"30", "150"})
+        public int stackDepth;
+
+        private ApiErrorPublisher apiErrorPublisher;
+        private Throwable throwable;
+
+        @Setup
+        public void setUp() {
+            apiErrorPublisher = BenchmarkTargets.withoutDependencies(ApiErrorPublisher.class);
+            throwable = new IllegalStateException("결과 이미지 처리 실패", throwAt(stackDepth));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EventState {
+
+        @Param({"400", "500"})
+        public int httpStatus;
+
+        private ApiErrorEventListener apiErrorEventListener;
+        private ApiErrorEvent event;
+
+        @Setup
+        public void setUp() throws Throwable {
+            apiErrorEventListener = BenchmarkTargets.withoutDependencies(ApiErrorEventListener.class);
+            boolean serverError = httpStatus >= 500;
+            String stackTrace = serverError ? (String) TO_STACK_TRACE.invoke(
+                    BenchmarkTargets.withoutDependencies(ApiErrorPublisher.class),
+                    new IllegalStateException("결과 이미지 처리 실패", throwAt(PAYLOAD_STACK_DEPTH))) : null;
+            event = new ApiErrorEvent(
+                    httpStatus,
+                    serverError ? "INTERNAL_SERVER_ERROR" : "INVALID_REQUEST",
+                    serverError ? "서버 내부 오류가 발생했습니다." : "요청 값이 올바르지 않습니다.",
+                    "POST",
+                    "/api/try-on/size-advice",
+                    "source=app",
+                    "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15",
+                    "203.0.113.10",
+                    "{\"tryOnJobId\":\"1c3f077f-ef18-4361-9ed0-4701904f3d90\",\"height\":170,\"weight\":65}",
+                    stackTrace,
+                    serverError ? null : Map.of("height", "키는 100 이상이어야 합니다.", "weight", "몸무게는 필수입니다."),
+                    42L,
+                    Instant.now());
+        }
+    }
+
+    @Benchmark
+    public String toStackTrace(ThrowableState state) throws Throwable {
+        return (String) TO_STACK_TRACE.invoke(state.apiErrorPublisher, state.throwable);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> buildBlockKitPayload(EventState state) throws Throwable {
+        return (Map<String, Object>) BUILD_BLOCK_KIT_PAYLOAD.invoke(state.apiErrorEventListener, state.event);
+    }
+
+    /**
+     * 지정한 깊이에서 던져진 예외
+     */
+    private static RuntimeException throwAt(int depth) {
+        try {
+            recurse(depth);
+            throw new AssertionError("도달하지 않음");
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void recurse(int remaining) {
+        if (remaining <= 0) {
+            throw new IllegalArgumentException("업스트림 응답 형식이 올바르지 않습니다.");
+        }
+        recurse(remaining - 1);
+    }
+}
@@ -0,0 +1,79 @@
+package tryonu.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import tryonu.api.common.wrapper.ApiResponseWrapper;
+import tryonu.api.dto.responses.DefaultModelDto;
+import tryonu.api.dto.responses.TryOnResultDto;
+import tryonu.api.dto.responses.UserInfoResponse;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 유저 정보 조회 응답(ApiResponseWrapper&lt;UserInfoResponse&gt;) JSON 직렬화 벤치마크
+ * 앱 실행 시마다 호출되는 응답으로, 피팅 결과 수에 따라 본문 크기가 커집니다.
+ * ObjectMapper는 Spring Boot와 같은 Jackson2ObjectMapperBuilder 기본 설정으로 만듭니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final String CDN = "https://cdn.tryonu.co.kr";
+
+    @Param({"0", "20", "100"})
+    public int tryOnResultCount;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseWrapper<UserInfoResponse> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<DefaultModelDto> defaultModels = List.of(
+                defaultModel(1L, "default-models/female", "여자 모델", 1, false),
+                defaultModel(2L, "default-models/male", "남자 모델", 2, false),
+                defaultModel(5L, "models/custom-5", "슬림 한국인 남성", 3, true));
+        List<TryOnResultDto> tryOnResults = IntStream.range(0, tryOnResultCount)
+                .mapToObj(i -> {
+                    String jobId = new UUID(0x1c3f077fef184361L, i).toString();
+                    return new TryOnResultDto(jobId, CDN + "/tryon-results/" + jobId + ".png", 5L, "슬림 한국인 남성",
+                            CDN + "/derived/thumb/tryon-results/" + jobId + ".jpg",
+                            CDN + "/derived/medium/tryon-results/" + jobId + ".jpg");
+                })
+                .toList();
+        response = ApiResponseWrapper.ofSuccess(new UserInfoResponse(defaultModels, tryOnResults));
+    }
+
+    @Benchmark
+    public byte[] serializeUserInfoResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static DefaultModelDto defaultModel(long id, String path, String modelName, int sortOrder,
+            boolean isCustom) {
+        return new DefaultModelDto(id, CDN + "/" + path + ".png", modelName, sortOrder, isCustom,
+                CDN + "/derived/thumb/" + path + ".jpg", CDN + "/derived/medium/" + path + ".jpg");
+    }
+}
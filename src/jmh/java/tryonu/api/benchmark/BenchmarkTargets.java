@@ -0,0 +1,68 @@
+package tryonu.api.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 벤치마크 대상 접근 도우미
+ * 측정 대상 대부분이 private 메서드이므로, 운영 코드의 접근 제한자를 바꾸지 않고 MethodHandle로 호출합니다.
+ * static final 필드에 담아 두면 JIT가 상수로 취급해 인라인하므로 호출 비용은 측정값에 거의 섞이지 않습니다.
+ */
+final class BenchmarkTargets {
+
+    private BenchmarkTargets() {
+    }
+
+    /**
+     * private/protected 인스턴스 메서드 핸들
+     */
+    static MethodHandle method(Class<?> type, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                    .findVirtual(type, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("벤치마크 대상 메서드를 찾을 수 없습니다: " + type.getName() + "#" + name, e);
+        }
+    }
+
+    /**
+     * package-private 중첩 클래스의 생성자 핸들
+     */
+    static MethodHandle constructor(String className, Class<?>... parameterTypes) {
+        try {
+            Class<?> type = Class.forName(className);
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                    .findConstructor(type, MethodType.methodType(void.class, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("벤치마크 대상 생성자를 찾을 수 없습니다: " + className, e);
+        }
+    }
+
+    /**
+     * 의존성을 모두 null로 채운 빈 인스턴스 (측정 대상 메서드가 주입받은 의존성을 쓰지 않는 경우에만 사용)
+     */
+    static <T> T withoutDependencies(Class<T> type) {
+        try {
+            Constructor<?> constructor = Arrays.stream(type.getDeclaredConstructors())
+                    .max(Comparator.comparingInt(Constructor::getParameterCount))
+                    .orElseThrow();
+            constructor.setAccessible(true);
+            Object[] arguments = Arrays.stream(constructor.getParameterTypes())
+                    .map(BenchmarkTargets::defaultValue)
+                    .toArray();
+            return type.cast(constructor.newInstance(arguments));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("벤치마크 대상 인스턴스를 만들 수 없습니다: " + type.getName(), e);
+        }
+    }
+
+    private static Object defaultValue(Class<?> parameterType) {
+        // 기본형은 배열 원소의 기본값(0, false)을 사용
+        return parameterType.isPrimitive() ? Array.get(Array.newInstance(parameterType, 1), 0) : null;
+    }
+}
@@ -0,0 +1,111 @@
+package tryonu.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tryonu.api.common.util.ImageInspector;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImageInspector 헤더 검사 벤치마크
+ * 실제 업로드와 비슷한 크기(3000x4000)의 이미지로 형식/크기 판별 비용을 측정하고, ImageIO 리더로 헤더만 읽는 방식과 비교합니다.
+ * JPEG은 휴대폰 사진처럼 SOF 앞에 큰 EXIF(APP1, 약 60KB) 세그먼트를 넣어 세그먼트 건너뛰기 비용까지 포함합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ImageInspectorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImageInspectorBenchmark {
+
+    private static final int EXIF_PADDING_BYTES = 60 * 1024;
+
+    @Param({"jpeg", "png", "gif"})
+    public String format;
+
+    private byte[] image;
+    private ByteBuffer mappedLikeBuffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage source = new BufferedImage(3000, 4000, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(source, format, out);
+        byte[] encoded = out.toByteArray();
+        image = "jpeg".equals(format) ? withExifPadding(encoded) : encoded;
+
+        // 메모리 매핑된 페이로드와 같은 direct 버퍼
+        mappedLikeBuffer = ByteBuffer.allocateDirect(image.length).put(image).flip();
+    }
+
+    @Benchmark
+    public Optional<ImageInspector.ImageInfo> inspectHeapBuffer() {
+        return ImageInspector.inspect(image);
+    }
+
+    @Benchmark
+    public Optional<ImageInspector.ImageInfo> inspectDirectBuffer() {
+        return ImageInspector.inspect(mappedLikeBuffer);
+    }
+
+    @Benchmark
+    public Optional<ImageInspector.ImageInfo> inspectStream() throws IOException {
+        return ImageInspector.inspect(new ByteArrayInputStream(image));
+    }
+
+    /**
+     * 비교 기준: ImageIO 리더로 헤더만 읽어 크기 조회
+     */
+    @Benchmark
+    public long imageIoHeaderProbe() throws IOException {
+        try (ImageInputStream imageInputStream = new MemoryCacheImageInputStream(new ByteArrayInputStream(image))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                return (long) reader.getWidth(0) * reader.getHeight(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * SOI 바로 뒤에 APP1 세그먼트를 넣어 SOF를 뒤로 밀어냄
+     */
+    private static byte[] withExifPadding(byte[] jpeg) {
+        int segmentLength = EXIF_PADDING_BYTES + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + segmentLength + 2);
+        out.write(jpeg, 0, 2); // SOI
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(segmentLength >> 8);
+        out.write(segmentLength & 0xFF);
+        out.writeBytes(new byte[EXIF_PADDING_BYTES]);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package tryonu.api.benchmark;
+
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import tryonu.api.common.auth.UuidAuthenticationFilter;
+
+import java.io.ByteArrayInputStream;
+import java.lang.invoke.MethodHandle;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 요청이 지나가는 서블릿 필터 벤치마크
+ * - UuidAuthenticationFilter.shouldNotFilter: 제외 경로 AntPathRequestMatcher 목록을 스트림으로 검사 (대부분의 API 요청은 목록 전체를 검사)
+ * - RequestBodyCachingFilter.CachedBodyHttpServletRequest 생성: JSON 본문 복사 + 문자열 캐시 생성
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RequestFilterBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestFilterBenchmark {
+
+    private static final MethodHandle SHOULD_NOT_FILTER = BenchmarkTargets.method(UuidAuthenticationFilter.class,
+            "shouldNotFilter", boolean.class, HttpServletRequest.class);
+    private static final MethodHandle CACHED_BODY_REQUEST = BenchmarkTargets.constructor(
+            "tryonu.api.common.filter.RequestBodyCachingFilter$CachedBodyHttpServletRequest",
+            HttpServletRequest.class, int.class);
+    private static final int BODY_CACHE_LIMIT_BYTES = 64 * 1024; // monitoring.request-body.cache-limit-bytes 기본값
+
+    @State(Scope.Benchmark)
+    public static class PathState {
+
+        /**
+         * 인증 대상 API 경로(목록 전체 검사), 첫 번째 제외 경로, 마지막 제외 경로
+         */
+        @Param({"/try-on/job/1c3f077f-ef18-4361-9ed0-4701904f3d90", "/health", "/error"})
+        public String path;
+
+        private UuidAuthenticationFilter uuidAuthenticationFilter;
+        private HttpServletRequest request;
+
+        @Setup
+        public void setUp() {
+            uuidAuthenticationFilter = BenchmarkTargets.withoutDependencies(UuidAuthenticationFilter.class);
+            MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", path);
+            mockRequest.setServletPath(path);
+            request = mockRequest;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BodyState {
+
+        @Param({"256", "16384"})
+        public int bodyBytes;
+
+        private HttpServletRequest request;
+
+        @Setup
+        public void setUp() {
+            byte[] body = jsonBody(bodyBytes);
+            MockHttpServletRequest mockRequest = new MockHttpServletRequest("POST", "/try-on/size-advice");
+            mockRequest.setContentType("application/json");
+            mockRequest.setContent(body);
+            // MockHttpServletRequest는 입력 스트림을 한 번만 만들어 재사용하므로 호출마다 새 스트림을 돌려주도록 감쌈
+            request = new HttpServletRequestWrapper(mockRequest) {
+                @Override
+                public ServletInputStream getInputStream() {
+                    return new DelegatingServletInputStream(new ByteArrayInputStream(body));
+                }
+            };
+        }
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter(PathState state) throws Throwable {
+        return (boolean) SHOULD_NOT_FILTER.invoke(state.uuidAuthenticationFilter, state.request);
+    }
+
+    @Benchmark
+    public HttpServletRequest cachedBodyRequest(BodyState state) throws Throwable {
+        return (HttpServletRequest) CACHED_BODY_REQUEST.invoke(state.request, BODY_CACHE_LIMIT_BYTES);
+    }
+
+    /**
+     * 지정한 크기에 가까운 JSON 본문 (한글 포함)
+     */
+    private static byte[] jsonBody(int targetBytes) {
+        String prefix = "{\"tryOnJobId\":\"1c3f077f-ef18-4361-9ed0-4701904f3d90\",\"memo\":\"";
+        String word = "사이즈 추천 요청 size-advice ";
+        int wordBytes = word.getBytes(StandardCharsets.UTF_8).length;
+        int repeat = Math.max(0, (targetBytes - prefix.length() - 2) / wordBytes);
+        return (prefix + word.repeat(repeat) + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
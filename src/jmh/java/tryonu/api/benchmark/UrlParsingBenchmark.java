@@ -0,0 +1,85 @@
+package tryonu.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tryonu.api.service.company.CompanyServiceImpl;
+import tryonu.api.service.tryon.TryOnServiceImpl;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 URL 문자열 처리 벤치마크
+ * - CompanyServiceImpl.extractDomainFromUrl: 쇼핑몰 페이지 URL에서 회사 도메인 추출 (에셋 조회 요청마다 실행)
+ * - TryOnServiceImpl.detectMimeType: 이미지 URL 확장자로 MIME 타입 추정 (Data URL 변환의 마지막 대체 경로)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UrlParsingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlParsingBenchmark {
+
+    private static final MethodHandle EXTRACT_DOMAIN_FROM_URL = BenchmarkTargets.method(CompanyServiceImpl.class,
+            "extractDomainFromUrl", String.class, String.class);
+    private static final MethodHandle DETECT_MIME_TYPE = BenchmarkTargets.method(TryOnServiceImpl.class,
+            "detectMimeType", String.class, String.class);
+
+    @State(Scope.Benchmark)
+    public static class PageUrlState {
+
+        /**
+         * 서브도메인 + 쿼리 문자열, www 도메인
+         */
+        @Param({"https://m.a-bly.com/goods/12345678?utm_source=tryonu&utm_medium=extension",
+                "https://www.musinsa.com/products/3456789"})
+        public String url;
+
+        private CompanyServiceImpl companyService;
+
+        @Setup
+        public void setUp() {
+            companyService = BenchmarkTargets.withoutDependencies(CompanyServiceImpl.class);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ImageUrlState {
+
+        /**
+         * 앞쪽 분기(jpeg), 중간 분기(webp), 확장자 없음(모든 분기를 거쳐 기본값)
+         */
+        @Param({"https://cdn.tryonu.co.kr/tryon-results/1c3f077f-ef18-4361-9ed0-4701904f3d90.JPG",
+                "https://image.msscdn.net/images/goods_img/20240101/3456789/3456789_1_500.webp?v=2",
+                "https://cdn.fashn.ai/outputs/1c3f077f-ef18-4361-9ed0-4701904f3d90/output_0"})
+        public String url;
+
+        private TryOnServiceImpl tryOnService;
+
+        @Setup
+        public void setUp() {
+            tryOnService = BenchmarkTargets.withoutDependencies(TryOnServiceImpl.class);
+        }
+    }
+
+    @Benchmark
+    public String extractDomainFromUrl(PageUrlState state) throws Throwable {
+        return (String) EXTRACT_DOMAIN_FROM_URL.invoke(state.companyService, state.url);
+    }
+
+    @Benchmark
+    public String detectMimeType(ImageUrlState state) throws Throwable {
+        return (String) DETECT_MIME_TYPE.invoke(state.tryOnService, state.url);
+    }
+}
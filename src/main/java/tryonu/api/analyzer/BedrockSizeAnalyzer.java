@@ -9,13 +9,18 @@ import software.amazon.awssdk.services.bedrockruntime.model.BedrockRuntimeExcept
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelRequest;
 import software.amazon.awssdk.services.bedrockruntime.model.InvokeModelResponse;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Duration;
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
+import tryonu.api.common.enums.TryOnStage;
 import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.util.Deadline;
+import tryonu.api.common.util.DeadlineGuard;
 import tryonu.api.common.exception.enums.ErrorCode;
 
 @Slf4j
@@ -23,13 +28,19 @@ import tryonu.api.common.exception.enums.ErrorCode;
 @RequiredArgsConstructor
 public class BedrockSizeAnalyzer implements SizeAnalyzer {
 
+    private static final Duration MIN_INVOKE_BUDGET = Duration.ofSeconds(1);
+
     private final BedrockRuntimeClient bedrockRuntimeClient;
+    private final DeadlineGuard deadlineGuard;
 
     @Value("${spring.ai.chat.model}")
     private String modelId;
 
     @Override
-    public SizeAnalyzeResult analyze(SizeAnalyzeRequest sizeAnalyzeRequest) {
+    public SizeAnalyzeResult analyze(SizeAnalyzeRequest sizeAnalyzeRequest, Deadline deadline) {
+        // 남은 시간이 없으면 Bedrock을 호출하지 않음
+        deadlineGuard.ensureRemaining(deadline, TryOnStage.SIZE_ADVICE, MIN_INVOKE_BUDGET);
+
         String system =
                 "다음은 옷의 평균 사이즈야.\n" +
                 "| SIZE | 가슴둘레   | 어깨너비     | 소매길이     | 총길이        |\n" +
@@ -67,6 +78,8 @@ public class BedrockSizeAnalyzer implements SizeAnalyzer {
             String requestJson = mapper.writeValueAsString(payload);
 
         InvokeModelRequest invoke = InvokeModelRequest.builder()
+                // 재시도를 포함한 전체 호출 시간을 요청의 남은 시간으로 제한
+                .overrideConfiguration(config -> config.apiCallTimeout(deadline.remaining()))
                 .modelId(modelId)
                 .contentType("application/json")
                 .accept("application/json")
@@ -84,6 +97,8 @@ public class BedrockSizeAnalyzer implements SizeAnalyzer {
         } catch (JsonProcessingException e) {
             log.error("AI 요청 JSON 생성에 실패했습니다.", e);
             throw new CustomException(ErrorCode.AI_REQUEST_BUILD_FAILED);
+        } catch (ApiCallTimeoutException e) {
+            throw deadlineGuard.timedOut(deadline, TryOnStage.SIZE_ADVICE);
         } catch (BedrockRuntimeException e) {
             log.error("Bedrock 서비스 호출에 실패했습니다.", e);
             // HTTP 401 Unauthorized, 403 Forbidden 등은 인증/권한 오류로 간주
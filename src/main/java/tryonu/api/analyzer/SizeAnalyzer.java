@@ -1,5 +1,7 @@
 package tryonu.api.analyzer;
 
+import tryonu.api.common.util.Deadline;
+
 public interface SizeAnalyzer {
-    SizeAnalyzeResult analyze(SizeAnalyzeRequest sizeAnalyzeRequest);
+    SizeAnalyzeResult analyze(SizeAnalyzeRequest sizeAnalyzeRequest, Deadline deadline);
 }
@@ -0,0 +1,9 @@
+package tryonu.api.common.enums;
+
+/**
+ * 이미지 파생본(썸네일/중간 크기)을 생성하는 대상 엔티티
+ */
+public enum DerivativeTarget {
+    TRY_ON_RESULT,
+    DEFAULT_MODEL
+}
@@ -0,0 +1,32 @@
+package tryonu.api.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 매직 바이트로 판별하는 이미지 형식 enum
+ * 클라이언트가 보낸 확장자/Content-Type 대신 실제 내용 기준의 MIME 타입으로 사용합니다.
+ */
+@Getter
+public enum ImageFormat {
+    JPEG("image/jpeg", "jpg"),
+    PNG("image/png", "png"),
+    WEBP("image/webp", "webp"),
+    GIF("image/gif", "gif"),
+    BMP("image/bmp", "bmp"),
+    HEIC("image/heic", "heic");
+
+    private final String mimeType;
+    private final String extension;
+
+    ImageFormat(String mimeType, String extension) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+    }
+
+    /**
+     * 메트릭 태그 값 (소문자)
+     */
+    public String getTag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,19 @@
+package tryonu.api.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 목록 화면용 이미지 파생본 크기 enum
+ * 원본 이미지 키 옆의 {폴더}/derived/{pathSegment}/ 아래에 저장합니다.
+ */
+@Getter
+public enum ImageVariant {
+    THUMBNAIL("thumb"), // 목록 카드
+    MEDIUM("medium"); // 상세 미리보기
+
+    private final String pathSegment;
+
+    ImageVariant(String pathSegment) {
+        this.pathSegment = pathSegment;
+    }
+}
@@ -0,0 +1,24 @@
+package tryonu.api.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 가상 피팅 작업(Job) 진행 상태 enum
+ * QUEUED → CLASSIFYING → FITTING → POSTPROCESSING → COMPLETED 순으로 진행되며,
+ * 어느 단계에서든 실패하면 FAILED로 종료됩니다.
+ */
+@Getter
+public enum TryOnJobStatus {
+    QUEUED(false),          // 작업 접수 (실행 대기)
+    CLASSIFYING(false),     // 의류 카테고리 예측 및 의류 이미지 업로드
+    FITTING(false),         // 가상 피팅 API 실행 및 완료 대기
+    POSTPROCESSING(false),  // 결과 이미지 배경 제거 및 업로드
+    COMPLETED(true),        // 완료
+    FAILED(true);           // 실패
+
+    private final boolean terminal;
+
+    TryOnJobStatus(boolean terminal) {
+        this.terminal = terminal;
+    }
+}
@@ -0,0 +1,32 @@
+package tryonu.api.common.enums;
+
+import lombok.Getter;
+
+/**
+ * 가상 피팅 파이프라인 단계 enum
+ * 단계별 소요 시간(tryon.stage.duration), 처리 제한 시간(Deadline) 소진 단계 등 단계별 메트릭의 태그 값으로 사용합니다.
+ */
+@Getter
+public enum TryOnStage {
+    LOOKUP("lookup"),                         // 기본 모델 / 피팅 결과 조회
+    CLOTH_NORMALIZE("cloth_normalize"),       // 의류 이미지 검증 및 정규화 (예측과 업로드가 공유)
+    CLASSIFICATION("classification"),         // 의류 카테고리 예측
+    CLOTH_UPLOAD("cloth_upload"),             // 의류 이미지 S3 업로드
+    RESULT_CACHE("result_cache"),             // 사용자 간 공유 피팅 결과 캐시 조회
+    FITTING_SUBMIT("fitting_submit"),         // 가상 피팅 API 요청
+    FITTING_WAIT("fitting_wait"),             // 가상 피팅 완료 대기
+    COALESCED_WAIT("coalesced_wait"),         // 진행 중인 동일 가상 피팅 결과 대기 (병합된 요청)
+    RESULT_DOWNLOAD("result_download"),       // 가상 피팅 결과 이미지 다운로드
+    BACKGROUND_REMOVAL("background_removal"), // 결과 이미지 배경 제거
+    RESULT_UPLOAD("result_upload"),           // 결과 이미지 S3 업로드
+    RESULT_POSTPROCESS("result_postprocess"), // 결과 이미지 다운로드 → 배경 제거 → S3 업로드 (스트리밍, 한 단계로 측정)
+    DB_WRITE("db_write"),                     // 피팅 결과 저장
+    SIZE_ADVICE("size_advice"),               // 사이즈 추천 (Bedrock)
+    TOTAL("total");                           // 동기 가상 피팅 전체
+
+    private final String tag;
+
+    TryOnStage(String tag) {
+        this.tag = tag;
+    }
+}
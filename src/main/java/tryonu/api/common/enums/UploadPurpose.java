@@ -0,0 +1,19 @@
+package tryonu.api.common.enums;
+
+import lombok.Getter;
+
+/**
+ * S3 직접 업로드 용도 enum
+ * 직접 업로드 폴더 아래 {pathSegment}/{userId}/ 에 저장하며, 확정(finalize) 시 용도와 소유자를 키로 확인합니다.
+ */
+@Getter
+public enum UploadPurpose {
+    CLOTH("cloth"), // 가상 피팅 의류 이미지 (업로드한 원본을 그대로 사용)
+    MODEL("model"); // 커스텀 모델 원본 (배경 제거 후 삭제)
+
+    private final String pathSegment;
+
+    UploadPurpose(String pathSegment) {
+        this.pathSegment = pathSegment;
+    }
+}
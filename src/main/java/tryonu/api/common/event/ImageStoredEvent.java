@@ -0,0 +1,13 @@
+package tryonu.api.common.event;
+
+import tryonu.api.common.enums.DerivativeTarget;
+
+/**
+ * 목록에 노출되는 이미지 저장 이벤트
+ * 트랜잭션 커밋 후 썸네일/중간 크기 파생본을 비동기로 생성하기 위해 발행한다.
+ */
+public record ImageStoredEvent(
+        DerivativeTarget target,
+        Long id,
+        String imageUrl) {
+}
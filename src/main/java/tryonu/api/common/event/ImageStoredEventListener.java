@@ -0,0 +1,26 @@
+package tryonu.api.common.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tryonu.api.service.image.ImageDerivativeService;
+
+/**
+ * 이미지 저장 이벤트 리스너
+ * 커밋된 뒤에만 파생본 생성을 시작하고(롤백된 이미지는 생성하지 않음), 응답 스레드는 기다리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageStoredEventListener {
+
+        private final ImageDerivativeService imageDerivativeService;
+
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+        public void onImageStored(ImageStoredEvent event) {
+                log.debug("[ImageStoredEventListener] 파생본 생성 시작 - target={}, id={}", event.target(), event.id());
+                imageDerivativeService.generateAsync(event.target(), event.id(), event.imageUrl()).subscribe();
+        }
+}
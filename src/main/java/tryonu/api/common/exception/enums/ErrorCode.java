@@ -22,6 +22,9 @@ public enum ErrorCode {
 
     // TryOnResult 관련 에러
     TRY_ON_RESULT_NOT_FOUND("T001", "피팅 결과를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    TRY_ON_JOB_ALREADY_SUBMITTED("T002", "이미 피팅이 요청된 작업입니다.", HttpStatus.CONFLICT),
+    TRY_ON_JOB_REJECTED("T003", "요청이 많아 피팅 작업을 접수할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    TRY_ON_DEADLINE_EXCEEDED("T004", "요청 처리 제한 시간을 초과했습니다.", HttpStatus.GATEWAY_TIMEOUT),
 
     // Company 관련 에러
     COMPANY_NOT_FOUND("CP001", "요청한 회사를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
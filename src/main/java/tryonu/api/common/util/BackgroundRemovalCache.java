@@ -0,0 +1,181 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 배경 제거 결과 캐시 (입력 이미지 SHA-256 기준)
+ * 같은 입력 이미지(같은 모델 사진 재업로드 등)는 배경 제거 API를 다시 호출하지 않습니다.
+ * 프로세스 내 바이트 크기 제한 LRU를 먼저 확인하고, 없으면 S3의 {background-removed-folder}/sha256/{입력 해시}.png
+ * 객체를 사용합니다. 새로 배경 제거한 결과는 두 곳 모두에 저장합니다 (S3 저장은 응답을 기다리게 하지 않음).
+ * 반환되는 배열은 캐시와 공유되므로 호출자가 수정하면 안 됩니다.
+ *
+ * - background.removal.cache (Counter, tag: result = memory_hit | s3_hit | miss)
+ * - background.removal.cache.evictions (Counter) - 크기 제한으로 메모리에서 제거된 항목 수
+ * - background.removal.cache.memory.bytes (Gauge) - 메모리 캐시 사용량
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackgroundRemovalCache {
+
+    private static final String CONTENT_TYPE_PNG = "image/png";
+
+    private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.background-removed-folder:background-removed}")
+    private String backgroundRemovedFolder;
+
+    @Value("${background-removal.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${background-removal.cache.memory.max-bytes:67108864}") // 기본 64MB
+    private long memoryMaxBytes;
+
+    @Value("${background-removal.cache.memory.max-entry-bytes:8388608}") // 이보다 큰 결과는 메모리에 두지 않음 (기본 8MB)
+    private long memoryMaxEntryBytes;
+
+    // 최근 조회된 순서로 유지 (접근 시 this로 동기화)
+    private final LinkedHashMap<String, byte[]> memoryCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private Counter evictions;
+
+    @PostConstruct
+    void initMetrics() {
+        evictions = Counter.builder("background.removal.cache.evictions")
+                .description("크기 제한으로 메모리 캐시에서 제거된 배경 제거 결과 수")
+                .register(meterRegistry);
+        Gauge.builder("background.removal.cache.memory.bytes", this, BackgroundRemovalCache::currentMemoryBytes)
+                .description("배경 제거 결과 메모리 캐시 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 배경 제거 결과를 반환하고, 없으면 remover로 배경 제거한 뒤 캐시에 저장 (논블로킹)
+     *
+     * @param image   배경 제거할 입력 이미지 (페이로드의 SHA-256을 캐시 키로 사용)
+     * @param remover 배경 제거 API 호출
+     */
+    public Mono<byte[]> getOrRemove(ImagePayload image, Supplier<Mono<byte[]>> remover) {
+        if (!enabled) {
+            return Mono.defer(remover);
+        }
+        return Mono.defer(() -> {
+            String inputHash = image.getSha256();
+            byte[] cached = getFromMemory(inputHash);
+            if (cached != null) {
+                count("memory_hit");
+                return Mono.just(cached);
+            }
+            return findInS3(inputHash)
+                    .doOnNext(stored -> {
+                        count("s3_hit");
+                        putInMemory(inputHash, stored);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        count("miss");
+                        return Mono.defer(remover).doOnNext(removed -> {
+                            putInMemory(inputHash, removed);
+                            storeInS3(inputHash, removed);
+                        });
+                    }));
+        });
+    }
+
+    private synchronized byte[] getFromMemory(String inputHash) {
+        return memoryCache.get(inputHash);
+    }
+
+    private synchronized void putInMemory(String inputHash, byte[] removed) {
+        // 항목 하나의 제한이나 전체 제한을 넘는 결과는 다른 항목을 밀어내지 않도록 보관하지 않음
+        if (removed.length > memoryMaxEntryBytes || removed.length > memoryMaxBytes) {
+            return;
+        }
+        byte[] previous = memoryCache.put(inputHash, removed);
+        memoryBytes += removed.length - (previous != null ? previous.length : 0);
+
+        // 크기 제한을 넘으면 방금 넣은 항목을 제외하고 가장 오래 사용되지 않은 항목부터 제거
+        Iterator<Map.Entry<String, byte[]>> eldest = memoryCache.entrySet().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            Map.Entry<String, byte[]> entry = eldest.next();
+            if (entry.getValue() == removed) {
+                continue;
+            }
+            memoryBytes -= entry.getValue().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private synchronized long currentMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * S3에 저장된 배경 제거 결과 조회 (없거나 조회에 실패하면 캐시 미스로 처리)
+     */
+    private Mono<byte[]> findInS3(String inputHash) {
+        return Mono.fromCallable(() -> s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key(inputHash))
+                .build()).asByteArray())
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(NoSuchKeyException.class, e -> Mono.empty())
+                .onErrorResume(e -> {
+                    log.warn("[BackgroundRemovalCache] S3 캐시 조회 실패 - inputHash={}, error={}", inputHash,
+                            e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void storeInS3(String inputHash, byte[] removed) {
+        Mono.fromRunnable(() -> s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key(inputHash))
+                .contentType(CONTENT_TYPE_PNG)
+                .contentLength((long) removed.length)
+                .build(), RequestBody.fromBytes(removed)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(
+                        ignored -> {
+                        },
+                        e -> log.warn("[BackgroundRemovalCache] S3 캐시 저장 실패 - inputHash={}, error={}", inputHash,
+                                e.getMessage()),
+                        () -> log.debug("[BackgroundRemovalCache] S3 캐시 저장 완료 - inputHash={}", inputHash));
+    }
+
+    private String s3Key(String inputHash) {
+        return backgroundRemovedFolder + "/sha256/" + inputHash + ".png";
+    }
+
+    private void count(String result) {
+        Counter.builder("background.removal.cache")
+                .description("배경 제거 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
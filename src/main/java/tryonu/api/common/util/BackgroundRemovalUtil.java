@@ -2,13 +2,15 @@ package tryonu.api.common.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
 
@@ -16,43 +18,20 @@ import tryonu.api.common.exception.enums.ErrorCode;
 @Component
 @RequiredArgsConstructor
 public class BackgroundRemovalUtil {
+    public static final String DOWNLOADED_IMAGE_FILENAME = "image.png"; // URL에서 다운로드한 이미지의 업로드 파일명
+
     private final WebClient backgroundRemovalWebClient;
     private final WebClient imageDownloadWebClient; // 이미지 다운로드 전용
+    private final BackgroundRemovalCache backgroundRemovalCache;
 
     /**
      * 배경 제거 API 호출 (MultipartFile → byte[])
      */
     public byte[] removeBackground(MultipartFile file) {
         try {
-            // filename을 명시적으로 설정하여 서버가 파일명을 요구하는 경우에 대응
-            String filename = file.getOriginalFilename() != null ? file.getOriginalFilename() : "image.jpg";
-
-            // MultipartFile을 byte[]로 변환하여 여러 번 읽을 있게 함
-            byte[] fileBytes = file.getBytes();
-
-            // filename이 포함된 ByteArrayResource 생성 (여러 번 읽기 가능)
-            Resource fileResource = new ByteArrayResource(
-                    fileBytes) {
-                @Override
-                public String getFilename() {
-                    return filename;
-                }
-            };
-
-            byte[] result = backgroundRemovalWebClient.post()
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData("file", fileResource))
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-
-            // null 응답 체크
-            if (result == null || result.length == 0) {
-                throw new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED,
-                        "배경 제거 API에서 유효하지 않은 응답을 받았습니다.");
-            }
-
-            return result;
+            // 한 번 읽어 둔 페이로드를 캐시 키(해시)와 요청 본문에 함께 사용
+            ImagePayload image = ImagePayload.of(file);
+            return backgroundRemovalCache.getOrRemove(image, () -> requestBackgroundRemoval(image)).block();
         } catch (Exception e) {
             log.error("[BackgroundRemovalUtil] 배경 제거 실패 - fileName={}, error={}",
                     file.getOriginalFilename(), e.getMessage(), e);
@@ -65,47 +44,94 @@ public class BackgroundRemovalUtil {
      * 배경 제거 API 호출 (URL에서 이미지 다운로드 → byte[])
      */
     public byte[] removeBackground(String imageUrl) {
-        try {
-            // 1. URL에서 이미지 다운로드 (전용 WebClient 사용)
-            byte[] imageBytes = imageDownloadWebClient
-                    .get()
-                    .uri(imageUrl)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
+        return removeBackgroundAsync(imageUrl).block();
+    }
 
-            if (imageBytes == null || imageBytes.length == 0) {
-                throw new RuntimeException("URL에서 이미지를 다운로드할 수 없습니다: " + imageUrl);
-            }
+    /**
+     * 배경 제거 API 호출 (논블로킹, URL에서 이미지 다운로드 → byte[])
+     */
+    public Mono<byte[]> removeBackgroundAsync(String imageUrl) {
+        // 1. URL에서 이미지 다운로드 → 2. 배경 제거 API 호출
+        return downloadImageAsync(imageUrl)
+                .flatMap(imageBytes -> removeBackgroundAsync(imageBytes, DOWNLOADED_IMAGE_FILENAME));
+    }
 
-            log.info("[BackgroundRemovalUtil] 이미지 다운로드 완료 - imageUrl={}, size={}bytes",
-                    imageUrl, imageBytes.length);
+    /**
+     * 배경 제거할 이미지 다운로드 (논블로킹, 전용 WebClient 사용)
+     * 다운로드와 배경 제거 시간을 따로 측정할 수 있도록 분리된 단계입니다.
+     */
+    public Mono<byte[]> downloadImageAsync(String imageUrl) {
+        return imageDownloadWebClient
+                .get()
+                .uri(imageUrl)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .filter(imageBytes -> imageBytes.length > 0)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("URL에서 이미지를 다운로드할 수 없습니다: " + imageUrl)))
+                .doOnNext(imageBytes -> log.info("[BackgroundRemovalUtil] 이미지 다운로드 완료 - imageUrl={}, size={}bytes",
+                        imageUrl, imageBytes.length))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("[BackgroundRemovalUtil] URL 이미지 다운로드 실패 - imageUrl={}, error={}",
+                            imageUrl, e.getMessage(), e);
+                    return new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED, "이미지 배경 제거에 실패했습니다.");
+                });
+    }
+
+    /**
+     * 배경 제거 API 호출 (논블로킹, byte[] → byte[])
+     * 같은 입력 이미지의 결과가 캐시에 있으면 API를 호출하지 않습니다.
+     */
+    public Mono<byte[]> removeBackgroundAsync(byte[] imageBytes, String filename) {
+        return Mono.defer(() -> {
+            ImagePayload image = ImagePayload.wrap(imageBytes, filename, null);
+            return backgroundRemovalCache.getOrRemove(image, () -> requestBackgroundRemoval(image));
+        })
+                .onErrorMap(e -> {
+                    log.error("[BackgroundRemovalUtil] 배경 제거 실패 - fileName={}, error={}", filename, e.getMessage(), e);
+                    return new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED, "이미지 배경 제거에 실패했습니다.");
+                });
+    }
+
+    /**
+     * URL 이미지의 배경을 제거하여 결과를 DataBuffer 스트림으로 반환 (논블로킹, 전체 byte[] 버퍼링 없음)
+     * 다운로드 응답 버퍼가 그대로 배경 제거 요청 본문(multipart, chunked)으로 전달되고, 배경 제거 응답도 스트림으로 반환됩니다.
+     * 입력 바이트를 미리 알 수 없으므로 입력 해시 기반 캐시(BackgroundRemovalCache)는 사용하지 않습니다.
+     * 반환된 DataBuffer는 구독자가 해제해야 합니다.
+     */
+    public Flux<DataBuffer> removeBackgroundStreaming(String imageUrl) {
+        Flux<DataBuffer> download = imageDownloadWebClient
+                .get()
+                .uri(imageUrl)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
 
-            // 2. 배경 제거 API 호출
-            byte[] result = backgroundRemovalWebClient.post()
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData("file",
-                            new org.springframework.core.io.ByteArrayResource(imageBytes) {
-                                @Override
-                                public String getFilename() {
-                                    return "image.png";
-                                }
-                            }))
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
+        MultipartBodyBuilder bodyBuilder = new MultipartBodyBuilder();
+        bodyBuilder.asyncPart("file", download, DataBuffer.class)
+                .filename(DOWNLOADED_IMAGE_FILENAME)
+                .contentType(MediaType.IMAGE_PNG);
 
-            // null 응답 체크
-            if (result == null || result.length == 0) {
-                throw new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED,
-                        "배경 제거 API에서 유효하지 않은 응답을 받았습니다.");
-            }
+        return backgroundRemovalWebClient.post()
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(bodyBuilder.build()))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("[BackgroundRemovalUtil] 스트리밍 배경 제거 실패 - imageUrl={}, error={}", imageUrl,
+                            e.getMessage(), e);
+                    return new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED, "이미지 배경 제거에 실패했습니다.");
+                });
+    }
 
-            return result;
-        } catch (Exception e) {
-            log.error("[BackgroundRemovalUtil] URL 이미지 배경 제거 실패 - imageUrl={}, error={}",
-                    imageUrl, e.getMessage(), e);
-            throw new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED, "이미지 배경 제거에 실패했습니다.");
-        }
+    private Mono<byte[]> requestBackgroundRemoval(ImagePayload image) {
+        // filename을 명시적으로 설정하여 서버가 파일명을 요구하는 경우에 대응 (본문은 페이로드 버퍼를 복사 없이 전송)
+        return backgroundRemovalWebClient.post()
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(image.toMultipartBody("file", "image.jpg")))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                // 빈 응답 체크
+                .filter(result -> result.length > 0)
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.BACKGROUND_REMOVAL_FAILED,
+                        "배경 제거 API에서 유효하지 않은 응답을 받았습니다.")));
     }
-}
\ No newline at end of file
+}
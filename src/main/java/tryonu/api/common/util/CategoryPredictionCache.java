@@ -0,0 +1,152 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import tryonu.api.dto.responses.CategoryPredictionResponse;
+import tryonu.api.repository.cloth.ClothRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 의류 카테고리 예측 결과 캐시 (이미지 SHA-256 기준)
+ * 프로세스 내 항목 수 제한 LRU + TTL을 먼저 확인하고, 없으면 같은 이미지로 저장된 의류(Cloth)의 카테고리를 재사용합니다.
+ * 의류는 지원하는 카테고리로 분류된 경우에만 저장되므로, 재시작 후에도 유지되는 것은 지원 카테고리 결과뿐입니다.
+ * 업로드된 의류 이미지는 정규화된 페이로드로 예측하므로, 키가 의류 content_hash(정규화된 바이트의 SHA-256)와 같습니다.
+ *
+ * - category.prediction.cache (Counter, tag: result = memory_hit | db_hit | miss)
+ * - category.prediction.cache.evictions (Counter, tag: cause = size | expired)
+ * - category.prediction.cache.size (Gauge)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPredictionCache {
+
+    private final ClothRepository clothRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${category-prediction.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${category-prediction.cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${category-prediction.cache.ttl-ms:86400000}") // 기본 24시간
+    private long ttlMs;
+
+    private Map<String, CachedPrediction> entries;
+
+    @PostConstruct
+    void initEntries() {
+        // 최근 조회된 순서로 유지하는 LRU (가득 차면 가장 오래 사용되지 않은 항목부터 제거)
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, CachedPrediction>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrediction> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                countEviction(eldest.getValue().isExpired() ? "expired" : "size");
+                return true;
+            }
+        });
+        Gauge.builder("category.prediction.cache.size", entries, Map::size)
+                .description("카테고리 예측 결과 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 예측 결과를 반환하고, 없으면 loader로 예측한 뒤 캐시에 저장 (논블로킹)
+     *
+     * @param contentHash 이미지 바이트의 SHA-256 (16진수)
+     * @param loader      카테고리 예측 API 호출
+     */
+    public Mono<CategoryPredictionResponse> getOrPredict(String contentHash,
+            Supplier<Mono<CategoryPredictionResponse>> loader) {
+        if (!enabled) {
+            return Mono.defer(loader);
+        }
+        return Mono.defer(() -> {
+            CategoryPredictionResponse cached = getFromMemory(contentHash);
+            if (cached != null) {
+                count("memory_hit");
+                return Mono.just(cached);
+            }
+            return findPersisted(contentHash)
+                    .doOnNext(persisted -> {
+                        count("db_hit");
+                        put(contentHash, persisted);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        count("miss");
+                        return Mono.defer(loader).doOnNext(prediction -> put(contentHash, prediction));
+                    }));
+        });
+    }
+
+    private CategoryPredictionResponse getFromMemory(String contentHash) {
+        CachedPrediction cached = entries.get(contentHash);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired()) {
+            if (entries.remove(contentHash, cached)) {
+                countEviction("expired");
+            }
+            return null;
+        }
+        return cached.prediction();
+    }
+
+    /**
+     * 같은 이미지로 저장된 의류의 카테고리 조회 (DB 조회 실패는 캐시 미스로 처리)
+     * DB에서 복원된 결과에는 예측 신뢰도와 클래스 인덱스가 없습니다.
+     */
+    private Mono<CategoryPredictionResponse> findPersisted(String contentHash) {
+        return Mono.fromCallable(() -> clothRepository.findLatestByContentHash(contentHash)
+                .map(cloth -> new CategoryPredictionResponse(null, cloth.getCategory().name(), null))
+                .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("[CategoryPredictionCache] 저장된 카테고리 조회 실패 - contentHash={}, error={}",
+                            contentHash, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void put(String contentHash, CategoryPredictionResponse prediction) {
+        entries.put(contentHash, new CachedPrediction(prediction, System.currentTimeMillis() + ttlMs));
+    }
+
+    private void count(String result) {
+        Counter.builder("category.prediction.cache")
+                .description("카테고리 예측 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void countEviction(String cause) {
+        Counter.builder("category.prediction.cache.evictions")
+                .description("카테고리 예측 결과 캐시에서 제거된 항목 수")
+                .tag("cause", cause)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record CachedPrediction(CategoryPredictionResponse prediction, long expiresAtMs) {
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMs;
+        }
+    }
+}
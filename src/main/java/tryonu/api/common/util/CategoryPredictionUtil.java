@@ -7,6 +7,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import tryonu.api.dto.responses.CategoryPredictionResponse;
 import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
@@ -17,87 +19,97 @@ import tryonu.api.common.exception.enums.ErrorCode;
 public class CategoryPredictionUtil {
     private final WebClient categoryPredictionWebClient;
     private final WebClient imageDownloadWebClient;
+    private final CategoryPredictionCache categoryPredictionCache;
 
     /**
      * 카테고리 예측 API 호출 (MultipartFile → CategoryPredictionResponse)
      */
     public CategoryPredictionResponse predictCategory(MultipartFile file) {
-        try {
-            return categoryPredictionWebClient.post()
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData("file", file.getResource()))
-                    .retrieve()
-                    .bodyToMono(CategoryPredictionResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("[CategoryPredictionUtil] 카테고리 예측 실패 - fileName={}, error={}",
-                    file.getOriginalFilename(), e.getMessage(), e);
-            throw new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED, "의류 카테고리를 인식할 수 없습니다.");
-        }
+        return predictCategoryAsync(file).block();
     }
 
     /**
      * 카테고리 예측 API 호출 (URL에서 이미지 다운로드 → CategoryPredictionResponse)
      */
     public CategoryPredictionResponse predictCategory(String imageUrl) {
-        try {
-            // 1. URL에서 이미지 다운로드
-            byte[] imageBytes = imageDownloadWebClient
-                    .get()
-                    .uri(imageUrl)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-
-            if (imageBytes == null || imageBytes.length == 0) {
-                throw new RuntimeException("URL에서 이미지를 다운로드할 수 없습니다: " + imageUrl);
-            }
-
-            // 2. 카테고리 예측 API 호출
-            return categoryPredictionWebClient.post()
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData("file",
-                            new org.springframework.core.io.ByteArrayResource(imageBytes) {
-                                @Override
-                                public String getFilename() {
-                                    return "image.jpg";
-                                }
-                            }))
-                    .retrieve()
-                    .bodyToMono(CategoryPredictionResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("[CategoryPredictionUtil] URL 이미지 카테고리 예측 실패 - imageUrl={}, error={}",
-                    imageUrl, e.getMessage(), e);
-            throw new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED, "의류 카테고리를 인식할 수 없습니다.");
-        }
+        return predictCategoryAsync(imageUrl).block();
     }
 
     /**
      * 카테고리 예측 API 호출 (byte[] → CategoryPredictionResponse)
      */
     public CategoryPredictionResponse predictCategory(byte[] imageBytes) {
-        try {
-            if (imageBytes == null || imageBytes.length == 0) {
-                throw new RuntimeException("이미지 바이트 배열이 비어있습니다.");
-            }
+        return predictCategoryAsync(imageBytes).block();
+    }
+
+    /**
+     * 카테고리 예측 API 호출 (논블로킹, MultipartFile → CategoryPredictionResponse)
+     */
+    public Mono<CategoryPredictionResponse> predictCategoryAsync(MultipartFile file) {
+        // 요청 단위 페이로드면 다시 읽지 않고, 아니면 파일 읽기(디스크 I/O)를 boundedElastic에서 실행
+        Mono<ImagePayload> payload = file instanceof ImagePayload imagePayload
+                ? Mono.just(imagePayload)
+                : Mono.fromCallable(() -> ImagePayload.of(file)).subscribeOn(Schedulers.boundedElastic());
+        return payload
+                .flatMap(this::predictWithCache)
+                .onErrorMap(e -> {
+                    log.error("[CategoryPredictionUtil] 카테고리 예측 실패 - fileName={}, error={}",
+                            file.getOriginalFilename(), e.getMessage(), e);
+                    return new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED, "의류 카테고리를 인식할 수 없습니다.");
+                });
+    }
+
+    /**
+     * 카테고리 예측 API 호출 (논블로킹, URL에서 이미지 다운로드 → CategoryPredictionResponse)
+     */
+    public Mono<CategoryPredictionResponse> predictCategoryAsync(String imageUrl) {
+        // 1. URL에서 이미지 다운로드
+        return imageDownloadWebClient
+                .get()
+                .uri(imageUrl)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .filter(imageBytes -> imageBytes.length > 0)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("URL에서 이미지를 다운로드할 수 없습니다: " + imageUrl)))
+                // 2. 카테고리 예측 API 호출
+                .map(imageBytes -> ImagePayload.wrap(imageBytes, "image.jpg", null))
+                .flatMap(this::predictWithCache)
+                .onErrorMap(e -> {
+                    log.error("[CategoryPredictionUtil] URL 이미지 카테고리 예측 실패 - imageUrl={}, error={}",
+                            imageUrl, e.getMessage(), e);
+                    return new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED, "의류 카테고리를 인식할 수 없습니다.");
+                });
+    }
 
-            return categoryPredictionWebClient.post()
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(BodyInserters.fromMultipartData("file",
-                            new org.springframework.core.io.ByteArrayResource(imageBytes) {
-                                @Override
-                                public String getFilename() {
-                                    return "image.jpg";
-                                }
-                            }))
-                    .retrieve()
-                    .bodyToMono(CategoryPredictionResponse.class)
-                    .block();
-        } catch (Exception e) {
+    /**
+     * 카테고리 예측 API 호출 (논블로킹, byte[] → CategoryPredictionResponse)
+     */
+    public Mono<CategoryPredictionResponse> predictCategoryAsync(byte[] imageBytes) {
+        Mono<CategoryPredictionResponse> prediction = imageBytes == null || imageBytes.length == 0
+                ? Mono.error(new RuntimeException("이미지 바이트 배열이 비어있습니다."))
+                : Mono.defer(() -> predictWithCache(ImagePayload.wrap(imageBytes, "image.jpg", null)));
+
+        return prediction.onErrorMap(e -> {
             log.error("[CategoryPredictionUtil] byte[] 카테고리 예측 실패 - size={}bytes, error={}",
                     imageBytes != null ? imageBytes.length : 0, e.getMessage(), e);
-            throw new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED, "의류 카테고리를 인식할 수 없습니다.");
-        }
+            return new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED, "의류 카테고리를 인식할 수 없습니다.");
+        });
+    }
+
+    /**
+     * 같은 이미지(SHA-256)의 예측 결과가 캐시에 있으면 재사용하고, 없으면 예측 API 호출
+     */
+    private Mono<CategoryPredictionResponse> predictWithCache(ImagePayload image) {
+        return categoryPredictionCache.getOrPredict(image.getSha256(),
+                () -> requestCategoryPrediction(image));
+    }
+
+    private Mono<CategoryPredictionResponse> requestCategoryPrediction(ImagePayload image) {
+        // 업로드 파일을 힙으로 다시 읽지 않고 페이로드 버퍼를 그대로 요청 본문으로 전송
+        return categoryPredictionWebClient.post()
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(image.toMultipartBody("file", "image.jpg")))
+                .retrieve()
+                .bodyToMono(CategoryPredictionResponse.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package tryonu.api.common.util;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 이미지 내용 해시(SHA-256, 16진수 소문자) 계산 유틸리티
+ * 내용 주소 업로드, 피팅 결과 캐시, 카테고리 예측 캐시가 같은 해시를 키로 사용합니다.
+ * 업로드 파일은 ImagePayload를 만들 때 한 번 계산한 값을 재사용합니다.
+ */
+public final class ContentHashUtil {
+
+    private ContentHashUtil() {
+    }
+
+    /**
+     * 스트림으로 읽으면서 해시 계산 (전체 바이트를 메모리에 올리지 않음)
+     */
+    public static String sha256Hex(InputStreamSource content) throws IOException {
+        MessageDigest digest = newSha256Digest();
+        try (InputStream inputStream = new DigestInputStream(content.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String sha256Hex(byte[] content) {
+        return HexFormat.of().formatHex(newSha256Digest().digest(content));
+    }
+
+    public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 JVM입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package tryonu.api.common.util;
+
+import java.time.Duration;
+
+/**
+ * 요청 단위 처리 제한 시간
+ * 컨트롤러에서 요청마다 한 번 생성하여 서비스와 외부 API 호출까지 전달하며,
+ * 각 단계는 고정 타임아웃 대신 남은 시간을 자신의 타임아웃으로 사용합니다.
+ */
+public final class Deadline {
+
+    private final long expiresAtNanos;
+    private final Duration budget;
+
+    private Deadline(long expiresAtNanos, Duration budget) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.budget = budget;
+    }
+
+    /**
+     * 지금부터 budget 후에 만료되는 Deadline 생성
+     */
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos(), budget);
+    }
+
+    /**
+     * 남은 시간 (만료 시 0)
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * 남은 시간과 단계별 상한 중 작은 값
+     */
+    public Duration remainingAtMost(Duration cap) {
+        Duration remaining = remaining();
+        return remaining.compareTo(cap) < 0 ? remaining : cap;
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean hasAtLeast(Duration required) {
+        return remaining().compareTo(required) >= 0;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline[budget=" + budget.toMillis() + "ms, remaining=" + remaining().toMillis() + "ms]";
+    }
+}
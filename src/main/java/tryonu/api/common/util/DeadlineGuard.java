@@ -0,0 +1,74 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import tryonu.api.common.enums.TryOnStage;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+
+import java.time.Duration;
+
+/**
+ * 처리 제한 시간(Deadline) 적용 유틸리티
+ * 단계 시작 전 남은 시간을 확인하여 끝낼 수 없는 단계는 실행하지 않고(short_circuit),
+ * 실행 중인 단계는 남은 시간이 지나면 취소합니다(timeout).
+ * 제한 시간을 소진한 단계는 tryon.deadline.exhausted{stage, reason} 카운터로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadlineGuard {
+
+    private static final String REASON_SHORT_CIRCUIT = "short_circuit";
+    private static final String REASON_TIMEOUT = "timeout";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 남은 시간 안에서 단계 실행
+     * 구독 시점에 이미 만료되었으면 원본을 구독하지 않고, 남은 시간이 지나면 원본을 취소합니다.
+     */
+    public <T> Mono<T> within(Deadline deadline, TryOnStage stage, Mono<T> source) {
+        return Mono.defer(() -> {
+            if (deadline.isExpired()) {
+                return Mono.error(exhausted(deadline, stage, REASON_SHORT_CIRCUIT));
+            }
+            return source.timeout(deadline.remaining(),
+                    Mono.error(() -> exhausted(deadline, stage, REASON_TIMEOUT)));
+        });
+    }
+
+    /**
+     * 단계를 끝내는 데 필요한 시간이 남아 있는지 확인
+     *
+     * @throws CustomException 남은 시간이 부족한 경우 (TRY_ON_DEADLINE_EXCEEDED)
+     */
+    public void ensureRemaining(Deadline deadline, TryOnStage stage, Duration required) {
+        if (deadline.isExpired() || !deadline.hasAtLeast(required)) {
+            throw exhausted(deadline, stage, REASON_SHORT_CIRCUIT);
+        }
+    }
+
+    /**
+     * 외부 SDK 타임아웃 등 호출부에서 감지한 제한 시간 초과를 기록
+     */
+    public CustomException timedOut(Deadline deadline, TryOnStage stage) {
+        return exhausted(deadline, stage, REASON_TIMEOUT);
+    }
+
+    private CustomException exhausted(Deadline deadline, TryOnStage stage, String reason) {
+        Counter.builder("tryon.deadline.exhausted")
+                .description("처리 제한 시간을 소진한 단계")
+                .tag("stage", stage.getTag())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("[DeadlineGuard] 처리 제한 시간 소진 - stage={}, reason={}, {}", stage.getTag(), reason, deadline);
+        return new CustomException(ErrorCode.TRY_ON_DEADLINE_EXCEEDED,
+                String.format("%s (단계: %s)", ErrorCode.TRY_ON_DEADLINE_EXCEEDED.getMessage(), stage.getTag()));
+    }
+}
@@ -0,0 +1,245 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import tryonu.api.common.enums.ImageFormat;
+import tryonu.api.common.enums.UploadPurpose;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * S3 직접 업로드 유틸리티
+ * 클라이언트가 이미지를 서버(multipart)를 거치지 않고 S3에 바로 올리도록 서명된 PUT URL을 발급하고,
+ * 업로드가 끝나면 객체 키만 받아 헤더 앞부분만 읽어 실제 형식과 해상도를 검증합니다.
+ * - Content-Type과 Content-Length를 서명에 포함하므로, 클라이언트는 발급 시 선언한 형식/크기와 다른 파일을 올릴 수 없음
+ * - 키는 {direct-upload 폴더}/{용도}/{userId}/{파일명} 형식이며, 확정 시 용도와 소유자가 일치하는지 확인
+ * - 검증에 실패한 객체는 바로 삭제
+ * 확정되지 않고 남은 업로드(모델 원본 등)는 S3 수명 주기 규칙으로 정리합니다.
+ *
+ * - image.direct_upload (Counter, tag: purpose, result = presigned | verified | rejected | missing)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectUploadUtil {
+
+    private static final DateTimeFormatter KEY_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ImageValidator imageValidator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.cloudfront.domain}")
+    private String cloudfrontDomain;
+
+    @Value("${aws.s3.direct-upload.folder:uploads}")
+    private String uploadFolder;
+
+    @Value("${aws.s3.direct-upload.url-expiry-seconds:300}") // 발급한 업로드 URL의 유효 시간
+    private long urlExpirySeconds;
+
+    @Value("${file.upload.max-size}")
+    private long maxFileSize;
+
+    /**
+     * 직접 업로드용 서명된 PUT URL을 발급합니다.
+     *
+     * @param contentType   업로드할 이미지의 Content-Type (file.upload.allowed-content-types 중 하나)
+     * @param contentLength 업로드할 이미지의 바이트 크기 (file.upload.max-size 이하)
+     * @throws CustomException 허용하지 않는 형식이거나 크기가 제한을 넘는 경우
+     */
+    public PresignedUpload presign(UploadPurpose purpose, Long userId, String contentType, long contentLength) {
+        ImageFormat format = toImageFormat(contentType);
+        if (format == null || !imageValidator.isAllowedContentType(contentType)) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "지원하지 않는 이미지 형식입니다: " + contentType);
+        }
+        if (contentLength <= 0) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "업로드할 파일이 비어있습니다.");
+        }
+        if (contentLength > maxFileSize) {
+            throw new CustomException(ErrorCode.IMAGE_TOO_LARGE, "파일 크기가 " + maxFileSize + "바이트를 초과합니다.");
+        }
+
+        String objectKey = ownerPrefix(purpose, userId) + LocalDateTime.now().format(KEY_TIMESTAMP) + "_"
+                + UUID.randomUUID() + "." + format.getExtension();
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .contentType(format.getMimeType())
+                .contentLength(contentLength)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(urlExpirySeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        // 서명에 포함된 헤더는 클라이언트가 그대로 보내야 함 (Host는 HTTP 클라이언트가 설정)
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        count(purpose, "presigned");
+        log.info("[DirectUploadUtil] 직접 업로드 URL 발급 - purpose={}, userId={}, objectKey={}, size={}bytes", purpose,
+                userId, objectKey, contentLength);
+        return new PresignedUpload(objectKey, presigned.url().toString(), headers, presigned.expiration());
+    }
+
+    /**
+     * 직접 업로드된 객체를 확정합니다.
+     * 객체 전체를 내려받지 않고 헤더 앞부분만 읽어 실제 형식과 해상도를 검증하고, 나머지 전송은 중단합니다.
+     *
+     * @throws CustomException 다른 사용자/용도의 키이거나(FORBIDDEN), 업로드되지 않았거나 검증에 실패한 경우(INVALID_REQUEST)
+     */
+    public UploadedImage verify(UploadPurpose purpose, Long userId, String objectKey) {
+        if (objectKey == null || !objectKey.startsWith(ownerPrefix(purpose, userId)) || objectKey.contains("..")) {
+            log.warn("[DirectUploadUtil] 확정할 수 없는 업로드 키 - purpose={}, userId={}, objectKey={}", purpose, userId,
+                    objectKey);
+            throw new CustomException(ErrorCode.FORBIDDEN, "업로드한 파일에 접근할 수 없습니다.");
+        }
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey)
+                .build();
+        ImageInspector.ImageInfo info;
+        long size;
+        String contentType;
+        ResponseInputStream<GetObjectResponse> object = null;
+        try {
+            object = s3Client.getObject(getObjectRequest);
+            size = object.response().contentLength();
+            contentType = object.response().contentType();
+            info = size > maxFileSize ? null : ImageInspector.inspect(object).orElse(null);
+        } catch (NoSuchKeyException e) {
+            count(purpose, "missing");
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "업로드된 파일을 찾을 수 없습니다. 업로드를 먼저 완료해주세요.");
+        } catch (S3Exception | IOException e) {
+            log.error("[DirectUploadUtil] 업로드 객체 읽기 실패 - objectKey={}, error={}", objectKey, e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드된 파일을 읽을 수 없습니다.");
+        } finally {
+            if (object != null) {
+                object.abort(); // 헤더 이후 본문은 받지 않음
+            }
+        }
+
+        try {
+            if (size > maxFileSize) {
+                throw new CustomException(ErrorCode.IMAGE_TOO_LARGE, "파일 크기가 " + maxFileSize + "바이트를 초과합니다.");
+            }
+            imageValidator.validate(info, objectKey, contentType, size);
+        } catch (CustomException e) {
+            count(purpose, "rejected");
+            delete(objectKey);
+            throw e;
+        }
+
+        count(purpose, "verified");
+        log.info("[DirectUploadUtil] 직접 업로드 확정 - purpose={}, objectKey={}, {}x{} {}, size={}bytes", purpose,
+                objectKey, info.width(), info.height(), info.format().getTag(), size);
+        return new UploadedImage(objectKey, cloudfrontDomain + "/" + objectKey, info, size);
+    }
+
+    /**
+     * 확정된 업로드 객체를 내려받습니다. (서버에서 이미지 내용이 필요한 경우만 사용)
+     */
+    public ImagePayload download(UploadedImage uploadedImage) {
+        try {
+            ResponseBytes<GetObjectResponse> object = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(uploadedImage.objectKey())
+                    .build());
+            String filename = uploadedImage.objectKey().substring(uploadedImage.objectKey().lastIndexOf('/') + 1);
+            return ImagePayload.wrap(object.asByteArrayUnsafe(), filename, uploadedImage.info().format().getMimeType());
+        } catch (Exception e) {
+            log.error("[DirectUploadUtil] 업로드 객체 다운로드 실패 - objectKey={}, error={}", uploadedImage.objectKey(),
+                    e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드된 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 업로드 객체를 삭제합니다. 정리 목적의 호출이므로 실패해도 예외를 던지지 않고 로그만 남깁니다.
+     */
+    public void delete(String objectKey) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .build());
+            log.info("[DirectUploadUtil] 업로드 객체 삭제 - objectKey={}", objectKey);
+        } catch (Exception e) {
+            log.warn("[DirectUploadUtil] 업로드 객체 삭제 실패 - objectKey={}, error={}", objectKey, e.getMessage());
+        }
+    }
+
+    private String ownerPrefix(UploadPurpose purpose, Long userId) {
+        return uploadFolder + "/" + purpose.getPathSegment() + "/" + userId + "/";
+    }
+
+    private static ImageFormat toImageFormat(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String mimeType = contentType.trim().toLowerCase();
+        return Arrays.stream(ImageFormat.values())
+                .filter(format -> format.getMimeType().equals(mimeType))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void count(UploadPurpose purpose, String result) {
+        Counter.builder("image.direct_upload")
+                .description("S3 직접 업로드 발급/확정 결과")
+                .tag("purpose", purpose.getPathSegment())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 발급된 직접 업로드 URL
+     *
+     * @param headers 업로드 요청에 그대로 포함해야 하는 헤더 (서명 대상)
+     */
+    public record PresignedUpload(String objectKey, String uploadUrl, Map<String, String> headers,
+            Instant expiresAt) {
+    }
+
+    /**
+     * 확정된 직접 업로드 이미지
+     */
+    public record UploadedImage(String objectKey, String imageUrl, ImageInspector.ImageInfo info, long size) {
+    }
+}
@@ -0,0 +1,199 @@
+package tryonu.api.common.util;
+
+import tryonu.api.common.enums.ImageFormat;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 이미지 디코딩/변환/인코딩 공통 기능 (ImageIO, 디스크 캐시 없이 메모리에서 처리)
+ * CPU를 많이 쓰므로 imageNormalizationExecutor(요청 경로) 또는 imageDerivativeExecutor(파생본) 풀에서만 호출합니다.
+ */
+final class ImageCodec {
+
+    private ImageCodec() {
+    }
+
+    static BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("이미지 리더를 찾을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 축소 (절반씩 나눠 줄여 한 번에 크게 줄일 때의 계단 현상 방지)
+     */
+    static BufferedImage downscale(BufferedImage image, int maxEdge) {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        if (longEdge <= maxEdge) {
+            return image;
+        }
+        double scale = (double) maxEdge / longEdge;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        while (width != targetWidth || height != targetHeight) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, workingType(image));
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * EXIF 방향(1~8)을 픽셀에 반영 (5~8은 가로/세로가 바뀜)
+     */
+    static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0); // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height); // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0); // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0); // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width); // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swapped = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swapped ? height : width, swapped ? width : height,
+                workingType(image));
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    /**
+     * 불투명 이미지는 JPEG, 투명 영역이 있으면 PNG로 인코딩
+     */
+    static Encoded encode(BufferedImage image, float jpegQuality) throws IOException {
+        if (isOpaque(image)) {
+            return new Encoded(encodeJpeg(toRgb(image), jpegQuality), ImageFormat.JPEG);
+        }
+        return new Encoded(encodePng(image), ImageFormat.PNG);
+    }
+
+    private static int workingType(BufferedImage image) {
+        return image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+    }
+
+    /**
+     * 알파 채널이 없거나 모든 픽셀이 불투명한지 확인 (불투명 PNG는 JPEG으로 저장)
+     */
+    private static boolean isOpaque(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return true;
+        }
+        WritableRaster alpha = image.getAlphaRaster();
+        if (alpha == null) { // 팔레트 투명도 등 알파 밴드가 따로 없는 경우는 투명으로 간주
+            return false;
+        }
+        int maxAlpha = (1 << alpha.getSampleModel().getSampleSize(0)) - 1;
+        int[] row = new int[alpha.getWidth()];
+        for (int y = 0; y < alpha.getHeight(); y++) {
+            alpha.getSamples(0, y, alpha.getWidth(), 1, 0, row);
+            for (int sample : row) {
+                if (sample != maxAlpha) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * JPEG 인코더가 처리할 수 있는 RGB(또는 흑백) 이미지로 변환
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        int type = image.getType();
+        if (type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_3BYTE_BGR
+                || type == BufferedImage.TYPE_BYTE_GRAY) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        return write(writer, image, param);
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        return write(writer, image, writer.getDefaultWriteParam());
+    }
+
+    private static byte[] write(ImageWriter writer, BufferedImage image, ImageWriteParam param) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 인코딩 결과
+     */
+    record Encoded(byte[] bytes, ImageFormat format) {
+    }
+}
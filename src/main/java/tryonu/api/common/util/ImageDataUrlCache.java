@@ -0,0 +1,215 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미지 Data URL 변환용 원본 이미지 캐시 (URL 기준, 총 바이트 수 제한 LRU)
+ * 사용자가 피팅 기록을 다시 열 때 같은 CloudFront 결과 URL이 반복해서 변환되므로, 내려받은 원본 바이트를 보관해 재사용합니다.
+ * 보관 후 설정 시간(revalidate-after-ms)이 지나면 원본 서버에 조건부 요청(If-None-Match / If-Modified-Since)을 보내
+ * 304면 보관한 바이트를 그대로 쓰고, 변경되었으면 새 내용으로 교체합니다.
+ * 보관 바이트 합계가 제한을 넘으면 가장 오래 사용되지 않은 항목부터 제거하며, 항목 하나의 제한을 넘는 이미지는 보관하지 않습니다.
+ *
+ * - image.data_url.cache (Counter, tag: result = hit | revalidated | changed | miss | bypass)
+ * - image.data_url.cache.evictions (Counter)
+ * - image.data_url.cache.bytes (Gauge) - 보관 중인 바이트 합계
+ * - image.data_url.cache.size (Gauge)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDataUrlCache {
+
+    private final WebClient imageDownloadWebClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.data-url.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.data-url.cache.max-bytes:67108864}") // 보관 바이트 합계 제한 (기본 64MB)
+    private long maxBytes;
+
+    @Value("${image.data-url.cache.max-entry-bytes:8388608}") // 이보다 큰 이미지는 보관하지 않음 (기본 8MB)
+    private long maxEntryBytes;
+
+    @Value("${image.data-url.cache.revalidate-after-ms:60000}") // 이 시간 동안은 재검증 없이 사용 (기본 1분)
+    private long revalidateAfterMs;
+
+    // 최근 조회된 순서로 유지하는 LRU (entries 잠금으로 보호)
+    private final Map<String, CachedImage> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    @PostConstruct
+    void initMetrics() {
+        Gauge.builder("image.data_url.cache.bytes", totalBytes, AtomicLong::get)
+                .description("이미지 Data URL 캐시가 보관 중인 바이트 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("image.data_url.cache.size", this, ImageDataUrlCache::size)
+                .description("이미지 Data URL 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지를 반환합니다. 캐시에 있으면 재사용하고(재검증 시간이 지났으면 조건부 요청), 없으면 내려받아 보관합니다. (블로킹)
+     *
+     * @throws WebClientResponseException 원본 서버가 오류를 반환한 경우 (4xx면 보관한 항목도 제거)
+     */
+    public CachedImage get(String imageUrl) {
+        if (!enabled) {
+            count("bypass");
+            return download(imageUrl, null);
+        }
+        CachedImage cached;
+        synchronized (entries) {
+            cached = entries.get(imageUrl);
+        }
+        long now = System.currentTimeMillis();
+        if (cached != null && now < cached.validatedAtMs() + revalidateAfterMs) {
+            count("hit");
+            return cached;
+        }
+
+        CachedImage fetched;
+        try {
+            fetched = download(imageUrl, cached);
+        } catch (WebClientResponseException e) {
+            if (cached != null && e.getStatusCode().is4xxClientError()) {
+                remove(imageUrl);
+            }
+            throw e;
+        }
+        if (fetched == null) {
+            // 304 Not Modified: 보관한 바이트 그대로 사용
+            count("revalidated");
+            CachedImage revalidated = cached.revalidatedAt(now);
+            store(imageUrl, revalidated);
+            return revalidated;
+        }
+        count(cached != null ? "changed" : "miss");
+        store(imageUrl, fetched);
+        return fetched;
+    }
+
+    /**
+     * 이미지를 내려받습니다. 보관한 항목이 있으면 조건부 요청을 보냅니다.
+     *
+     * @return 304 Not Modified면 null
+     */
+    private CachedImage download(String imageUrl, CachedImage cached) {
+        return imageDownloadWebClient
+                .get()
+                .uri(imageUrl)
+                .headers(headers -> {
+                    if (cached == null) {
+                        return;
+                    }
+                    if (cached.eTag() != null) {
+                        headers.setIfNoneMatch(cached.eTag());
+                    }
+                    if (cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (cached != null && response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        return response.releaseBody().then(Mono.<CachedImage>empty());
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.<CachedImage>createError();
+                    }
+                    return response.toEntity(byte[].class)
+                            .map(entity -> new CachedImage(
+                                    entity.getBody() != null ? entity.getBody() : new byte[0],
+                                    entity.getHeaders().getContentType(),
+                                    entity.getHeaders().getETag(),
+                                    entity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                                    System.currentTimeMillis()));
+                })
+                .block();
+    }
+
+    private void store(String imageUrl, CachedImage image) {
+        if (image.content().length == 0 || image.content().length > maxEntryBytes) {
+            remove(imageUrl);
+            return;
+        }
+        synchronized (entries) {
+            CachedImage previous = entries.put(imageUrl, image);
+            totalBytes.addAndGet(image.content().length - (previous != null ? previous.content().length : 0));
+            // 바이트 합계가 제한 안으로 들어올 때까지 가장 오래 사용되지 않은 항목부터 제거
+            Iterator<Map.Entry<String, CachedImage>> eldest = entries.entrySet().iterator();
+            while (totalBytes.get() > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, CachedImage> entry = eldest.next();
+                if (entry.getValue() == image) {
+                    continue;
+                }
+                totalBytes.addAndGet(-entry.getValue().content().length);
+                eldest.remove();
+                countEviction();
+            }
+        }
+    }
+
+    private void remove(String imageUrl) {
+        synchronized (entries) {
+            CachedImage removed = entries.remove(imageUrl);
+            if (removed != null) {
+                totalBytes.addAndGet(-removed.content().length);
+            }
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("image.data_url.cache")
+                .description("이미지 Data URL 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void countEviction() {
+        Counter.builder("image.data_url.cache.evictions")
+                .description("이미지 Data URL 캐시에서 제거된 항목 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 보관한 이미지 (content는 공유되므로 수정하면 안 됨)
+     *
+     * @param contentType   원본 서버가 보낸 Content-Type (없으면 null)
+     * @param eTag          원본 서버가 보낸 ETag (없으면 null)
+     * @param lastModified  원본 서버가 보낸 Last-Modified 헤더 값 그대로 (없으면 null)
+     * @param validatedAtMs 원본 서버에서 마지막으로 확인한 시각
+     */
+    public record CachedImage(byte[] content, MediaType contentType, String eTag, String lastModified,
+            long validatedAtMs) {
+        private CachedImage revalidatedAt(long timeMs) {
+            return new CachedImage(content, contentType, eTag, lastModified, timeMs);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import tryonu.api.common.enums.ImageVariant;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 화면용 이미지 파생본(썸네일/중간 크기) 생성기
+ * 원본을 한 번 내려받아 한 번만 디코딩하고, 중간 크기로 줄인 뒤 그 결과에서 썸네일을 만들어 두 파생본을 함께 업로드합니다.
+ * 디코딩/인코딩은 파생본 전용의 작은 풀(imageDerivativeExecutor)에서 실행하므로 요청 경로의 이미지 정규화 풀을 차지하지 않으며,
+ * 풀이 가득 차면 실패로 끝나고 백필 작업이 나중에 다시 생성합니다.
+ * JDK ImageIO에는 WebP 인코더가 없으므로 불투명 이미지는 JPEG, 투명 영역이 있는 이미지(배경 제거 결과)는 PNG로 저장합니다.
+ *
+ * - image.derivative (Counter, tag: result = success | error)
+ * - image.derivative.bytes (DistributionSummary, tag: variant = thumb | medium) - 파생본 크기
+ * - image.derivative.duration (Timer) - 다운로드부터 업로드까지 소요 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private final WebClient imageDownloadWebClient;
+    private final AsyncTaskExecutor imageDerivativeExecutor;
+    private final ImageUploadUtil imageUploadUtil;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.derivative.thumbnail-edge:320}") // 썸네일 긴 변 최대 픽셀
+    private int thumbnailEdge;
+
+    @Value("${image.derivative.medium-edge:960}") // 중간 크기 긴 변 최대 픽셀
+    private int mediumEdge;
+
+    @Value("${image.derivative.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${image.validation.max-pixels:40000000}") // 디코딩 전에 거절할 픽셀 수 (업로드 검증과 같은 기준)
+    private long maxPixels;
+
+    private Scheduler imageScheduler;
+
+    @PostConstruct
+    void initScheduler() {
+        this.imageScheduler = Schedulers.fromExecutor(imageDerivativeExecutor);
+    }
+
+    /**
+     * 원본 이미지 URL로 썸네일/중간 크기 파생본을 생성하여 업로드합니다. (논블로킹)
+     *
+     * @return 업로드된 파생본 URL
+     */
+    public Mono<Derivatives> generateAsync(String imageUrl) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return imageDownloadWebClient
+                    .get()
+                    .uri(imageUrl)
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .filter(imageBytes -> imageBytes.length > 0)
+                    .switchIfEmpty(Mono.error(
+                            () -> new CustomException(ErrorCode.INVALID_REQUEST, "파생본을 만들 원본 이미지가 비어 있습니다.")))
+                    .publishOn(imageScheduler)
+                    .map(this::render)
+                    .flatMap(rendered -> Mono.zip(
+                            upload(imageUrl, ImageVariant.THUMBNAIL, rendered.thumbnail()),
+                            upload(imageUrl, ImageVariant.MEDIUM, rendered.medium()),
+                            Derivatives::new))
+                    .doOnSuccess(derivatives -> {
+                        count("success");
+                        Timer.builder("image.derivative.duration")
+                                .description("이미지 파생본 생성 소요 시간 (다운로드 ~ 업로드)")
+                                .register(meterRegistry)
+                                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    })
+                    .doOnError(e -> count("error"));
+        });
+    }
+
+    /**
+     * 디코딩 → 방향 보정 → 중간 크기 → 썸네일 (파생본 풀에서 실행)
+     */
+    private Rendered render(byte[] imageBytes) {
+        ImageInspector.ImageInfo info = ImageInspector.inspect(imageBytes).orElse(null);
+        if (info == null || !info.hasDimensions() || info.pixelCount() > maxPixels) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "파생본을 만들 수 없는 이미지입니다.");
+        }
+        try {
+            BufferedImage image = ImageCodec.decode(new ByteArrayInputStream(imageBytes));
+            image = ImageCodec.applyOrientation(image, ImageInspector.exifOrientation(ByteBuffer.wrap(imageBytes)));
+            BufferedImage medium = ImageCodec.downscale(image, mediumEdge);
+            BufferedImage thumbnail = ImageCodec.downscale(medium, thumbnailEdge);
+            return new Rendered(ImageCodec.encode(thumbnail, jpegQuality), ImageCodec.encode(medium, jpegQuality));
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "파생본을 만들 이미지를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private Mono<String> upload(String imageUrl, ImageVariant variant, ImageCodec.Encoded encoded) {
+        DistributionSummary.builder("image.derivative.bytes")
+                .description("이미지 파생본 크기")
+                .baseUnit("bytes")
+                .tag("variant", variant.getPathSegment())
+                .register(meterRegistry)
+                .record(encoded.bytes().length);
+        return imageUploadUtil.uploadDerivativeAsync(imageUrl, variant, encoded.bytes(), encoded.format());
+    }
+
+    private void count(String result) {
+        Counter.builder("image.derivative")
+                .description("이미지 파생본 생성 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Rendered(ImageCodec.Encoded thumbnail, ImageCodec.Encoded medium) {
+    }
+
+    /**
+     * 생성된 파생본 URL
+     */
+    public record Derivatives(String thumbnailUrl, String mediumUrl) {
+    }
+}
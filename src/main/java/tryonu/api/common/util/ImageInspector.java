@@ -0,0 +1,416 @@
+package tryonu.api.common.util;
+
+import tryonu.api.common.enums.ImageFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * 이미지 헤더 검사 유틸리티
+ * 픽셀을 디코딩하지 않고 앞부분 헤더만 읽어 실제 형식(JPEG/PNG/WebP/GIF/BMP/HEIC)과 픽셀 크기를 판별합니다.
+ * 디코더나 외부 API에 넘기기 전에 압축 폭탄(작은 파일, 거대한 해상도)을 걸러내는 용도로, 호출당 수 μs 안에 끝나도록
+ * 버퍼를 복사하지 않고 절대 위치로 읽습니다.
+ * JPEG은 SOF 세그먼트까지 세그먼트 헤더만 따라가며 나머지(EXIF 썸네일 등)는 건너뜁니다. EXIF 방향 태그도 같은 방식으로 읽습니다.
+ */
+public final class ImageInspector {
+
+    public static final int HEADER_PROBE_BYTES = 16 * 1024; // 스트림에서 읽는 최대 헤더 크기 (JPEG 제외)
+
+    private static final int BOX_META = fourCc("meta");
+    private static final int BOX_IPRP = fourCc("iprp");
+    private static final int BOX_IPCO = fourCc("ipco");
+    private static final int BOX_ISPE = fourCc("ispe");
+
+    private ImageInspector() {
+    }
+
+    /**
+     * 버퍼의 현재 position부터 검사합니다. 버퍼의 position/limit은 바뀌지 않습니다.
+     *
+     * @return 판별할 수 없는 형식이면 empty, 형식은 알지만 크기를 읽을 수 없으면 width/height가 0
+     */
+    public static Optional<ImageInfo> inspect(ByteBuffer content) {
+        ByteBuffer buf = content.slice();
+        ImageFormat format = detectFormat(buf);
+        if (format == null) {
+            return Optional.empty();
+        }
+        if (format == ImageFormat.JPEG) {
+            try {
+                return Optional.of(measureJpeg(new ByteBufferInputStream(buf)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // 메모리 버퍼에서는 발생하지 않음
+            }
+        }
+        return Optional.of(measure(format, buf));
+    }
+
+    public static Optional<ImageInfo> inspect(byte[] content) {
+        return inspect(ByteBuffer.wrap(content));
+    }
+
+    /**
+     * 스트림 앞부분(최대 16KB)만 읽어 검사합니다. JPEG은 SOF까지 세그먼트를 건너뛰며 읽습니다.
+     * 스트림은 닫지 않으며, 검사 후 위치는 정해져 있지 않습니다.
+     */
+    public static Optional<ImageInfo> inspect(InputStream in) throws IOException {
+        byte[] header = in.readNBytes(HEADER_PROBE_BYTES);
+        ByteBuffer buf = ByteBuffer.wrap(header);
+        ImageFormat format = detectFormat(buf);
+        if (format == null) {
+            return Optional.empty();
+        }
+        if (format == ImageFormat.JPEG) {
+            return Optional.of(measureJpeg(new SequenceInputStream(new ByteArrayInputStream(header), in)));
+        }
+        return Optional.of(measure(format, buf));
+    }
+
+    /**
+     * JPEG EXIF(APP1) 세그먼트에서 방향(Orientation) 태그를 읽습니다. 버퍼의 position/limit은 바뀌지 않습니다.
+     * 휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 이 태그로 회전을 표시하므로, 메타데이터를 버리고 재인코딩하기 전에 확인해야 합니다.
+     *
+     * @return 1~8 (EXIF 방향 값), JPEG이 아니거나 태그가 없으면 1 (회전 없음)
+     */
+    public static int exifOrientation(ByteBuffer content) {
+        ByteBuffer buf = content.slice();
+        if (detectFormat(buf) != ImageFormat.JPEG) {
+            return 1;
+        }
+        int pos = 2; // SOI
+        while (has(buf, pos, 2) && u8(buf, pos) == 0xFF) {
+            int marker = u8(buf, pos + 1);
+            if (marker == 0xFF) { // 채움 바이트
+                pos++;
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) { // EOI, SOS
+                break;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD8)) { // 길이 없는 마커
+                pos += 2;
+                continue;
+            }
+            if (!has(buf, pos + 2, 2)) {
+                break;
+            }
+            int length = u16be(buf, pos + 2);
+            if (length < 2) {
+                break;
+            }
+            if (marker == 0xE1 && length >= 16 && has(buf, pos + 4, 6) && u32be(buf, pos + 4) == fourCc("Exif")
+                    && u16be(buf, pos + 8) == 0) {
+                return tiffOrientation(buf, pos + 10, Math.min(pos + 2 + length, buf.limit()));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    /**
+     * TIFF 헤더 뒤 첫 번째 IFD(IFD0)에서 Orientation(0x0112) 항목을 찾습니다.
+     */
+    private static int tiffOrientation(ByteBuffer buf, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian = u16be(buf, tiff) == 0x4949; // "II"
+        if (!littleEndian && u16be(buf, tiff) != 0x4D4D) { // "MM"
+            return 1;
+        }
+        long ifdOffset = (littleEndian ? u32le(buf, tiff + 4) : u32be(buf, tiff + 4)) & 0xFFFFFFFFL;
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = tiff + (int) ifdOffset;
+        int entries = littleEndian ? u16le(buf, ifd) : u16be(buf, ifd);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            int tag = littleEndian ? u16le(buf, entry) : u16be(buf, entry);
+            if (tag == 0x0112) {
+                // SHORT 값 하나는 값 필드(entry + 8)의 앞 2바이트에 저장됨
+                int orientation = littleEndian ? u16le(buf, entry + 8) : u16be(buf, entry + 8);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static ImageFormat detectFormat(ByteBuffer buf) {
+        if (has(buf, 0, 3) && u8(buf, 0) == 0xFF && u8(buf, 1) == 0xD8 && u8(buf, 2) == 0xFF) {
+            return ImageFormat.JPEG;
+        }
+        if (has(buf, 0, 8) && buf.getLong(0) == 0x89504E470D0A1A0AL) {
+            return ImageFormat.PNG;
+        }
+        if (has(buf, 0, 6) && u32be(buf, 0) == fourCc("GIF8") && (u8(buf, 4) == '7' || u8(buf, 4) == '9')
+                && u8(buf, 5) == 'a') {
+            return ImageFormat.GIF;
+        }
+        if (has(buf, 0, 12) && u32be(buf, 0) == fourCc("RIFF") && u32be(buf, 8) == fourCc("WEBP")) {
+            return ImageFormat.WEBP;
+        }
+        if (has(buf, 0, 12) && u32be(buf, 4) == fourCc("ftyp") && isHeifBrand(buf)) {
+            return ImageFormat.HEIC;
+        }
+        if (has(buf, 0, 18) && u8(buf, 0) == 'B' && u8(buf, 1) == 'M' && isBmpInfoHeaderSize(u32le(buf, 14))) {
+            return ImageFormat.BMP;
+        }
+        return null;
+    }
+
+    private static ImageInfo measure(ImageFormat format, ByteBuffer buf) {
+        return switch (format) {
+            case PNG -> has(buf, 12, 12) && u32be(buf, 12) == fourCc("IHDR")
+                    ? info(format, u32be(buf, 16) & 0xFFFFFFFFL, u32be(buf, 20) & 0xFFFFFFFFL)
+                    : unmeasured(format);
+            case GIF -> has(buf, 6, 4) ? info(format, u16le(buf, 6), u16le(buf, 8)) : unmeasured(format);
+            case BMP -> measureBmp(buf);
+            case WEBP -> measureWebp(buf);
+            case HEIC -> measureHeif(buf);
+            case JPEG -> unmeasured(format);
+        };
+    }
+
+    /**
+     * JPEG 세그먼트 헤더를 따라가며 SOF(Start Of Frame)의 크기를 읽습니다. SOS 이전에 SOF가 없으면 크기를 알 수 없습니다.
+     */
+    private static ImageInfo measureJpeg(InputStream in) throws IOException {
+        try {
+            in.skipNBytes(2); // SOI
+            while (true) {
+                if (in.read() != 0xFF) {
+                    break;
+                }
+                int marker = in.read();
+                while (marker == 0xFF) { // 채움 바이트
+                    marker = in.read();
+                }
+                if (marker < 0 || marker == 0xD9 || marker == 0xDA) { // EOF, EOI, SOS
+                    break;
+                }
+                if (marker == 0x01 || marker == 0xD8 || (marker >= 0xD0 && marker <= 0xD7)) { // 길이 없는 마커
+                    continue;
+                }
+                int length = readU16be(in);
+                if (length < 2) {
+                    break;
+                }
+                if (isStartOfFrame(marker)) {
+                    in.skipNBytes(1); // 샘플 정밀도
+                    int height = readU16be(in);
+                    int width = readU16be(in);
+                    return width > 0 && height > 0 ? info(ImageFormat.JPEG, width, height)
+                            : unmeasured(ImageFormat.JPEG);
+                }
+                in.skipNBytes(length - 2);
+            }
+        } catch (EOFException e) {
+            // 헤더가 잘린 파일
+        }
+        return unmeasured(ImageFormat.JPEG);
+    }
+
+    private static ImageInfo measureBmp(ByteBuffer buf) {
+        if (u32le(buf, 14) == 12) { // BITMAPCOREHEADER
+            return has(buf, 18, 4) ? info(ImageFormat.BMP, u16le(buf, 18), u16le(buf, 20)) : unmeasured(ImageFormat.BMP);
+        }
+        if (!has(buf, 18, 8)) {
+            return unmeasured(ImageFormat.BMP);
+        }
+        // 높이가 음수면 위에서 아래로 저장된 비트맵 (너비는 부호 없이 읽어 비정상 값이 too_large로 거절되도록 함)
+        return info(ImageFormat.BMP, u32le(buf, 18) & 0xFFFFFFFFL, Math.abs((long) u32le(buf, 22)));
+    }
+
+    private static ImageInfo measureWebp(ByteBuffer buf) {
+        if (!has(buf, 12, 4)) {
+            return unmeasured(ImageFormat.WEBP);
+        }
+        int chunk = u32be(buf, 12);
+        if (chunk == fourCc("VP8 ") && has(buf, 23, 7) && u8(buf, 23) == 0x9D && u8(buf, 24) == 0x01
+                && u8(buf, 25) == 0x2A) {
+            return info(ImageFormat.WEBP, u16le(buf, 26) & 0x3FFF, u16le(buf, 28) & 0x3FFF);
+        }
+        if (chunk == fourCc("VP8L") && has(buf, 20, 5) && u8(buf, 20) == 0x2F) {
+            int bits = u32le(buf, 21);
+            return info(ImageFormat.WEBP, (bits & 0x3FFF) + 1, ((bits >>> 14) & 0x3FFF) + 1);
+        }
+        if (chunk == fourCc("VP8X") && has(buf, 24, 6)) {
+            return info(ImageFormat.WEBP, u24le(buf, 24) + 1, u24le(buf, 27) + 1);
+        }
+        return unmeasured(ImageFormat.WEBP);
+    }
+
+    /**
+     * HEIF: meta → iprp → ipco 안의 ispe(이미지 공간 크기) 중 가장 큰 값 (그리드 이미지는 타일과 전체 크기가 함께 있음)
+     */
+    private static ImageInfo measureHeif(ByteBuffer buf) {
+        int meta = findBox(buf, 0, buf.limit(), BOX_META);
+        if (meta < 0) {
+            return unmeasured(ImageFormat.HEIC);
+        }
+        int iprp = findBox(buf, boxContentStart(buf, meta) + 4, boxEnd(buf, meta), BOX_IPRP); // meta는 full box
+        if (iprp < 0) {
+            return unmeasured(ImageFormat.HEIC);
+        }
+        int ipco = findBox(buf, boxContentStart(buf, iprp), boxEnd(buf, iprp), BOX_IPCO);
+        if (ipco < 0) {
+            return unmeasured(ImageFormat.HEIC);
+        }
+        long width = 0;
+        long height = 0;
+        int end = boxEnd(buf, ipco);
+        for (int box = boxContentStart(buf, ipco); box >= 0 && has(buf, box, 8) && box < end;
+                box = nextBox(buf, box, end)) {
+            if (u32be(buf, box + 4) == BOX_ISPE && has(buf, box + 12, 8)) {
+                long ispeWidth = u32be(buf, box + 12) & 0xFFFFFFFFL;
+                long ispeHeight = u32be(buf, box + 16) & 0xFFFFFFFFL;
+                if (ispeWidth * ispeHeight > width * height) {
+                    width = ispeWidth;
+                    height = ispeHeight;
+                }
+            }
+        }
+        return width > 0 ? info(ImageFormat.HEIC, width, height) : unmeasured(ImageFormat.HEIC);
+    }
+
+    private static boolean isHeifBrand(ByteBuffer buf) {
+        int major = u32be(buf, 8);
+        if (isHeicBrand(major)) {
+            return true;
+        }
+        if (major != fourCc("mif1") && major != fourCc("msf1")) {
+            return false;
+        }
+        // 일반 HEIF 브랜드면 호환 브랜드 목록에 HEIC가 있는지 확인 (AVIF 등 제외)
+        int ftypEnd = Math.min(boxEnd(buf, 0), buf.limit());
+        for (int pos = 16; pos + 4 <= ftypEnd; pos += 4) {
+            if (isHeicBrand(u32be(buf, pos))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHeicBrand(int brand) {
+        return brand == fourCc("heic") || brand == fourCc("heix") || brand == fourCc("heim")
+                || brand == fourCc("heis") || brand == fourCc("hevc") || brand == fourCc("hevx");
+    }
+
+    private static boolean isBmpInfoHeaderSize(int size) {
+        return size == 12 || size == 40 || size == 52 || size == 56 || size == 64 || size == 108 || size == 124;
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        // SOF0~SOF15 중 DHT(C4), JPG(C8), DAC(CC) 제외
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static int findBox(ByteBuffer buf, int start, int end, int type) {
+        for (int box = start; box >= 0 && has(buf, box, 8) && box < end; box = nextBox(buf, box, end)) {
+            if (u32be(buf, box + 4) == type) {
+                return box;
+            }
+        }
+        return -1;
+    }
+
+    private static int nextBox(ByteBuffer buf, int box, int end) {
+        int next = boxEnd(buf, box);
+        return next > box && next <= end ? next : -1;
+    }
+
+    private static int boxContentStart(ByteBuffer buf, int box) {
+        return box + (u32be(buf, box) == 1 ? 16 : 8);
+    }
+
+    private static int boxEnd(ByteBuffer buf, int box) {
+        if (!has(buf, box, 8)) {
+            return -1;
+        }
+        long size = u32be(buf, box) & 0xFFFFFFFFL;
+        if (size == 1 && has(buf, box + 8, 8)) { // 64비트 크기
+            size = buf.getLong(box + 8);
+        } else if (size == 0) { // 파일 끝까지
+            return buf.limit();
+        }
+        long end = box + size;
+        return size >= 8 && end <= Integer.MAX_VALUE ? (int) end : -1;
+    }
+
+    private static ImageInfo info(ImageFormat format, long width, long height) {
+        return new ImageInfo(format, (int) Math.min(width, Integer.MAX_VALUE), (int) Math.min(height,
+                Integer.MAX_VALUE));
+    }
+
+    private static ImageInfo unmeasured(ImageFormat format) {
+        return new ImageInfo(format, 0, 0);
+    }
+
+    private static boolean has(ByteBuffer buf, int offset, int length) {
+        return offset >= 0 && buf.limit() - offset >= length;
+    }
+
+    private static int u8(ByteBuffer buf, int offset) {
+        return buf.get(offset) & 0xFF;
+    }
+
+    private static int u16be(ByteBuffer buf, int offset) {
+        return u8(buf, offset) << 8 | u8(buf, offset + 1);
+    }
+
+    private static int u16le(ByteBuffer buf, int offset) {
+        return u8(buf, offset) | u8(buf, offset + 1) << 8;
+    }
+
+    private static int u24le(ByteBuffer buf, int offset) {
+        return u16le(buf, offset) | u8(buf, offset + 2) << 16;
+    }
+
+    private static int u32le(ByteBuffer buf, int offset) {
+        return u16le(buf, offset) | u16le(buf, offset + 2) << 16;
+    }
+
+    private static int u32be(ByteBuffer buf, int offset) {
+        return u8(buf, offset) << 24 | u8(buf, offset + 1) << 16 | u8(buf, offset + 2) << 8 | u8(buf, offset + 3);
+    }
+
+    private static int readU16be(InputStream in) throws IOException {
+        int high = in.read();
+        int low = in.read();
+        if ((high | low) < 0) {
+            throw new EOFException();
+        }
+        return high << 8 | low;
+    }
+
+    private static int fourCc(String type) {
+        return type.charAt(0) << 24 | type.charAt(1) << 16 | type.charAt(2) << 8 | type.charAt(3);
+    }
+
+    /**
+     * 검사 결과
+     *
+     * @param width  픽셀 너비 (읽을 수 없으면 0)
+     * @param height 픽셀 높이 (읽을 수 없으면 0)
+     */
+    public record ImageInfo(ImageFormat format, int width, int height) {
+
+        public boolean hasDimensions() {
+            return width > 0 && height > 0;
+        }
+
+        public long pixelCount() {
+            return (long) width * height;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import tryonu.api.common.enums.ImageFormat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 업로드 이미지 정규화 유틸리티
+ * 휴대폰 원본(8~12MP)을 그대로 저장/전달하면 가상 피팅 API가 곧바로 축소할 픽셀까지 전송하고 처리 시간을 쓰게 되므로,
+ * 업로드 전에 EXIF 방향을 픽셀에 반영하고, 긴 변을 설정한 최대 크기로 줄이고, 크기 효율적인 형식으로 재인코딩합니다.
+ * - 불투명 이미지는 JPEG(설정 품질), 투명 영역이 있는 이미지(배경 제거 결과 등)는 PNG로 저장
+ * - 출력에는 EXIF 등 메타데이터가 포함되지 않음 (방향은 픽셀에 반영되었으므로 다시 회전되지 않음)
+ * - 디코딩은 ImageIO가 읽을 수 있는 JPEG/PNG/BMP만 대상으로 하고, 그 외 형식은 원본을 그대로 사용
+ *
+ * 디코딩/인코딩은 코어 수 크기의 전용 풀(imageNormalizationExecutor)에서 실행하고 호출 스레드는 결과만 기다립니다.
+ * 정규화는 최적화이므로 풀이 가득 차거나, 시간 안에 끝나지 않거나, 디코딩에 실패하면 원본을 그대로 반환합니다.
+ * 압축 폭탄은 호출 전에 ImageValidator로 걸러야 합니다.
+ *
+ * - image.normalize (Counter, tag: result = normalized | unchanged | skipped | rejected | timeout | error)
+ * - image.normalize.bytes.saved (DistributionSummary, tag: format = 출력 형식) - 원본 대비 줄어든 바이트
+ * - image.normalize.duration (Timer, tag: phase = decode | transform | encode)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageNormalizer {
+
+    private static final Set<ImageFormat> DECODABLE_FORMATS = Set.of(ImageFormat.JPEG, ImageFormat.PNG,
+            ImageFormat.BMP);
+
+    private final AsyncTaskExecutor imageNormalizationExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${image.normalization.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.normalization.max-edge:2048}") // 긴 변 최대 픽셀
+    private int maxEdge;
+
+    @Value("${image.normalization.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${image.normalization.reencode-min-bytes:524288}") // 축소/회전이 필요 없을 때 재인코딩을 시도할 최소 크기
+    private long reencodeMinBytes;
+
+    @Value("${image.normalization.timeout-ms:5000}") // 정규화 결과를 기다리는 최대 시간
+    private long timeoutMs;
+
+    /**
+     * 이미지를 정규화합니다. (설정한 최대 대기 시간 적용)
+     *
+     * @return 정규화된 페이로드, 정규화할 필요가 없거나 할 수 없으면 전달한 파일 그대로
+     */
+    public MultipartFile normalize(MultipartFile file) {
+        return normalize(file, null);
+    }
+
+    /**
+     * 이미지를 정규화합니다.
+     *
+     * @param maxWait 결과를 기다릴 최대 시간 (null이면 설정값, 설정값보다 길면 설정값 적용)
+     * @return 정규화된 페이로드, 정규화할 필요가 없거나 할 수 없으면 전달한 파일 그대로
+     */
+    public MultipartFile normalize(MultipartFile file, Duration maxWait) {
+        if (!enabled) {
+            return file;
+        }
+        ImagePayload payload;
+        try {
+            payload = ImagePayload.of(file);
+        } catch (IOException e) {
+            log.warn("[ImageNormalizer] 이미지 읽기 실패, 원본 사용 - fileName={}, error={}", file.getOriginalFilename(),
+                    e.getMessage());
+            count("error");
+            return file;
+        }
+
+        ImageInspector.ImageInfo info = payload.getImageInfo().orElse(null);
+        if (info == null || !info.hasDimensions() || !DECODABLE_FORMATS.contains(info.format())) {
+            count("skipped");
+            return file;
+        }
+        int orientation = ImageInspector.exifOrientation(payload.asByteBuffer());
+        boolean transform = Math.max(info.width(), info.height()) > maxEdge || orientation != 1;
+        if (!transform && payload.getSize() < reencodeMinBytes) {
+            count("unchanged");
+            return file;
+        }
+
+        long waitMs = maxWait == null ? timeoutMs : Math.min(timeoutMs, Math.max(0, maxWait.toMillis()));
+        Future<ImagePayload> future;
+        try {
+            future = imageNormalizationExecutor.submit(() -> encodeNormalized(payload, orientation, transform));
+        } catch (TaskRejectedException e) {
+            log.warn("[ImageNormalizer] 정규화 풀이 가득 차 원본 사용 - fileName={}", file.getOriginalFilename());
+            count("rejected");
+            return file;
+        }
+
+        try {
+            ImagePayload normalized = future.get(waitMs, TimeUnit.MILLISECONDS);
+            if (normalized == null) {
+                count("unchanged");
+                return file;
+            }
+            long savedBytes = payload.getSize() - normalized.getSize();
+            count("normalized");
+            DistributionSummary.builder("image.normalize.bytes.saved")
+                    .description("이미지 정규화로 줄어든 바이트")
+                    .baseUnit("bytes")
+                    .tag("format", normalized.getImageInfo().map(out -> out.format().getTag()).orElse("unknown"))
+                    .register(meterRegistry)
+                    .record(Math.max(0, savedBytes));
+            log.info("[ImageNormalizer] 이미지 정규화 완료 - fileName={}, {}x{} {} {}bytes -> {} {}bytes, orientation={}",
+                    file.getOriginalFilename(), info.width(), info.height(), info.format().getTag(),
+                    payload.getSize(), normalized.getImageInfo().map(out -> out.width() + "x" + out.height()
+                            + " " + out.format().getTag()).orElse("unknown"), normalized.getSize(), orientation);
+            return normalized;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[ImageNormalizer] 정규화 시간 초과, 원본 사용 - fileName={}, waitMs={}", file.getOriginalFilename(),
+                    waitMs);
+            count("timeout");
+            return file;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            count("error");
+            return file;
+        } catch (ExecutionException e) {
+            log.warn("[ImageNormalizer] 정규화 실패, 원본 사용 - fileName={}, error={}", file.getOriginalFilename(),
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            count("error");
+            return file;
+        }
+    }
+
+    /**
+     * 디코딩 → 축소 → 방향 보정 → 재인코딩 (정규화 풀에서 실행)
+     *
+     * @return 축소/회전 없이 재인코딩만 했는데 원본보다 작아지지 않으면 null
+     */
+    private ImagePayload encodeNormalized(ImagePayload payload, int orientation, boolean transform)
+            throws IOException {
+        long start = System.nanoTime();
+        BufferedImage image = ImageCodec.decode(payload.getInputStream());
+        start = record("decode", start);
+
+        image = ImageCodec.downscale(image, maxEdge);
+        image = ImageCodec.applyOrientation(image, orientation);
+        start = record("transform", start);
+
+        ImageCodec.Encoded encoded = ImageCodec.encode(image, jpegQuality);
+        record("encode", start);
+
+        if (!transform && encoded.bytes().length >= payload.getSize()) {
+            return null;
+        }
+        return ImagePayload.wrap(encoded.bytes(), renameExtension(payload.getOriginalFilename(), encoded.format()),
+                encoded.format().getMimeType());
+    }
+
+    private static String renameExtension(String filename, ImageFormat format) {
+        if (filename == null || filename.isBlank()) {
+            return "image." + format.getExtension();
+        }
+        int lastDotIndex = filename.lastIndexOf('.');
+        String baseName = lastDotIndex > 0 ? filename.substring(0, lastDotIndex) : filename;
+        return baseName + "." + format.getExtension();
+    }
+
+    private long record(String phase, long startNanos) {
+        long now = System.nanoTime();
+        Timer.builder("image.normalize.duration")
+                .description("이미지 정규화 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private void count(String result) {
+        Counter.builder("image.normalize")
+                .description("이미지 정규화 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,250 @@
+package tryonu.api.common.util;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 요청 단위로 한 번만 읽어 두는 불변 이미지 페이로드
+ * 업로드 파일을 한 번 읽으면서 SHA-256, 크기, 실제 형식과 픽셀 크기(ImageInspector 헤더 검사)를 계산해 두고,
+ * 카테고리 예측 / 배경 제거 / S3 업로드가 같은 내용을 다시 읽거나 복사하지 않고 공유합니다.
+ * 임계값 이상의 파일은 임시 파일로 옮긴 뒤 메모리 매핑(힙 밖)하고, 그보다 작으면 힙 배열을 그대로 사용합니다.
+ * MultipartFile을 구현하므로 기존 MultipartFile 파라미터에 그대로 전달할 수 있습니다.
+ */
+public final class ImagePayload implements MultipartFile {
+
+    public static final long DEFAULT_MAPPING_THRESHOLD_BYTES = 1024 * 1024; // 1MB 이상이면 메모리 매핑
+
+    private static final String FORM_FIELD_NAME = "file";
+    private static final int DATA_BUFFER_CHUNK_BYTES = 64 * 1024;
+    // Reactor Netty는 NettyDataBuffer가 아닌 버퍼를 힙으로 복사하므로, 원본 버퍼를 감싸기만 하는 Netty 팩토리 사용
+    private static final DataBufferFactory WRAPPING_BUFFER_FACTORY =
+            new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final ByteBuffer content; // 읽기 전용 (힙 또는 매핑된 버퍼)
+    private final boolean mapped;
+    private final String sha256;
+    private final ImageInspector.ImageInfo imageInfo; // 판별할 수 없는 형식이면 null
+
+    private ImagePayload(String name, String originalFilename, String contentType, ByteBuffer content,
+            boolean mapped) {
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.content = content.asReadOnlyBuffer();
+        this.mapped = mapped;
+        MessageDigest digest = ContentHashUtil.newSha256Digest();
+        digest.update(content.duplicate());
+        this.sha256 = HexFormat.of().formatHex(digest.digest());
+        this.imageInfo = ImageInspector.inspect(this.content).orElse(null);
+    }
+
+    /**
+     * 업로드 파일을 기본 임계값(1MB)으로 읽습니다. 이미 ImagePayload면 그대로 반환합니다.
+     */
+    public static ImagePayload of(MultipartFile file) throws IOException {
+        return of(file, DEFAULT_MAPPING_THRESHOLD_BYTES);
+    }
+
+    /**
+     * 업로드 파일을 한 번 읽어 페이로드를 만듭니다. 이미 ImagePayload면 그대로 반환합니다.
+     * 임계값 이상이면 임시 파일로 옮겨(디스크에 저장된 업로드는 힙을 거치지 않음) 메모리 매핑하고, 매핑 후 임시 파일은 바로 삭제합니다.
+     *
+     * @param mappingThresholdBytes 메모리 매핑 기준 크기 (0 이하이면 항상 힙 사용)
+     */
+    public static ImagePayload of(MultipartFile file, long mappingThresholdBytes) throws IOException {
+        if (file instanceof ImagePayload payload) {
+            return payload;
+        }
+        if (mappingThresholdBytes <= 0 || file.getSize() < mappingThresholdBytes) {
+            return new ImagePayload(file.getName(), file.getOriginalFilename(), file.getContentType(),
+                    ByteBuffer.wrap(file.getBytes()), false);
+        }
+        return new ImagePayload(file.getName(), file.getOriginalFilename(), file.getContentType(), mapCopyOf(file),
+                true);
+    }
+
+    /**
+     * 이미 메모리에 있는 바이트를 복사 없이 감쌉니다. 전달한 배열은 이후 수정하면 안 됩니다.
+     */
+    public static ImagePayload wrap(byte[] bytes, String filename, String contentType) {
+        return new ImagePayload(FORM_FIELD_NAME, filename, contentType, ByteBuffer.wrap(bytes), false);
+    }
+
+    private static ByteBuffer mapCopyOf(MultipartFile file) throws IOException {
+        Path tempFile = Files.createTempFile("tryonu-image-", ".tmp");
+        try {
+            file.transferTo(tempFile.toFile());
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("메모리 매핑할 수 없는 크기입니다: " + channel.size() + "bytes");
+                }
+                // 매핑은 채널을 닫거나 파일을 삭제해도 버퍼가 GC될 때까지 유효
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                // 매핑 중인 파일을 삭제할 수 없는 OS(Windows)에서는 종료 시 삭제
+                tempFile.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 내용의 SHA-256 (16진수 소문자) - 캐시/내용 주소 키로 사용
+     */
+    public String getSha256() {
+        return sha256;
+    }
+
+    /**
+     * 매직 바이트로 판별한 MIME 타입 (판별할 수 없으면 클라이언트가 보낸 Content-Type)
+     */
+    public String getMimeType() {
+        return imageInfo != null ? imageInfo.format().getMimeType() : contentType;
+    }
+
+    /**
+     * 헤더 검사 결과 (실제 형식과 픽셀 크기, 판별할 수 없는 형식이면 empty)
+     */
+    public Optional<ImageInspector.ImageInfo> getImageInfo() {
+        return Optional.ofNullable(imageInfo);
+    }
+
+    /**
+     * 힙 밖(메모리 매핑)에 보관 중인지 여부
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * 내용을 복사하지 않는 읽기 전용 버퍼 (호출마다 독립된 position)
+     */
+    public ByteBuffer asByteBuffer() {
+        return content.duplicate();
+    }
+
+    /**
+     * 내용을 복사하지 않고 64KB 단위 DataBuffer 스트림으로 제공 (구독할 때마다 처음부터)
+     * 메모리 매핑된 페이로드는 매핑된 파일 영역이 그대로 소켓 쓰기에 사용되어, 전송 중 힙 할당이 청크 수와 무관하게 일정합니다.
+     * (TLS 연결은 암호화 과정에서 복사가 일어남)
+     */
+    public Flux<DataBuffer> asDataBuffers() {
+        return Flux.generate(() -> 0, (offset, sink) -> {
+            int length = Math.min(DATA_BUFFER_CHUNK_BYTES, content.capacity() - offset);
+            if (length <= 0) {
+                sink.complete();
+                return offset;
+            }
+            sink.next(WRAPPING_BUFFER_FACTORY.wrap(content.slice(offset, length)));
+            return offset + length;
+        });
+    }
+
+    /**
+     * 이미지 파일 파트 하나로 된 multipart 본문 (내용은 asDataBuffers로 복사 없이 전송)
+     *
+     * @param fallbackFilename 원본 파일명이 없을 때 사용할 파일명 (파일명을 요구하는 서버 대응)
+     */
+    public MultiValueMap<String, HttpEntity<?>> toMultipartBody(String partName, String fallbackFilename) {
+        MultipartBodyBuilder bodyBuilder = new MultipartBodyBuilder();
+        bodyBuilder.asyncPart(partName, asDataBuffers(), DataBuffer.class)
+                .filename(originalFilename != null ? originalFilename : fallbackFilename)
+                .contentType(partMediaType());
+        return bodyBuilder.build();
+    }
+
+    private MediaType partMediaType() {
+        String mimeType = getMimeType();
+        if (mimeType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(mimeType);
+        } catch (InvalidMediaTypeException e) {
+            // 클라이언트가 보낸 잘못된 Content-Type은 무시
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return content.capacity() == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return content.capacity();
+    }
+
+    /**
+     * 내용의 복사본 (페이로드는 불변이므로 가능하면 asByteBuffer / getInputStream 사용)
+     */
+    @Override
+    @NonNull
+    public byte[] getBytes() {
+        byte[] copy = new byte[content.capacity()];
+        content.duplicate().get(copy);
+        return copy;
+    }
+
+    @Override
+    @NonNull
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    @Override
+    public void transferTo(@NonNull File dest) throws IOException {
+        try (FileChannel channel = FileChannel.open(dest.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = content.duplicate();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+}
@@ -1,35 +1,77 @@
 package tryonu.api.common.util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
-import software.amazon.awssdk.core.sync.RequestBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.springframework.stereotype.Component;
 import java.util.Set;
 import jakarta.annotation.PostConstruct;
+import tryonu.api.common.enums.ImageFormat;
+import tryonu.api.common.enums.ImageVariant;
 import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
 
 /**
  * 이미지 업로드 유틸리티 클래스
  * S3에 이미지를 업로드하고 URL을 반환하는 공통 기능을 제공합니다.
+ *
+ * 의류 이미지는 내용 주소(content-addressed) 모드로 업로드할 수 있습니다. 파일을 SHA-256으로 해싱하여
+ * {clothFolder}/sha256/{해시}.{확장자} 키에 저장하고, 같은 키의 객체가 이미 있으면(프로세스 내 인덱스 또는 S3 조회)
+ * putObject를 생략합니다. 같은 상품 사진이 여러 사용자에게서 올라와도 한 번만 저장/전송됩니다.
+ * 업로드 결과는 image.upload.dedup{result = memory_hit | s3_hit | uploaded} 카운터로 기록합니다.
+ *
+ * 의류 이미지는 업로드 전에 ImageNormalizer로 정규화(EXIF 방향 보정, 최대 크기 축소, 재인코딩)하므로,
+ * 저장되는 객체와 가상 피팅 API가 내려받는 이미지는 정규화된 결과이며 내용 주소 해시도 정규화된 내용 기준입니다.
+ *
+ * 업로드는 키/요청을 준비(PendingUpload)한 뒤 S3ObjectUploader로 전송합니다. aws.s3.upload.client=async이면
+ * Mono를 반환하는 메서드는 전송하는 동안 스레드를 점유하지 않고, 큰 이미지는 멀티파트로 병렬 전송합니다.
  */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class ImageUploadUtil {
+    private static final String CONTENT_ADDRESSED_SEGMENT = "/sha256/";
+    private static final Pattern CONTENT_ADDRESSED_KEY = Pattern.compile("/sha256/([0-9a-f]{64})\\.[^/]*$");
+    private static final String DERIVED_SEGMENT = "derived/";
+    // 파생본 키는 원본 키(고유)에서 정해지고 내용이 바뀌지 않으므로 CloudFront/브라우저에서 오래 캐시
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     private final S3Client s3Client;
     private final WebClient imageDownloadWebClient;
+    private final MeterRegistry meterRegistry;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final S3ObjectUploader s3ObjectUploader;
+    private final ImageValidator imageValidator;
+    private final ImageNormalizer imageNormalizer;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -46,17 +88,20 @@ public class ImageUploadUtil {
     @Value("${file.upload.allowed-types}")
     private String allowedExtensionsConfig;
 
-    @Value("${file.upload.allowed-content-types}")
-    private String allowedContentTypesConfig;
-
     @Value("${file.upload.max-size}")
     private long maxFileSize;
 
     @Value("${aws.cloudfront.domain}")
     private String cloudfrontDomain;
 
+    @Value("${aws.s3.cloth-content-addressed:true}") // 의류 이미지 내용 주소 저장 (해시 기반 중복 제거)
+    private boolean clothContentAddressed;
+
+    @Value("${aws.s3.content-addressed.known-keys-max:10000}") // 존재가 확인된 키를 기억하는 프로세스 내 인덱스 크기
+    private int knownContentKeysMax;
+
     private Set<String> allowedExtensions;
-    private Set<String> allowedContentTypes;
+    private Set<String> knownContentKeys;
 
     @PostConstruct
     private void initAllowedExtensions() {
@@ -64,8 +109,15 @@ public class ImageUploadUtil {
     }
 
     @PostConstruct
-    private void initAllowedContentTypes() {
-        this.allowedContentTypes = Set.of(allowedContentTypesConfig.split(","));
+    private void initKnownContentKeys() {
+        // 최근 확인된 순서로 유지하는 LRU 인덱스
+        this.knownContentKeys = Collections.newSetFromMap(Collections.synchronizedMap(
+                new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > knownContentKeysMax;
+                    }
+                }));
     }
 
     /**
@@ -78,41 +130,34 @@ public class ImageUploadUtil {
      * @throws RuntimeException         업로드 실패 시
      */
     public String uploadToS3(MultipartFile file, String folderPath) {
-        log.info("[ImageUploadUtil] 이미지 업로드 시작 - fileName={}, folderPath={}", file.getOriginalFilename(), folderPath);
-
-        // 파일 검증 (확장자, Content-Type 포함)
-        validateFile(file);
-
-        try {
-            // 파일명 생성 (중복 방지)
-            String fileName = generateFileName(file.getOriginalFilename());
-            String s3Key = folderPath + "/" + fileName;
-
-            // S3 업로드
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-            // 파일 업로드 (InputStream 안전하게 처리)
-            try (InputStream inputStream = file.getInputStream()) {
-                s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(inputStream, file.getSize()));
-            } // 자동 close 처리
-
-            // S3 URL 생성 (CloudFront 도메인 사용)
-            String imageUrl = cloudfrontDomain + "/" + s3Key;
-
-            log.info("[ImageUploadUtil] 이미지 업로드 성공 - imageUrl={}", imageUrl);
+        return uploadToS3(file, folderPath, (Duration) null);
+    }
 
-            return imageUrl;
+    private String uploadToS3(MultipartFile file, String folderPath, Duration apiCallTimeout) {
+        log.info("[ImageUploadUtil] 이미지 업로드 시작 - fileName={}, folderPath={}", file.getOriginalFilename(), folderPath);
 
-        } catch (Exception e) {
-            log.error("[ImageUploadUtil] S3 업로드 실패 - fileName={}, error={}", file.getOriginalFilename(), e.getMessage(),
-                    e);
+        // 파일 검증 (확장자, 실제 이미지 형식과 해상도 포함)
+        ImageInspector.ImageInfo imageInfo = validateFile(file);
+        return upload(prepareFile(file, imageInfo, folderPath, apiCallTimeout));
+    }
 
-            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
+    /**
+     * 검증된 파일을 고유한 키로 업로드할 요청을 만듭니다.
+     */
+    private PendingUpload prepareFile(MultipartFile file, ImageInspector.ImageInfo imageInfo, String folderPath,
+            Duration apiCallTimeout) {
+        // 파일명 생성 (중복 방지)
+        String fileName = generateFileName(file.getOriginalFilename());
+        String s3Key = folderPath + "/" + fileName;
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .overrideConfiguration(apiCallTimeoutOverride(apiCallTimeout))
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(imageInfo.format().getMimeType())
+                .contentLength(file.getSize())
+                .build();
+        return pending(s3Key, putObjectRequest, readPayload(file).asByteBuffer(), false);
     }
 
     /**
@@ -124,28 +169,21 @@ public class ImageUploadUtil {
      * @return 업로드된 이미지의 S3 URL
      */
     public String uploadToS3(byte[] image, String folderPath, String contentType) {
-        try {
-            String fileName = generateFileName("image.png");
-            String s3Key = folderPath + "/" + fileName;
-
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(contentType)
-                    .contentLength((long) image.length)
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(image));
-
-            String imageUrl = cloudfrontDomain + "/" + s3Key;
-            log.info("[ImageUploadUtil] 이미지 업로드 성공(byte[]) - imageUrl={}", imageUrl);
-
-            return imageUrl;
-        } catch (Exception e) {
-            log.error("[ImageUploadUtil] S3 업로드 실패(byte[]) - error={}", e.getMessage(), e);
+        return upload(prepareBytes(image, folderPath, contentType, null));
+    }
 
-            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
+    private PendingUpload prepareBytes(byte[] image, String folderPath, String contentType, Duration apiCallTimeout) {
+        String fileName = generateFileName("image.png");
+        String s3Key = folderPath + "/" + fileName;
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .overrideConfiguration(apiCallTimeoutOverride(apiCallTimeout))
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength((long) image.length)
+                .build();
+        return pending(s3Key, putObjectRequest, ByteBuffer.wrap(image), false);
     }
 
     /**
@@ -163,11 +201,88 @@ public class ImageUploadUtil {
      * 의류 이미지를 업로드합니다.
      */
     public String uploadClothImage(MultipartFile file) {
-        return uploadToS3(file, clothFolder);
+        return upload(prepareClothImage(file, null));
     }
 
     public String uploadClothImage(byte[] image) {
-        return uploadToS3(image, clothFolder, "image/jpeg");
+        if (!clothContentAddressed) {
+            return uploadToS3(image, clothFolder, "image/jpeg");
+        }
+        return upload(prepareContentAddressed(clothFolder, ContentHashUtil.sha256Hex(image), "jpg", "image/jpeg",
+                ByteBuffer.wrap(image), null));
+    }
+
+    /**
+     * 의류 이미지를 검증하고 정규화한 뒤 업로드할 요청을 만듭니다. (정규화 대기, 내용 주소 존재 확인으로 블로킹)
+     */
+    private PendingUpload prepareClothImage(MultipartFile file, Duration apiCallTimeout) {
+        return prepareClothUpload(prepareClothPayload(file, apiCallTimeout), apiCallTimeout);
+    }
+
+    /**
+     * 의류 이미지를 검증하고 정규화한 페이로드를 만듭니다. (정규화 대기로 블로킹)
+     * 남은 시간이 있으면 정규화는 그 절반까지만 기다리고(업로드 시간 확보), 넘기면 원본을 사용합니다.
+     */
+    private ImagePayload prepareClothPayload(MultipartFile file, Duration apiCallTimeout) {
+        // 압축 폭탄은 디코딩 전에 거절
+        validateFile(file);
+        MultipartFile normalized = imageNormalizer.normalize(file,
+                apiCallTimeout != null ? apiCallTimeout.dividedBy(2) : null);
+        // 요청 단위 페이로드면 계산된 해시와 내용을 재사용하고, 아니면 한 번 읽으면서 해시 계산
+        return readPayload(normalized);
+    }
+
+    /**
+     * 검증/정규화된 의류 이미지 페이로드로 업로드할 요청을 만듭니다. (내용 주소 존재 확인으로 블로킹)
+     * 내용 주소 키와 의류 content_hash는 이 페이로드(정규화된 바이트)의 SHA-256입니다.
+     */
+    private PendingUpload prepareClothUpload(ImagePayload payload, Duration apiCallTimeout) {
+        ImageInspector.ImageInfo imageInfo = payload.getImageInfo()
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST, "이미지 형식을 확인할 수 없습니다."));
+        if (!clothContentAddressed) {
+            return prepareFile(payload, imageInfo, clothFolder, apiCallTimeout);
+        }
+        return prepareContentAddressed(clothFolder, payload.getSha256(), imageInfo.format().getExtension(),
+                imageInfo.format().getMimeType(), payload.asByteBuffer(), apiCallTimeout);
+    }
+
+    /**
+     * 의류 이미지를 업로드합니다. (Mono)
+     * 검증/정규화/존재 확인은 boundedElastic 스케줄러에서 실행하고, 전송은 S3ObjectUploader 설정(sync | async)을 따릅니다.
+     */
+    public Mono<String> uploadClothImageAsync(MultipartFile file) {
+        return Mono.fromCallable(() -> prepareClothImage(file, null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::uploadAsync);
+    }
+
+    /**
+     * 의류 이미지를 업로드합니다. (Mono, 처리 제한 시간 적용)
+     * S3 호출 타임아웃을 요청의 남은 시간으로 설정합니다.
+     */
+    public Mono<String> uploadClothImageAsync(MultipartFile file, Deadline deadline) {
+        return Mono.fromCallable(() -> prepareClothImage(file, deadline.remaining()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::uploadAsync);
+    }
+
+    /**
+     * 의류 이미지를 검증하고 정규화한 페이로드를 만듭니다. (Mono, boundedElastic에서 실행, 처리 제한 시간 적용)
+     * 카테고리 예측과 업로드(uploadPreparedClothImageAsync)가 이 페이로드를 함께 쓰면, 예측 캐시 키와 의류 content_hash가
+     * 같은 해시(정규화된 바이트의 SHA-256)가 됩니다.
+     */
+    public Mono<ImagePayload> prepareClothPayloadAsync(MultipartFile file, Deadline deadline) {
+        return Mono.fromCallable(() -> prepareClothPayload(file, deadline.remaining()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * prepareClothPayloadAsync로 검증/정규화한 의류 이미지를 업로드합니다. (Mono, 처리 제한 시간 적용)
+     */
+    public Mono<String> uploadPreparedClothImageAsync(ImagePayload payload, Deadline deadline) {
+        return Mono.fromCallable(() -> prepareClothUpload(payload, deadline.remaining()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::uploadAsync);
     }
 
     /**
@@ -181,45 +296,167 @@ public class ImageUploadUtil {
         return uploadToS3(image, tryonResultFolder, "image/png");
     }
 
+    /**
+     * 트라이온 결과 이미지를 업로드합니다. (Mono)
+     * 전송은 S3ObjectUploader 설정을 따릅니다. (sync는 boundedElastic에서 실행, async는 스레드를 점유하지 않음)
+     */
+    public Mono<String> uploadTryOnResultImageAsync(byte[] image) {
+        return Mono.defer(() -> uploadAsync(prepareBytes(image, tryonResultFolder, "image/png", null)));
+    }
+
+    /**
+     * 트라이온 결과 이미지를 업로드합니다. (Mono, 처리 제한 시간 적용)
+     * S3 호출 타임아웃을 요청의 남은 시간으로 설정합니다.
+     */
+    public Mono<String> uploadTryOnResultImageAsync(byte[] image, Deadline deadline) {
+        return Mono.defer(() -> uploadAsync(
+                prepareBytes(image, tryonResultFolder, "image/png", deadline.remaining())));
+    }
+
+    /**
+     * 트라이온 결과 이미지 스트림을 byte[]로 모으지 않고 S3에 업로드합니다. (Mono, 처리 제한 시간 적용)
+     */
+    public Mono<String> uploadTryOnResultImageAsync(Flux<DataBuffer> image, Deadline deadline) {
+        String s3Key = tryonResultFolder + "/" + generateFileName("image.png");
+        return s3StreamingUploader.upload(s3Key, "image/png", image, deadline != null ? deadline.remaining() : null)
+                .map(uploadedKey -> cloudfrontDomain + "/" + uploadedKey)
+                .doOnNext(imageUrl -> log.info("[ImageUploadUtil] 이미지 업로드 성공(스트리밍) - imageUrl={}", imageUrl))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("[ImageUploadUtil] S3 업로드 실패(스트리밍) - key={}, error={}", s3Key, e.getMessage(), e);
+                    return new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+                });
+    }
+
     /**
      * URL에서 트라이온 결과 이미지를 다운로드하여 S3에 업로드합니다.
      */
     public String uploadTryOnResultImageFromUrl(String imageUrl) {
-        log.info("[ImageUploadUtil] URL에서 이미지 다운로드 시작 - url={}", imageUrl);
+        return uploadTryOnResultImageFromUrlAsync(imageUrl).block();
+    }
 
-        try {
-            // WebClient로 이미지 다운로드
-            byte[] imageBytes = imageDownloadWebClient
-                    .get()
-                    .uri(imageUrl)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block(); // 동기 방식으로 처리
-
-            if (imageBytes == null || imageBytes.length == 0) {
-                throw new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "이미지 다운로드에 실패했습니다.");
-            }
+    /**
+     * URL에서 트라이온 결과 이미지를 다운로드하여 S3에 업로드합니다. (Mono)
+     * 다운로드는 논블로킹으로, S3 업로드만 boundedElastic 스케줄러에서 실행합니다.
+     */
+    public Mono<String> uploadTryOnResultImageFromUrlAsync(String imageUrl) {
+        log.info("[ImageUploadUtil] URL에서 이미지 다운로드 시작 - url={}", imageUrl);
 
-            log.info("[ImageUploadUtil] 이미지 다운로드 완료 - size={}KB", imageBytes.length / 1024);
+        return imageDownloadWebClient
+                .get()
+                .uri(imageUrl)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .filter(imageBytes -> imageBytes.length > 0)
+                .switchIfEmpty(Mono.error(
+                        () -> new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "이미지 다운로드에 실패했습니다.")))
+                .doOnNext(imageBytes -> log.info("[ImageUploadUtil] 이미지 다운로드 완료 - size={}KB",
+                        imageBytes.length / 1024))
+                // 다운로드된 이미지를 S3에 업로드
+                .flatMap(this::uploadTryOnResultImageAsync)
+                .doOnNext(s3Url -> log.info("[ImageUploadUtil] 이미지 다운로드 및 S3 업로드 완료 - originalUrl={}, s3Url={}",
+                        imageUrl, s3Url))
+                .onErrorMap(e -> {
+                    log.error("[ImageUploadUtil] 이미지 다운로드 및 업로드 실패 - url={}, error={}", imageUrl, e.getMessage(), e);
+                    return new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED,
+                            "이미지 다운로드 및 업로드에 실패했습니다: " + e.getMessage());
+                });
+    }
 
-            // 다운로드된 이미지를 S3에 업로드
-            String s3Url = uploadTryOnResultImage(imageBytes);
+    /**
+     * 원본 이미지의 파생본(썸네일 등)을 원본 키에서 정해지는 키에 업로드합니다. (Mono)
+     * 전송은 S3ObjectUploader 설정을 따릅니다.
+     *
+     * @return 업로드된 파생본 URL
+     */
+    public Mono<String> uploadDerivativeAsync(String sourceImageUrl, ImageVariant variant, byte[] image,
+            ImageFormat format) {
+        String s3Key = derivativeKey(sourceImageUrl, variant, format);
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(format.getMimeType())
+                .contentLength((long) image.length)
+                .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                .build();
+        return s3ObjectUploader.putAsync(putObjectRequest, ByteBuffer.wrap(image))
+                .then(Mono.fromCallable(() -> {
+                    String imageUrl = cloudfrontDomain + "/" + s3Key;
+                    log.debug("[ImageUploadUtil] 파생 이미지 업로드 성공 - imageUrl={}, size={}bytes", imageUrl,
+                            image.length);
+                    return imageUrl;
+                }))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("[ImageUploadUtil] 파생 이미지 업로드 실패 - key={}, error={}", s3Key, e.getMessage(), e);
+                    return new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+                });
+    }
 
-            log.info("[ImageUploadUtil] 이미지 다운로드 및 S3 업로드 완료 - originalUrl={}, s3Url={}", imageUrl, s3Url);
+    /**
+     * 파생본 S3 키: {원본 폴더}/derived/{variant}/{원본 파일명}.{확장자}
+     * CloudFront 도메인 밖의 URL(외부 이미지 등)은 derived/{variant}/{URL의 SHA-256}.{확장자}
+     */
+    String derivativeKey(String sourceImageUrl, ImageVariant variant, ImageFormat format) {
+        String variantPath = DERIVED_SEGMENT + variant.getPathSegment() + "/";
+        String prefix = cloudfrontDomain + "/";
+        if (!sourceImageUrl.startsWith(prefix)) {
+            return variantPath + ContentHashUtil.sha256Hex(sourceImageUrl) + "." + format.getExtension();
+        }
+        String sourceKey = sourceImageUrl.substring(prefix.length());
+        int queryIndex = sourceKey.indexOf('?');
+        if (queryIndex >= 0) {
+            sourceKey = sourceKey.substring(0, queryIndex);
+        }
+        int slashIndex = sourceKey.lastIndexOf('/');
+        String folder = sourceKey.substring(0, slashIndex + 1);
+        String fileName = sourceKey.substring(slashIndex + 1);
+        int dotIndex = fileName.lastIndexOf('.');
+        String baseName = dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName;
+        return folder + variantPath + baseName + "." + format.getExtension();
+    }
 
-            return s3Url;
+    /**
+     * 업로드한 이미지를 S3에서 삭제합니다.
+     * 정리 목적의 호출이므로 실패해도 예외를 던지지 않고 로그만 남깁니다.
+     *
+     * @param imageUrl uploadToS3가 반환한 이미지 URL
+     */
+    public void deleteImage(String imageUrl) {
+        String prefix = cloudfrontDomain + "/";
+        if (imageUrl == null || !imageUrl.startsWith(prefix)) {
+            log.warn("[ImageUploadUtil] 삭제할 수 없는 이미지 URL - imageUrl={}", imageUrl);
+            return;
+        }
+        if (imageUrl.contains(CONTENT_ADDRESSED_SEGMENT)) {
+            // 내용 주소 객체는 다른 요청/의류가 함께 참조할 수 있으므로 삭제하지 않음
+            log.debug("[ImageUploadUtil] 공유 이미지는 삭제하지 않음 - imageUrl={}", imageUrl);
+            return;
+        }
 
+        String s3Key = imageUrl.substring(prefix.length());
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+            log.info("[ImageUploadUtil] 이미지 삭제 성공 - s3Key={}", s3Key);
         } catch (Exception e) {
-            log.error("[ImageUploadUtil] 이미지 다운로드 및 업로드 실패 - url={}, error={}", imageUrl, e.getMessage(), e);
-
-            throw new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "이미지 다운로드 및 업로드에 실패했습니다: " + e.getMessage());
+            log.warn("[ImageUploadUtil] 이미지 삭제 실패 - s3Key={}, error={}", s3Key, e.getMessage());
         }
     }
 
+    /**
+     * 업로드한 이미지를 S3에서 삭제합니다. (Mono)
+     */
+    public Mono<Void> deleteImageAsync(String imageUrl) {
+        return Mono.fromRunnable(() -> deleteImage(imageUrl))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
     /**
      * 파일을 검증합니다.
      */
-    private void validateFile(MultipartFile file) {
+    private ImageInspector.ImageInfo validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_REQUEST, "업로드할 파일이 없습니다.");
         }
@@ -240,15 +477,162 @@ public class ImageUploadUtil {
                             " (실제: " + extension + ")");
         }
 
-        String contentType = file.getContentType();
-        if (contentType == null || !allowedContentTypes.contains(contentType.toLowerCase())) {
-            throw new CustomException(
-                    ErrorCode.INVALID_REQUEST,
-                    "지원하지 않는 Content-Type입니다. 지원 형식: " + String.join(", ", allowedContentTypes) +
-                            " (실제: " + contentType + ")");
+        // 클라이언트가 보낸 Content-Type 대신 헤더에서 판별한 실제 형식과 해상도로 검증
+        return imageValidator.validate(file);
+    }
+
+    /**
+     * 내용 주소 키로 업로드할 요청을 만듭니다. 같은 키의 객체가 이미 있으면 업로드를 생략합니다.
+     * 동시에 같은 내용이 업로드되면 양쪽 모두 putObject할 수 있지만, 내용이 같으므로 결과는 동일합니다.
+     */
+    private PendingUpload prepareContentAddressed(String folderPath, String contentHash, String extension,
+            String contentType, ByteBuffer content, Duration apiCallTimeout) {
+        String s3Key = folderPath + CONTENT_ADDRESSED_SEGMENT + contentHash + "." + extension;
+        String imageUrl = cloudfrontDomain + "/" + s3Key;
+
+        if (knownContentKeys.contains(s3Key)) {
+            countDedup("memory_hit");
+            log.info("[ImageUploadUtil] 이미 업로드된 이미지 재사용(프로세스 인덱스) - imageUrl={}", imageUrl);
+            return PendingUpload.existing(imageUrl);
+        }
+        boolean exists;
+        try {
+            exists = objectExists(s3Key, apiCallTimeout);
+        } catch (Exception e) {
+            log.error("[ImageUploadUtil] 내용 주소 객체 확인 실패 - key={}, error={}", s3Key, e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        if (exists) {
+            knownContentKeys.add(s3Key);
+            countDedup("s3_hit");
+            log.info("[ImageUploadUtil] 이미 업로드된 이미지 재사용(S3) - imageUrl={}", imageUrl);
+            return PendingUpload.existing(imageUrl);
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .overrideConfiguration(apiCallTimeoutOverride(apiCallTimeout))
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength((long) content.remaining())
+                .build();
+        // 존재 확인 후에만 업로드
+        return pending(s3Key, putObjectRequest, content, true);
+    }
+
+    /**
+     * 준비한 업로드를 실행하고 완료될 때까지 기다립니다.
+     */
+    private String upload(PendingUpload pending) {
+        if (pending.request() == null) {
+            return pending.imageUrl();
+        }
+        try {
+            s3ObjectUploader.put(pending.request(), pending.content());
+        } catch (Exception e) {
+            log.error("[ImageUploadUtil] S3 업로드 실패 - key={}, error={}", pending.s3Key(), e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+        return completeUpload(pending);
+    }
+
+    /**
+     * 준비한 업로드를 실행합니다. (Mono)
+     */
+    private Mono<String> uploadAsync(PendingUpload pending) {
+        if (pending.request() == null) {
+            return Mono.just(pending.imageUrl());
+        }
+        return s3ObjectUploader.putAsync(pending.request(), pending.content())
+                .then(Mono.fromCallable(() -> completeUpload(pending)))
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.error("[ImageUploadUtil] S3 업로드 실패 - key={}, error={}", pending.s3Key(), e.getMessage(), e);
+                    return new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+                });
+    }
+
+    private String completeUpload(PendingUpload pending) {
+        if (pending.contentAddressed()) {
+            knownContentKeys.add(pending.s3Key());
+            countDedup("uploaded");
+            log.info("[ImageUploadUtil] 이미지 업로드 성공(내용 주소) - imageUrl={}", pending.imageUrl());
+        } else {
+            log.info("[ImageUploadUtil] 이미지 업로드 성공 - imageUrl={}", pending.imageUrl());
+        }
+        return pending.imageUrl();
+    }
+
+    private PendingUpload pending(String s3Key, PutObjectRequest request, ByteBuffer content,
+            boolean contentAddressed) {
+        return new PendingUpload(s3Key, cloudfrontDomain + "/" + s3Key, request, content, contentAddressed);
+    }
+
+    /**
+     * 업로드할 파일을 요청 단위 페이로드로 한 번 읽습니다. (이미 페이로드면 그대로, 1MB 이상은 메모리 매핑)
+     */
+    private static ImagePayload readPayload(MultipartFile file) {
+        try {
+            return ImagePayload.of(file);
+        } catch (IOException e) {
+            log.error("[ImageUploadUtil] 업로드할 파일 읽기 실패 - fileName={}, error={}", file.getOriginalFilename(),
+                    e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private boolean objectExists(String s3Key, Duration apiCallTimeout) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .overrideConfiguration(apiCallTimeoutOverride(apiCallTimeout))
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
         }
     }
 
+    private void countDedup(String result) {
+        Counter.builder("image.upload.dedup")
+                .description("내용 주소 이미지 업로드 결과 (재사용/신규 업로드)")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 내용 주소 모드로 업로드된 이미지 URL에서 SHA-256 해시를 추출합니다.
+     *
+     * @return 내용 주소 URL이 아니면 empty
+     */
+    public static Optional<String> contentHashOf(String imageUrl) {
+        if (imageUrl == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = CONTENT_ADDRESSED_KEY.matcher(imageUrl);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    /**
+     * 남은 처리 시간이 있으면 S3 호출 전체(재시도 포함) 타임아웃으로 설정합니다.
+     *
+     * @return 타임아웃이 없으면 null (SDK 기본 설정 사용)
+     */
+    private static AwsRequestOverrideConfiguration apiCallTimeoutOverride(Duration apiCallTimeout) {
+        if (apiCallTimeout == null) {
+            return null;
+        }
+        return AwsRequestOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(Math.max(1, apiCallTimeout.toMillis())))
+                .build();
+    }
+
     /**
      * 고유한 파일명을 생성합니다.
      */
@@ -267,4 +651,14 @@ public class ImageUploadUtil {
         int lastDotIndex = filename.lastIndexOf(".");
         return lastDotIndex > 0 ? filename.substring(lastDotIndex + 1).toLowerCase() : "";
     }
-}
\ No newline at end of file
+
+    /**
+     * 실행 전 업로드 (request가 null이면 이미 같은 내용의 객체가 있어 업로드를 생략)
+     */
+    private record PendingUpload(String s3Key, String imageUrl, PutObjectRequest request, ByteBuffer content,
+            boolean contentAddressed) {
+        private static PendingUpload existing(String imageUrl) {
+            return new PendingUpload(null, imageUrl, null, null, true);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 이미지 내용 검증기
+ * 클라이언트가 보낸 확장자/Content-Type이 아니라 헤더에서 판별한 실제 형식으로 허용 여부를 확인하고,
+ * 해상도가 비정상적으로 큰 이미지(압축 폭탄)는 디코더나 외부 API(카테고리 예측, 배경 제거, 가상 피팅)에 넘기기 전에 거절합니다.
+ *
+ * - image.validation (Counter, tag: format, result = accepted | unknown_format | unsupported_format | unmeasured | too_large)
+ * - image.validation.pixels (DistributionSummary, tag: format) - 허용된 이미지의 픽셀 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageValidator {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.upload.allowed-content-types}")
+    private String allowedContentTypesConfig;
+
+    @Value("${image.validation.max-pixels:40000000}") // 기본 4천만 화소
+    private long maxPixels;
+
+    @Value("${image.validation.max-dimension:12000}") // 가로/세로 최대 픽셀
+    private int maxDimension;
+
+    private Set<String> allowedContentTypes;
+
+    @PostConstruct
+    void initAllowedContentTypes() {
+        this.allowedContentTypes = Arrays.stream(allowedContentTypesConfig.split(","))
+                .map(type -> type.trim().toLowerCase())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 이미지 내용을 검증하고 헤더 검사 결과를 반환합니다.
+     * 요청 단위 페이로드는 이미 계산된 결과를 사용하고, 그 외 파일은 스트림 앞부분만 읽어 검사합니다.
+     *
+     * @throws CustomException 형식을 판별할 수 없거나, 허용하지 않는 형식이거나, 해상도가 제한을 넘는 경우 (INVALID_REQUEST)
+     */
+    public ImageInspector.ImageInfo validate(MultipartFile file) {
+        return validate(inspect(file), file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 이미 검사한 헤더 정보로 검증합니다. (S3에 직접 업로드된 객체처럼 내용을 서버가 들고 있지 않은 경우)
+     *
+     * @param info        헤더 검사 결과 (판별할 수 없는 형식이면 null)
+     * @param name        로그에 남길 이름 (파일명 또는 객체 키)
+     * @param contentType 클라이언트가 보낸 Content-Type
+     * @param size        바이트 크기
+     * @throws CustomException 형식을 판별할 수 없거나, 허용하지 않는 형식이거나, 해상도가 제한을 넘는 경우 (INVALID_REQUEST)
+     */
+    public ImageInspector.ImageInfo validate(ImageInspector.ImageInfo info, String name, String contentType,
+            long size) {
+        if (info == null) {
+            throw reject("unknown", "unknown_format", name, contentType, size, "이미지 형식을 확인할 수 없습니다.");
+        }
+        String format = info.format().getTag();
+        if (!allowedContentTypes.contains(info.format().getMimeType())) {
+            throw reject(format, "unsupported_format", name, contentType, size,
+                    "지원하지 않는 이미지 형식입니다. 지원 형식: " + String.join(", ", allowedContentTypes) + " (실제: "
+                            + info.format().getMimeType() + ")");
+        }
+        if (!info.hasDimensions()) {
+            throw reject(format, "unmeasured", name, contentType, size, "손상되었거나 읽을 수 없는 이미지입니다.");
+        }
+        if (info.width() > maxDimension || info.height() > maxDimension || info.pixelCount() > maxPixels) {
+            throw reject(format, "too_large", name, contentType, size,
+                    "이미지 해상도가 너무 큽니다. (" + info.width() + "x" + info.height() + ")");
+        }
+
+        count(format, "accepted");
+        DistributionSummary.builder("image.validation.pixels")
+                .description("검증을 통과한 업로드 이미지의 픽셀 수")
+                .tag("format", format)
+                .register(meterRegistry)
+                .record(info.pixelCount());
+        return info;
+    }
+
+    /**
+     * 허용하는 Content-Type인지 확인 (직접 업로드 URL 발급 전 클라이언트가 선언한 형식 확인용)
+     */
+    public boolean isAllowedContentType(String contentType) {
+        return contentType != null && allowedContentTypes.contains(contentType.trim().toLowerCase());
+    }
+
+    private ImageInspector.ImageInfo inspect(MultipartFile file) {
+        if (file instanceof ImagePayload payload) {
+            return payload.getImageInfo().orElse(null);
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            return ImageInspector.inspect(inputStream).orElse(null);
+        } catch (IOException e) {
+            log.error("[ImageValidator] 이미지 읽기 실패 - fileName={}, error={}", file.getOriginalFilename(), e.getMessage(),
+                    e);
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "업로드된 파일을 읽을 수 없습니다.");
+        }
+    }
+
+    private CustomException reject(String format, String result, String name, String contentType, long size,
+            String message) {
+        count(format, result);
+        log.warn("[ImageValidator] 이미지 거절 - fileName={}, contentType={}, size={}bytes, result={}", name,
+                contentType, size, result);
+        return new CustomException(ErrorCode.INVALID_REQUEST, message);
+    }
+
+    private void count(String format, String result) {
+        Counter.builder("image.validation")
+                .description("업로드 이미지 내용 검증 결과")
+                .tag("format", format)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
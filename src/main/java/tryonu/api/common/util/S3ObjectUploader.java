@@ -0,0 +1,212 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * S3 PutObject 실행기 (동기 S3Client / 비동기 S3AsyncClient를 설정으로 선택)
+ * aws.s3.upload.client=async이면 S3AsyncClient로 업로드하여 전송하는 동안 호출 스레드나 boundedElastic 스레드를 잡지 않고,
+ * aws.s3.multipart.threshold-bytes 이상은 SDK 멀티파트 업로드로 파트를 병렬 전송합니다.
+ * 기본값(sync)은 기존과 같이 S3Client로 업로드합니다. 두 경로가 같은 지표를 기록하므로 설정만 바꿔 A/B 비교할 수 있습니다.
+ * 내용은 ByteBuffer로 받아 복사 없이 전송하며, 재시도 때마다 버퍼를 처음부터 다시 읽습니다.
+ * 크기를 미리 알 수 없는 스트림(S3StreamingUploader)을 위한 멀티파트 단계(생성/파트 업로드/완료/중단)도 같은 설정을 따릅니다.
+ *
+ * - image.upload.duration (Timer, tag: client = sync | async, transfer = single | multipart | part, result = success | error)
+ * - image.upload.bytes (DistributionSummary, tag: client, transfer) - 업로드 한 건의 크기
+ * - image.upload.throughput (DistributionSummary, tag: client, transfer) - 성공한 업로드의 초당 전송 바이트
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectUploader {
+
+    private static final String SYNC_CLIENT = "sync";
+    private static final String ASYNC_CLIENT = "async";
+
+    private final S3Client s3Client;
+    private final ObjectProvider<S3AsyncClient> s3AsyncClientProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${aws.s3.upload.client:sync}") // sync | async
+    private String uploadClient;
+
+    @Value("${aws.s3.multipart.threshold-bytes:8388608}") // StorageConfig의 비동기 클라이언트 멀티파트 기준과 같은 값
+    private long multipartThresholdBytes;
+
+    private S3AsyncClient s3AsyncClient; // async 모드에서만 사용
+
+    @PostConstruct
+    void initClient() {
+        if (ASYNC_CLIENT.equalsIgnoreCase(uploadClient)) {
+            this.s3AsyncClient = s3AsyncClientProvider.getObject();
+        } else if (!SYNC_CLIENT.equalsIgnoreCase(uploadClient)) {
+            throw new IllegalStateException("지원하지 않는 S3 업로드 클라이언트입니다: " + uploadClient);
+        }
+        log.info("[S3ObjectUploader] S3 업로드 클라이언트 - client={}, multipartThresholdBytes={}", clientTag(),
+                multipartThresholdBytes);
+    }
+
+    /**
+     * 객체를 업로드하고 완료될 때까지 기다립니다.
+     * 요청 스레드 등 블로킹이 허용되는 곳에서만 호출합니다.
+     */
+    public void put(PutObjectRequest request, ByteBuffer content) {
+        if (s3AsyncClient != null) {
+            putAsync(request, content).block();
+            return;
+        }
+        long start = System.nanoTime();
+        long contentLength = content.remaining();
+        try {
+            s3Client.putObject(request, syncBody(request, content));
+            record("success", contentLength, start);
+        } catch (RuntimeException e) {
+            record("error", contentLength, start);
+            throw e;
+        }
+    }
+
+    /**
+     * 객체를 업로드합니다. (Mono, 구독할 때 시작)
+     * async 모드는 S3AsyncClient의 CompletableFuture를 그대로 감싸고(취소하면 전송도 취소), sync 모드는 boundedElastic에서 실행합니다.
+     */
+    public Mono<Void> putAsync(PutObjectRequest request, ByteBuffer content) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            long contentLength = content.remaining();
+            return call(() -> s3AsyncClient.putObject(request,
+                            AsyncRequestBody.fromRemainingByteBufferUnsafe(content.duplicate())),
+                    () -> s3Client.putObject(request, syncBody(request, content)))
+                    .doOnSuccess(response -> record("success", contentLength, start))
+                    .doOnError(e -> record("error", contentLength, start))
+                    .then();
+        });
+    }
+
+    /**
+     * 멀티파트 업로드를 시작합니다. (Mono, 구독할 때 시작)
+     *
+     * @return 업로드 ID
+     */
+    public Mono<String> createMultipartUploadAsync(CreateMultipartUploadRequest request) {
+        return call(() -> s3AsyncClient.createMultipartUpload(request), () -> s3Client.createMultipartUpload(request))
+                .map(CreateMultipartUploadResponse::uploadId);
+    }
+
+    /**
+     * 파트 하나를 업로드합니다. (Mono, 구독할 때 시작)
+     * 파트 업로드가 끝날 때까지 content를 수정하면 안 됩니다.
+     *
+     * @return 파트의 ETag
+     */
+    public Mono<String> uploadPartAsync(UploadPartRequest request, ByteBuffer content) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            long contentLength = content.remaining();
+            return call(() -> s3AsyncClient.uploadPart(request,
+                            AsyncRequestBody.fromRemainingByteBufferUnsafe(content.duplicate())),
+                    () -> s3Client.uploadPart(request, RequestBody.fromContentProvider(
+                            () -> new ByteBufferInputStream(content.duplicate()), contentLength,
+                            MediaType.APPLICATION_OCTET_STREAM_VALUE)))
+                    .doOnSuccess(response -> record("success", "part", contentLength, start))
+                    .doOnError(e -> record("error", "part", contentLength, start))
+                    .map(UploadPartResponse::eTag);
+        });
+    }
+
+    /**
+     * 멀티파트 업로드를 완료합니다. (Mono, 구독할 때 시작)
+     */
+    public Mono<Void> completeMultipartUploadAsync(CompleteMultipartUploadRequest request) {
+        return call(() -> s3AsyncClient.completeMultipartUpload(request),
+                () -> s3Client.completeMultipartUpload(request)).then();
+    }
+
+    /**
+     * 멀티파트 업로드를 중단하여 올라간 파트를 삭제합니다. (Mono, 구독할 때 시작)
+     */
+    public Mono<Void> abortMultipartUploadAsync(AbortMultipartUploadRequest request) {
+        return call(() -> s3AsyncClient.abortMultipartUpload(request),
+                () -> s3Client.abortMultipartUpload(request)).then();
+    }
+
+    /**
+     * async 모드는 S3AsyncClient의 CompletableFuture를 감싸고(취소하면 요청도 취소), sync 모드는 boundedElastic에서 실행
+     */
+    private <T> Mono<T> call(Supplier<CompletableFuture<T>> asyncCall, Callable<T> syncCall) {
+        return s3AsyncClient != null
+                ? Mono.fromFuture(asyncCall)
+                : Mono.fromCallable(syncCall).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static RequestBody syncBody(PutObjectRequest request, ByteBuffer content) {
+        return RequestBody.fromContentProvider(() -> new ByteBufferInputStream(content.duplicate()),
+                content.remaining(),
+                request.contentType() != null ? request.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+
+    private void record(String result, long contentLength, long startNanos) {
+        record(result, s3AsyncClient != null && contentLength >= multipartThresholdBytes ? "multipart" : "single",
+                contentLength, startNanos);
+    }
+
+    private void record(String result, String transfer, long contentLength, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        String client = clientTag();
+        Timer.builder("image.upload.duration")
+                .description("S3 이미지 업로드 소요 시간")
+                .tag("client", client)
+                .tag("transfer", transfer)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (!"success".equals(result)) {
+            return;
+        }
+        DistributionSummary.builder("image.upload.bytes")
+                .description("S3 이미지 업로드 크기")
+                .baseUnit("bytes")
+                .tag("client", client)
+                .tag("transfer", transfer)
+                .register(meterRegistry)
+                .record(contentLength);
+        DistributionSummary.builder("image.upload.throughput")
+                .description("S3 이미지 업로드 초당 전송 바이트")
+                .baseUnit("bytes")
+                .tag("client", client)
+                .tag("transfer", transfer)
+                .register(meterRegistry)
+                .record(contentLength * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+    }
+
+    private String clientTag() {
+        return s3AsyncClient != null ? ASYNC_CLIENT : SYNC_CLIENT;
+    }
+}
@@ -0,0 +1,264 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataBuffer 스트림을 전체 byte[]로 모으지 않고 S3에 업로드하는 유틸리티
+ * 들어오는 버퍼를 파트 크기(기본 5MB, S3 멀티파트 최소 크기)까지만 모아 순서대로 업로드하므로, 업로드 한 건이 잡는 메모리는
+ * 파트 하나와 prefetch된 소수의 DataBuffer로 제한됩니다. 전체가 파트 하나보다 작으면 PutObject 한 번으로 업로드합니다.
+ * S3 호출은 S3ObjectUploader를 거치므로 aws.s3.upload.client 설정(sync | async)을 따릅니다. async이면 파트를 전송하는 동안
+ * 스레드를 점유하지 않고, sync이면 S3 호출만 boundedElastic에서 실행합니다.
+ * 파트를 올리는 동안에는 다음 버퍼를 요청하지 않으므로(concatMap) 느린 S3 전송이 다운로드 쪽으로 배압을 전달합니다.
+ *
+ * - image.stream.bytes.in_flight (Gauge) - 현재 업로드 중인 스트림들이 잡고 있는 바이트 합계
+ * - image.stream.peak.bytes (DistributionSummary, tag: outcome = success | error) - 업로드 한 건의 최대 보유 바이트
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StreamingUploader {
+
+    private static final int MIN_PART_SIZE_BYTES = 5 * 1024 * 1024; // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    private static final int PREFETCH_BUFFERS = 8; // 파트 업로드 중 앞에 쌓아 둘 최대 DataBuffer 수
+
+    private final S3ObjectUploader s3ObjectUploader;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong bytesInFlight = new AtomicLong();
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.streaming.part-size-bytes:5242880}")
+    private int partSizeBytes;
+
+    @PostConstruct
+    void initMetrics() {
+        Gauge.builder("image.stream.bytes.in_flight", bytesInFlight, AtomicLong::get)
+                .description("스트리밍 업로드 중 메모리에 보유한 바이트 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DataBuffer 스트림을 S3 객체로 업로드 (논블로킹)
+     * 실패하거나 취소되면 진행 중인 멀티파트 업로드를 중단(abort)하고, 받은 DataBuffer는 모두 해제합니다.
+     * 버퍼마다 해제하는 곳은 한 곳입니다. 전달된 버퍼는 append가 내용을 복사한 뒤 해제하고(concatMap에는 파트 업로드만 넘겨
+     * 폐기 훅이 같은 버퍼를 다시 해제하지 않음), doOnDiscard는 concatMap 큐에 남은 채 전달되지 못한 버퍼만 해제합니다.
+     *
+     * @param apiCallTimeout S3 호출별 타임아웃 (null이면 SDK 기본 설정)
+     * @return 업로드 완료 후 S3 키
+     */
+    public Mono<String> upload(String s3Key, String contentType, Flux<DataBuffer> body, Duration apiCallTimeout) {
+        return Mono.usingWhen(
+                Mono.fromSupplier(() -> new Upload(s3Key, contentType, apiCallTimeout)),
+                upload -> body
+                        .concatMap(upload::append, PREFETCH_BUFFERS)
+                        .then(Mono.defer(upload::complete)),
+                Upload::finish,
+                (upload, error) -> upload.abort(),
+                Upload::abort)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * 업로드 한 건의 상태 (concatMap이 순서대로 하나씩 접근)
+     */
+    private final class Upload {
+        private final String s3Key;
+        private final String contentType;
+        private final AwsRequestOverrideConfiguration overrideConfiguration;
+        private final PartBuffer partBuffer = new PartBuffer();
+        private final List<CompletedPart> completedParts = new ArrayList<>();
+        private String uploadId;
+        private long heldBytes;
+        private long peakBytes;
+        private boolean completed;
+
+        private Upload(String s3Key, String contentType, Duration apiCallTimeout) {
+            this.s3Key = s3Key;
+            this.contentType = contentType;
+            this.overrideConfiguration = apiCallTimeout == null ? null
+                    : AwsRequestOverrideConfiguration.builder()
+                            .apiCallTimeout(Duration.ofMillis(Math.max(1, apiCallTimeout.toMillis())))
+                            .build();
+        }
+
+        /**
+         * 버퍼 내용을 파트 버퍼로 복사하고 버퍼를 해제합니다. (전달된 버퍼의 유일한 해제 지점)
+         * 파트 크기를 넘기면 넘긴 버퍼까지 포함해 파트 하나로 업로드합니다. (파트 크기 + 버퍼 하나 이하)
+         *
+         * @return 파트 업로드 (파트가 아직 차지 않았으면 empty)
+         */
+        private Mono<Void> append(DataBuffer buffer) {
+            try {
+                hold(buffer.readableByteCount());
+                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                    iterator.forEachRemaining(byteBuffer -> partBuffer.write(byteBuffer, effectivePartSize()));
+                }
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            return partBuffer.size() >= effectivePartSize() ? uploadPart() : Mono.empty();
+        }
+
+        private Mono<String> complete() {
+            if (uploadId == null && partBuffer.size() == 0) {
+                return Mono.error(new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드할 이미지 스트림이 비어 있습니다."));
+            }
+            Mono<Void> upload;
+            if (uploadId == null) {
+                // 파트 하나 크기 미만이면 멀티파트 없이 한 번에 업로드
+                upload = s3ObjectUploader.putAsync(PutObjectRequest.builder()
+                        .overrideConfiguration(overrideConfiguration)
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .contentLength((long) partBuffer.size())
+                        .build(), partBuffer.content());
+            } else {
+                upload = (partBuffer.size() > 0 ? uploadPart() : Mono.<Void>empty())
+                        .then(Mono.defer(() -> s3ObjectUploader.completeMultipartUploadAsync(
+                                CompleteMultipartUploadRequest.builder()
+                                        .overrideConfiguration(overrideConfiguration)
+                                        .bucket(bucketName)
+                                        .key(s3Key)
+                                        .uploadId(uploadId)
+                                        .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                                        .build())));
+            }
+            return upload.then(Mono.fromCallable(() -> {
+                completed = true;
+                log.info("[S3StreamingUploader] 스트리밍 업로드 완료 - key={}, parts={}, peakBytes={}", s3Key,
+                        Math.max(1, completedParts.size()), peakBytes);
+                return s3Key;
+            }));
+        }
+
+        private Mono<Void> uploadPart() {
+            Mono<String> startedUploadId = uploadId != null
+                    ? Mono.just(uploadId)
+                    : s3ObjectUploader.createMultipartUploadAsync(CreateMultipartUploadRequest.builder()
+                            .overrideConfiguration(overrideConfiguration)
+                            .bucket(bucketName)
+                            .key(s3Key)
+                            .contentType(contentType)
+                            .build())
+                            .doOnNext(createdUploadId -> uploadId = createdUploadId);
+            return startedUploadId.flatMap(currentUploadId -> {
+                int partNumber = completedParts.size() + 1;
+                int partSize = partBuffer.size();
+                return s3ObjectUploader.uploadPartAsync(UploadPartRequest.builder()
+                        .overrideConfiguration(overrideConfiguration)
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(currentUploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) partSize)
+                        .build(), partBuffer.content())
+                        .doOnNext(eTag -> {
+                            completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                            release(partSize);
+                            partBuffer.reset();
+                        });
+            }).then();
+        }
+
+        /**
+         * 실패/취소 시 진행 중인 멀티파트 업로드를 중단합니다. (중단 실패는 로그만 남김)
+         */
+        private Mono<Void> abort() {
+            return Mono.defer(() -> {
+                if (uploadId == null || completed) {
+                    return Mono.<Void>empty();
+                }
+                return s3ObjectUploader.abortMultipartUploadAsync(AbortMultipartUploadRequest.builder()
+                                .bucket(bucketName)
+                                .key(s3Key)
+                                .uploadId(uploadId)
+                                .build())
+                        .onErrorResume(e -> {
+                            log.warn("[S3StreamingUploader] 멀티파트 업로드 중단 실패 - key={}, uploadId={}, error={}",
+                                    s3Key, uploadId, e.getMessage());
+                            return Mono.empty();
+                        });
+            }).then(finish());
+        }
+
+        private Mono<Void> finish() {
+            return Mono.fromRunnable(() -> {
+                release(heldBytes);
+                DistributionSummary.builder("image.stream.peak.bytes")
+                        .description("스트리밍 업로드 한 건이 메모리에 보유한 최대 바이트")
+                        .baseUnit("bytes")
+                        .tag("outcome", completed ? "success" : "error")
+                        .register(meterRegistry)
+                        .record(peakBytes);
+            });
+        }
+
+        private int effectivePartSize() {
+            return Math.max(partSizeBytes, MIN_PART_SIZE_BYTES);
+        }
+
+        private void hold(long bytes) {
+            heldBytes += bytes;
+            peakBytes = Math.max(peakBytes, heldBytes);
+            bytesInFlight.addAndGet(bytes);
+        }
+
+        private void release(long bytes) {
+            heldBytes -= bytes;
+            bytesInFlight.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * 파트 버퍼 (내부 배열을 복사하지 않고 ByteBuffer로 전달)
+     */
+    private static final class PartBuffer extends ByteArrayOutputStream {
+        private void write(ByteBuffer source, int partSize) {
+            int start = count;
+            int length = source.remaining();
+            if (start + length > buf.length) {
+                // 파트 크기까지는 두 배씩 확장하고, 파트 크기를 넘기는 마지막 버퍼는 필요한 만큼만 확장
+                buf = Arrays.copyOf(buf, Math.max(start + length, Math.min(buf.length * 2, partSize)));
+            }
+            source.get(buf, start, length);
+            count = start + length;
+        }
+
+        private ByteBuffer content() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import tryonu.api.common.enums.TryOnStage;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.dto.responses.VirtualFittingStatusResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 가상 피팅 파이프라인 단계별 메트릭
+ *
+ * - tryon.stage.duration (Timer, tag: stage, outcome, error)
+ *   outcome = success | failed(가상 피팅 API가 실패 상태로 완료) | timeout | error | cancelled
+ *   error = fashn.ai 에러 이름(ImageLoadError, PoseError 등) 또는 ErrorCode 이름, 성공 시 none
+ * - tryon.fashn.status.polls (DistributionSummary, tag: outcome) - 가상 피팅 한 건이 끝날 때까지의 상태 조회 횟수
+ */
+@Component
+@RequiredArgsConstructor
+public class TryOnMetrics {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILED = "failed";
+    private static final String OUTCOME_TIMEOUT = "timeout";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_CANCELLED = "cancelled";
+    private static final String NO_ERROR = "none";
+
+    // 외부 API 단계는 수백 ms, 가상 피팅 완료 대기는 20~40초 수준이므로 두 구간을 모두 포함
+    private static final Duration[] STAGE_SLOS = {
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2),
+            Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(20), Duration.ofSeconds(30),
+            Duration.ofSeconds(45), Duration.ofSeconds(60) };
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 단계 실행 시간을 결과(성공/에러/취소)별로 기록 (논블로킹)
+     */
+    public <T> Mono<T> timed(TryOnStage stage, Mono<T> source) {
+        return timed(stage, source, value -> null);
+    }
+
+    /**
+     * 단계 실행 시간을 기록하되, 정상 완료된 값이라도 실패로 분류해야 하는 경우(가상 피팅 실패 상태 등) 에러 이름을 반환하는
+     * 분류 함수를 함께 받습니다.
+     *
+     * @param failureOf 값이 실패를 나타내면 에러 이름, 성공이면 null
+     */
+    public <T> Mono<T> timed(TryOnStage stage, Mono<T> source, Function<? super T, String> failureOf) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return source
+                    .doOnSuccess(value -> {
+                        String failure = value != null ? failureOf.apply(value) : null;
+                        record(stage, startNanos, failure == null ? OUTCOME_SUCCESS : OUTCOME_FAILED,
+                                failure == null ? NO_ERROR : failure);
+                    })
+                    .doOnError(error -> record(stage, startNanos, outcomeOf(error), errorNameOf(error)))
+                    .doOnCancel(() -> record(stage, startNanos, OUTCOME_CANCELLED, NO_ERROR));
+        });
+    }
+
+    /**
+     * 가상 피팅 완료 대기 시간을 기록 (failed 상태로 끝나면 fashn.ai 에러 이름으로 분류)
+     */
+    public Mono<VirtualFittingStatusResponse> timedFittingWait(Mono<VirtualFittingStatusResponse> source) {
+        return timed(TryOnStage.FITTING_WAIT, source, TryOnMetrics::fashnErrorNameOf);
+    }
+
+    /**
+     * 단계 실행 시간을 결과별로 기록 (블로킹)
+     */
+    public <T> T timed(TryOnStage stage, Supplier<T> call) {
+        long startNanos = System.nanoTime();
+        try {
+            T result = call.get();
+            record(stage, startNanos, OUTCOME_SUCCESS, NO_ERROR);
+            return result;
+        } catch (RuntimeException e) {
+            record(stage, startNanos, outcomeOf(e), errorNameOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * 가상 피팅 한 건이 끝날 때까지의 상태 조회 횟수 기록
+     */
+    public void recordStatusPolls(String outcome, int pollCount) {
+        DistributionSummary.builder("tryon.fashn.status.polls")
+                .description("가상 피팅 한 건의 상태 조회 횟수")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .serviceLevelObjectives(1, 2, 4, 8, 16, 32)
+                .register(meterRegistry)
+                .record(pollCount);
+    }
+
+    private void record(TryOnStage stage, long startNanos, String outcome, String error) {
+        Timer.builder("tryon.stage.duration")
+                .description("가상 피팅 파이프라인 단계별 소요 시간")
+                .tag("stage", stage.getTag())
+                .tag("outcome", outcome)
+                .tag("error", error)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(STAGE_SLOS)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String fashnErrorNameOf(VirtualFittingStatusResponse status) {
+        if ("completed".equals(status.status())) {
+            return null;
+        }
+        return status.error() != null && status.error().name() != null ? status.error().name() : "unknown";
+    }
+
+    private static String outcomeOf(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return OUTCOME_TIMEOUT;
+        }
+        if (error instanceof CustomException customException
+                && (customException.getErrorCode() == ErrorCode.TRY_ON_DEADLINE_EXCEEDED
+                        || customException.getErrorCode() == ErrorCode.VIRTUAL_FITTING_TIMEOUT)) {
+            return OUTCOME_TIMEOUT;
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private static String errorNameOf(Throwable error) {
+        if (error instanceof CustomException customException) {
+            return customException.getErrorCode().name();
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return "HTTP_" + responseException.getStatusCode().value();
+        }
+        return error.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,95 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 가상 피팅 요청 병합기 (single-flight)
+ * 같은 키(모델 이미지, 의류 이미지)의 가상 피팅이 이미 진행 중이면 새로 요청하지 않고 진행 중인 작업의 결과를 함께 받습니다.
+ * 처음 요청한 작업(leader)은 개별 구독자가 취소되더라도 끝까지 실행되며, 완료되면 키가 해제됩니다.
+ *
+ * - tryon.fitting.coalesce (Counter, tag: role = leader | follower)
+ * - tryon.fitting.coalesce.in_flight (Gauge) - 진행 중인 병합 키 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualFittingCoalescer {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${virtual-fitting.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    void initMetrics() {
+        Gauge.builder("tryon.fitting.coalesce.in_flight", inFlight, Map::size)
+                .description("진행 중인 병합 가상 피팅 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키의 작업이 진행 중이면 그 결과에 합류하고, 없으면 작업을 즉시 시작합니다
+     * 구독 시점에 합류 여부가 결정되도록 Mono.defer 안에서 호출해야 합니다.
+     *
+     * @param key  병합 키 (같은 입력이면 같은 결과가 나오는 단위)
+     * @param work 진행 중인 작업이 없을 때 실행할 작업
+     * @return 작업 결과와 직접 실행 여부
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Flight<T> join(String key, Supplier<Mono<T>> work) {
+        if (!enabled) {
+            return new Flight<>(Mono.defer(work), true);
+        }
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            count("follower");
+            log.info("[VirtualFittingCoalescer] 진행 중인 가상 피팅에 합류 - key={}", key);
+            return new Flight<>(Mono.fromFuture(existing, true), false);
+        }
+
+        count("leader");
+        Mono.defer(work).toFuture().whenComplete((value, error) -> {
+            // 완료된 결과는 다음 요청부터 결과 캐시에서 처리되므로 즉시 해제
+            inFlight.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return new Flight<>(Mono.fromFuture(flight, true), true);
+    }
+
+    private void count(String role) {
+        Counter.builder("tryon.fitting.coalesce")
+                .description("가상 피팅 요청 병합 결과 (leader: 직접 실행, follower: 진행 중인 요청에 합류)")
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 병합된 작업
+     *
+     * @param result 작업 결과 (구독이 취소되어도 작업은 계속 실행됨)
+     * @param leader 이 요청이 작업을 직접 실행했는지 여부 (false면 다른 요청의 결과를 공유)
+     */
+    public record Flight<T>(Mono<T> result, boolean leader) {
+    }
+}
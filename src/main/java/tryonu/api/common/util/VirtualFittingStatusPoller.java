@@ -0,0 +1,239 @@
+package tryonu.api.common.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.dto.responses.VirtualFittingStatusResponse;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상피팅 상태 공용 폴러
+ * 진행 중인 모든 가상피팅 ID를 하나의 레지스트리에서 관리하며, 틱마다 폴링 시점이 된 예측만
+ * 제한된 개수의 논블로킹 요청으로 조회합니다. 예측별로 스레드를 점유하지 않으며,
+ * 완료(completed/failed) 시 예측별 CompletableFuture를 완료시킵니다.
+ *
+ * 폴링 간격: 처음 몇 번은 빠르게(빠른 실패 감지), 이후에는 최근 평균 완료 시간까지 기다렸다가,
+ * 평균을 넘기면 최소 간격부터 지수적으로 늘려가며 조회합니다.
+ * 예측 한 건이 끝날 때마다 상태 조회 횟수를 결과(completed/failed/timeout/error)별로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualFittingStatusPoller {
+
+    private static final double COMPLETION_TIME_WEIGHT = 0.2; // 평균 완료 시간 EWMA 가중치
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final VirtualFittingUtil virtualFittingUtil;
+    private final TryOnMetrics tryOnMetrics;
+
+    private final ConcurrentMap<String, TrackedPrediction> trackedPredictions = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightPolls = new AtomicInteger();
+    private volatile double averageCompletionMs = -1;
+    private Clock clock = Clock.systemUTC(); // 폴링 시점 계산 기준 (테스트에서 교체)
+
+    @Value("${virtual-fitting.poller.max-in-flight:16}") // 동시에 나가는 상태 조회 요청 수 상한
+    private int maxInFlight;
+
+    @Value("${virtual-fitting.poller.min-interval-ms:500}")
+    private long minIntervalMs;
+
+    @Value("${virtual-fitting.poller.max-interval-ms:5000}")
+    private long maxIntervalMs;
+
+    @Value("${virtual-fitting.poller.fast-poll-count:2}")
+    private int fastPollCount;
+
+    @Value("${virtual-fitting.poller.initial-expected-completion-ms:15000}") // 완료 이력이 없을 때 예상 완료 시간
+    private long initialExpectedCompletionMs;
+
+    @Value("${virtual-fitting.poller.max-consecutive-errors:3}")
+    private int maxConsecutiveErrors;
+
+    /**
+     * 가상피팅 완료 추적 등록
+     * 이미 추적 중인 ID면 기존 Future를 반환합니다.
+     *
+     * @param predictionId  가상피팅 ID
+     * @param maxWaitTimeMs 최대 대기 시간 (초과 시 VIRTUAL_FITTING_TIMEOUT으로 실패)
+     * @return 최종 상태(completed/failed)로 완료되는 Future
+     */
+    public CompletableFuture<VirtualFittingStatusResponse> track(String predictionId, long maxWaitTimeMs) {
+        TrackedPrediction tracked = trackedPredictions.computeIfAbsent(predictionId, id -> {
+            TrackedPrediction created = new TrackedPrediction(id, clock.millis(), maxWaitTimeMs);
+            created.nextPollAt = created.registeredAt + minIntervalMs;
+            // 타임아웃, 취소 등 어떤 이유로든 완료되면 레지스트리에서 제거
+            created.future.whenComplete((status, error) -> trackedPredictions.remove(id, created));
+            log.debug("[VirtualFittingStatusPoller] 가상피팅 추적 등록 - predictionId={}, maxWait={}ms", id,
+                    maxWaitTimeMs);
+            return created;
+        });
+        return tracked.future;
+    }
+
+    /**
+     * 가상피팅 완료 추적 등록 (Mono)
+     * 같은 가상피팅을 여러 작업이 함께 기다리므로, 한 구독자가 취소(작업별 제한 시간 초과)되어도 추적은 계속합니다.
+     */
+    public Mono<VirtualFittingStatusResponse> trackAsMono(String predictionId, long maxWaitTimeMs) {
+        return Mono.fromFuture(() -> track(predictionId, maxWaitTimeMs), true);
+    }
+
+    /**
+     * 현재 추적 중인 가상피팅 수
+     */
+    public int getTrackedCount() {
+        return trackedPredictions.size();
+    }
+
+    @Scheduled(fixedDelayString = "${virtual-fitting.poller.tick-ms:200}")
+    public void pollDuePredictions() {
+        if (trackedPredictions.isEmpty()) {
+            return;
+        }
+
+        long now = clock.millis();
+        List<TrackedPrediction> duePredictions = trackedPredictions.values().stream()
+                .filter(tracked -> !expireIfTimedOut(tracked, now))
+                .filter(tracked -> !tracked.polling && tracked.nextPollAt <= now)
+                .sorted(Comparator.comparingLong(tracked -> tracked.nextPollAt))
+                .toList();
+
+        for (TrackedPrediction tracked : duePredictions) {
+            if (inFlightPolls.get() >= maxInFlight) {
+                // 남은 예측은 다음 틱에서 조회
+                break;
+            }
+            poll(tracked, now);
+        }
+    }
+
+    private void poll(TrackedPrediction tracked, long now) {
+        tracked.polling = true;
+        tracked.pollCount++;
+        tracked.nextPollAt = now + nextDelayMs(tracked, now);
+        inFlightPolls.incrementAndGet();
+
+        virtualFittingUtil.fetchVirtualFittingStatus(tracked.predictionId)
+                .doFinally(signal -> {
+                    inFlightPolls.decrementAndGet();
+                    tracked.polling = false;
+                })
+                .subscribe(
+                        status -> onStatus(tracked, status),
+                        error -> onError(tracked, error));
+    }
+
+    private void onStatus(TrackedPrediction tracked, VirtualFittingStatusResponse status) {
+        tracked.consecutiveErrors = 0;
+        log.debug("[VirtualFittingStatusPoller] 가상피팅 상태 확인 - predictionId={}, status={}, pollCount={}",
+                tracked.predictionId, status.status(), tracked.pollCount);
+
+        if (!"completed".equals(status.status()) && !"failed".equals(status.status())) {
+            return;
+        }
+
+        long elapsedMs = clock.millis() - tracked.registeredAt;
+        if ("completed".equals(status.status())) {
+            recordCompletionTime(elapsedMs);
+        }
+        log.info("[VirtualFittingStatusPoller] 가상피팅 완료 - predictionId={}, finalStatus={}, elapsed={}ms, pollCount={}",
+                tracked.predictionId, status.status(), elapsedMs, tracked.pollCount);
+        tryOnMetrics.recordStatusPolls(status.status(), tracked.pollCount);
+        tracked.future.complete(status);
+    }
+
+    private void onError(TrackedPrediction tracked, Throwable error) {
+        int consecutiveErrors = ++tracked.consecutiveErrors;
+        log.warn("[VirtualFittingStatusPoller] 가상피팅 상태 조회 실패 - predictionId={}, consecutiveErrors={}, error={}",
+                tracked.predictionId, consecutiveErrors, error.getMessage());
+
+        if (consecutiveErrors >= maxConsecutiveErrors) {
+            tryOnMetrics.recordStatusPolls("error", tracked.pollCount);
+            tracked.future.completeExceptionally(
+                    new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR, "가상피팅 상태 조회에 실패했습니다.", error));
+        }
+    }
+
+    private boolean expireIfTimedOut(TrackedPrediction tracked, long now) {
+        if (now - tracked.registeredAt < tracked.maxWaitTimeMs) {
+            return false;
+        }
+        log.warn("[VirtualFittingStatusPoller] 가상피팅 타임아웃 - predictionId={}, maxWait={}ms, pollCount={}",
+                tracked.predictionId, tracked.maxWaitTimeMs, tracked.pollCount);
+        tryOnMetrics.recordStatusPolls("timeout", tracked.pollCount);
+        tracked.future.completeExceptionally(
+                new CustomException(ErrorCode.VIRTUAL_FITTING_TIMEOUT, "가상피팅 처리 시간이 초과되었습니다."));
+        return true;
+    }
+
+    /**
+     * 다음 폴링까지의 대기 시간 계산
+     */
+    private long nextDelayMs(TrackedPrediction tracked, long now) {
+        if (tracked.pollCount < fastPollCount) {
+            return minIntervalMs;
+        }
+
+        long elapsedMs = now - tracked.registeredAt;
+        long expectedMs = getExpectedCompletionMs();
+        if (elapsedMs < expectedMs) {
+            return clampInterval(expectedMs - elapsedMs);
+        }
+
+        int overduePolls = tracked.overduePolls++;
+        return clampInterval(minIntervalMs << Math.min(overduePolls, MAX_BACKOFF_SHIFT));
+    }
+
+    private long clampInterval(long intervalMs) {
+        return Math.max(minIntervalMs, Math.min(maxIntervalMs, intervalMs));
+    }
+
+    /**
+     * 예상 가상피팅 완료 시간 (최근 완료 시간 평균, 이력이 없으면 초기 설정값)
+     */
+    public long getExpectedCompletionMs() {
+        double average = averageCompletionMs;
+        return average > 0 ? (long) average : initialExpectedCompletionMs;
+    }
+
+    private synchronized void recordCompletionTime(long elapsedMs) {
+        averageCompletionMs = averageCompletionMs > 0
+                ? averageCompletionMs + COMPLETION_TIME_WEIGHT * (elapsedMs - averageCompletionMs)
+                : elapsedMs;
+    }
+
+    /**
+     * 추적 중인 가상피팅 정보
+     */
+    private static final class TrackedPrediction {
+        private final String predictionId;
+        private final long registeredAt;
+        private final long maxWaitTimeMs;
+        private final CompletableFuture<VirtualFittingStatusResponse> future = new CompletableFuture<>();
+
+        private volatile long nextPollAt;
+        private volatile boolean polling;
+        private volatile int pollCount;
+        private volatile int overduePolls;
+        private volatile int consecutiveErrors;
+
+        private TrackedPrediction(String predictionId, long registeredAt, long maxWaitTimeMs) {
+            this.predictionId = predictionId;
+            this.registeredAt = registeredAt;
+            this.maxWaitTimeMs = maxWaitTimeMs;
+        }
+    }
+}
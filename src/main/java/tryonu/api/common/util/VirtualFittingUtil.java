@@ -29,107 +29,75 @@ public class VirtualFittingUtil {
      * 가상피팅 실행 요청 (WebHook URL 포함)
      */
     public VirtualFittingResponse runVirtualFitting(VirtualFittingRequest request, String webhookUrl) {
-        log.info("[VirtualFittingUtil] 가상피팅 실행 요청 - modelName={}, webhookUrl={}", 
-                request.modelName(), webhookUrl);
-        
-        try {
-            String uri = UriComponentsBuilder.fromUriString("/run")
-                    .queryParam("webhook_url", webhookUrl)
-                    .build()
-                    .toUriString();
-            
-            log.info("[VirtualFittingUtil] API 요청 상세 - URI: {}, apiKey존재: {}", 
-                    uri, apiKey != null ? "YES" : "NO");
-            
-            return fittingWebClient.post()
-                    .uri(uri)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(), 
-                        clientResponse -> {
-                            log.error("[VirtualFittingUtil] FASHN API 4xx 오류 - Status: {}, Headers: {}", 
-                                clientResponse.statusCode(), clientResponse.headers());
-                            return clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("[VirtualFittingUtil] FASHN API 오류 응답: {}", errorBody);
-                                    return Mono.error(new RuntimeException("FASHN API 요청 실패: " + errorBody));
-                                });
-                        })
-                    .onStatus(status -> status.is5xxServerError(),
-                        clientResponse -> {
-                            log.error("[VirtualFittingUtil] FASHN API 5xx 오류 - Status: {}", clientResponse.statusCode());
-                            return clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("[VirtualFittingUtil] FASHN API 서버 오류: {}", errorBody);
-                                    return Mono.error(new RuntimeException("FASHN API 서버 오류: " + errorBody));
-                                });
-                        })
-                    .bodyToMono(VirtualFittingResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("[VirtualFittingUtil] FASHN API WebClient 오류 - Status: {}, Body: {}", 
-                e.getStatusCode(), e.getResponseBodyAsString());
-            throw new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR, "가상피팅 API 호출에 실패했습니다: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            log.error("[VirtualFittingUtil] 가상피팅 실행 실패 - modelName={}, errorType={}, error={}", 
-                    request.modelName(), e.getClass().getSimpleName(), e.getMessage(), e);
-            throw new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR, "가상피팅 API 호출에 실패했습니다.");
-        }
+        return runVirtualFittingAsync(request, webhookUrl).block();
     }
 
     /**
      * 가상피팅 실행 요청 (WebHook URL 없이, 폴링 방식용)
      */
     public VirtualFittingResponse runVirtualFitting(VirtualFittingRequest request) {
-        log.info("[VirtualFittingUtil] 가상피팅 실행 요청 (폴링 방식) - modelName={}", 
-                request.modelName());
-        
-        try {
-            log.info("[VirtualFittingUtil] API 요청 상세 - URI: /run, apiKey존재: {}", 
-                    apiKey != null ? "YES" : "NO");
-            log.info("[VirtualFittingUtil] 전송할 request 객체: modelName={}, inputs.modelImage={}, inputs.garmentImage={}", 
-                    request.modelName(), 
-                    request.inputs() != null ? request.inputs().modelImage() : "null", 
-                    request.inputs() != null ? request.inputs().garmentImage() : "null");
-            
-            return fittingWebClient.post()
-                    .uri("/run")
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(), 
-                        clientResponse -> {
-                            log.error("[VirtualFittingUtil] FASHN API 4xx 오류 - Status: {}, Headers: {}", 
-                                clientResponse.statusCode(), clientResponse.headers());
-                            return clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("[VirtualFittingUtil] FASHN API 오류 응답: {}", errorBody);
-                                    return Mono.error(new RuntimeException("FASHN API 요청 실패: " + errorBody));
-                                });
-                        })
-                    .onStatus(status -> status.is5xxServerError(),
-                        clientResponse -> {
-                            log.error("[VirtualFittingUtil] FASHN API 5xx 오류 - Status: {}", clientResponse.statusCode());
-                            return clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("[VirtualFittingUtil] FASHN API 서버 오류: {}", errorBody);
-                                    return Mono.error(new RuntimeException("FASHN API 서버 오류: " + errorBody));
-                                });
-                        })
-                    .bodyToMono(VirtualFittingResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("[VirtualFittingUtil] FASHN API WebClient 오류 - Status: {}, Body: {}", 
-                e.getStatusCode(), e.getResponseBodyAsString());
-            throw new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR, "가상피팅 API 호출에 실패했습니다: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            log.error("[VirtualFittingUtil] 가상피팅 실행 실패 - modelName={}, errorType={}, error={}", 
-                    request.modelName(), e.getClass().getSimpleName(), e.getMessage(), e);
-            throw new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR, "가상피팅 API 호출에 실패했습니다.");
-        }
+        return runVirtualFittingAsync(request, null).block();
+    }
+
+    /**
+     * 가상피팅 실행 요청 (논블로킹)
+     * webhookUrl이 null이면 WebHook 없이 요청합니다. 오류는 CustomException으로 변환된 Mono error로 전달됩니다.
+     */
+    public Mono<VirtualFittingResponse> runVirtualFittingAsync(VirtualFittingRequest request, String webhookUrl) {
+        log.info("[VirtualFittingUtil] 가상피팅 실행 요청 - modelName={}, webhookUrl={}", 
+                request.modelName(), webhookUrl);
+
+        String uri = webhookUrl != null
+                ? UriComponentsBuilder.fromUriString("/run")
+                        .queryParam("webhook_url", webhookUrl)
+                        .build()
+                        .toUriString()
+                : "/run";
+
+        log.info("[VirtualFittingUtil] API 요청 상세 - URI: {}, apiKey존재: {}", 
+                uri, apiKey != null ? "YES" : "NO");
+        log.info("[VirtualFittingUtil] 전송할 request 객체: modelName={}, inputs.modelImage={}, inputs.garmentImage={}", 
+                request.modelName(), 
+                request.inputs() != null ? request.inputs().modelImage() : "null", 
+                request.inputs() != null ? request.inputs().garmentImage() : "null");
+
+        return fittingWebClient.post()
+                .uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(), 
+                    clientResponse -> {
+                        log.error("[VirtualFittingUtil] FASHN API 4xx 오류 - Status: {}, Headers: {}", 
+                            clientResponse.statusCode(), clientResponse.headers());
+                        return clientResponse.bodyToMono(String.class)
+                            .flatMap(errorBody -> {
+                                log.error("[VirtualFittingUtil] FASHN API 오류 응답: {}", errorBody);
+                                return Mono.error(new RuntimeException("FASHN API 요청 실패: " + errorBody));
+                            });
+                    })
+                .onStatus(status -> status.is5xxServerError(),
+                    clientResponse -> {
+                        log.error("[VirtualFittingUtil] FASHN API 5xx 오류 - Status: {}", clientResponse.statusCode());
+                        return clientResponse.bodyToMono(String.class)
+                            .flatMap(errorBody -> {
+                                log.error("[VirtualFittingUtil] FASHN API 서버 오류: {}", errorBody);
+                                return Mono.error(new RuntimeException("FASHN API 서버 오류: " + errorBody));
+                            });
+                    })
+                .bodyToMono(VirtualFittingResponse.class)
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    if (e instanceof WebClientResponseException webClientException) {
+                        log.error("[VirtualFittingUtil] FASHN API WebClient 오류 - Status: {}, Body: {}", 
+                            webClientException.getStatusCode(), webClientException.getResponseBodyAsString());
+                        return new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR,
+                                "가상피팅 API 호출에 실패했습니다: " + webClientException.getResponseBodyAsString());
+                    }
+                    log.error("[VirtualFittingUtil] 가상피팅 실행 실패 - modelName={}, errorType={}, error={}", 
+                            request.modelName(), e.getClass().getSimpleName(), e.getMessage(), e);
+                    return new CustomException(ErrorCode.VIRTUAL_FITTING_API_ERROR, "가상피팅 API 호출에 실패했습니다.");
+                });
     }
 
     /**
@@ -139,21 +107,7 @@ public class VirtualFittingUtil {
         log.info("[VirtualFittingUtil] 가상피팅 상태 조회 - predictionId={}", predictionId);
         
         try {
-            return fittingWebClient.get()
-                    .uri("/status/{id}", predictionId)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(), 
-                        clientResponse -> {
-                            log.error("[VirtualFittingUtil] FASHN API 상태 확인 4xx 오류 - Status: {}", clientResponse.statusCode());
-                            return clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    log.error("[VirtualFittingUtil] FASHN API 상태 확인 오류 응답: {}", errorBody);
-                                    return Mono.error(new RuntimeException("FASHN API 상태 확인 실패: " + errorBody));
-                                });
-                        })
-                    .bodyToMono(VirtualFittingStatusResponse.class)
-                    .block();
+            return fetchVirtualFittingStatus(predictionId).block();
         } catch (WebClientResponseException e) {
             log.error("[VirtualFittingUtil] FASHN API 상태 확인 WebClient 오류 - Status: {}, Body: {}", 
                 e.getStatusCode(), e.getResponseBodyAsString());
@@ -166,36 +120,23 @@ public class VirtualFittingUtil {
     }
 
     /**
-     * 가상피팅 완료까지 폴링 방식으로 대기
+     * 가상피팅 상태 조회 (논블로킹)
+     * 상태 폴러에서 사용하며, 오류는 Mono error로 전달됩니다.
      */
-    public VirtualFittingStatusResponse waitForCompletion(String predictionId, long maxWaitTimeMs, long pollIntervalMs) {
-        log.info("[VirtualFittingUtil] 가상피팅 완료 대기 시작 - predictionId={}, maxWait={}ms, interval={}ms", 
-                predictionId, maxWaitTimeMs, pollIntervalMs);
-        
-        long startTime = System.currentTimeMillis();
-        
-        while (System.currentTimeMillis() - startTime < maxWaitTimeMs) {
-            VirtualFittingStatusResponse status = getVirtualFittingStatus(predictionId);
-            
-            log.debug("[VirtualFittingUtil] 가상피팅 상태 확인 - predictionId={}, status={}", 
-                    predictionId, status.status());
-            
-            if ("completed".equals(status.status()) || "failed".equals(status.status())) {
-                log.info("[VirtualFittingUtil] 가상피팅 완료 - predictionId={}, finalStatus={}", 
-                        predictionId, status.status());
-                return status;
-            }
-            
-            try {
-                Thread.sleep(pollIntervalMs);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "가상피팅 대기 중 인터럽트가 발생했습니다.");
-            }
-        }
-        
-        log.warn("[VirtualFittingUtil] 가상피팅 타임아웃 - predictionId={}, maxWait={}ms", 
-                predictionId, maxWaitTimeMs);
-        throw new CustomException(ErrorCode.VIRTUAL_FITTING_TIMEOUT, "가상피팅 처리 시간이 초과되었습니다.");
+    public Mono<VirtualFittingStatusResponse> fetchVirtualFittingStatus(String predictionId) {
+        return fittingWebClient.get()
+                .uri("/status/{id}", predictionId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .retrieve()
+                .onStatus(status -> status.is4xxClientError(), 
+                    clientResponse -> {
+                        log.error("[VirtualFittingUtil] FASHN API 상태 확인 4xx 오류 - Status: {}", clientResponse.statusCode());
+                        return clientResponse.bodyToMono(String.class)
+                            .flatMap(errorBody -> {
+                                log.error("[VirtualFittingUtil] FASHN API 상태 확인 오류 응답: {}", errorBody);
+                                return Mono.error(new RuntimeException("FASHN API 상태 확인 실패: " + errorBody));
+                            });
+                    })
+                .bodyToMono(VirtualFittingStatusResponse.class);
     }
-} 
\ No newline at end of file
+}
@@ -3,12 +3,15 @@ package tryonu.api.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.bedrockruntime.BedrockRuntimeClient;
 
+import java.net.URI;
+
 @Slf4j
 @Configuration
 public class AiConfig {
@@ -20,12 +23,16 @@ public class AiConfig {
     public BedrockRuntimeClient bedrockRuntimeClient(
             @Value("${spring.ai.bedrock.aws.region}") String region,
             @Value("${spring.ai.bedrock.aws.access-key}") String accessKey,
-            @Value("${spring.ai.bedrock.aws.secret-key}") String secretKey) {
+            @Value("${spring.ai.bedrock.aws.secret-key}") String secretKey,
+            @Value("${spring.ai.bedrock.aws.endpoint:}") String endpoint) { // 로컬 테스트용 대체 서버 주소, 비어 있으면 AWS Bedrock
         log.info("[AiConfig] Initializing BedrockRuntimeClient (region={}, modelId={})", region, modelId);
-        return BedrockRuntimeClient.builder()
+        var builder = BedrockRuntimeClient.builder()
                 .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
-                .build();
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 
 }
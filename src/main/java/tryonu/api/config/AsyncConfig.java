@@ -1,10 +1,15 @@
 package tryonu.api.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,8 +20,48 @@ import java.util.concurrent.Executor;
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+    /**
+     * 가상 스레드 모드
+     * Spring Boot 설정과 같은 프로퍼티를 사용하여 Tomcat 요청 처리, @Scheduled와 함께
+     * 이 클래스의 Executor들도 가상 스레드로 전환합니다.
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${try-on.job.executor.core-pool-size:8}")
+    private int tryOnJobCorePoolSize;
+
+    @Value("${try-on.job.executor.max-pool-size:16}")
+    private int tryOnJobMaxPoolSize;
+
+    @Value("${try-on.job.executor.queue-capacity:100}")
+    private int tryOnJobQueueCapacity;
+
+    @Value("${try-on.job.executor.virtual-max-concurrency:2000}") // 가상 스레드 모드의 동시 실행 작업 수 상한
+    private int tryOnJobVirtualMaxConcurrency;
+
+    @Value("${image.normalization.threads:0}") // 0이면 CPU 코어 수
+    private int imageNormalizationThreads;
+
+    @Value("${image.normalization.queue-capacity:32}")
+    private int imageNormalizationQueueCapacity;
+
+    @Value("${image.derivative.threads:1}") // 요청 경로가 아니므로 적은 수로 고정
+    private int imageDerivativeThreads;
+
+    @Value("${image.derivative.queue-capacity:16}")
+    private int imageDerivativeQueueCapacity;
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreadsEnabled) {
+            log.info("[AsyncConfig] 비동기 작업 Executor 가상 스레드 모드");
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(8);
@@ -29,11 +74,89 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 가상 피팅 파이프라인 전용 Executor
+     * 요청 스레드(Tomcat)와 분리하여 피팅이 몰려도 다른 API가 영향을 받지 않도록 합니다.
+     * 처리 한도를 넘으면 호출 스레드에서 실행하지 않고 거절(TaskRejectedException)합니다.
+     * - 기본: 고정 크기 스레드 풀 + 큐
+     * - 가상 스레드 모드: 작업마다 가상 스레드, 동시 실행 수 상한으로 접수 제어
+     */
+    @Bean(name = "tryOnJobTaskExecutor")
+    public AsyncTaskExecutor tryOnJobTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            log.info("[AsyncConfig] 피팅 작업 Executor 가상 스레드 모드 - maxConcurrency={}", tryOnJobVirtualMaxConcurrency);
+            return new BoundedVirtualThreadTaskExecutor("tryon-job-", tryOnJobVirtualMaxConcurrency, 60);
+        }
+
+        log.info("[AsyncConfig] 피팅 작업 스레드 풀 설정 - core={}, max={}, queue={}",
+                tryOnJobCorePoolSize, tryOnJobMaxPoolSize, tryOnJobQueueCapacity);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(tryOnJobCorePoolSize);
+        executor.setMaxPoolSize(tryOnJobMaxPoolSize);
+        executor.setQueueCapacity(tryOnJobQueueCapacity);
+        executor.setThreadNamePrefix("tryon-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * SecurityContext(현재 사용자)를 작업 스레드로 전파하는 피팅 작업 Executor
+     */
+    @Bean(name = "tryOnJobExecutor")
+    public AsyncTaskExecutor tryOnJobExecutor(@Qualifier("tryOnJobTaskExecutor") AsyncTaskExecutor tryOnJobTaskExecutor) {
+        return new DelegatingSecurityContextAsyncTaskExecutor(tryOnJobTaskExecutor);
+    }
+
+    /**
+     * 이미지 정규화(디코딩/축소/재인코딩) 전용 Executor
+     * CPU 작업이므로 가상 스레드 모드에서도 코어 수 크기의 고정 플랫폼 스레드 풀을 사용하여, 업로드가 몰려도
+     * 요청 스레드의 CPU를 빼앗지 않고 동시에 디코딩되는 이미지 수(메모리)도 제한합니다.
+     * 큐가 가득 차면 거절(TaskRejectedException)하며, 호출 측은 원본 이미지를 그대로 사용합니다.
+     */
+    @Bean(name = "imageNormalizationExecutor")
+    public AsyncTaskExecutor imageNormalizationExecutor() {
+        int threads = imageNormalizationThreads > 0 ? imageNormalizationThreads
+                : Runtime.getRuntime().availableProcessors();
+        log.info("[AsyncConfig] 이미지 정규화 스레드 풀 설정 - threads={}, queue={}", threads,
+                imageNormalizationQueueCapacity);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(imageNormalizationQueueCapacity);
+        executor.setThreadNamePrefix("image-normalize-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 이미지 파생본(썸네일/중간 크기) 생성 전용 Executor
+     * 요청 경로의 정규화 풀과 분리하여, 완료된 피팅과 백필이 몰려도 업로드 정규화가 밀려 원본으로 대체되지 않도록 합니다.
+     * 작은 고정 크기 플랫폼 스레드 풀을 낮은 우선순위로 실행하며, 큐가 가득 차면 거절하고 백필 작업이 나중에 다시 생성합니다.
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public AsyncTaskExecutor imageDerivativeExecutor() {
+        int threads = Math.max(1, imageDerivativeThreads);
+        log.info("[AsyncConfig] 이미지 파생본 스레드 풀 설정 - threads={}, queue={}", threads,
+                imageDerivativeQueueCapacity);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(imageDerivativeQueueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) ->
                 log.error("Uncaught async error in {} with args={}", method, params, ex);
     }
 }
-
-
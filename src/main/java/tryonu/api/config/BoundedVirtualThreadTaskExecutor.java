@@ -0,0 +1,69 @@
+package tryonu.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드를 생성하는 Executor
+ * 동시 실행 수가 상한에 도달하면 호출 스레드를 막지 않고 즉시 거절(TaskRejectedException)하여
+ * 스레드 풀 + AbortPolicy와 같은 접수 제어를 유지합니다.
+ */
+@Slf4j
+public class BoundedVirtualThreadTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long awaitTerminationSeconds;
+
+    public BoundedVirtualThreadTaskExecutor(String threadNamePrefix, int maxConcurrency,
+            long awaitTerminationSeconds) {
+        this.executorService = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("동시 실행 가능한 작업 수(" + maxConcurrency + ")를 초과했습니다.");
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw new TaskRejectedException("작업 실행을 거절했습니다.", e);
+        }
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executorService.shutdown();
+        if (!executorService.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+            log.warn("[BoundedVirtualThreadTaskExecutor] 종료 대기 시간 초과 - 남은 작업 수={}", getActiveCount());
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package tryonu.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 커넥션 점유 시간 모니터
+ * 커넥션을 빌린 시점부터 반납할 때까지의 시간을 빌려간 서비스 메서드별로 기록하고,
+ * 임계값을 넘겨 점유 중이거나(누수 의심) 점유했던 커넥션을 해당 메서드 이름과 함께 경고합니다.
+ *
+ * - db.connection.hold (Timer, histogram, tag: owner = 커넥션을 빌린 애플리케이션 메서드)
+ * - db.connection.long_hold (Counter, tag: owner, state = released | in_use)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.connection-hold.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionHoldMonitor {
+
+    private static final String APPLICATION_PACKAGE = "tryonu.api.";
+    private static final String CONFIG_PACKAGE = "tryonu.api.config.";
+    private static final String UNKNOWN_OWNER = "unknown";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Lease> activeLeases = ConcurrentHashMap.newKeySet();
+
+    @Value("${datasource.connection-hold.long-hold-threshold-ms:2000}") // 이 시간 이상 점유하면 경고
+    private long longHoldThresholdMs;
+
+    /**
+     * 커넥션 대여를 기록합니다. 호출 스택에서 커넥션을 요청한 애플리케이션 메서드를 찾아 owner로 사용합니다.
+     */
+    public Lease acquire() {
+        Lease lease = new Lease(resolveOwner(), Thread.currentThread().getName(), System.nanoTime());
+        activeLeases.add(lease);
+        return lease;
+    }
+
+    /**
+     * 커넥션 반납을 기록합니다. 같은 대여에 대해 여러 번 호출되어도 한 번만 기록합니다.
+     */
+    public void release(Lease lease) {
+        if (!activeLeases.remove(lease)) {
+            return;
+        }
+        Duration held = lease.heldFor();
+        Timer.builder("db.connection.hold")
+                .description("DB 커넥션 대여부터 반납까지 점유 시간")
+                .tag("owner", lease.owner())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(held);
+
+        if (held.toMillis() >= longHoldThresholdMs) {
+            countLongHold(lease, "released");
+            log.warn("[ConnectionHoldMonitor] DB 커넥션 장시간 점유 - owner={}, thread={}, held={}ms, threshold={}ms",
+                    lease.owner(), lease.threadName(), held.toMillis(), longHoldThresholdMs);
+        }
+    }
+
+    /**
+     * 아직 반납되지 않은 채 임계값을 넘긴 커넥션을 주기적으로 점검합니다. (대여당 1회 경고)
+     * 반납 시점의 기록만으로는 누수되거나 외부 호출에 묶여 있는 커넥션을 늦게 발견하므로 함께 점검합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.connection-hold.leak-check-interval-ms:10000}")
+    public void detectLongHolds() {
+        for (Lease lease : activeLeases) {
+            Duration held = lease.heldFor();
+            if (held.toMillis() >= longHoldThresholdMs && lease.markReported()) {
+                countLongHold(lease, "in_use");
+                log.warn("[ConnectionHoldMonitor] 반납되지 않은 DB 커넥션 감지 (누수 의심) - owner={}, thread={}, held={}ms",
+                        lease.owner(), lease.threadName(), held.toMillis());
+            }
+        }
+    }
+
+    private void countLongHold(Lease lease, String state) {
+        Counter.builder("db.connection.long_hold")
+                .description("임계값 이상 DB 커넥션을 점유한 횟수")
+                .tag("owner", lease.owner())
+                .tag("state", state)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 모니터/프록시 자신(config 패키지)을 제외한 첫 번째 애플리케이션 프레임을 "클래스.메서드" 형태로 반환합니다.
+     * 트랜잭션 프록시가 커넥션을 여는 경우에도 CGLIB 프록시 프레임이 스택에 있으므로 서비스 메서드 이름을 얻을 수 있습니다.
+     */
+    private static String resolveOwner() {
+        Optional<String> owner = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(CONFIG_PACKAGE))
+                .findFirst()
+                .map(frame -> toSimpleClassName(frame.getClassName()) + "." + toSourceMethodName(frame.getMethodName())));
+        return owner.orElse(UNKNOWN_OWNER);
+    }
+
+    private static String toSimpleClassName(String className) {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        int proxySuffix = simpleName.indexOf("$$"); // TryOnServiceImpl$$SpringCGLIB$$0
+        return proxySuffix > 0 ? simpleName.substring(0, proxySuffix) : simpleName;
+    }
+
+    private static String toSourceMethodName(String methodName) {
+        // 람다 본문(lambda$prepareFittingAsync$3)은 람다를 정의한 메서드 이름으로 태그 카디널리티 제한
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', "lambda$".length());
+            return end > 0 ? methodName.substring("lambda$".length(), end) : methodName;
+        }
+        return methodName;
+    }
+
+    /**
+     * 커넥션 한 건의 대여 정보
+     */
+    public static final class Lease {
+
+        private final String owner;
+        private final String threadName;
+        private final long acquiredAtNanos;
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        private Lease(String owner, String threadName, long acquiredAtNanos) {
+            this.owner = owner;
+            this.threadName = threadName;
+            this.acquiredAtNanos = acquiredAtNanos;
+        }
+
+        public String owner() {
+            return owner;
+        }
+
+        String threadName() {
+            return threadName;
+        }
+
+        Duration heldFor() {
+            return Duration.ofNanos(System.nanoTime() - acquiredAtNanos);
+        }
+
+        private boolean markReported() {
+            return reported.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package tryonu.api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 대여/반납 시점을 ConnectionHoldMonitor에 알리는 DataSource 래퍼
+ * 반환하는 커넥션은 close() 호출만 가로채고 나머지 호출은 원본 커넥션(Hikari 프록시)에 그대로 위임합니다.
+ */
+public class ConnectionHoldTrackingDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<ConnectionHoldMonitor> monitorProvider;
+
+    public ConnectionHoldTrackingDataSource(DataSource targetDataSource,
+            ObjectProvider<ConnectionHoldMonitor> monitorProvider) {
+        super(targetDataSource);
+        this.monitorProvider = monitorProvider;
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        // DataSource가 모니터보다 먼저 초기화되므로 첫 대여 시점에 조회
+        ConnectionHoldMonitor monitor = monitorProvider.getIfAvailable();
+        if (monitor == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionHoldTrackingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new ReleaseOnCloseHandler(connection, monitor, monitor.acquire()));
+    }
+
+    private static final class ReleaseOnCloseHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final ConnectionHoldMonitor monitor;
+        private final ConnectionHoldMonitor.Lease lease;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ReleaseOnCloseHandler(Connection target, ConnectionHoldMonitor monitor,
+                ConnectionHoldMonitor.Lease lease) {
+            this.target = target;
+            this.monitor = monitor;
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                try {
+                    target.close();
+                } finally {
+                    monitor.release(lease);
+                }
+                return null;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
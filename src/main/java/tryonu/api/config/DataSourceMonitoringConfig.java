@@ -0,0 +1,34 @@
+package tryonu.api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 커넥션 점유 시간 모니터링 설정
+ * 애플리케이션의 DataSource를 ConnectionHoldTrackingDataSource로 감싸 서비스 메서드별 커넥션 점유 시간을 기록합니다.
+ * (Hikari 풀 메트릭은 Spring Boot가 DelegatingDataSource를 풀어서 그대로 등록합니다.)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.connection-hold.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionHoldTrackingPostProcessor(
+            ObjectProvider<ConnectionHoldMonitor> connectionHoldMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTrackingDataSource)) {
+                    return new ConnectionHoldTrackingDataSource(dataSource, connectionHoldMonitor);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package tryonu.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 가상 피팅 WebHook 미수신 작업을 점검하는 스위퍼 등 @Scheduled 작업을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
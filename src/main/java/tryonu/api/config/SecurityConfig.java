@@ -1,5 +1,6 @@
 package tryonu.api.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -100,6 +101,8 @@ public class SecurityConfig {
                 }
 
                 authz
+                    // DeferredResult 완료 후 비동기 재디스패치는 최초 요청에서 이미 인증됨
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers(publicEndpoints.toArray(String[]::new)).permitAll()
                     .anyRequest().authenticated();
             })
@@ -1,14 +1,22 @@
 package tryonu.api.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import tryonu.api.common.exception.enums.ErrorCode;
 
+import java.net.URI;
+
 @Configuration
 public class StorageConfig {
 
@@ -27,6 +35,18 @@ public class StorageConfig {
     @Value("${aws.s3.default-model-folder}")
     private String defaultModelFolder;
 
+    @Value("${aws.s3.endpoint:}") // S3 호환 저장소(로컬 테스트용 MinIO/LocalStack 등) 주소, 비어 있으면 AWS S3
+    private String endpoint;
+
+    @Value("${aws.s3.path-style-access:false}") // S3 호환 저장소는 대부분 경로 방식 주소만 지원
+    private boolean pathStyleAccess;
+
+    @Value("${aws.s3.multipart.threshold-bytes:8388608}") // 이 크기 이상이면 멀티파트 업로드 (비동기 클라이언트)
+    private long multipartThresholdBytes;
+
+    @Value("${aws.s3.multipart.part-size-bytes:5242880}") // 멀티파트 파트 크기 (S3 최소 5MB)
+    private long multipartPartSizeBytes;
+
     /**
      * S3 클라이언트 빈 생성
      * S3 업로드/다운로드 작업에 사용
@@ -34,17 +54,77 @@ public class StorageConfig {
     @Bean
     public S3Client s3Client() {
         try {
-            return S3Client.builder()
+            var builder = S3Client.builder()
                     .region(Region.of(region))
                     .credentialsProvider(StaticCredentialsProvider.create(
                             AwsBasicCredentials.create(accessKey, secretKey)
                     ))
-                    .build();
+                    .serviceConfiguration(s3Configuration());
+            if (StringUtils.hasText(endpoint)) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
         } catch (Exception e) {
             throw new IllegalStateException(ErrorCode.S3_CLIENT_CREATION_FAILED.getMessage(), e);
         }
     }
 
+    /**
+     * S3 Presigner 빈 생성
+     * 클라이언트가 서버를 거치지 않고 S3에 직접 업로드할 수 있는 서명된 URL 발급에 사용
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner() {
+        try {
+            var builder = S3Presigner.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(
+                            AwsBasicCredentials.create(accessKey, secretKey)
+                    ))
+                    .serviceConfiguration(s3Configuration());
+            if (StringUtils.hasText(endpoint)) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
+        } catch (Exception e) {
+            throw new IllegalStateException(ErrorCode.S3_CLIENT_CREATION_FAILED.getMessage(), e);
+        }
+    }
+
+    /**
+     * S3 비동기 클라이언트 빈 생성 (aws.s3.upload.client=async일 때만)
+     * 이미지 업로드를 Netty 기반으로 논블로킹 처리하고, 임계값 이상은 파트를 병렬로 보내는 멀티파트 업로드를 사용
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "aws.s3.upload.client", havingValue = "async")
+    public S3AsyncClient s3AsyncClient() {
+        try {
+            var builder = S3AsyncClient.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(
+                            AwsBasicCredentials.create(accessKey, secretKey)
+                    ))
+                    .serviceConfiguration(s3Configuration())
+                    .multipartEnabled(true)
+                    .multipartConfiguration(MultipartConfiguration.builder()
+                            .thresholdInBytes(multipartThresholdBytes)
+                            .minimumPartSizeInBytes(multipartPartSizeBytes)
+                            .build());
+            if (StringUtils.hasText(endpoint)) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
+        } catch (Exception e) {
+            throw new IllegalStateException(ErrorCode.S3_CLIENT_CREATION_FAILED.getMessage(), e);
+        }
+    }
+
+    private S3Configuration s3Configuration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
+                .build();
+    }
+
     /**
      * S3 버킷 이름 반환
      */
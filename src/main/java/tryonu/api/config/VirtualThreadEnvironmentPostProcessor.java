@@ -0,0 +1,25 @@
+package tryonu.api.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 Reactor boundedElastic 스케줄러도
+ * 가상 스레드를 사용하도록 설정합니다.
+ * Reactor는 Schedulers 클래스 초기화 시점에 시스템 프로퍼티를 읽으므로 컨텍스트 생성 전에 설정해야 합니다.
+ */
+public class VirtualThreadEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String VIRTUAL_THREADS_ENABLED = "spring.threads.virtual.enabled";
+    static final String REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS = "reactor.schedulers.defaultBoundedElasticOnVirtualThreads";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        boolean virtualThreadsEnabled = environment.getProperty(VIRTUAL_THREADS_ENABLED, Boolean.class, false);
+        // 명시적으로 지정한 값이 있으면 유지
+        if (virtualThreadsEnabled && System.getProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS) == null) {
+            System.setProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS, "true");
+        }
+    }
+}
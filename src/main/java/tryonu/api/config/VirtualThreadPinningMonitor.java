@@ -0,0 +1,124 @@
+package tryonu.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 모니터
+ * synchronized 블록(S3 SDK, JDBC 드라이버 등) 안에서 블로킹되어 캐리어 스레드를 점유한 가상 스레드를
+ * JFR 이벤트(jdk.VirtualThreadPinned)로 감지하여 메트릭으로 기록합니다.
+ *
+ * - jvm.threads.virtual.pinned (Timer, tag: source = 고정을 일으킨 첫 번째 비 JDK 프레임의 패키지)
+ * - jvm.threads.virtual.submit.failed (Counter)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final int SOURCE_PACKAGE_DEPTH = 3; // 태그 카디널리티 제한 (예: software.amazon.awssdk)
+    private static final int LOGGED_FRAME_COUNT = 8;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> loggedSources = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    @Value("${virtual-threads.pinning.threshold-ms:20}") // 이 시간 이상 고정된 경우만 기록
+    private long pinnedThresholdMs;
+
+    @PostConstruct
+    public void start() {
+        Counter submitFailedCounter = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("가상 스레드 시작/재개 실패 횟수")
+                .register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(pinnedThresholdMs)).withStackTrace();
+        recordingStream.enable(SUBMIT_FAILED_EVENT);
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+        recordingStream.startAsync();
+        log.info("[VirtualThreadPinningMonitor] 가상 스레드 고정 모니터링 시작 - threshold={}ms", pinnedThresholdMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String source = resolveSource(event.getStackTrace());
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        // 같은 원인은 최초 1회만 스택과 함께 경고
+        if (loggedSources.add(source)) {
+            log.warn("[VirtualThreadPinningMonitor] 가상 스레드 고정 감지 - source={}, duration={}ms, stack={}", source,
+                    event.getDuration().toMillis(), describeTopFrames(event.getStackTrace()));
+        } else {
+            log.debug("[VirtualThreadPinningMonitor] 가상 스레드 고정 - source={}, duration={}ms", source,
+                    event.getDuration().toMillis());
+        }
+    }
+
+    private String resolveSource(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName())
+                .filter(typeName -> !isJdkType(typeName))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::toPackagePrefix)
+                .orElse("jdk");
+    }
+
+    private static boolean isJdkType(String typeName) {
+        return typeName.startsWith("java.") || typeName.startsWith("jdk.") || typeName.startsWith("sun.");
+    }
+
+    private static String toPackagePrefix(String typeName) {
+        String[] segments = typeName.split("\\.");
+        int depth = Math.min(SOURCE_PACKAGE_DEPTH, segments.length - 1);
+        return depth <= 0 ? typeName : String.join(".", Arrays.copyOf(segments, depth));
+    }
+
+    private static String describeTopFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "[]";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAME_COUNT)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+                        + frame.getLineNumber())
+                .collect(Collectors.joining(" <- ", "[", "]"));
+    }
+}
@@ -71,6 +71,9 @@ public class WebClientConfig {
     
     @Value("${webclient.connection-pool.max-life-time-ms}")
     private int maxLifeTimeMs;
+
+    @Value("${webclient.connection-pool.metrics-enabled:false}") // reactor.netty.connection.provider.* 풀 사용량 지표 기록
+    private boolean connectionPoolMetricsEnabled;
     
     /**
      * 빠른 API용 HttpClient (이미지 다운로드, 카테고리 예측)
@@ -85,6 +88,7 @@ public class WebClientConfig {
                 .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
                 .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
                 .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .metrics(connectionPoolMetricsEnabled)
                 .build();
         
         return HttpClient.create(connectionProvider)
@@ -108,6 +112,7 @@ public class WebClientConfig {
                 .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
                 .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
                 .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .metrics(connectionPoolMetricsEnabled)
                 .build();
         
         return HttpClient.create(connectionProvider)
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.RequiredArgsConstructor;
 import tryonu.api.dto.requests.DefaultModelBatchUpdateRequest;
+import tryonu.api.dto.requests.UploadedImageRequest;
 import tryonu.api.dto.responses.DefaultModelResponse;
 import tryonu.api.dto.responses.DefaultModelDto;
 import org.springframework.validation.annotation.Validated;
@@ -100,6 +101,31 @@ public class DefaultModelController {
         return ApiResponseWrapper.ofSuccess(response);
     }
 
+    /**
+     * 직접 업로드한 이미지로 기본 모델 등록
+     *
+     * @param request 업로드 세션 발급 시 받은 객체 키
+     * @return 등록된 기본 모델 정보
+     */
+    @Operation(
+        summary = "기본 모델 업로드 (직접 업로드)",
+        description = "POST /upload/session(purpose=MODEL)으로 발급받은 URL에 이미지를 업로드한 뒤, 객체 키로 기본 모델을 등록합니다. " +
+                     "처리 방식과 응답은 multipart 업로드(POST /default-model)와 같으며, 업로드한 원본은 등록 후 삭제됩니다."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "기본 모델 업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "업로드되지 않은 객체 또는 이미지 검증 실패"),
+        @ApiResponse(responseCode = "401", description = "잘못된 X-UUID 헤더, 또는 인증되지 않은 사용자"),
+        @ApiResponse(responseCode = "403", description = "다른 사용자 또는 다른 용도로 발급된 객체 키")
+    })
+    @PostMapping(value = "/uploaded", consumes = "application/json")
+    public ApiResponseWrapper<DefaultModelResponse> uploadDefaultModelFromUpload(
+            @Valid @RequestBody UploadedImageRequest request
+    ) {
+        DefaultModelResponse response = defaultModelService.uploadDefaultModelFromUpload(request.objectKey());
+        return ApiResponseWrapper.ofSuccess(response);
+    }
+
     /**
      * 현재 사용자의 기본 모델 목록 조회
      * 
@@ -8,27 +8,38 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.multipart.MultipartFile;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.util.Deadline;
 import tryonu.api.common.wrapper.ApiResponseWrapper;
-import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.dto.responses.TryOnResultDto;
+import tryonu.api.service.tryon.TryOnJobService;
 import tryonu.api.service.tryon.TryOnService;
 import tryonu.api.common.validation.NotEmptyFile;
 import tryonu.api.dto.responses.UserInfoResponse;
 import tryonu.api.dto.requests.TryOnRequestDto;
+import tryonu.api.dto.requests.UploadedTryOnRequest;
 import jakarta.validation.Valid;
 
+import java.time.Duration;
 import java.util.List;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import tryonu.api.dto.responses.TryOnJobInitResponse;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
+import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.dto.responses.SizeAdviceResponse;
 import tryonu.api.dto.requests.SizeAdviceRequest;
 import tryonu.api.dto.requests.ImageUrlRequest;
 import tryonu.api.dto.responses.ImageDataUrlResponse;
 
+@Slf4j
 @Validated
 @RestController
 @RequestMapping("/try-on")
@@ -37,6 +48,15 @@ import tryonu.api.dto.responses.ImageDataUrlResponse;
 @SecurityRequirement(name = "X-UUID")
 public class TryOnController {
   private final TryOnService tryOnService;
+  private final TryOnJobService tryOnJobService;
+
+  private static final long SYNC_RESPONSE_GRACE_MS = 5_000; // 파이프라인이 제한 시간 초과를 먼저 보고하도록 여유
+
+  @Value("${try-on.deadline.budget-ms:120000}") // 피팅 요청 1건의 전체 처리 제한 시간
+  private long tryOnDeadlineBudgetMs;
+
+  @Value("${size-advice.deadline.budget-ms:30000}") // 사이즈 추천 요청 처리 제한 시간
+  private long sizeAdviceDeadlineBudgetMs;
 
   /**
    * 가상 피팅 작업(Job) 생성
@@ -56,29 +76,30 @@ public class TryOnController {
   }
 
   /**
-   * 가상 피팅 실행
+   * 가상 피팅 실행 (비동기 작업 접수)
    * 
    * @param request 가상 피팅 요청 정보 (JSON)
    * @param file    의류 이미지 파일
-   * @return 가상 피팅 결과
+   * @return 접수된 피팅 작업 상태
    */
-  @Operation(summary = "가상 피팅 실행", description = "의류 이미지와 모델 정보를 받아 가상 피팅을 실행합니다.\n\n" +
+  @Operation(summary = "가상 피팅 실행", description = "의류 이미지와 모델 정보를 받아 가상 피팅 작업을 접수합니다.\n\n" +
       "- request: 가상 피팅 요청 정보 (JSON part)\n" +
       "  - tryOnJobId: 가상 피팅 작업 ID\n" +
       "  - modelUrl: 모델 이미지 URL\n" +
       "  - defaultModelId: 기본 모델 ID\n" +
       "  - productPageUrl: 상품 상세 페이지 URL (선택)\n" +
       "- file: 의류 이미지 파일 (multipart/form-data)\n" +
-      "\nJSON 데이터와 파일을 multipart/form-data로 함께 전송합니다.")
+      "\nJSON 데이터와 파일을 multipart/form-data로 함께 전송합니다.\n" +
+      "피팅은 서버에서 비동기로 처리되며, 즉시 QUEUED 상태가 반환됩니다. " +
+      "결과는 GET /try-on/job/{tryOnJobId}로 조회합니다.")
   @ApiResponses({
-      @ApiResponse(responseCode = "200", description = "가상 피팅 성공", content = @Content(schema = @Schema(type = "object", example = """
+      @ApiResponse(responseCode = "200", description = "가상 피팅 작업 접수 성공", content = @Content(schema = @Schema(type = "object", example = """
           {
             "isSuccess": true,
             "data": {
               "tryOnJobId": "1c3f077f-ef18-4361-9ed0-4701904f3d90",
-              "tryOnResultUrl": "https://cdn.example.com/users/models/tryonresult-1.jpg",
-              "defaultModelId": 5,
-              "modelName": "슬림 한국인 남성"
+              "status": "QUEUED",
+              "defaultModelId": 5
             }
           }"""))),
       @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content(schema = @Schema(type = "object", example = """
@@ -98,21 +119,122 @@ public class TryOnController {
               "message": "인증되지 않은 사용자입니다.",
               "validationErrors": null
             }
-          }""")))
+          }"""))),
+      @ApiResponse(responseCode = "409", description = "이미 피팅이 요청된 작업"),
+      @ApiResponse(responseCode = "503", description = "피팅 작업 큐가 가득 차 접수 불가")
   })
   @PostMapping(value = "/fitting", consumes = "multipart/form-data")
-  public ApiResponseWrapper<TryOnResponse> tryOnWithImage(
+  public ApiResponseWrapper<TryOnJobStatusResponse> tryOnWithImage(
       @Parameter(description = "가상 피팅 요청 정보 (JSON)", required = true) @RequestPart(value = "request") @Valid TryOnRequestDto request,
 
       @Parameter(description = "의류 이미지 파일 (10MB 이하, jpg/png/jpeg)", required = true) @RequestPart("file") @NotEmptyFile MultipartFile file) {
-    TryOnResponse response = tryOnService.tryOn(request, file);
+    TryOnJobStatusResponse response = tryOnJobService.submitTryOn(request, file, newTryOnDeadline());
+    return ApiResponseWrapper.ofSuccess(response);
+  }
+
+  /**
+   * 직접 업로드한 의류 이미지로 가상 피팅 실행 (비동기 작업 접수)
+   *
+   * @param uploadedTryOnRequest 가상 피팅 요청 정보와 의류 이미지 객체 키
+   * @return 접수된 피팅 작업 상태
+   */
+  @Operation(summary = "가상 피팅 실행 (직접 업로드)", description = "POST /upload/session으로 발급받은 URL에 의류 이미지를 업로드한 뒤, " +
+      "객체 키로 가상 피팅 작업을 접수합니다. 이미지 파일은 서버로 보내지 않습니다.\n\n" +
+      "- request: 가상 피팅 요청 정보 (POST /try-on/fitting의 request와 동일)\n" +
+      "- objectKey: 업로드 세션 발급 시 받은 객체 키 (purpose=CLOTH)\n" +
+      "\n결과는 GET /try-on/job/{tryOnJobId}로 조회합니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "가상 피팅 작업 접수 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청, 업로드되지 않은 객체 또는 이미지 검증 실패"),
+      @ApiResponse(responseCode = "401", description = "잘못된 X-UUID 헤더, 또는 인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "403", description = "다른 사용자 또는 다른 용도로 발급된 객체 키"),
+      @ApiResponse(responseCode = "409", description = "이미 피팅이 요청된 작업"),
+      @ApiResponse(responseCode = "503", description = "피팅 작업 큐가 가득 차 접수 불가")
+  })
+  @PostMapping(value = "/fitting/uploaded", consumes = "application/json")
+  public ApiResponseWrapper<TryOnJobStatusResponse> tryOnWithUploadedImage(
+      @Parameter(description = "직접 업로드 가상 피팅 요청", required = true) @Valid @RequestBody UploadedTryOnRequest uploadedTryOnRequest) {
+    TryOnJobStatusResponse response = tryOnJobService.submitUploadedTryOn(uploadedTryOnRequest.request(),
+        uploadedTryOnRequest.objectKey(), newTryOnDeadline());
+    return ApiResponseWrapper.ofSuccess(response);
+  }
+
+  /**
+   * 가상 피팅 실행 (결과 대기)
+   *
+   * 작업 접수 후 피팅 결과가 나올 때까지 응답을 보류합니다. 대기 중에는 서블릿 스레드를 점유하지 않습니다.
+   *
+   * @param request 가상 피팅 요청 정보 (JSON)
+   * @param file    의류 이미지 파일
+   * @return 가상 피팅 결과
+   */
+  @Operation(summary = "가상 피팅 실행 (결과 대기)", description = "가상 피팅 작업을 접수하고 결과가 나올 때까지 대기한 뒤 결과를 반환합니다.\n\n" +
+      "요청 형식은 POST /try-on/fitting과 같습니다. " +
+      "요청 처리 제한 시간 안에 끝낼 수 없는 단계는 실행하지 않고 504를 반환하며, 작업은 FAILED로 기록됩니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "가상 피팅 성공"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 지원하지 않는 의류 카테고리"),
+      @ApiResponse(responseCode = "401", description = "잘못된 X-UUID 헤더, 또는 인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "409", description = "이미 피팅이 요청된 작업"),
+      @ApiResponse(responseCode = "504", description = "요청 처리 제한 시간 초과")
+  })
+  @PostMapping(value = "/fitting/sync", consumes = "multipart/form-data")
+  public DeferredResult<ApiResponseWrapper<TryOnResponse>> tryOnWithImageAndAwait(
+      @Parameter(description = "가상 피팅 요청 정보 (JSON)", required = true) @RequestPart(value = "request") @Valid TryOnRequestDto request,
+
+      @Parameter(description = "의류 이미지 파일 (10MB 이하, jpg/png/jpeg)", required = true) @RequestPart("file") @NotEmptyFile MultipartFile file) {
+    Deadline deadline = newTryOnDeadline();
+    DeferredResult<ApiResponseWrapper<TryOnResponse>> deferredResult = new DeferredResult<>(
+        deadline.getBudget().toMillis() + SYNC_RESPONSE_GRACE_MS);
+    // 응답 타임아웃은 파이프라인을 취소하지 않음 (작업 상태에 최종 결과가 기록됨)
+    deferredResult.onTimeout(() -> {
+      log.warn("[TryOnController] 피팅 결과 대기 시간 초과 - tryOnJobId={}", request.tryOnJobId());
+      deferredResult.setErrorResult(new CustomException(ErrorCode.VIRTUAL_FITTING_TIMEOUT,
+          "피팅 결과 대기 시간이 초과되었습니다. 작업 상태 조회로 결과를 확인해주세요."));
+    });
+
+    tryOnJobService.tryOnAndAwait(request, file, deadline).subscribe(
+        response -> deferredResult.setResult(ApiResponseWrapper.ofSuccess(response)),
+        deferredResult::setErrorResult);
+    return deferredResult;
+  }
+
+  /**
+   * 가상 피팅 작업 상태 조회
+   *
+   * @param tryOnJobId 피팅 작업 ID
+   * @return 피팅 작업 상태
+   */
+  @Operation(summary = "가상 피팅 작업 상태 조회", description = "피팅 작업의 진행 상태를 조회합니다. " +
+      "상태는 QUEUED → CLASSIFYING → FITTING → POSTPROCESSING → COMPLETED 순으로 진행되며, 실패 시 FAILED가 됩니다. " +
+      "COMPLETED 상태에서는 결과 이미지 URL이, FAILED 상태에서는 에러 코드와 메시지가 포함됩니다.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "피팅 작업 상태 조회 성공", content = @Content(schema = @Schema(type = "object", example = """
+          {
+            "isSuccess": true,
+            "data": {
+              "tryOnJobId": "1c3f077f-ef18-4361-9ed0-4701904f3d90",
+              "status": "COMPLETED",
+              "tryOnResultUrl": "https://cdn.example.com/users/models/tryonresult-1.jpg",
+              "defaultModelId": 5,
+              "modelName": "슬림 한국인 남성"
+            }
+          }"""))),
+      @ApiResponse(responseCode = "401", description = "잘못된 X-UUID 헤더, 또는 인증되지 않은 사용자"),
+      @ApiResponse(responseCode = "404", description = "피팅 작업을 찾을 수 없음")
+  })
+  @GetMapping("/job/{tryOnJobId}")
+  public ApiResponseWrapper<TryOnJobStatusResponse> getTryOnJobStatus(
+      @Parameter(description = "피팅 작업 ID", required = true) @PathVariable String tryOnJobId) {
+    TryOnJobStatusResponse response = tryOnJobService.getTryOnJobStatus(tryOnJobId);
     return ApiResponseWrapper.ofSuccess(response);
   }
 
   @PostMapping("/size-advice")
   public ApiResponseWrapper<SizeAdviceResponse> giveSizeAdvice(
       @Parameter(description = "사이즈 조언 정보 (JSON)", required = true) @RequestBody @Valid SizeAdviceRequest request) {
-    SizeAdviceResponse response = tryOnService.giveSizeAdvice(request);
+    SizeAdviceResponse response = tryOnService.giveSizeAdvice(request,
+        Deadline.after(Duration.ofMillis(sizeAdviceDeadlineBudgetMs)));
     return ApiResponseWrapper.ofSuccess(response);
   }
 
@@ -191,4 +313,11 @@ public class TryOnController {
     return ApiResponseWrapper.ofSuccess(response);
   }
 
+  /**
+   * 피팅 요청 처리 제한 시간 생성 (요청 수신 시점부터 계산)
+   */
+  private Deadline newTryOnDeadline() {
+    return Deadline.after(Duration.ofMillis(tryOnDeadlineBudgetMs));
+  }
+
 }
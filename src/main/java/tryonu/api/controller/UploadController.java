@@ -0,0 +1,70 @@
+package tryonu.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tryonu.api.common.wrapper.ApiResponseWrapper;
+import tryonu.api.dto.requests.UploadSessionRequest;
+import tryonu.api.dto.responses.UploadSessionResponse;
+import tryonu.api.service.upload.UploadSessionService;
+
+@Validated
+@RestController
+@RequestMapping("/upload")
+@RequiredArgsConstructor
+@Tag(name = "업로드 API", description = "S3 직접 업로드 API - 이미지를 서버를 거치지 않고 S3에 업로드하기 위한 세션 발급")
+@SecurityRequirement(name = "X-UUID")
+public class UploadController {
+
+    private final UploadSessionService uploadSessionService;
+
+    /**
+     * S3 직접 업로드 세션 발급
+     *
+     * @param request 업로드 용도, Content-Type, 파일 크기
+     * @return 서명된 업로드 URL과 객체 키
+     */
+    @Operation(summary = "S3 직접 업로드 세션 발급", description = "이미지를 서버를 거치지 않고 S3에 바로 업로드할 수 있는 서명된 PUT URL을 발급합니다.\n\n" +
+            "1. 이 API로 uploadUrl, headers, objectKey를 받습니다.\n" +
+            "2. uploadUrl에 headers를 그대로 포함하여 이미지 본문을 PUT합니다. (Content-Type과 크기는 요청한 값과 같아야 합니다)\n" +
+            "3. 업로드가 끝나면 objectKey를 확정 API에 전달합니다.\n" +
+            "   - CLOTH: POST /try-on/fitting/uploaded\n" +
+            "   - MODEL: POST /default-model/uploaded\n" +
+            "\nURL은 발급 후 기본 5분 동안 유효합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "업로드 세션 발급 성공", content = @Content(schema = @Schema(type = "object", example = """
+                    {
+                      "isSuccess": true,
+                      "data": {
+                        "objectKey": "uploads/cloth/1/20250101_120000_1c3f077f-ef18-4361-9ed0-4701904f3d90.jpg",
+                        "uploadUrl": "https://bucket.s3.ap-northeast-2.amazonaws.com/uploads/cloth/1/...",
+                        "method": "PUT",
+                        "headers": {
+                          "content-type": "image/jpeg",
+                          "content-length": "2457600"
+                        },
+                        "expiresAt": "2025-01-01T12:05:00Z"
+                      }
+                    }"""))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 이미지 형식 또는 크기 제한 초과"),
+            @ApiResponse(responseCode = "401", description = "잘못된 X-UUID 헤더, 또는 인증되지 않은 사용자")
+    })
+    @PostMapping("/session")
+    public ApiResponseWrapper<UploadSessionResponse> createUploadSession(
+            @Parameter(description = "업로드 세션 발급 요청", required = true) @Valid @RequestBody UploadSessionRequest request) {
+        UploadSessionResponse response = uploadSessionService.createUploadSession(request);
+        return ApiResponseWrapper.ofSuccess(response);
+    }
+}
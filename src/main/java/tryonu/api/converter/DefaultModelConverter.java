@@ -59,7 +59,15 @@ public class DefaultModelConverter {
      * DefaultModelDto 생성
      */
     public DefaultModelDto toDefaultModelDto(DefaultModel defaultModel) {
-        return new DefaultModelDto(defaultModel.getId(), defaultModel.getImageUrl(), defaultModel.getModelName(), defaultModel.getSortOrder(), defaultModel.getIsCustom());
+        return new DefaultModelDto(defaultModel.getId(), defaultModel.getImageUrl(), defaultModel.getModelName(), defaultModel.getSortOrder(), defaultModel.getIsCustom(),
+                orImageUrl(defaultModel.getThumbnailUrl(), defaultModel), orImageUrl(defaultModel.getMediumUrl(), defaultModel));
+    }
+
+    /**
+     * 파생본이 아직 없으면 원본 이미지 URL
+     */
+    private static String orImageUrl(String derivativeUrl, DefaultModel defaultModel) {
+        return derivativeUrl != null ? derivativeUrl : defaultModel.getImageUrl();
     }
 
     /**
@@ -6,6 +6,7 @@ import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.domain.Cloth;
 import tryonu.api.domain.TryOnResult;
 import tryonu.api.common.enums.Category;
+import tryonu.api.common.util.ImageUploadUtil;
 import tryonu.api.domain.User;
 import tryonu.api.domain.DefaultModel;
 
@@ -30,13 +31,14 @@ public class TryOnResultConverter {
     }
 
     /**
-     * Cloth 엔티티 생성
+     * Cloth 엔티티 생성 (내용 주소 이미지면 URL의 해시를 함께 저장)
      */
     public Cloth toClothEntity(String clothImageUrl, String productPageUrl, Category category) {
         return Cloth.builder()
                 .imageUrl(clothImageUrl)
                 .category(category)
                 .productPageUrl(productPageUrl)
+                .contentHash(ImageUploadUtil.contentHashOf(clothImageUrl).orElse(null))
                 .build();
     }
 
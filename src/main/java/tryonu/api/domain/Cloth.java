@@ -7,7 +7,8 @@ import tryonu.api.common.enums.Category;
 @Entity
 @Table(name = "clothes", indexes = {
     @Index(name = "idx_clothes_is_deleted", columnList = "is_deleted"),
-    @Index(name = "idx_clothes_category", columnList = "category")
+    @Index(name = "idx_clothes_category", columnList = "category"),
+    @Index(name = "idx_clothes_content_hash", columnList = "content_hash")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,6 +30,10 @@ public class Cloth extends BaseEntity {
     @Column(name = "image_url", nullable = false, columnDefinition = "TEXT")
     String imageUrl;
 
+    // 내용 주소 모드로 업로드된 의류 이미지의 SHA-256 해시 (같은 이미지의 의류 재사용 기준)
+    @Column(name = "content_hash", nullable = true, length = 64)
+    String contentHash;
+
     @Column(name = "is_deleted", nullable = false)
     @Builder.Default
     @Setter
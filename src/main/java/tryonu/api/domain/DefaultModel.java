@@ -26,6 +26,15 @@ public class DefaultModel extends BaseEntity {
     @Column(name = "image_url", nullable = false, columnDefinition = "TEXT")
     String imageUrl;
 
+    @Column(name = "thumbnail_url", columnDefinition = "TEXT")
+    String thumbnailUrl; // 목록 카드용 썸네일 (파생본 생성 전에는 null)
+
+    @Column(name = "medium_url", columnDefinition = "TEXT")
+    String mediumUrl; // 중간 크기 미리보기 (파생본 생성 전에는 null)
+
+    @Column(name = "derivative_failures")
+    Integer derivativeFailures; // 파생본 생성 실패 횟수 (실패한 적 없으면 null)
+
     @Column(name = "model_name", nullable = false, length = 100)
     @Setter
     String modelName;
@@ -2,11 +2,15 @@ package tryonu.api.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import tryonu.api.common.enums.TryOnJobStatus;
 
 @Entity
 @Table(name = "try_on_results", indexes = {
         @Index(name = "idx_try_on_results_is_deleted", columnList = "is_deleted"),
-        @Index(name = "idx_try_on_results_user_id", columnList = "user_id")
+        @Index(name = "idx_try_on_results_user_id", columnList = "user_id"),
+        @Index(name = "idx_try_on_results_status", columnList = "status"),
+        @Index(name = "idx_try_on_results_virtual_fitting_id", columnList = "virtual_fitting_id"),
+        @Index(name = "idx_try_on_results_image_url", columnList = "image_url")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,9 +41,28 @@ public class TryOnResult extends BaseEntity {
     @Column(name = "image_url")
     String imageUrl;
 
+    @Column(name = "thumbnail_url")
+    String thumbnailUrl; // 목록 카드용 썸네일 (파생본 생성 전에는 null)
+
+    @Column(name = "medium_url")
+    String mediumUrl; // 중간 크기 미리보기 (파생본 생성 전에는 null)
+
+    @Column(name = "derivative_failures")
+    Integer derivativeFailures; // 파생본 생성 실패 횟수 (실패한 적 없으면 null)
+
     @Column(name = "virtual_fitting_id")
     String virtualFittingId; // 가상 피팅 API 응답 ID
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    TryOnJobStatus status; // 피팅 작업 진행 상태 (피팅 요청 전에는 null)
+
+    @Column(name = "error_code", length = 20)
+    String errorCode; // 실패 시 ErrorCode 코드값
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    String errorMessage; // 실패 시 에러 메시지
+
     @Column(name = "is_deleted", nullable = false)
     @Builder.Default
     @Setter
@@ -53,9 +76,56 @@ public class TryOnResult extends BaseEntity {
         this.cloth = cloth;
         this.user = user;
         this.modelUrl = modelUrl;
-        this.imageUrl = imageUrl;
+        updateImageUrl(imageUrl);
         this.virtualFittingId = virtualFittingId;
         this.defaultModelId = defaultModelId;
     }
 
+    /**
+     * 가상 피팅 요청 접수 처리
+     * 완료 콜백에서 후처리할 수 있도록 의류/모델 정보와 가상 피팅 ID를 먼저 저장합니다.
+     */
+    public void markFittingSubmitted(Cloth cloth, String modelUrl, Long defaultModelId, String virtualFittingId) {
+        this.cloth = cloth;
+        this.modelUrl = modelUrl;
+        this.defaultModelId = defaultModelId;
+        this.virtualFittingId = virtualFittingId;
+        this.status = TryOnJobStatus.FITTING;
+    }
+
+    /**
+     * 가상 피팅 완료 처리
+     */
+    public void completeFitting(String imageUrl) {
+        updateImageUrl(imageUrl);
+        this.status = TryOnJobStatus.COMPLETED;
+    }
+
+    /**
+     * 결과 이미지가 바뀌면 이전 이미지의 파생본은 더 이상 사용하지 않음
+     */
+    private void updateImageUrl(String imageUrl) {
+        if (this.imageUrl != null && !this.imageUrl.equals(imageUrl)) {
+            this.thumbnailUrl = null;
+            this.mediumUrl = null;
+        }
+        this.imageUrl = imageUrl;
+    }
+
+    /**
+     * 피팅 작업 진행 상태 업데이트
+     */
+    public void updateStatus(TryOnJobStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * 피팅 작업 실패 처리
+     */
+    public void markFailed(String errorCode, String errorMessage) {
+        this.status = TryOnJobStatus.FAILED;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
 }
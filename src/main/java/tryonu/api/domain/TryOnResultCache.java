@@ -0,0 +1,35 @@
+package tryonu.api.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 가상 피팅 결과 캐시 엔티티
+ * (모델 이미지, 의류 이미지) 내용 해시 쌍으로 이미 완료된 가상 피팅 결과 이미지 URL을 사용자 간에 공유합니다.
+ */
+@Entity
+@Table(name = "try_on_result_caches", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_try_on_result_caches_model_garment", columnNames = { "model_key",
+                "garment_hash" })
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+public class TryOnResultCache extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "model_key", nullable = false, length = 64)
+    private String modelKey; // 모델 이미지 내용 해시 (내용 주소가 아니면 URL의 SHA-256)
+
+    @Column(name = "garment_hash", nullable = false, length = 64)
+    private String garmentHash; // 의류 이미지 내용 해시 (SHA-256)
+
+    @Column(name = "result_image_url", nullable = false)
+    private String resultImageUrl; // 배경 제거 후 S3에 업로드된 결과 이미지 URL
+
+    @Column(name = "source_try_on_job_id")
+    private String sourceTryOnJobId; // 결과를 처음 생성한 피팅 작업 ID
+}
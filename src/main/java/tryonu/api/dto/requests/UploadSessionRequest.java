@@ -0,0 +1,21 @@
+package tryonu.api.dto.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import tryonu.api.common.enums.UploadPurpose;
+
+/**
+ * S3 직접 업로드 세션 발급 요청 DTO
+ */
+@Schema(description = "S3 직접 업로드 세션 발급 요청")
+public record UploadSessionRequest(
+        @Schema(description = "업로드 용도 (CLOTH: 가상 피팅 의류 이미지, MODEL: 커스텀 모델 이미지)", example = "CLOTH", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "업로드 용도는 필수입니다") UploadPurpose purpose,
+
+        @Schema(description = "업로드할 이미지의 Content-Type", example = "image/jpeg", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "Content-Type은 필수입니다") String contentType,
+
+        @Schema(description = "업로드할 이미지의 바이트 크기", example = "2457600", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "파일 크기는 필수입니다") @Positive(message = "파일 크기는 양수여야 합니다") Long contentLength
+
+) {
+}
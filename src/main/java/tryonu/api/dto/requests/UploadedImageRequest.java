@@ -0,0 +1,14 @@
+package tryonu.api.dto.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * S3 직접 업로드 확정 요청 DTO
+ */
+@Schema(description = "S3 직접 업로드 확정 요청")
+public record UploadedImageRequest(
+        @Schema(description = "업로드 세션 발급 시 받은 객체 키", example = "uploads/model/1/20250101_120000_1c3f077f-ef18-4361-9ed0-4701904f3d90.jpg", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "객체 키는 필수입니다") String objectKey
+
+) {
+}
@@ -0,0 +1,18 @@
+package tryonu.api.dto.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * S3에 직접 업로드한 의류 이미지로 가상 피팅 요청 DTO
+ */
+@Schema(description = "직접 업로드한 의류 이미지로 가상 피팅 요청")
+public record UploadedTryOnRequest(
+        @Schema(description = "가상 피팅 요청 정보", requiredMode = Schema.RequiredMode.REQUIRED) @NotNull(message = "가상 피팅 요청 정보는 필수입니다") @Valid TryOnRequestDto request,
+
+        @Schema(description = "업로드 세션 발급 시 받은 의류 이미지 객체 키", example = "uploads/cloth/1/20250101_120000_1c3f077f-ef18-4361-9ed0-4701904f3d90.jpg", requiredMode = Schema.RequiredMode.REQUIRED) @NotBlank(message = "객체 키는 필수입니다") String objectKey
+
+) {
+}
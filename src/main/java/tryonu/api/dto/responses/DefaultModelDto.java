@@ -21,6 +21,12 @@ public record DefaultModelDto(
     Integer sortOrder,
     
     @Schema(description = "커스텀 모델 여부 (true: 사용자 업로드 모델, false: 기본 제공 모델)", example = "false")
-    Boolean isCustom
+    Boolean isCustom,
+    
+    @Schema(description = "목록 카드용 썸네일 URL (생성 전에는 원본 URL)", example = "https://cdn.example.com/derived/thumb/default-model.jpg")
+    String thumbnailUrl,
+    
+    @Schema(description = "중간 크기 미리보기 URL (생성 전에는 원본 URL)", example = "https://cdn.example.com/derived/medium/default-model.jpg")
+    String mediumUrl
     
 ) {} 
\ No newline at end of file
@@ -1,9 +1,80 @@
 package tryonu.api.dto.responses;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+
 /**
  * 이미지 Data URL 응답 DTO
+ * dataUrl은 Base64 문자열을 만들지 않고 응답 직렬화 시 JSON 본문에 바로 인코딩되어 기록됩니다.
  */
 public record ImageDataUrlResponse(
-    String dataUrl
+    @Schema(type = "string", description = "Base64로 인코딩된 Data URL", example = "data:image/png;base64,iVBORw0KGgo...")
+    DataUrl dataUrl
 ) {
+
+    /**
+     * Data URL 원본 (content는 공유될 수 있으므로 수정하면 안 됨)
+     *
+     * @param mimeType type/subtype 형식의 MIME 타입 (파라미터 없이, JSON 이스케이프가 필요 없는 문자만)
+     */
+    @JsonSerialize(using = DataUrlSerializer.class)
+    public record DataUrl(String mimeType, byte[] content) {
+    }
+
+    /**
+     * "data:{mimeType};base64,{내용}" JSON 문자열을 작은 청크 단위로 인코딩하여 기록
+     * Base64 문자는 JSON 이스케이프가 필요 없으므로 raw로 기록하며, 응답 하나가 추가로 잡는 메모리는 인코딩 버퍼 크기로 제한됩니다.
+     */
+    static final class DataUrlSerializer extends StdSerializer<DataUrl> {
+
+        DataUrlSerializer() {
+            super(DataUrl.class);
+        }
+
+        @Override
+        public void serialize(DataUrl value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeRawValue("\"data:" + value.mimeType() + ";base64,");
+            try (OutputStream base64 = Base64.getEncoder().wrap(new RawJsonOutputStream(gen))) {
+                base64.write(value.content());
+            }
+            gen.writeRaw('"');
+        }
+    }
+
+    /**
+     * ASCII 바이트를 JsonGenerator에 raw 문자로 전달 (close는 생성기를 닫지 않음)
+     */
+    private static final class RawJsonOutputStream extends OutputStream {
+        private final JsonGenerator gen;
+        private final char[] chars = new char[8 * 1024];
+
+        private RawJsonOutputStream(JsonGenerator gen) {
+            this.gen = gen;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            gen.writeRaw((char) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int length = Math.min(len, chars.length);
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char) b[off + i];
+                }
+                gen.writeRaw(chars, 0, length);
+                off += length;
+                len -= length;
+            }
+        }
+    }
 }
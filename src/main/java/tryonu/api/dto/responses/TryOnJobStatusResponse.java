@@ -0,0 +1,24 @@
+package tryonu.api.dto.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import tryonu.api.common.enums.TryOnJobStatus;
+
+/**
+ * 가상 피팅 작업 상태 응답 DTO
+ */
+@Schema(description = "가상 피팅 작업 상태 응답")
+public record TryOnJobStatusResponse(
+        @Schema(description = "피팅 작업 Job ID", example = "1c3f077f-ef18-4361-9ed0-4701904f3d90") String tryOnJobId,
+
+        @Schema(description = "피팅 작업 진행 상태", example = "FITTING") TryOnJobStatus status,
+
+        @Schema(description = "피팅 결과 이미지 URL (COMPLETED 상태에서만 존재)", example = "https://cdn.example.com/users/models/tryonresult-1.jpg") String tryOnResultUrl,
+
+        @Schema(description = "사용된 기본 모델 ID", example = "5") Long defaultModelId,
+
+        @Schema(description = "사용된 모델 이름", example = "슬림 한국인 남성") String modelName,
+
+        @Schema(description = "에러 코드 (FAILED 상태에서만 존재)", example = "VF009") String errorCode,
+
+        @Schema(description = "에러 메시지 (FAILED 상태에서만 존재)", example = "모델 또는 의류 이미지에서 자세를 감지할 수 없습니다.") String errorMessage) {
+}
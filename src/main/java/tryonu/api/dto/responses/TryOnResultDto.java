@@ -13,5 +13,9 @@ public record TryOnResultDto(
 
         @Schema(description = "사용된 기본 모델 ID", example = "5") Long defaultModelId,
 
-        @Schema(description = "사용된 모델 이름", example = "슬림 한국인 남성") String modelName) {
+        @Schema(description = "사용된 모델 이름", example = "슬림 한국인 남성") String modelName,
+
+        @Schema(description = "목록 카드용 썸네일 URL (생성 전에는 원본 URL)", example = "https://cdn.example.com/derived/thumb/try-on-result.jpg") String thumbnailUrl,
+
+        @Schema(description = "중간 크기 미리보기 URL (생성 전에는 원본 URL)", example = "https://cdn.example.com/derived/medium/try-on-result.jpg") String mediumUrl) {
 }
\ No newline at end of file
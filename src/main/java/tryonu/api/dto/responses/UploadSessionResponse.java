@@ -0,0 +1,25 @@
+package tryonu.api.dto.responses;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Schema(description = "S3 직접 업로드 세션 응답")
+public record UploadSessionResponse(
+    @Schema(description = "업로드 확정 시 전달할 객체 키", example = "uploads/cloth/1/20250101_120000_1c3f077f-ef18-4361-9ed0-4701904f3d90.jpg")
+    String objectKey,
+
+    @Schema(description = "이미지를 PUT으로 업로드할 서명된 URL", example = "https://bucket.s3.ap-northeast-2.amazonaws.com/uploads/cloth/1/...?X-Amz-Signature=...")
+    String uploadUrl,
+
+    @Schema(description = "업로드 HTTP 메서드", example = "PUT")
+    String method,
+
+    @Schema(description = "업로드 요청에 그대로 포함해야 하는 헤더 (서명 대상)", example = "{\"content-type\": \"image/jpeg\", \"content-length\": \"2457600\"}")
+    Map<String, String> headers,
+
+    @Schema(description = "업로드 URL 만료 시각", example = "2025-01-01T12:05:00Z")
+    Instant expiresAt
+) {
+}
@@ -3,6 +3,8 @@ package tryonu.api.repository.cloth;
 import org.springframework.lang.NonNull;
 import tryonu.api.domain.Cloth;
 
+import java.util.Optional;
+
 public interface ClothRepository {
     
     /**
@@ -15,6 +17,16 @@ public interface ClothRepository {
      */
     Cloth findByIdAndIsDeletedFalseOrThrow(@NonNull Long clothId);
 
+    /**
+     * 같은 이미지 해시와 상품 페이지 URL을 가진 재사용 가능한 의류 조회 (일반 조회)
+     */
+    Optional<Cloth> findReusable(@NonNull String contentHash, String productPageUrl);
+
+    /**
+     * 이미지 해시가 같은 가장 최근 의류 조회 (카테고리 예측 결과 재사용, 삭제 여부 무관)
+     */
+    Optional<Cloth> findLatestByContentHash(@NonNull String contentHash);
+
     
     /**
      * 의류 소프트 삭제 (예외처리 포함)
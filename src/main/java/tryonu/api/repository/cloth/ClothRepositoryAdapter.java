@@ -8,6 +8,8 @@ import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
 import tryonu.api.domain.Cloth;
 
+import java.util.Optional;
+
 
 
 @Slf4j
@@ -35,6 +37,22 @@ public class ClothRepositoryAdapter implements ClothRepository {
     }
     
     
+    @Override
+    public Optional<Cloth> findReusable(@NonNull String contentHash, String productPageUrl) {
+        // productPageUrl = null 조건은 파생 쿼리에서 IS NULL로 변환되지 않으므로 분리
+        if (productPageUrl == null) {
+            return jpaClothRepository.findFirstByContentHashAndProductPageUrlIsNullAndIsDeletedFalseOrderByIdAsc(
+                    contentHash);
+        }
+        return jpaClothRepository.findFirstByContentHashAndProductPageUrlAndIsDeletedFalseOrderByIdAsc(contentHash,
+                productPageUrl);
+    }
+
+    @Override
+    public Optional<Cloth> findLatestByContentHash(@NonNull String contentHash) {
+        return jpaClothRepository.findFirstByContentHashOrderByIdDesc(contentHash);
+    }
+
     @Override
     public void softDelete(@NonNull Cloth cloth) {
         cloth.setIsDeleted(true);
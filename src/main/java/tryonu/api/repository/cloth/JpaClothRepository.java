@@ -11,4 +11,20 @@ public interface JpaClothRepository extends JpaRepository<Cloth, Long> {
      * id와 삭제되지 않은 의류 조회
      */
     Optional<Cloth> findByIdAndIsDeletedFalse(Long id);
-} 
\ No newline at end of file
+
+    /**
+     * 이미지 해시와 상품 페이지 URL이 같은 삭제되지 않은 의류 조회
+     */
+    Optional<Cloth> findFirstByContentHashAndProductPageUrlAndIsDeletedFalseOrderByIdAsc(String contentHash,
+            String productPageUrl);
+
+    /**
+     * 상품 페이지 URL 없이 업로드된, 이미지 해시가 같은 삭제되지 않은 의류 조회
+     */
+    Optional<Cloth> findFirstByContentHashAndProductPageUrlIsNullAndIsDeletedFalseOrderByIdAsc(String contentHash);
+
+    /**
+     * 이미지 해시가 같은 가장 최근 의류 조회
+     */
+    Optional<Cloth> findFirstByContentHashOrderByIdDesc(String contentHash);
+}
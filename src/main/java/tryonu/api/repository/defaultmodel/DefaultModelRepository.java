@@ -5,6 +5,7 @@ import tryonu.api.domain.DefaultModel;
 import tryonu.api.dto.responses.DefaultModelDto;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface DefaultModelRepository {
     
@@ -57,4 +58,27 @@ public interface DefaultModelRepository {
      * 사용자의 최대 sortOrder 조회
      */
     Integer findMaxSortOrderByUserId(@NonNull Long userId);
+
+    /**
+     * 파생본(썸네일/중간 크기)이 없고 생성 실패가 maxFailures회 미만인 기본 모델 조회 (afterId 이후, id 오름차순)
+     */
+    List<DefaultModel> findMissingDerivatives(@NonNull Long afterId, int maxFailures, int limit);
+
+    /**
+     * 같은 이미지 URL로 파생본이 이미 저장된 기본 모델 조회
+     */
+    Optional<DefaultModel> findWithDerivativesByImageUrl(@NonNull String imageUrl);
+
+    /**
+     * 파생본 URL 저장
+     *
+     * @return 이미지가 imageUrl 그대로여서 저장되었으면 true
+     */
+    boolean updateDerivatives(@NonNull Long id, @NonNull String imageUrl, @NonNull String thumbnailUrl,
+            @NonNull String mediumUrl);
+
+    /**
+     * 파생본 생성 실패 횟수 증가 (이미지가 imageUrl 그대로일 때만)
+     */
+    void incrementDerivativeFailures(@NonNull Long id, @NonNull String imageUrl);
 } 
\ No newline at end of file
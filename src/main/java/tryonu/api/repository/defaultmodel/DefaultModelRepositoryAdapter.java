@@ -2,6 +2,7 @@ package tryonu.api.repository.defaultmodel;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 import tryonu.api.common.exception.CustomException;
@@ -10,6 +11,7 @@ import tryonu.api.domain.DefaultModel;
 import tryonu.api.dto.responses.DefaultModelDto;
 
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Repository
@@ -104,4 +106,32 @@ public class DefaultModelRepositoryAdapter implements DefaultModelRepository {
         log.debug("[DefaultModelRepositoryAdapter] 최대 sortOrder 조회 - userId: {}, maxSortOrder: {}", userId, maxSortOrder);
         return maxSortOrder;
     }
+
+    @Override
+    public List<DefaultModel> findMissingDerivatives(@NonNull Long afterId, int maxFailures, int limit) {
+        List<DefaultModel> defaultModels = jpaDefaultModelRepository.findMissingDerivatives(afterId, maxFailures,
+                PageRequest.of(0, limit));
+        log.debug("[DefaultModelRepositoryAdapter] 파생본 없는 기본 모델 조회 - afterId: {}, count: {}", afterId, defaultModels.size());
+        return defaultModels;
+    }
+
+    @Override
+    public Optional<DefaultModel> findWithDerivativesByImageUrl(@NonNull String imageUrl) {
+        return jpaDefaultModelRepository.findWithDerivativesByImageUrl(imageUrl, PageRequest.of(0, 1)).stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean updateDerivatives(@NonNull Long id, @NonNull String imageUrl, @NonNull String thumbnailUrl,
+            @NonNull String mediumUrl) {
+        int updatedCount = jpaDefaultModelRepository.updateDerivatives(id, imageUrl, thumbnailUrl, mediumUrl);
+        log.debug("[DefaultModelRepositoryAdapter] 기본 모델 파생본 저장 - id: {}, updated: {}", id, updatedCount);
+        return updatedCount > 0;
+    }
+
+    @Override
+    public void incrementDerivativeFailures(@NonNull Long id, @NonNull String imageUrl) {
+        int updatedCount = jpaDefaultModelRepository.incrementDerivativeFailures(id, imageUrl);
+        log.debug("[DefaultModelRepositoryAdapter] 기본 모델 파생본 생성 실패 기록 - id: {}, updated: {}", id, updatedCount);
+    }
 } 
\ No newline at end of file
@@ -1,8 +1,11 @@
 package tryonu.api.repository.defaultmodel;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import tryonu.api.domain.DefaultModel;
 import tryonu.api.dto.responses.DefaultModelDto;
 
@@ -26,7 +29,8 @@ public interface JpaDefaultModelRepository extends JpaRepository<DefaultModel, L
     /**
      * 사용자별 기본 모델 조회 (sortOrder 오름차순, id 오름차순 정렬) - JPQL 최적화
      */
-    @Query("SELECT new tryonu.api.dto.responses.DefaultModelDto(dm.id, dm.imageUrl, dm.modelName, dm.sortOrder, dm.isCustom) " +
+    @Query("SELECT new tryonu.api.dto.responses.DefaultModelDto(dm.id, dm.imageUrl, dm.modelName, dm.sortOrder, dm.isCustom, " +
+           "COALESCE(dm.thumbnailUrl, dm.imageUrl), COALESCE(dm.mediumUrl, dm.imageUrl)) " +
            "FROM DefaultModel dm " +
            "WHERE dm.user.id = :userId AND dm.isDeleted = false " +
            "ORDER BY dm.sortOrder ASC, dm.id ASC")
@@ -45,4 +49,42 @@ public interface JpaDefaultModelRepository extends JpaRepository<DefaultModel, L
     @Query("SELECT COALESCE(MAX(dm.sortOrder), 0) FROM DefaultModel dm " +
            "WHERE dm.user.id = :userId AND dm.isDeleted = false")
     Integer findMaxSortOrderByUserId(@Param("userId") Long userId);
+
+    /**
+     * 파생본(썸네일/중간 크기)이 없고 생성 실패가 maxFailures회 미만인 기본 모델 조회 (afterId 이후, id 오름차순)
+     */
+    @Query("SELECT dm FROM DefaultModel dm " +
+           "WHERE dm.id > :afterId AND dm.thumbnailUrl IS NULL " +
+           "AND (dm.derivativeFailures IS NULL OR dm.derivativeFailures < :maxFailures) AND dm.isDeleted = false " +
+           "ORDER BY dm.id ASC")
+    List<DefaultModel> findMissingDerivatives(@Param("afterId") Long afterId, @Param("maxFailures") int maxFailures,
+            Pageable pageable);
+
+    /**
+     * 같은 이미지 URL로 파생본이 이미 저장된 기본 모델 조회 (최근 순)
+     */
+    @Query("SELECT dm FROM DefaultModel dm " +
+           "WHERE dm.imageUrl = :imageUrl AND dm.thumbnailUrl IS NOT NULL AND dm.mediumUrl IS NOT NULL " +
+           "AND dm.isDeleted = false " +
+           "ORDER BY dm.id DESC")
+    List<DefaultModel> findWithDerivativesByImageUrl(@Param("imageUrl") String imageUrl, Pageable pageable);
+
+    /**
+     * 파생본 URL 저장 (그 사이 이미지가 바뀌었으면 저장하지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DefaultModel dm SET dm.thumbnailUrl = :thumbnailUrl, dm.mediumUrl = :mediumUrl " +
+           "WHERE dm.id = :id AND dm.imageUrl = :imageUrl")
+    int updateDerivatives(@Param("id") Long id, @Param("imageUrl") String imageUrl,
+            @Param("thumbnailUrl") String thumbnailUrl, @Param("mediumUrl") String mediumUrl);
+
+    /**
+     * 파생본 생성 실패 횟수 증가 (그 사이 이미지가 바뀌었으면 기록하지 않음)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DefaultModel dm SET dm.derivativeFailures = COALESCE(dm.derivativeFailures, 0) + 1 " +
+           "WHERE dm.id = :id AND dm.imageUrl = :imageUrl")
+    int incrementDerivativeFailures(@Param("id") Long id, @Param("imageUrl") String imageUrl);
 } 
\ No newline at end of file
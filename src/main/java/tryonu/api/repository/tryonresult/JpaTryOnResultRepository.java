@@ -1,11 +1,17 @@
 package tryonu.api.repository.tryonresult;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tryonu.api.common.enums.TryOnJobStatus;
 import tryonu.api.domain.TryOnResult;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
 import tryonu.api.dto.responses.TryOnResultDto;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,10 +62,131 @@ public interface JpaTryOnResultRepository extends JpaRepository<TryOnResult, Lon
         * 사용자별 피팅 결과 조회 (id 내림차순 정렬) - JPQL 최적화
         */
        @Query("SELECT new tryonu.api.dto.responses.TryOnResultDto(tr.tryOnJobId, tr.imageUrl, tr.defaultModelId, " +
-                     "CASE WHEN dm.modelName IS NOT NULL THEN dm.modelName ELSE '커스텀 모델' END) " +
+                     "CASE WHEN dm.modelName IS NOT NULL THEN dm.modelName ELSE '커스텀 모델' END, " +
+                     "COALESCE(tr.thumbnailUrl, tr.imageUrl), COALESCE(tr.mediumUrl, tr.imageUrl)) " +
                      "FROM TryOnResult tr " +
                      "LEFT JOIN DefaultModel dm ON tr.defaultModelId = dm.id AND dm.isDeleted = false " +
                      "WHERE tr.user.id = :userId AND tr.isDeleted = false AND tr.imageUrl IS NOT NULL " +
                      "ORDER BY tr.id DESC")
        List<TryOnResultDto> findTryOnResultsByUserIdOrderByIdDesc(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+       /**
+        * 사용자의 피팅 작업 상태 조회 - JPQL 최적화
+        */
+       @Query("SELECT new tryonu.api.dto.responses.TryOnJobStatusResponse(tr.tryOnJobId, tr.status, tr.imageUrl, " +
+                     "tr.defaultModelId, dm.modelName, tr.errorCode, tr.errorMessage) " +
+                     "FROM TryOnResult tr " +
+                     "LEFT JOIN DefaultModel dm ON tr.defaultModelId = dm.id AND dm.isDeleted = false " +
+                     "WHERE tr.tryOnJobId = :tryOnJobId AND tr.user.id = :userId AND tr.isDeleted = false")
+       Optional<TryOnJobStatusResponse> findTryOnJobStatus(@Param("tryOnJobId") String tryOnJobId,
+                     @Param("userId") Long userId);
+
+       /**
+        * tryOnJobId로 삭제되지 않은 피팅 결과와 사용자/의류 정보 조회
+        */
+       @Query("SELECT t FROM TryOnResult t " +
+                     "JOIN FETCH t.user u " +
+                     "LEFT JOIN FETCH t.cloth c " +
+                     "WHERE t.tryOnJobId = :tryOnJobId AND t.isDeleted = false")
+       Optional<TryOnResult> findByTryOnJobIdWithDetails(@Param("tryOnJobId") String tryOnJobId);
+
+       /**
+        * 가상 피팅 ID로 특정 상태의 피팅 작업 ID 조회 (같은 가상 피팅에 연결된 작업 모두)
+        */
+       @Query("SELECT t.tryOnJobId FROM TryOnResult t " +
+                     "WHERE t.virtualFittingId = :virtualFittingId AND t.status = :status AND t.isDeleted = false")
+       List<String> findTryOnJobIdsByVirtualFittingId(@Param("virtualFittingId") String virtualFittingId,
+                     @Param("status") TryOnJobStatus status);
+
+       /**
+        * 같은 (모델 이미지, 의류 이미지)로 진행 중인 가상 피팅 ID 조회 (최근 갱신 순)
+        */
+       @Query("SELECT t.virtualFittingId FROM TryOnResult t " +
+                     "JOIN t.cloth c " +
+                     "WHERE t.status = :status AND t.modelUrl = :modelUrl AND c.imageUrl = :clothImageUrl " +
+                     "AND t.virtualFittingId IS NOT NULL AND t.updatedAt > :updatedAfter AND t.isDeleted = false " +
+                     "ORDER BY t.updatedAt DESC")
+       List<String> findInProgressVirtualFittingIds(@Param("status") TryOnJobStatus status,
+                     @Param("modelUrl") String modelUrl,
+                     @Param("clothImageUrl") String clothImageUrl,
+                     @Param("updatedAfter") Instant updatedAfter,
+                     Pageable pageable);
+
+       /**
+        * tryOnJobId 기준 조건부 상태 전이 (현재 상태가 expected일 때만 변경)
+        */
+       @Modifying(clearAutomatically = true)
+       @Query("UPDATE TryOnResult t SET t.status = :next, t.updatedAt = :now " +
+                     "WHERE t.tryOnJobId = :tryOnJobId AND t.status = :expected AND t.isDeleted = false")
+       int updateStatusByTryOnJobId(@Param("tryOnJobId") String tryOnJobId,
+                     @Param("expected") TryOnJobStatus expected,
+                     @Param("next") TryOnJobStatus next,
+                     @Param("now") Instant now);
+
+       /**
+        * 사용자의 피팅 작업을 접수 상태로 조건부 전이 (피팅 요청 전(null)이거나 실패한 작업만, 이전 에러 정보는 비움)
+        */
+       @Modifying(clearAutomatically = true)
+       @Query("UPDATE TryOnResult t SET t.status = :queued, t.errorCode = null, t.errorMessage = null, " +
+                     "t.updatedAt = :now " +
+                     "WHERE t.tryOnJobId = :tryOnJobId AND t.user.id = :userId AND t.isDeleted = false " +
+                     "AND (t.status IS NULL OR t.status = :failed)")
+       int markJobQueued(@Param("tryOnJobId") String tryOnJobId,
+                     @Param("userId") Long userId,
+                     @Param("queued") TryOnJobStatus queued,
+                     @Param("failed") TryOnJobStatus failed,
+                     @Param("now") Instant now);
+
+       /**
+        * 특정 상태로 일정 시간 이상 머물러 있는 가상 피팅 작업 조회 (오래된 순)
+        */
+       @Query("SELECT t FROM TryOnResult t " +
+                     "WHERE t.status = :status AND t.virtualFittingId IS NOT NULL " +
+                     "AND t.updatedAt < :updatedBefore AND t.isDeleted = false " +
+                     "ORDER BY t.updatedAt ASC")
+       List<TryOnResult> findPendingVirtualFittings(@Param("status") TryOnJobStatus status,
+                     @Param("updatedBefore") Instant updatedBefore,
+                     Pageable pageable);
+
+       /**
+        * 파생본(썸네일/중간 크기)이 없고 생성 실패가 maxFailures회 미만인 피팅 결과 조회 (afterId 이후, id 오름차순)
+        */
+       @Query("SELECT t FROM TryOnResult t " +
+                     "WHERE t.id > :afterId AND t.imageUrl IS NOT NULL AND t.thumbnailUrl IS NULL " +
+                     "AND (t.derivativeFailures IS NULL OR t.derivativeFailures < :maxFailures) " +
+                     "AND t.isDeleted = false " +
+                     "ORDER BY t.id ASC")
+       List<TryOnResult> findMissingDerivatives(@Param("afterId") Long afterId,
+                     @Param("maxFailures") int maxFailures,
+                     Pageable pageable);
+
+       /**
+        * 같은 이미지 URL로 파생본이 이미 저장된 피팅 결과 조회 (최근 순)
+        */
+       @Query("SELECT t FROM TryOnResult t " +
+                     "WHERE t.imageUrl = :imageUrl AND t.thumbnailUrl IS NOT NULL AND t.mediumUrl IS NOT NULL " +
+                     "AND t.isDeleted = false " +
+                     "ORDER BY t.id DESC")
+       List<TryOnResult> findWithDerivativesByImageUrl(@Param("imageUrl") String imageUrl, Pageable pageable);
+
+       /**
+        * 파생본 URL 저장 (그 사이 결과 이미지가 바뀌었으면 저장하지 않음)
+        */
+       @Transactional
+       @Modifying(clearAutomatically = true)
+       @Query("UPDATE TryOnResult t SET t.thumbnailUrl = :thumbnailUrl, t.mediumUrl = :mediumUrl " +
+                     "WHERE t.id = :id AND t.imageUrl = :imageUrl")
+       int updateDerivatives(@Param("id") Long id,
+                     @Param("imageUrl") String imageUrl,
+                     @Param("thumbnailUrl") String thumbnailUrl,
+                     @Param("mediumUrl") String mediumUrl);
+
+       /**
+        * 파생본 생성 실패 횟수 증가 (그 사이 결과 이미지가 바뀌었으면 기록하지 않음)
+        */
+       @Transactional
+       @Modifying(clearAutomatically = true)
+       @Query("UPDATE TryOnResult t SET t.derivativeFailures = COALESCE(t.derivativeFailures, 0) + 1 " +
+                     "WHERE t.id = :id AND t.imageUrl = :imageUrl")
+       int incrementDerivativeFailures(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+}
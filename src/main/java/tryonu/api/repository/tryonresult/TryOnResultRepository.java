@@ -1,10 +1,14 @@
 package tryonu.api.repository.tryonresult;
 
 import org.springframework.lang.NonNull;
+import tryonu.api.common.enums.TryOnJobStatus;
 import tryonu.api.domain.TryOnResult;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
 import tryonu.api.dto.responses.TryOnResultDto;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface TryOnResultRepository {
 
@@ -42,4 +46,69 @@ public interface TryOnResultRepository {
      * 사용자별 피팅 결과 목록 조회 (id 내림차순 정렬)
      */
     List<TryOnResultDto> findTryOnResultsByUserIdOrderByIdDesc(@NonNull Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 사용자의 피팅 작업 상태 조회 (예외처리 포함)
+     */
+    TryOnJobStatusResponse findTryOnJobStatusOrThrow(@NonNull String tryOnJobId, @NonNull Long userId);
+
+    /**
+     * tryOnJobId로 피팅 결과와 사용자/의류 정보 조회 (예외처리 포함)
+     */
+    TryOnResult findByTryOnJobIdWithDetailsOrThrow(@NonNull String tryOnJobId);
+
+    /**
+     * 가상 피팅 ID에 연결된 작업 중 특정 상태인 작업의 tryOnJobId 목록 조회
+     */
+    List<String> findTryOnJobIdsByVirtualFittingId(@NonNull String virtualFittingId, @NonNull TryOnJobStatus status);
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지)로 updatedAfter 이후 진행 중인 가상 피팅 ID 조회
+     */
+    Optional<String> findInProgressVirtualFittingId(@NonNull String modelUrl, @NonNull String clothImageUrl,
+            @NonNull Instant updatedAfter);
+
+    /**
+     * tryOnJobId 기준 조건부 상태 전이
+     *
+     * @return 현재 상태가 expected여서 next로 변경되었으면 true
+     */
+    boolean updateStatusByTryOnJobId(@NonNull String tryOnJobId, @NonNull TryOnJobStatus expected,
+            @NonNull TryOnJobStatus next);
+
+    /**
+     * 사용자의 피팅 작업을 접수 상태(QUEUED)로 조건부 전이
+     *
+     * @return 피팅 요청 전이거나 실패한 작업이어서 QUEUED로 변경되었으면 true
+     */
+    boolean markJobQueued(@NonNull String tryOnJobId, @NonNull Long userId);
+
+    /**
+     * 특정 상태로 updatedBefore 이전부터 머물러 있는 가상 피팅 작업 조회
+     */
+    List<TryOnResult> findPendingVirtualFittings(@NonNull TryOnJobStatus status, @NonNull Instant updatedBefore,
+            int limit);
+
+    /**
+     * 파생본(썸네일/중간 크기)이 없고 생성 실패가 maxFailures회 미만인 피팅 결과 조회 (afterId 이후, id 오름차순)
+     */
+    List<TryOnResult> findMissingDerivatives(@NonNull Long afterId, int maxFailures, int limit);
+
+    /**
+     * 같은 이미지 URL로 파생본이 이미 저장된 피팅 결과 조회
+     */
+    Optional<TryOnResult> findWithDerivativesByImageUrl(@NonNull String imageUrl);
+
+    /**
+     * 파생본 URL 저장
+     *
+     * @return 결과 이미지가 imageUrl 그대로여서 저장되었으면 true
+     */
+    boolean updateDerivatives(@NonNull Long id, @NonNull String imageUrl, @NonNull String thumbnailUrl,
+            @NonNull String mediumUrl);
+
+    /**
+     * 파생본 생성 실패 횟수 증가 (결과 이미지가 imageUrl 그대로일 때만)
+     */
+    void incrementDerivativeFailures(@NonNull Long id, @NonNull String imageUrl);
+}
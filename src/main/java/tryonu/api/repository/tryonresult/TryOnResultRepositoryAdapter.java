@@ -2,14 +2,19 @@ package tryonu.api.repository.tryonresult;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import tryonu.api.common.enums.TryOnJobStatus;
 import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
 import tryonu.api.domain.TryOnResult;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
 import tryonu.api.dto.responses.TryOnResultDto;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Repository
@@ -75,4 +80,100 @@ public class TryOnResultRepositoryAdapter implements TryOnResultRepository {
                 tryOnResults.size());
         return tryOnResults;
     }
-}
\ No newline at end of file
+
+    @Override
+    public TryOnJobStatusResponse findTryOnJobStatusOrThrow(@NonNull String tryOnJobId, @NonNull Long userId) {
+        return jpaTryOnResultRepository.findTryOnJobStatus(tryOnJobId, userId)
+                .orElseThrow(() -> {
+                    log.error("[TryOnResultRepositoryAdapter] 피팅 작업을 찾을 수 없음 - tryOnJobId: {}, userId: {}",
+                            tryOnJobId, userId);
+                    return new CustomException(ErrorCode.TRY_ON_RESULT_NOT_FOUND,
+                            String.format("Try-on 작업 ID '%s'에 해당하는 피팅 작업을 찾을 수 없습니다.", tryOnJobId));
+                });
+    }
+
+    @Override
+    public TryOnResult findByTryOnJobIdWithDetailsOrThrow(@NonNull String tryOnJobId) {
+        return jpaTryOnResultRepository.findByTryOnJobIdWithDetails(tryOnJobId)
+                .orElseThrow(() -> {
+                    log.error("[TryOnResultRepositoryAdapter] 피팅 결과를 찾을 수 없음 - tryOnJobId: {}", tryOnJobId);
+                    return new CustomException(ErrorCode.TRY_ON_RESULT_NOT_FOUND,
+                            String.format("Try-on 작업 ID '%s'에 해당하는 피팅 결과를 찾을 수 없습니다.", tryOnJobId));
+                });
+    }
+
+    @Override
+    public List<String> findTryOnJobIdsByVirtualFittingId(@NonNull String virtualFittingId,
+            @NonNull TryOnJobStatus status) {
+        List<String> tryOnJobIds = jpaTryOnResultRepository.findTryOnJobIdsByVirtualFittingId(virtualFittingId, status);
+        log.debug("[TryOnResultRepositoryAdapter] 가상 피팅에 연결된 작업 조회 - virtualFittingId: {}, status: {}, count: {}",
+                virtualFittingId, status, tryOnJobIds.size());
+        return tryOnJobIds;
+    }
+
+    @Override
+    public Optional<String> findInProgressVirtualFittingId(@NonNull String modelUrl, @NonNull String clothImageUrl,
+            @NonNull Instant updatedAfter) {
+        return jpaTryOnResultRepository.findInProgressVirtualFittingIds(TryOnJobStatus.FITTING, modelUrl,
+                clothImageUrl, updatedAfter, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    @Override
+    public boolean updateStatusByTryOnJobId(@NonNull String tryOnJobId, @NonNull TryOnJobStatus expected,
+            @NonNull TryOnJobStatus next) {
+        int updatedCount = jpaTryOnResultRepository.updateStatusByTryOnJobId(tryOnJobId, expected, next,
+                Instant.now());
+        log.debug("[TryOnResultRepositoryAdapter] 피팅 작업 조건부 상태 전이 - tryOnJobId: {}, {} -> {}, updated: {}",
+                tryOnJobId, expected, next, updatedCount);
+        return updatedCount > 0;
+    }
+
+    @Override
+    public boolean markJobQueued(@NonNull String tryOnJobId, @NonNull Long userId) {
+        int updatedCount = jpaTryOnResultRepository.markJobQueued(tryOnJobId, userId, TryOnJobStatus.QUEUED,
+                TryOnJobStatus.FAILED, Instant.now());
+        log.debug("[TryOnResultRepositoryAdapter] 피팅 작업 접수 전이 - tryOnJobId: {}, userId: {}, updated: {}",
+                tryOnJobId, userId, updatedCount);
+        return updatedCount > 0;
+    }
+
+    @Override
+    public List<TryOnResult> findPendingVirtualFittings(@NonNull TryOnJobStatus status, @NonNull Instant updatedBefore,
+            int limit) {
+        List<TryOnResult> tryOnResults = jpaTryOnResultRepository.findPendingVirtualFittings(status, updatedBefore,
+                PageRequest.of(0, limit));
+        log.debug("[TryOnResultRepositoryAdapter] 대기 중인 가상 피팅 작업 조회 - status: {}, updatedBefore: {}, count: {}",
+                status, updatedBefore, tryOnResults.size());
+        return tryOnResults;
+    }
+
+    @Override
+    public List<TryOnResult> findMissingDerivatives(@NonNull Long afterId, int maxFailures, int limit) {
+        List<TryOnResult> tryOnResults = jpaTryOnResultRepository.findMissingDerivatives(afterId, maxFailures,
+                PageRequest.of(0, limit));
+        log.debug("[TryOnResultRepositoryAdapter] 파생본 없는 피팅 결과 조회 - afterId: {}, count: {}", afterId,
+                tryOnResults.size());
+        return tryOnResults;
+    }
+
+    @Override
+    public Optional<TryOnResult> findWithDerivativesByImageUrl(@NonNull String imageUrl) {
+        return jpaTryOnResultRepository.findWithDerivativesByImageUrl(imageUrl, PageRequest.of(0, 1)).stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean updateDerivatives(@NonNull Long id, @NonNull String imageUrl, @NonNull String thumbnailUrl,
+            @NonNull String mediumUrl) {
+        int updatedCount = jpaTryOnResultRepository.updateDerivatives(id, imageUrl, thumbnailUrl, mediumUrl);
+        log.debug("[TryOnResultRepositoryAdapter] 피팅 결과 파생본 저장 - id: {}, updated: {}", id, updatedCount);
+        return updatedCount > 0;
+    }
+
+    @Override
+    public void incrementDerivativeFailures(@NonNull Long id, @NonNull String imageUrl) {
+        int updatedCount = jpaTryOnResultRepository.incrementDerivativeFailures(id, imageUrl);
+        log.debug("[TryOnResultRepositoryAdapter] 피팅 결과 파생본 생성 실패 기록 - id: {}, updated: {}", id,
+                updatedCount);
+    }
+}
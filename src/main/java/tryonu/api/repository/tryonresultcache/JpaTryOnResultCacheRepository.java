@@ -0,0 +1,14 @@
+package tryonu.api.repository.tryonresultcache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import tryonu.api.domain.TryOnResultCache;
+
+import java.util.Optional;
+
+public interface JpaTryOnResultCacheRepository extends JpaRepository<TryOnResultCache, Long> {
+
+    /**
+     * (모델 키, 의류 해시)로 피팅 결과 캐시 조회
+     */
+    Optional<TryOnResultCache> findByModelKeyAndGarmentHash(String modelKey, String garmentHash);
+}
@@ -0,0 +1,19 @@
+package tryonu.api.repository.tryonresultcache;
+
+import org.springframework.lang.NonNull;
+import tryonu.api.domain.TryOnResultCache;
+
+import java.util.Optional;
+
+public interface TryOnResultCacheRepository {
+
+    /**
+     * 피팅 결과 캐시 저장 (로깅 포함)
+     */
+    TryOnResultCache save(@NonNull TryOnResultCache tryOnResultCache);
+
+    /**
+     * (모델 키, 의류 해시)로 피팅 결과 캐시 조회
+     */
+    Optional<TryOnResultCache> findByModelKeyAndGarmentHash(@NonNull String modelKey, @NonNull String garmentHash);
+}
@@ -0,0 +1,31 @@
+package tryonu.api.repository.tryonresultcache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+import tryonu.api.domain.TryOnResultCache;
+
+import java.util.Optional;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TryOnResultCacheRepositoryAdapter implements TryOnResultCacheRepository {
+
+    private final JpaTryOnResultCacheRepository jpaTryOnResultCacheRepository;
+
+    @Override
+    public TryOnResultCache save(@NonNull TryOnResultCache tryOnResultCache) {
+        TryOnResultCache saved = jpaTryOnResultCacheRepository.save(tryOnResultCache);
+        log.debug("[TryOnResultCacheRepositoryAdapter] 피팅 결과 캐시 저장 - modelKey: {}, garmentHash: {}",
+                saved.getModelKey(), saved.getGarmentHash());
+        return saved;
+    }
+
+    @Override
+    public Optional<TryOnResultCache> findByModelKeyAndGarmentHash(@NonNull String modelKey,
+            @NonNull String garmentHash) {
+        return jpaTryOnResultCacheRepository.findByModelKeyAndGarmentHash(modelKey, garmentHash);
+    }
+}
@@ -15,6 +15,15 @@ public interface DefaultModelService {
      * @return 업로드된 기본 모델 정보
      */
     DefaultModelResponse uploadDefaultModel(MultipartFile file);
+
+    /**
+     * S3에 직접 업로드한 이미지로 기본 모델 업로드
+     * 업로드된 원본은 배경 제거 결과를 저장한 뒤 삭제합니다.
+     *
+     * @param objectKey 업로드 세션 발급 시 받은 객체 키
+     * @return 업로드된 기본 모델 정보
+     */
+    DefaultModelResponse uploadDefaultModelFromUpload(String objectKey);
     
     /**
      * 현재 사용자의 기본 모델 목록 조회
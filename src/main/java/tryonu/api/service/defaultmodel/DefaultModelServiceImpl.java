@@ -1,9 +1,13 @@
 package tryonu.api.service.defaultmodel;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import tryonu.api.common.enums.DerivativeTarget;
+import tryonu.api.common.enums.UploadPurpose;
+import tryonu.api.common.event.ImageStoredEvent;
 import tryonu.api.common.util.ImageUploadUtil;
 import tryonu.api.domain.DefaultModel;
 import tryonu.api.dto.requests.DefaultModelBatchUpdateRequest;
@@ -15,6 +19,9 @@ import tryonu.api.domain.User;
 import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
 import tryonu.api.common.util.BackgroundRemovalUtil;
+import tryonu.api.common.util.DirectUploadUtil;
+import tryonu.api.common.util.ImageNormalizer;
+import tryonu.api.common.util.ImageValidator;
 import tryonu.api.dto.responses.DefaultModelDto;
 
 import java.util.List;
@@ -32,6 +39,10 @@ public class DefaultModelServiceImpl implements DefaultModelService {
     private final ImageUploadUtil imageUploadUtil;
 
     private final BackgroundRemovalUtil backgroundRemovalUtil;
+    private final ImageValidator imageValidator;
+    private final ImageNormalizer imageNormalizer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DirectUploadUtil directUploadUtil;
 
     @Override
     @Transactional
@@ -42,8 +53,38 @@ public class DefaultModelServiceImpl implements DefaultModelService {
 
         User currentUser = SecurityUtils.getCurrentUser();
 
+        // 실제 이미지 형식과 해상도 검증 (압축 폭탄은 배경 제거 API에 보내기 전에 거절)
+        imageValidator.validate(file);
+
+        return registerCustomModel(currentUser, file);
+    }
+
+    @Override
+    @Transactional
+    public DefaultModelResponse uploadDefaultModelFromUpload(String objectKey) {
+        User currentUser = SecurityUtils.getCurrentUser();
+
+        // 헤더 앞부분만 읽어 형식과 해상도 검증 (압축 폭탄은 내려받기 전에 거절)
+        DirectUploadUtil.UploadedImage uploadedImage = directUploadUtil.verify(UploadPurpose.MODEL,
+                currentUser.getId(), objectKey);
+
+        // 배경 제거 API에 보내기 위해 원본을 S3에서 직접 읽음
+        DefaultModelResponse response = registerCustomModel(currentUser, directUploadUtil.download(uploadedImage));
+
+        // 배경 제거 결과를 저장했으므로 원본은 삭제
+        directUploadUtil.delete(objectKey);
+        return response;
+    }
+
+    /**
+     * 검증된 원본 이미지로 커스텀 모델 등록 (정규화 → 배경 제거 → 업로드 → 저장)
+     */
+    private DefaultModelResponse registerCustomModel(User currentUser, MultipartFile file) {
+        // EXIF 방향 보정, 최대 크기 축소, 재인코딩 (배경 제거 결과도 원본 해상도로 나오므로 전송/저장 크기가 함께 줄어듦)
+        MultipartFile normalized = imageNormalizer.normalize(file);
+
         // 배경 제거
-        byte[] backgroundRemovedImage = backgroundRemovalUtil.removeBackground(file);
+        byte[] backgroundRemovedImage = backgroundRemovalUtil.removeBackground(normalized);
 
         // 이미지 S3 업로드
         String imageUrl = imageUploadUtil.uploadModelImage(backgroundRemovedImage);
@@ -56,6 +97,9 @@ public class DefaultModelServiceImpl implements DefaultModelService {
                 nextSortOrder);
         DefaultModel saved = defaultModelRepository.save(defaultModel);
 
+        // 목록용 썸네일/중간 크기 파생본 생성 (커밋 후 비동기 처리)
+        eventPublisher.publishEvent(new ImageStoredEvent(DerivativeTarget.DEFAULT_MODEL, saved.getId(), imageUrl));
+
         return defaultModelConverter.toDefaultModelResponse(saved);
     }
 
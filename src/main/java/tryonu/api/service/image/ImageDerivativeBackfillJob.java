@@ -0,0 +1,38 @@
+package tryonu.api.service.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 파생본 백필 작업
+ * 기능 도입 이전에 저장된 이미지와, 저장 직후 생성에 실패한 이미지의 파생본을 느린 주기로 조금씩 생성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeBackfillJob {
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    @Value("${image.derivative.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${image.derivative.backfill.batch-size:20}") // 대상별 한 번에 처리할 이미지 수
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${image.derivative.backfill.interval-ms:300000}",
+            fixedDelayString = "${image.derivative.backfill.interval-ms:300000}")
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            imageDerivativeService.backfill(batchSize);
+        } catch (Exception e) {
+            log.error("[ImageDerivativeBackfillJob] 이미지 파생본 백필 실패 - error={}", e.getMessage(), e);
+        }
+    }
+}
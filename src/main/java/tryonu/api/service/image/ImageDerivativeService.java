@@ -0,0 +1,19 @@
+package tryonu.api.service.image;
+
+import reactor.core.publisher.Mono;
+import tryonu.api.common.enums.DerivativeTarget;
+
+public interface ImageDerivativeService {
+
+    /**
+     * 이미지의 썸네일/중간 크기 파생본을 생성하여 저장합니다. (논블로킹, 실패는 로그만 남기고 완료)
+     */
+    Mono<Void> generateAsync(DerivativeTarget target, Long id, String imageUrl);
+
+    /**
+     * 파생본이 없는 피팅 결과/기본 모델을 대상별로 최대 batchSize개씩 찾아 파생본을 생성합니다.
+     *
+     * @return 생성을 시도한 이미지 수
+     */
+    int backfill(int batchSize);
+}
@@ -0,0 +1,180 @@
+package tryonu.api.service.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import tryonu.api.common.enums.DerivativeTarget;
+import tryonu.api.common.util.ImageDerivativeGenerator;
+import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.TryOnResult;
+import tryonu.api.repository.defaultmodel.DefaultModelRepository;
+import tryonu.api.repository.tryonresult.TryOnResultRepository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 파생본 생성/저장 서비스
+ * 파생본 URL은 원본 URL이 그대로일 때만 저장하므로, 생성 중에 이미지가 바뀌면 오래된 파생본이 저장되지 않습니다.
+ * 같은 이미지 URL로 이미 저장된 파생본이 있으면(사용자별 기본 모델, 캐시된 피팅 결과 등) 다시 만들지 않고 재사용합니다.
+ * 백필은 대상별 마지막 id 커서(메모리)로 이어서 조회하고, 끝까지 조회하면 처음부터 다시 돌며 실패한 이미지를 재시도합니다.
+ * 한 배치 안에서 같은 이미지 URL은 한 번만 생성하며, 생성 실패가 max-failures회 쌓인 행은 더 이상 조회하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final TryOnResultRepository tryOnResultRepository;
+    private final DefaultModelRepository defaultModelRepository;
+
+    @Value("${image.derivative.backfill.concurrency:2}") // 백필 시 동시에 생성할 이미지 수
+    private int backfillConcurrency;
+
+    @Value("${image.derivative.backfill.max-failures:3}") // 이 횟수만큼 생성에 실패한 행은 백필에서 제외
+    private int backfillMaxFailures;
+
+    private final Map<DerivativeTarget, AtomicLong> backfillCursors = new EnumMap<>(Map.of(
+            DerivativeTarget.TRY_ON_RESULT, new AtomicLong(),
+            DerivativeTarget.DEFAULT_MODEL, new AtomicLong()));
+
+    @Override
+    public Mono<Void> generateAsync(DerivativeTarget target, Long id, String imageUrl) {
+        if (id == null || imageUrl == null || imageUrl.isBlank()) {
+            return Mono.empty();
+        }
+        return generateForRows(target, imageUrl, List.of(id));
+    }
+
+    @Override
+    public int backfill(int batchSize) {
+        List<BackfillItem> items = new ArrayList<>();
+        for (TryOnResult tryOnResult : tryOnResultRepository.findMissingDerivatives(
+                cursor(DerivativeTarget.TRY_ON_RESULT).get(), backfillMaxFailures, batchSize)) {
+            items.add(new BackfillItem(DerivativeTarget.TRY_ON_RESULT, tryOnResult.getId(), tryOnResult.getImageUrl()));
+        }
+        for (DefaultModel defaultModel : defaultModelRepository.findMissingDerivatives(
+                cursor(DerivativeTarget.DEFAULT_MODEL).get(), backfillMaxFailures, batchSize)) {
+            items.add(new BackfillItem(DerivativeTarget.DEFAULT_MODEL, defaultModel.getId(), defaultModel.getImageUrl()));
+        }
+        advanceCursor(DerivativeTarget.TRY_ON_RESULT, items);
+        advanceCursor(DerivativeTarget.DEFAULT_MODEL, items);
+
+        if (items.isEmpty()) {
+            return 0;
+        }
+        // 같은 (대상, 이미지 URL)은 한 번만 생성하여 해당하는 행 모두에 저장
+        Map<ImageKey, List<Long>> idsByImage = items.stream()
+                .collect(Collectors.groupingBy(item -> new ImageKey(item.target(), item.imageUrl()),
+                        LinkedHashMap::new, Collectors.mapping(BackfillItem::id, Collectors.toList())));
+        Flux.fromIterable(idsByImage.entrySet())
+                .flatMap(entry -> generateForRows(entry.getKey().target(), entry.getKey().imageUrl(), entry.getValue()),
+                        Math.max(1, backfillConcurrency))
+                .then()
+                .block();
+        log.info("[ImageDerivativeService] 파생본 백필 완료 - count={}, images={}", items.size(), idsByImage.size());
+        return items.size();
+    }
+
+    /**
+     * 이미지 URL 하나의 파생본을 (저장된 것이 있으면 재사용하고 없으면 생성하여) 같은 이미지를 쓰는 행 모두에 저장합니다.
+     * 실패는 전파하지 않고 각 행의 생성 실패 횟수로 기록합니다.
+     */
+    private Mono<Void> generateForRows(DerivativeTarget target, String imageUrl, List<Long> ids) {
+        return Mono.fromCallable(() -> findStoredDerivatives(target, imageUrl))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stored -> stored
+                        .map(derivatives -> {
+                            log.debug("[ImageDerivativeService] 저장된 파생본 재사용 - target={}, imageUrl={}", target,
+                                    imageUrl);
+                            return Mono.just(derivatives);
+                        })
+                        .orElseGet(() -> imageDerivativeGenerator.generateAsync(imageUrl)))
+                .flatMap(derivatives -> Mono.fromRunnable(() -> ids.forEach(id -> {
+                    if (saveDerivatives(target, id, imageUrl, derivatives)) {
+                        log.info("[ImageDerivativeService] 파생본 저장 완료 - target={}, id={}", target, id);
+                    } else {
+                        log.info("[ImageDerivativeService] 이미지가 변경되어 파생본 저장 생략 - target={}, id={}", target, id);
+                    }
+                })).subscribeOn(Schedulers.boundedElastic()))
+                .onErrorResume(e -> {
+                    log.warn("[ImageDerivativeService] 파생본 생성 실패 - target={}, ids={}, error={}", target, ids,
+                            e.getMessage());
+                    // 파생본 풀 포화는 이미지 문제가 아니므로 실패 횟수에 세지 않음
+                    if (e instanceof RejectedExecutionException) {
+                        return Mono.empty();
+                    }
+                    return Mono.fromRunnable(() -> ids.forEach(id -> recordFailure(target, id, imageUrl)))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(recordError -> {
+                                log.warn("[ImageDerivativeService] 파생본 생성 실패 기록 실패 - target={}, ids={}, error={}",
+                                        target, ids, recordError.getMessage());
+                                return Mono.empty();
+                            });
+                })
+                .then();
+    }
+
+    private Optional<ImageDerivativeGenerator.Derivatives> findStoredDerivatives(DerivativeTarget target,
+            String imageUrl) {
+        return switch (target) {
+            case TRY_ON_RESULT -> tryOnResultRepository.findWithDerivativesByImageUrl(imageUrl)
+                    .map(tryOnResult -> new ImageDerivativeGenerator.Derivatives(tryOnResult.getThumbnailUrl(),
+                            tryOnResult.getMediumUrl()));
+            case DEFAULT_MODEL -> defaultModelRepository.findWithDerivativesByImageUrl(imageUrl)
+                    .map(defaultModel -> new ImageDerivativeGenerator.Derivatives(defaultModel.getThumbnailUrl(),
+                            defaultModel.getMediumUrl()));
+        };
+    }
+
+    private boolean saveDerivatives(DerivativeTarget target, Long id, String imageUrl,
+            ImageDerivativeGenerator.Derivatives derivatives) {
+        return switch (target) {
+            case TRY_ON_RESULT -> tryOnResultRepository.updateDerivatives(id, imageUrl, derivatives.thumbnailUrl(),
+                    derivatives.mediumUrl());
+            case DEFAULT_MODEL -> defaultModelRepository.updateDerivatives(id, imageUrl, derivatives.thumbnailUrl(),
+                    derivatives.mediumUrl());
+        };
+    }
+
+    private void recordFailure(DerivativeTarget target, Long id, String imageUrl) {
+        switch (target) {
+            case TRY_ON_RESULT -> tryOnResultRepository.incrementDerivativeFailures(id, imageUrl);
+            case DEFAULT_MODEL -> defaultModelRepository.incrementDerivativeFailures(id, imageUrl);
+        }
+    }
+
+    /**
+     * 조회된 마지막 id로 커서를 옮기고, 더 조회할 대상이 없으면 처음으로 되돌림
+     */
+    private void advanceCursor(DerivativeTarget target, List<BackfillItem> items) {
+        long lastId = items.stream()
+                .filter(item -> item.target() == target)
+                .mapToLong(BackfillItem::id)
+                .max()
+                .orElse(0L);
+        cursor(target).set(lastId);
+    }
+
+    private AtomicLong cursor(DerivativeTarget target) {
+        return backfillCursors.get(target);
+    }
+
+    private record BackfillItem(DerivativeTarget target, Long id, String imageUrl) {
+    }
+
+    private record ImageKey(DerivativeTarget target, String imageUrl) {
+    }
+}
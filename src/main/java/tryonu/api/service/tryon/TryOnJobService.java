@@ -0,0 +1,72 @@
+package tryonu.api.service.tryon;
+
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import tryonu.api.common.util.Deadline;
+import tryonu.api.dto.requests.TryOnRequestDto;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
+import tryonu.api.dto.responses.TryOnResponse;
+
+/**
+ * 가상 피팅 작업(Job) 실행 서비스 인터페이스
+ * 피팅 요청을 접수한 뒤 전용 스레드 풀에서 비동기로 파이프라인을 실행합니다.
+ */
+public interface TryOnJobService {
+
+    /**
+     * 가상 피팅 작업 접수
+     * 요청을 검증하고 작업을 QUEUED 상태로 전환한 뒤 즉시 반환합니다.
+     *
+     * @param request  가상 피팅 요청 정보
+     * @param file     의류 이미지 파일
+     * @param deadline 요청 처리 제한 시간 (가상 피팅 요청과 폴링 대기까지 적용)
+     * @return 접수된 피팅 작업 상태
+     */
+    TryOnJobStatusResponse submitTryOn(TryOnRequestDto request, MultipartFile file, Deadline deadline);
+
+    /**
+     * S3에 직접 업로드한 의류 이미지로 가상 피팅 작업 접수
+     * 업로드된 객체의 소유자와 이미지 헤더를 검증하고 작업을 QUEUED 상태로 전환한 뒤 즉시 반환합니다.
+     * 이미지 본문은 서버를 거치지 않으며, 의류 이미지 URL만 파이프라인에 전달됩니다.
+     *
+     * @param request   가상 피팅 요청 정보
+     * @param objectKey 업로드 세션 발급 시 받은 의류 이미지 객체 키
+     * @param deadline  요청 처리 제한 시간 (가상 피팅 요청과 폴링 대기까지 적용)
+     * @return 접수된 피팅 작업 상태
+     */
+    TryOnJobStatusResponse submitUploadedTryOn(TryOnRequestDto request, String objectKey, Deadline deadline);
+
+    /**
+     * 가상 피팅 작업 접수 후 결과까지 대기 (논블로킹)
+     * 작업을 QUEUED 상태로 전환한 뒤 반응형 파이프라인을 실행합니다. 요청 스레드는 즉시 반납되며,
+     * 실패 시 작업 상태에 에러를 기록한 뒤 같은 예외로 종료됩니다.
+     *
+     * @param request  가상 피팅 요청 정보
+     * @param file     의류 이미지 파일
+     * @param deadline 요청 처리 제한 시간
+     * @return 가상 피팅 결과 Mono
+     */
+    Mono<TryOnResponse> tryOnAndAwait(TryOnRequestDto request, MultipartFile file, Deadline deadline);
+
+    /**
+     * 현재 사용자의 피팅 작업 상태 조회
+     *
+     * @param tryOnJobId 피팅 작업 ID
+     * @return 피팅 작업 상태 (완료 시 결과 이미지 URL 포함)
+     */
+    TryOnJobStatusResponse getTryOnJobStatus(String tryOnJobId);
+
+    /**
+     * 가상 피팅 완료 WebHook 처리
+     * 콜백 본문은 신뢰하지 않고 FASHN API에서 최종 상태를 다시 조회한 뒤, 작업 스레드에서 후처리합니다.
+     *
+     * @param virtualFittingId 가상 피팅 ID
+     */
+    void handleVirtualFittingCallback(String virtualFittingId);
+
+    /**
+     * WebHook 또는 상태 폴러가 놓친 가상 피팅 작업을 폴링으로 마무리 (Fallback 스위퍼)
+     */
+    void sweepPendingVirtualFittings();
+}
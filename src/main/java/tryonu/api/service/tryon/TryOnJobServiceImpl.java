@@ -0,0 +1,396 @@
+package tryonu.api.service.tryon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import tryonu.api.common.auth.SecurityUtils;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.enums.TryOnStage;
+import tryonu.api.common.enums.UploadPurpose;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.util.Deadline;
+import tryonu.api.common.util.DeadlineGuard;
+import tryonu.api.common.util.DirectUploadUtil;
+import tryonu.api.common.util.TryOnMetrics;
+import tryonu.api.common.util.ImagePayload;
+import tryonu.api.common.util.ImageValidator;
+import tryonu.api.common.util.VirtualFittingStatusPoller;
+import tryonu.api.common.util.VirtualFittingUtil;
+import tryonu.api.domain.TryOnResult;
+import tryonu.api.dto.requests.TryOnRequestDto;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
+import tryonu.api.dto.responses.TryOnResponse;
+import tryonu.api.dto.responses.VirtualFittingStatusResponse;
+import tryonu.api.repository.tryonresult.TryOnResultRepository;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 가상 피팅 작업(Job) 실행 서비스 구현체
+ * 요청 스레드는 작업 접수까지만 처리하고, 파이프라인은 tryOnJobExecutor에서 실행합니다.
+ * 가상 피팅 요청 후 작업 스레드를 반납하고, 완료는 WebHook 콜백(활성화 시) 또는 공용 상태 폴러가 감지하여
+ * 작업 스레드에서 후처리합니다. 둘 다 놓친 작업은 Fallback 스위퍼가 마무리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TryOnJobServiceImpl implements TryOnJobService {
+
+    private final TryOnService tryOnService;
+    private final TryOnWriteService tryOnWriteService;
+    private final TryOnResultRepository tryOnResultRepository;
+    private final VirtualFittingUtil virtualFittingUtil;
+    private final VirtualFittingStatusPoller virtualFittingStatusPoller;
+    private final DeadlineGuard deadlineGuard;
+    private final TryOnMetrics tryOnMetrics;
+    private final AsyncTaskExecutor tryOnJobExecutor;
+    private final ImageValidator imageValidator;
+    private final DirectUploadUtil directUploadUtil;
+
+    @Value("${virtual-fitting.webhook.enabled:false}")
+    private boolean webhookEnabled;
+
+    @Value("${virtual-fitting.webhook.url:}")
+    private String webhookUrl;
+
+    @Value("${virtual-fitting.polling.max-wait-time-ms:60000}") // 기본 1분
+    private long maxWaitTimeMs;
+
+    @Value("${virtual-fitting.sweeper.stale-after-ms:120000}") // 기본 2분 동안 콜백이 없으면 직접 조회
+    private long sweeperStaleAfterMs;
+
+    @Value("${virtual-fitting.sweeper.timeout-ms:600000}") // 기본 10분이 지나도 끝나지 않으면 타임아웃 처리
+    private long sweeperTimeoutMs;
+
+    @Value("${virtual-fitting.sweeper.batch-size:20}")
+    private int sweeperBatchSize;
+
+    @Value("${image.payload.mapping-threshold-bytes:1048576}") // 이 크기 이상의 업로드는 힙 대신 메모리 매핑 (기본 1MB)
+    private long payloadMappingThresholdBytes;
+
+    @Override
+    public TryOnJobStatusResponse submitTryOn(TryOnRequestDto request, MultipartFile file, Deadline deadline) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+
+        // 요청이 끝나면 임시 파일이 삭제되므로 작업 스레드에서 읽을 수 있도록 한 번 읽어 둠
+        MultipartFile detachedFile = readPayload(file);
+
+        return enqueueTryOnJob(request, currentUserId, deadline,
+                webhook -> tryOnService.submitVirtualFitting(request, detachedFile, webhook, deadline));
+    }
+
+    @Override
+    public TryOnJobStatusResponse submitUploadedTryOn(TryOnRequestDto request, String objectKey, Deadline deadline) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+
+        // 업로드된 객체는 헤더 앞부분만 읽어 검증 (압축 폭탄 등은 외부 API에 보내기 전에 거절)
+        DirectUploadUtil.UploadedImage clothImage = directUploadUtil.verify(UploadPurpose.CLOTH, currentUserId,
+                objectKey);
+
+        return enqueueTryOnJob(request, currentUserId, deadline,
+                webhook -> tryOnService.submitUploadedVirtualFitting(request, clothImage.imageUrl(), webhook,
+                        deadline));
+    }
+
+    /**
+     * 작업을 QUEUED 상태로 전환하고 작업 스레드에 파이프라인 실행을 맡깁니다.
+     *
+     * @param submitFitting WebHook URL(없으면 null)을 받아 가상 피팅을 요청하고 가상 피팅 ID를 반환
+     *                      (캐시된 결과로 바로 완료했으면 empty)
+     */
+    private TryOnJobStatusResponse enqueueTryOnJob(TryOnRequestDto request, Long currentUserId, Deadline deadline,
+            Function<String, Optional<String>> submitFitting) {
+        String tryOnJobId = request.tryOnJobId();
+        tryOnWriteService.markJobQueued(tryOnJobId, currentUserId);
+
+        try {
+            tryOnJobExecutor.execute(() -> runTryOnJob(tryOnJobId, deadline, submitFitting));
+        } catch (TaskRejectedException e) {
+            log.warn("[TryOnJobService] 피팅 작업 큐 포화로 거절 - tryOnJobId={}", tryOnJobId);
+            tryOnWriteService.markJobFailed(tryOnJobId, ErrorCode.TRY_ON_JOB_REJECTED,
+                    ErrorCode.TRY_ON_JOB_REJECTED.getMessage());
+            throw new CustomException(ErrorCode.TRY_ON_JOB_REJECTED);
+        }
+
+        log.info("[TryOnJobService] 피팅 작업 접수 - tryOnJobId={}, userId={}", tryOnJobId, currentUserId);
+        return new TryOnJobStatusResponse(tryOnJobId, TryOnJobStatus.QUEUED, null, request.defaultModelId(), null,
+                null, null);
+    }
+
+    @Override
+    public Mono<TryOnResponse> tryOnAndAwait(TryOnRequestDto request, MultipartFile file, Deadline deadline) {
+        String tryOnJobId = request.tryOnJobId();
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+
+        // 요청 스레드 반납 후에도 파이프라인에서 읽을 수 있도록 한 번 읽어 둠
+        MultipartFile detachedFile = readPayload(file);
+
+        tryOnWriteService.markJobQueued(tryOnJobId, currentUserId);
+        log.info("[TryOnJobService] 피팅 작업 접수 (결과 대기) - tryOnJobId={}, userId={}", tryOnJobId, currentUserId);
+
+        return tryOnService.tryOnAsync(request, detachedFile, deadline)
+                .doOnNext(response -> log.info("[TryOnJobService] 피팅 작업 완료 - tryOnJobId={}", tryOnJobId))
+                .onErrorResume(error -> Mono.<TryOnResponse>fromRunnable(() -> recordFailure(tryOnJobId, error))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(Mono.error(error)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TryOnJobStatusResponse getTryOnJobStatus(String tryOnJobId) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        return tryOnResultRepository.findTryOnJobStatusOrThrow(tryOnJobId, currentUserId);
+    }
+
+    @Override
+    public void handleVirtualFittingCallback(String virtualFittingId) {
+        try {
+            tryOnJobExecutor.execute(() -> completeFromCallback(virtualFittingId));
+        } catch (TaskRejectedException e) {
+            // 처리하지 못한 콜백은 스위퍼가 폴링으로 마무리
+            log.warn("[TryOnJobService] 작업 큐 포화로 WebHook 처리 보류 - virtualFittingId={}", virtualFittingId);
+        }
+    }
+
+    @Override
+    public void sweepPendingVirtualFittings() {
+        Instant now = Instant.now();
+        List<TryOnResult> pendingFittings = tryOnResultRepository.findPendingVirtualFittings(TryOnJobStatus.FITTING,
+                now.minusMillis(sweeperStaleAfterMs), sweeperBatchSize);
+        if (pendingFittings.isEmpty()) {
+            return;
+        }
+
+        log.info("[TryOnJobService] WebHook 미수신 가상 피팅 작업 점검 - count={}", pendingFittings.size());
+        // 같은 가상 피팅에 연결된 작업은 한 번만 조회 (완료/타임아웃 처리 시 연결된 작업을 모두 선점)
+        Set<String> checkedFittingIds = new HashSet<>();
+        for (TryOnResult pendingFitting : pendingFittings) {
+            String virtualFittingId = pendingFitting.getVirtualFittingId();
+            if (!checkedFittingIds.add(virtualFittingId)) {
+                continue;
+            }
+            try {
+                VirtualFittingStatusResponse status = virtualFittingUtil.getVirtualFittingStatus(virtualFittingId);
+                if (isFinished(status)) {
+                    tryOnJobExecutor.execute(() -> completeVirtualFitting(status));
+                } else if (Duration.between(pendingFitting.getUpdatedAt(), now).toMillis() > sweeperTimeoutMs) {
+                    failTimedOutFitting(virtualFittingId);
+                }
+            } catch (TaskRejectedException e) {
+                log.warn("[TryOnJobService] 작업 큐 포화로 스위퍼 처리 중단 - virtualFittingId={}", virtualFittingId);
+                return;
+            } catch (Exception e) {
+                log.warn("[TryOnJobService] 가상 피팅 상태 점검 실패 - virtualFittingId={}, error={}", virtualFittingId,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * WebHook 수신 후 FASHN API에서 최종 상태를 조회하여 후처리
+     */
+    private void completeFromCallback(String virtualFittingId) {
+        try {
+            VirtualFittingStatusResponse status = virtualFittingUtil.getVirtualFittingStatus(virtualFittingId);
+            if (!isFinished(status)) {
+                log.warn("[TryOnJobService] WebHook 수신했으나 가상 피팅 미완료 - virtualFittingId={}, status={}",
+                        virtualFittingId, status.status());
+                return;
+            }
+            completeVirtualFitting(status);
+        } catch (Exception e) {
+            // 상태 조회 실패 시 작업은 FITTING으로 남아 스위퍼가 재시도
+            log.error("[TryOnJobService] WebHook 처리 실패 - virtualFittingId={}, error={}", virtualFittingId,
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최종 상태의 가상 피팅 작업을 선점하여 후처리하고, 실패 시 작업 상태에 에러를 기록합니다.
+     * 같은 가상 피팅에 연결된 작업이 여러 개면 대기 중인 작업을 모두 선점하여 함께 완료합니다.
+     */
+    private void completeVirtualFitting(VirtualFittingStatusResponse status) {
+        List<String> claimedJobIds = tryOnWriteService.claimVirtualFitting(status.id());
+        if (claimedJobIds.isEmpty()) {
+            log.info("[TryOnJobService] 이미 처리되었거나 대기 중이 아닌 가상 피팅 - virtualFittingId={}", status.id());
+            return;
+        }
+
+        try {
+            tryOnService.completeVirtualFitting(status, claimedJobIds);
+            log.info("[TryOnJobService] 피팅 작업 완료 - tryOnJobIds={}, virtualFittingId={}", claimedJobIds,
+                    status.id());
+        } catch (CustomException e) {
+            log.warn("[TryOnJobService] 피팅 작업 실패 - tryOnJobIds={}, code={}, message={}", claimedJobIds,
+                    e.getErrorCode().getCode(), e.getMessage());
+            claimedJobIds.forEach(tryOnJobId -> recordFailure(tryOnJobId, e.getErrorCode(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("[TryOnJobService] 피팅 작업 후처리 중 예상치 못한 오류 - tryOnJobIds={}, error={}", claimedJobIds,
+                    e.getMessage(), e);
+            claimedJobIds.forEach(tryOnJobId -> recordFailure(tryOnJobId, ErrorCode.INTERNAL_SERVER_ERROR,
+                    ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
+        }
+    }
+
+    /**
+     * 상태 폴러가 최종 상태(또는 타임아웃/조회 실패)를 감지하면 작업 스레드에서 후처리
+     * 폴러 콜백은 I/O 스레드에서 호출되므로 여기서는 블로킹 작업을 하지 않습니다.
+     * 제한 시간 초과 등 대기 실패는 이 작업에만 기록하고, 같은 가상 피팅에 연결된 다른 작업은 각자의 제한 시간으로 계속 기다립니다.
+     */
+    private void onPolledCompletion(String tryOnJobId, String virtualFittingId, VirtualFittingStatusResponse status,
+            Throwable error) {
+        try {
+            tryOnJobExecutor.execute(() -> {
+                if (error == null) {
+                    completeVirtualFitting(status);
+                    return;
+                }
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof CustomException customException) {
+                    failTryOnJob(tryOnJobId, virtualFittingId, customException.getErrorCode(),
+                            customException.getMessage());
+                } else {
+                    failTryOnJob(tryOnJobId, virtualFittingId, ErrorCode.VIRTUAL_FITTING_FAILED,
+                            ErrorCode.VIRTUAL_FITTING_FAILED.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 처리하지 못한 완료 이벤트는 스위퍼가 폴링으로 마무리
+            log.warn("[TryOnJobService] 작업 큐 포화로 완료 처리 보류 - virtualFittingId={}", virtualFittingId);
+        }
+    }
+
+    private void failTimedOutFitting(String virtualFittingId) {
+        failVirtualFitting(virtualFittingId, ErrorCode.VIRTUAL_FITTING_TIMEOUT,
+                ErrorCode.VIRTUAL_FITTING_TIMEOUT.getMessage());
+    }
+
+    /**
+     * 가상 피팅에 연결된 대기 중인 작업을 모두 선점하여 실패로 기록
+     */
+    private void failVirtualFitting(String virtualFittingId, ErrorCode errorCode, String errorMessage) {
+        tryOnWriteService.claimVirtualFitting(virtualFittingId).forEach(tryOnJobId -> {
+            log.warn("[TryOnJobService] 가상 피팅 실패 처리 - tryOnJobId={}, virtualFittingId={}, code={}", tryOnJobId,
+                    virtualFittingId, errorCode.getCode());
+            recordFailure(tryOnJobId, errorCode, errorMessage);
+        });
+    }
+
+    /**
+     * 대기 중인 작업 하나만 선점하여 실패로 기록
+     */
+    private void failTryOnJob(String tryOnJobId, String virtualFittingId, ErrorCode errorCode, String errorMessage) {
+        if (!tryOnWriteService.claimTryOnJob(tryOnJobId)) {
+            return;
+        }
+        log.warn("[TryOnJobService] 가상 피팅 대기 실패 처리 - tryOnJobId={}, virtualFittingId={}, code={}", tryOnJobId,
+                virtualFittingId, errorCode.getCode());
+        recordFailure(tryOnJobId, errorCode, errorMessage);
+    }
+
+    private boolean isWebhookMode() {
+        return webhookEnabled && StringUtils.hasText(webhookUrl);
+    }
+
+    private boolean isFinished(VirtualFittingStatusResponse status) {
+        return "completed".equals(status.status()) || "failed".equals(status.status());
+    }
+
+    /**
+     * 작업 스레드에서 가상 피팅 파이프라인을 실행하고, 실패 시 작업 상태에 에러를 기록합니다.
+     */
+    private void runTryOnJob(String tryOnJobId, Deadline deadline,
+            Function<String, Optional<String>> submitFitting) {
+        try {
+            Optional<String> submittedFittingId = submitFitting.apply(isWebhookMode() ? webhookUrl : null);
+            if (submittedFittingId.isEmpty()) {
+                log.info("[TryOnJobService] 피팅 작업 완료 (캐시된 결과 재사용) - tryOnJobId={}", tryOnJobId);
+                return;
+            }
+            if (isWebhookMode()) {
+                log.info("[TryOnJobService] 피팅 작업 가상 피팅 요청 완료, WebHook 대기 - tryOnJobId={}", tryOnJobId);
+                return;
+            }
+
+            String virtualFittingId = submittedFittingId.get();
+            // 폴링 대기는 요청의 남은 시간까지만
+            tryOnMetrics.timedFittingWait(deadlineGuard.within(deadline, TryOnStage.FITTING_WAIT,
+                    virtualFittingStatusPoller.trackAsMono(virtualFittingId, maxWaitTimeMs)))
+                    .toFuture()
+                    .whenComplete((status, error) -> onPolledCompletion(tryOnJobId, virtualFittingId, status,
+                            error));
+            log.info("[TryOnJobService] 피팅 작업 가상 피팅 요청 완료, 상태 폴러 대기 - tryOnJobId={}, virtualFittingId={}",
+                    tryOnJobId, virtualFittingId);
+        } catch (CustomException e) {
+            log.warn("[TryOnJobService] 피팅 작업 실패 - tryOnJobId={}, code={}, message={}", tryOnJobId,
+                    e.getErrorCode().getCode(), e.getMessage());
+            recordFailure(tryOnJobId, e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("[TryOnJobService] 피팅 작업 중 예상치 못한 오류 - tryOnJobId={}, error={}", tryOnJobId,
+                    e.getMessage(), e);
+            recordFailure(tryOnJobId, ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    private void recordFailure(String tryOnJobId, Throwable error) {
+        if (error instanceof CustomException customException) {
+            log.warn("[TryOnJobService] 피팅 작업 실패 - tryOnJobId={}, code={}, message={}", tryOnJobId,
+                    customException.getErrorCode().getCode(), customException.getMessage());
+            recordFailure(tryOnJobId, customException.getErrorCode(), customException.getMessage());
+            return;
+        }
+        log.error("[TryOnJobService] 피팅 작업 중 예상치 못한 오류 - tryOnJobId={}, error={}", tryOnJobId,
+                error.getMessage(), error);
+        recordFailure(tryOnJobId, ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+    }
+
+    private void recordFailure(String tryOnJobId, ErrorCode errorCode, String errorMessage) {
+        try {
+            tryOnWriteService.markJobFailed(tryOnJobId, errorCode, errorMessage);
+        } catch (Exception e) {
+            log.error("[TryOnJobService] 피팅 작업 실패 상태 기록 실패 - tryOnJobId={}, error={}", tryOnJobId,
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 업로드 파일을 요청당 한 번만 읽어 페이로드로 만들고, 작업을 접수하기 전에 이미지 내용을 검증합니다.
+     * 이후 카테고리 예측, 배경 제거, S3 업로드는 파일을 다시 읽지 않고 이 페이로드(해시 포함)를 공유합니다.
+     */
+    private ImagePayload readPayload(MultipartFile file) {
+        ImagePayload payload;
+        try {
+            payload = ImagePayload.of(file, payloadMappingThresholdBytes);
+        } catch (IOException e) {
+            log.error("[TryOnJobService] 업로드 파일 읽기 실패 - fileName={}, error={}", file.getOriginalFilename(),
+                    e.getMessage(), e);
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드된 파일을 읽을 수 없습니다.");
+        }
+
+        // 압축 폭탄 등은 외부 API에 보내기 전에 거절
+        imageValidator.validate(payload);
+        log.info("[TryOnJobService] 업로드 이미지 수신 - size={}bytes, mimeType={}, dimensions={}, mapped={}, sha256={}",
+                payload.getSize(), payload.getMimeType(),
+                payload.getImageInfo().map(info -> info.width() + "x" + info.height()).orElse("unknown"),
+                payload.isMapped(), payload.getSha256());
+        return payload;
+    }
+}
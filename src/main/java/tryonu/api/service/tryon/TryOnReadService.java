@@ -0,0 +1,41 @@
+package tryonu.api.service.tryon;
+
+import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.SizeAdvice;
+import tryonu.api.domain.TryOnResult;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 가상 피팅 오케스트레이션에 필요한 엔티티를 읽는 짧은 읽기 트랜잭션 경계 서비스
+ * 외부 API 호출(분류/피팅/배경 제거/업로드) 동안 DB 커넥션을 점유하지 않도록, 조회는 이 서비스의 메서드 단위로만 수행한다.
+ */
+public interface TryOnReadService {
+
+    /**
+     * 삭제되지 않은 기본 모델을 조회한다.
+     */
+    DefaultModel getDefaultModel(Long defaultModelId);
+
+    /**
+     * tryOnJobId로 피팅 작업을 조회한다.
+     */
+    TryOnResult getTryOnResult(String tryOnJobId);
+
+    /**
+     * tryOnJobId로 피팅 작업을 사용자/의류 정보와 함께 조회한다.
+     * 완료 후처리는 트랜잭션 밖에서 연관 엔티티에 접근하므로 페치 조인으로 함께 읽는다.
+     */
+    TryOnResult getTryOnResultWithDetails(String tryOnJobId);
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지)로 updatedAfter 이후 진행 중(FITTING)인 가상 피팅 ID를 조회한다.
+     */
+    Optional<String> findInProgressVirtualFittingId(String modelUrl, String clothImageUrl, Instant updatedAfter);
+
+    /**
+     * tryOnJobId로 사이즈 조언을 조회한다.
+     */
+    SizeAdvice getSizeAdvice(String tryOnJobId);
+}
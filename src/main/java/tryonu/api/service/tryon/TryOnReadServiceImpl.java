@@ -0,0 +1,50 @@
+package tryonu.api.service.tryon;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.SizeAdvice;
+import tryonu.api.domain.TryOnResult;
+import tryonu.api.repository.defaultmodel.DefaultModelRepository;
+import tryonu.api.repository.sizeadvice.SizeAdviceRepository;
+import tryonu.api.repository.tryonresult.TryOnResultRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TryOnReadServiceImpl implements TryOnReadService {
+
+    private final DefaultModelRepository defaultModelRepository;
+    private final TryOnResultRepository tryOnResultRepository;
+    private final SizeAdviceRepository sizeAdviceRepository;
+
+    @Override
+    public DefaultModel getDefaultModel(Long defaultModelId) {
+        return defaultModelRepository.findByIdAndIsDeletedFalseOrThrow(defaultModelId);
+    }
+
+    @Override
+    public TryOnResult getTryOnResult(String tryOnJobId) {
+        return tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId);
+    }
+
+    @Override
+    public TryOnResult getTryOnResultWithDetails(String tryOnJobId) {
+        return tryOnResultRepository.findByTryOnJobIdWithDetailsOrThrow(tryOnJobId);
+    }
+
+    @Override
+    public Optional<String> findInProgressVirtualFittingId(String modelUrl, String clothImageUrl,
+            Instant updatedAfter) {
+        return tryOnResultRepository.findInProgressVirtualFittingId(modelUrl, clothImageUrl, updatedAfter);
+    }
+
+    @Override
+    public SizeAdvice getSizeAdvice(String tryOnJobId) {
+        return sizeAdviceRepository.findByTryOnJobIdAndIsDeletedFalseOrThrow(tryOnJobId);
+    }
+}
@@ -0,0 +1,22 @@
+package tryonu.api.service.tryon;
+
+import java.util.Optional;
+
+/**
+ * 사용자 간 공유되는 가상 피팅 결과 캐시 서비스
+ * 같은 모델 이미지와 같은 의류 이미지(내용 해시 기준)의 피팅 결과는 동일하므로, 이미 완료된 결과 이미지를 재사용하여
+ * 가상 피팅과 배경 제거를 다시 실행하지 않는다. 프로세스 내 LRU를 앞에 두고 DB 테이블을 영속 인덱스로 사용한다.
+ */
+public interface TryOnResultCacheService {
+
+    /**
+     * (모델 이미지, 의류 이미지)로 이미 완료된 결과 이미지 URL을 조회한다.
+     * 의류 이미지가 내용 주소(sha256) URL이 아니면 캐시 대상이 아니므로 비어 있다.
+     */
+    Optional<String> findResultImageUrl(String modelUrl, String clothImageUrl);
+
+    /**
+     * 완료된 피팅 결과를 캐시에 등록한다. 이미 등록된 쌍이면 기존 항목을 유지한다.
+     */
+    void put(String modelUrl, String clothImageUrl, String resultImageUrl, String sourceTryOnJobId);
+}
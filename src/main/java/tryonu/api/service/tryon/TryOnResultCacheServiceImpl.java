@@ -0,0 +1,154 @@
+package tryonu.api.service.tryon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import tryonu.api.common.util.ContentHashUtil;
+import tryonu.api.common.util.ImageUploadUtil;
+import tryonu.api.domain.TryOnResultCache;
+import tryonu.api.repository.tryonresultcache.TryOnResultCacheRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 가상 피팅 결과 캐시 서비스 구현체
+ *
+ * - tryon.result.cache (Counter, tag: result = memory_hit | db_hit | miss | uncacheable)
+ * - tryon.result.cache.memory.size (Gauge) - 프로세스 내 LRU 항목 수
+ *
+ * 조회/저장은 각각 리포지토리 메서드 단위의 짧은 트랜잭션으로만 수행하므로 오케스트레이션 중 커넥션을 점유하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TryOnResultCacheServiceImpl implements TryOnResultCacheService {
+
+    private final TryOnResultCacheRepository tryOnResultCacheRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${tryon.result-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tryon.result-cache.memory.max-entries:5000}") // 프로세스 내 LRU 최대 항목 수
+    private int memoryMaxEntries;
+
+    private Map<String, String> memoryCache;
+
+    @PostConstruct
+    void initMemoryCache() {
+        // 최근 조회된 순서로 유지하는 LRU (가득 차면 가장 오래 사용되지 않은 항목부터 제거)
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > memoryMaxEntries;
+            }
+        });
+        Gauge.builder("tryon.result.cache.memory.size", memoryCache, Map::size)
+                .description("프로세스 내 가상 피팅 결과 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<String> findResultImageUrl(String modelUrl, String clothImageUrl) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<CacheKey> cacheKey = toCacheKey(modelUrl, clothImageUrl);
+        if (cacheKey.isEmpty()) {
+            count("uncacheable");
+            return Optional.empty();
+        }
+        CacheKey key = cacheKey.get();
+
+        String cachedUrl = memoryCache.get(key.value());
+        if (cachedUrl != null) {
+            count("memory_hit");
+            log.info("[TryOnResultCacheService] 피팅 결과 캐시 적중(프로세스) - garmentHash={}, resultUrl={}",
+                    key.garmentHash(), cachedUrl);
+            return Optional.of(cachedUrl);
+        }
+
+        Optional<String> storedUrl = tryOnResultCacheRepository
+                .findByModelKeyAndGarmentHash(key.modelKey(), key.garmentHash())
+                .map(TryOnResultCache::getResultImageUrl);
+        if (storedUrl.isPresent()) {
+            memoryCache.put(key.value(), storedUrl.get());
+            count("db_hit");
+            log.info("[TryOnResultCacheService] 피팅 결과 캐시 적중(DB) - garmentHash={}, resultUrl={}",
+                    key.garmentHash(), storedUrl.get());
+            return storedUrl;
+        }
+
+        count("miss");
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String modelUrl, String clothImageUrl, String resultImageUrl, String sourceTryOnJobId) {
+        if (!enabled || resultImageUrl == null) {
+            return;
+        }
+        Optional<CacheKey> cacheKey = toCacheKey(modelUrl, clothImageUrl);
+        if (cacheKey.isEmpty()) {
+            return;
+        }
+        CacheKey key = cacheKey.get();
+
+        if (memoryCache.putIfAbsent(key.value(), resultImageUrl) != null) {
+            return;
+        }
+        if (tryOnResultCacheRepository.findByModelKeyAndGarmentHash(key.modelKey(), key.garmentHash())
+                .isPresent()) {
+            return;
+        }
+        try {
+            tryOnResultCacheRepository.save(TryOnResultCache.builder()
+                    .modelKey(key.modelKey())
+                    .garmentHash(key.garmentHash())
+                    .resultImageUrl(resultImageUrl)
+                    .sourceTryOnJobId(sourceTryOnJobId)
+                    .build());
+            log.info("[TryOnResultCacheService] 피팅 결과 캐시 등록 - garmentHash={}, tryOnJobId={}",
+                    key.garmentHash(), sourceTryOnJobId);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 쌍을 먼저 등록한 경우 (유니크 제약) - 먼저 등록된 결과를 유지
+            log.debug("[TryOnResultCacheService] 이미 등록된 피팅 결과 캐시 - garmentHash={}", key.garmentHash());
+        }
+    }
+
+    /**
+     * 모델 키는 내용 주소 URL이면 그 해시, 아니면 URL 자체의 SHA-256 (기본 모델은 모든 사용자가 같은 URL을 공유)
+     */
+    private static Optional<CacheKey> toCacheKey(String modelUrl, String clothImageUrl) {
+        if (modelUrl == null || clothImageUrl == null) {
+            return Optional.empty();
+        }
+        return ImageUploadUtil.contentHashOf(clothImageUrl)
+                .map(garmentHash -> new CacheKey(
+                        ImageUploadUtil.contentHashOf(modelUrl).orElseGet(() -> ContentHashUtil.sha256Hex(modelUrl)),
+                        garmentHash));
+    }
+
+    private void count(String result) {
+        Counter.builder("tryon.result.cache")
+                .description("가상 피팅 결과 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record CacheKey(String modelKey, String garmentHash) {
+        String value() {
+            return modelKey + ":" + garmentHash;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package tryonu.api.service.tryon;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import tryonu.api.common.util.Deadline;
 
 import tryonu.api.dto.requests.SizeAdviceRequest;
 import tryonu.api.dto.requests.TryOnRequestDto;
@@ -12,6 +16,7 @@ import tryonu.api.dto.responses.TryOnJobInitResponse;
 import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.dto.responses.TryOnResultDto;
 import tryonu.api.dto.responses.UserInfoResponse;
+import tryonu.api.dto.responses.VirtualFittingStatusResponse;
 import tryonu.api.dto.responses.ImageDataUrlResponse;
 
 /**
@@ -30,19 +35,72 @@ public interface TryOnService {
     /**
      * 가상 피팅 실행
      *
-     * @param request 가상 피팅 요청 정보 (모델 URL, 기본 모델 ID, 상품 페이지 URL)
-     * @param file    의류 이미지 파일
+     * @param request  가상 피팅 요청 정보 (모델 URL, 기본 모델 ID, 상품 페이지 URL)
+     * @param file     의류 이미지 파일
+     * @param deadline 요청 처리 제한 시간 (각 단계는 남은 시간을 타임아웃으로 사용)
      * @return 가상 피팅 결과
      */
-    TryOnResponse tryOn(TryOnRequestDto request, MultipartFile file);
+    TryOnResponse tryOn(TryOnRequestDto request, MultipartFile file, Deadline deadline);
+
+    /**
+     * 가상 피팅 실행 (논블로킹)
+     * 분류 → 의류 업로드 → 가상 피팅 → 완료 대기 → 배경 제거 → 결과 업로드를 Mono로 조합합니다.
+     * 외부 API 호출 중에는 스레드를 점유하지 않으며, DB/S3 등 블로킹 작업만 boundedElastic에서 실행됩니다.
+     * 현재 사용자는 호출 스레드의 SecurityContext에서 조회합니다.
+     *
+     * @param request  가상 피팅 요청 정보
+     * @param file     의류 이미지 파일
+     * @param deadline 요청 처리 제한 시간
+     * @return 가상 피팅 결과 Mono
+     */
+    Mono<TryOnResponse> tryOnAsync(TryOnRequestDto request, MultipartFile file, Deadline deadline);
+
+    /**
+     * 가상 피팅 요청
+     * 카테고리 검증과 의류 업로드 후 가상 피팅을 요청하고, 완료를 기다리지 않고 반환합니다.
+     * 같은 모델/의류 이미지의 캐시된 결과가 있으면 가상 피팅 없이 작업을 바로 완료합니다.
+     *
+     * @param request    가상 피팅 요청 정보
+     * @param file       의류 이미지 파일
+     * @param webhookUrl 가상 피팅 완료 시 호출될 WebHook URL (null이면 WebHook 없이 요청, 상태 폴러로 완료 감지)
+     * @param deadline   요청 처리 제한 시간 (남은 시간이 부족하면 가상 피팅을 요청하지 않음)
+     * @return 가상 피팅 ID (캐시된 결과로 완료했으면 empty)
+     */
+    Optional<String> submitVirtualFitting(TryOnRequestDto request, MultipartFile file, String webhookUrl, Deadline deadline);
+
+    /**
+     * 이미 S3에 업로드된 의류 이미지로 가상 피팅 요청
+     * 카테고리 검증 후 가상 피팅을 요청하고, 완료를 기다리지 않고 반환합니다. (의류 업로드 단계 없음)
+     * 같은 모델/의류 이미지의 캐시된 결과가 있으면 가상 피팅 없이 작업을 바로 완료합니다.
+     *
+     * @param request       가상 피팅 요청 정보
+     * @param clothImageUrl 직접 업로드가 확정된 의류 이미지 URL
+     * @param webhookUrl    가상 피팅 완료 시 호출될 WebHook URL (null이면 WebHook 없이 요청, 상태 폴러로 완료 감지)
+     * @param deadline      요청 처리 제한 시간 (남은 시간이 부족하면 가상 피팅을 요청하지 않음)
+     * @return 가상 피팅 ID (캐시된 결과로 완료했으면 empty)
+     */
+    Optional<String> submitUploadedVirtualFitting(TryOnRequestDto request, String clothImageUrl, String webhookUrl,
+            Deadline deadline);
+
+    /**
+     * 가상 피팅 완료 후처리
+     * 결과 이미지 배경 제거, S3 업로드 후 피팅 결과를 저장합니다. 실패 상태면 예외가 발생합니다.
+     * 같은 가상 피팅에 연결된 작업들은 한 번 후처리한 결과 이미지를 함께 저장합니다.
+     *
+     * @param status      가상 피팅 최종 상태 (completed 또는 failed)
+     * @param tryOnJobIds 완료 처리를 선점한 작업 ID 목록 (같은 가상 피팅에 연결된 작업)
+     * @return 작업별 가상 피팅 결과
+     */
+    List<TryOnResponse> completeVirtualFitting(VirtualFittingStatusResponse status, List<String> tryOnJobIds);
 
     /**
      * 사이즈 조언 제공
      *
-     * @param request 사이즈 조언 요청 정보
+     * @param request  사이즈 조언 요청 정보
+     * @param deadline 요청 처리 제한 시간
      * @return 사이즈 조언 결과
      */
-    SizeAdviceResponse giveSizeAdvice(SizeAdviceRequest request);
+    SizeAdviceResponse giveSizeAdvice(SizeAdviceRequest request, Deadline deadline);
     /**
      * 현재 사용자의 피팅 결과 목록 조회
      * 
@@ -17,13 +17,23 @@ import tryonu.api.domain.DefaultModel;
 import tryonu.api.domain.TryOnResult;
 import tryonu.api.repository.tryonresult.TryOnResultRepository;
 import tryonu.api.common.util.VirtualFittingUtil;
+import tryonu.api.common.util.VirtualFittingStatusPoller;
+import tryonu.api.common.util.ImageDataUrlCache;
+import tryonu.api.common.util.ImageInspector;
+import tryonu.api.common.util.ImagePayload;
 import tryonu.api.common.util.ImageUploadUtil;
 import tryonu.api.common.util.BackgroundRemovalUtil;
 import tryonu.api.common.util.CategoryPredictionUtil;
+import tryonu.api.common.util.Deadline;
+import tryonu.api.common.util.DeadlineGuard;
+import tryonu.api.common.util.TryOnMetrics;
+import tryonu.api.common.util.VirtualFittingCoalescer;
 import tryonu.api.common.exception.CustomException;
 import tryonu.api.common.exception.enums.ErrorCode;
 import tryonu.api.converter.TryOnResultConverter;
 import tryonu.api.common.enums.Category;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.enums.TryOnStage;
 import tryonu.api.common.auth.SecurityUtils;
 import tryonu.api.repository.defaultmodel.DefaultModelRepository;
 import tryonu.api.converter.UserConverter;
@@ -33,26 +43,34 @@ import tryonu.api.domain.SizeAdvice;
 import tryonu.api.analyzer.SizeAnalyzer;
 import tryonu.api.analyzer.SizeAnalyzeRequest;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
-import java.util.Base64;
 import java.util.Optional;
-import org.springframework.http.ResponseEntity;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 가상 피팅 서비스 구현체
+ * 외부 API 호출이 포함된 오케스트레이션은 트랜잭션 밖에서 실행하고, DB 접근은 TryOnReadService/TryOnWriteService의
+ * 짧은 트랜잭션 단위로만 수행하여 외부 호출 동안 커넥션을 점유하지 않습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class TryOnServiceImpl implements TryOnService {
 
     private final VirtualFittingUtil virtualFittingUtil;
+    private final VirtualFittingStatusPoller virtualFittingStatusPoller;
     private final ImageUploadUtil imageUploadUtil;
     private final CategoryPredictionUtil categoryPredictionUtil;
     private final TryOnResultRepository tryOnResultRepository;
@@ -60,17 +78,31 @@ public class TryOnServiceImpl implements TryOnService {
     private final DefaultModelRepository defaultModelRepository;
     private final UserConverter userConverter;
     private final TryOnWriteService tryOnWriteService;
+    private final TryOnReadService tryOnReadService;
+    private final TryOnResultCacheService tryOnResultCacheService;
     private final SizeAdviceRepository sizeAdviceRepository;
     private final SizeAdviceConverter sizeAdviceConverter;
     private final SizeAnalyzer sizeAnalyzer;
     private final BackgroundRemovalUtil backgroundRemovalUtil;
-    private final org.springframework.web.reactive.function.client.WebClient imageDownloadWebClient;
+    private final DeadlineGuard deadlineGuard;
+    private final TryOnMetrics tryOnMetrics;
+    private final VirtualFittingCoalescer virtualFittingCoalescer;
+    private final ImageDataUrlCache imageDataUrlCache;
+
+    /**
+     * fashn.ai가 입력 이미지를 거절한 에러 (병합된 요청에 그대로 공유)
+     */
+    private static final Set<ErrorCode> INPUT_REJECTION_ERRORS = EnumSet.of(ErrorCode.IMAGE_LOAD_ERROR,
+            ErrorCode.CONTENT_MODERATION_ERROR, ErrorCode.PHOTO_TYPE_ERROR, ErrorCode.POSE_ERROR);
 
     @Value("${virtual-fitting.polling.max-wait-time-ms:60000}") // 기본 1분
     private long maxWaitTimeMs;
 
-    @Value("${virtual-fitting.polling.interval-ms:1000}") // 기본 1초 간격
-    private long pollIntervalMs;
+    @Value("${virtual-fitting.result.streaming:true}") // 결과 후처리를 byte[] 버퍼링 없이 스트림으로 처리
+    private boolean streamingResultPostprocess;
+
+    @Value("${virtual-fitting.sweeper.timeout-ms:600000}") // 콜백/폴링으로 완료된 결과의 후처리 제한 시간 (기본 10분)
+    private long completionTimeoutMs;
 
     @Override
     @Transactional(readOnly = false)
@@ -86,97 +118,484 @@ public class TryOnServiceImpl implements TryOnService {
     }
 
     @Override
-    @Transactional
-    public SizeAdviceResponse giveSizeAdvice(SizeAdviceRequest request) {
+    public SizeAdviceResponse giveSizeAdvice(SizeAdviceRequest request, Deadline deadline) {
         String tryOnJobId = request.tryOnJobId();
-        String sizeInfo = request.sizeInfo();        
-       
-        SizeAdvice sizeAdvice = sizeAdviceRepository.findByTryOnJobIdAndIsDeletedFalseOrThrow(tryOnJobId);
-        
-        String advice = sizeAnalyzer.analyze(new SizeAnalyzeRequest(tryOnJobId, sizeInfo)).advice();
+        String sizeInfo = request.sizeInfo();
 
-        sizeAdvice.updateSizeInfoAndAdvice(sizeInfo, advice);
-        sizeAdviceRepository.save(sizeAdvice);
+        // 존재하지 않는 작업이면 모델 호출 전에 실패 (읽기 트랜잭션은 조회 직후 종료)
+        tryOnReadService.getSizeAdvice(tryOnJobId);
 
+        // Bedrock 호출 동안에는 커넥션을 점유하지 않음
+        String advice = tryOnMetrics.timed(TryOnStage.SIZE_ADVICE,
+                () -> sizeAnalyzer.analyze(new SizeAnalyzeRequest(tryOnJobId, sizeInfo), deadline)).advice();
+
+        SizeAdvice sizeAdvice = tryOnWriteService.saveSizeAdvice(tryOnJobId, sizeInfo, advice);
         return sizeAdviceConverter.toSizeAdviceResponse(sizeAdvice);
     }
 
 
     @Override
-    public TryOnResponse tryOn(TryOnRequestDto request, MultipartFile file) {
-        // DTO에서 개별 필드 추출
+    public TryOnResponse tryOn(TryOnRequestDto request, MultipartFile file, Deadline deadline) {
+        return tryOnAsync(request, file, deadline).block();
+    }
+
+    @Override
+    public Mono<TryOnResponse> tryOnAsync(TryOnRequestDto request, MultipartFile file, Deadline deadline) {
         String modelUrl = request.modelUrl();
-        Long defaultModelId = request.defaultModelId();
         String productPageUrl = request.productPageUrl();
         String tryOnJobId = request.tryOnJobId();
 
-        // 현재 인증된 사용자 및 기본 모델 조회
+        // SecurityContext는 호출 스레드에서만 유효하므로 파이프라인 시작 전에 조회
         User currentUser = SecurityUtils.getCurrentUser();
-        DefaultModel defaultModel = defaultModelRepository.findByIdAndIsDeletedFalseOrThrow(defaultModelId); // 검증
-        TryOnResult tryOnResult = tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId);
 
-        try {
-            // 의류 이미지 카테고리 예측
-            CategoryPredictionResponse categoryPredictionResponse = categoryPredictionUtil.predictCategory(file);
-            log.info("[TryOnService] 카테고리 예측 완료 - className={}, confidence={}", categoryPredictionResponse.className(),
-                    categoryPredictionResponse.confidence());
-
-            // 지원하지 않는 카테고리 검증
-            validateSupportedCategory(categoryPredictionResponse.className());
-
-            // 의류 이미지 업로드
-            String clothImageUrl = imageUploadUtil.uploadClothImage(file);
-
-            // 가상 피팅 API 요청 생성
-            VirtualFittingRequest virtualFittingRequest = tryOnResultConverter.toVirtualFittingRequest(modelUrl,
-                    clothImageUrl);
-
-            // 가상 피팅 실행 (폴링 방식)
-            VirtualFittingResponse virtualFittingResponse = virtualFittingUtil.runVirtualFitting(virtualFittingRequest);
-
-            // 폴링으로 완료 대기
-            VirtualFittingStatusResponse finalStatus = virtualFittingUtil.waitForCompletion(virtualFittingResponse.id(),
-                    maxWaitTimeMs, pollIntervalMs);
-
-            // 결과 처리
-            if ("completed".equals(finalStatus.status())) {
-                // 안전한 결과 추출 - null/empty 체크
-                if (finalStatus.output() == null || finalStatus.output().isEmpty()) {
-                    log.error("[TryOnService] 가상 피팅 완료되었으나 결과 이미지가 없음 - modelUrl={}, output={}", modelUrl,
-                            finalStatus.output());
-                    throw new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "가상피팅이 완료되었으나 결과 이미지를 받지 못했습니다.");
-                }
-
-                String resultImageUrl = finalStatus.output().get(0); // 첫 번째 결과 이미지
-
-                // fashn.ai 결과 이미지를 다운로드하여 S3에 업로드
-                String uploadedResultImageUrl = imageUploadUtil.uploadTryOnResultImage(backgroundRemovalUtil.removeBackground(resultImageUrl));
-                log.info("[TryOnService] 가상 피팅 결과 S3 업로드 완료 - originalUrl={}, s3Url={}", resultImageUrl,
-                        uploadedResultImageUrl);
-
-                // 저장 및 응답 생성은 짧은 쓰기 트랜잭션으로 분리
-                Category category = parseCategory(categoryPredictionResponse.className());
-                TryOnResponse response = tryOnWriteService.saveAndBuildResponse(
-                        tryOnResult,
-                        category,
-                        clothImageUrl,
-                        productPageUrl,
-                        modelUrl,
-                        uploadedResultImageUrl,
-                        virtualFittingResponse.id(),
-                        defaultModel,
-                        currentUser);
-
-                return response;
-            } else {
-                // fashn.ai API 에러 구체적 로깅 및 처리
-                handleVirtualFittingError(modelUrl, finalStatus);
-                // 이 코드는 절대 실행되지 않음 (handleVirtualFittingError가 항상 예외를 던짐)
-                throw new RuntimeException("Unreachable code");
+        Mono<TryOnResponse> pipeline = prepareFittingAsync(request, file, deadline)
+                // 캐시된 결과 재사용 또는 가상 피팅 → 결과 후처리
+                .flatMap(prepared -> fitOrReuseResultAsync(tryOnJobId, modelUrl, prepared.clothImageUrl(), deadline)
+                        // 저장 및 응답 생성은 짧은 쓰기 트랜잭션으로 분리
+                        .flatMap(fittedResult -> tryOnMetrics.timed(TryOnStage.DB_WRITE,
+                                fromBlocking(() -> tryOnWriteService.saveAndBuildResponse(
+                                        prepared.tryOnResult(),
+                                        prepared.category(),
+                                        prepared.clothImageUrl(),
+                                        productPageUrl,
+                                        modelUrl,
+                                        fittedResult.uploadedResultImageUrl(),
+                                        fittedResult.virtualFittingId(),
+                                        prepared.defaultModel(),
+                                        currentUser)))));
+        return tryOnMetrics.timed(TryOnStage.TOTAL, pipeline);
+    }
+
+    @Override
+    public Optional<String> submitVirtualFitting(TryOnRequestDto request, MultipartFile file, String webhookUrl,
+            Deadline deadline) {
+        // 기본 모델/피팅 결과 조회, 카테고리 예측, 의류 이미지 업로드를 동시에 실행
+        return submitPreparedFitting(request, prepareFittingAsync(request, file, deadline).block(), webhookUrl,
+                deadline);
+    }
+
+    @Override
+    public Optional<String> submitUploadedVirtualFitting(TryOnRequestDto request, String clothImageUrl,
+            String webhookUrl, Deadline deadline) {
+        // 기본 모델/피팅 결과 조회, 카테고리 예측을 동시에 실행 (의류 이미지는 이미 S3에 있음)
+        return submitPreparedFitting(request, prepareUploadedFittingAsync(request, clothImageUrl, deadline).block(),
+                webhookUrl, deadline);
+    }
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지) 쌍의 완료된 결과가 캐시에 있으면 가상 피팅 없이 작업을 바로 완료하고,
+     * 없으면 가상 피팅을 요청합니다.
+     *
+     * @return 요청한 가상 피팅 ID (캐시된 결과로 완료했으면 empty)
+     */
+    private Optional<String> submitPreparedFitting(TryOnRequestDto request, PreparedFitting prepared,
+            String webhookUrl, Deadline deadline) {
+        String modelUrl = request.modelUrl();
+        String tryOnJobId = request.tryOnJobId();
+        String clothImageUrl = prepared.clothImageUrl();
+
+        Optional<String> cachedResultImageUrl = findCachedResultAsync(tryOnJobId, modelUrl, clothImageUrl, deadline)
+                .block();
+        if (cachedResultImageUrl.isPresent()) {
+            tryOnMetrics.timed(TryOnStage.DB_WRITE, () -> tryOnWriteService.saveCachedFitting(tryOnJobId,
+                    prepared.category(), clothImageUrl, request.productPageUrl(), modelUrl,
+                    cachedResultImageUrl.get(), prepared.defaultModel()));
+            log.info("[TryOnService] 캐시된 피팅 결과로 작업 완료 - tryOnJobId={}", tryOnJobId);
+            return Optional.empty();
+        }
+
+        // 가상 피팅 실행 - 완료는 WebHook 콜백 또는 상태 폴러에서 처리
+        String virtualFittingId = submitOrJoinFittingAsync(request, prepared, webhookUrl, deadline).block();
+        log.info("[TryOnService] 가상 피팅 요청 완료 - tryOnJobId={}, virtualFittingId={}, webhook={}", tryOnJobId,
+                virtualFittingId, webhookUrl != null);
+        return Optional.of(virtualFittingId);
+    }
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지)의 가상 피팅이 진행 중이면 새로 요청하지 않고 그 가상 피팅 ID에 작업을 연결하고,
+     * 없으면 가상 피팅을 요청합니다. (논블로킹)
+     * 동시에 들어온 요청은 병합기로 한 번만 요청하고, 이미 요청된 가상 피팅은 FITTING 상태의 작업에서 찾습니다.
+     * 연결된 작업은 각자의 제한 시간으로 완료를 기다리며, 먼저 요청한 작업의 요청 단계가 실패하면
+     * 합류한 작업은 자신의 남은 시간으로 직접 요청합니다.
+     *
+     * @return 작업에 저장된 가상 피팅 ID
+     */
+    private Mono<String> submitOrJoinFittingAsync(TryOnRequestDto request, PreparedFitting prepared,
+            String webhookUrl, Deadline deadline) {
+        String tryOnJobId = request.tryOnJobId();
+        return Mono.defer(() -> {
+            VirtualFittingCoalescer.Flight<String> flight = virtualFittingCoalescer.join(
+                    "submit|" + request.modelUrl() + "|" + prepared.clothImageUrl(),
+                    () -> attachOrSubmitFittingAsync(request, prepared, webhookUrl, deadline));
+            if (flight.leader()) {
+                return flight.result();
             }
-        } catch (Exception e) {
-            throw e;
+
+            Mono<String> leaderFittingId = flight.result().onErrorResume(error -> {
+                log.warn("[TryOnService] 병합된 가상 피팅 요청 실패, 직접 요청 - tryOnJobId={}, error={}", tryOnJobId,
+                        error.getMessage());
+                return Mono.empty();
+            });
+            return runStage(deadline, TryOnStage.COALESCED_WAIT, leaderFittingId)
+                    .flatMap(virtualFittingId -> markFittingSubmittedAsync(request, prepared, virtualFittingId))
+                    .switchIfEmpty(Mono.defer(() -> submitAndMarkFittingAsync(request, prepared, webhookUrl,
+                            deadline)));
+        });
+    }
+
+    /**
+     * 진행 중인 같은 가상 피팅이 있으면 작업을 연결하고, 없으면 가상 피팅을 요청합니다.
+     * 상태 폴러의 최대 대기 시간보다 오래된 가상 피팅에는 연결하지 않습니다.
+     */
+    private Mono<String> attachOrSubmitFittingAsync(TryOnRequestDto request, PreparedFitting prepared,
+            String webhookUrl, Deadline deadline) {
+        return fromBlocking(() -> tryOnReadService.findInProgressVirtualFittingId(request.modelUrl(),
+                prepared.clothImageUrl(), Instant.now().minusMillis(maxWaitTimeMs)))
+                .flatMap(inProgressFittingId -> inProgressFittingId
+                        .map(virtualFittingId -> {
+                            log.info("[TryOnService] 진행 중인 가상 피팅에 작업 연결 - tryOnJobId={}, virtualFittingId={}",
+                                    request.tryOnJobId(), virtualFittingId);
+                            return markFittingSubmittedAsync(request, prepared, virtualFittingId);
+                        })
+                        .orElseGet(() -> submitAndMarkFittingAsync(request, prepared, webhookUrl, deadline)));
+    }
+
+    /**
+     * 가상 피팅을 요청하고 작업에 가상 피팅 ID를 저장
+     */
+    private Mono<String> submitAndMarkFittingAsync(TryOnRequestDto request, PreparedFitting prepared,
+            String webhookUrl, Deadline deadline) {
+        VirtualFittingRequest virtualFittingRequest = tryOnResultConverter.toVirtualFittingRequest(request.modelUrl(),
+                prepared.clothImageUrl());
+        return submitFittingAsync(virtualFittingRequest, webhookUrl, deadline)
+                .flatMap(virtualFittingResponse -> markFittingSubmittedAsync(request, prepared,
+                        virtualFittingResponse.id()));
+    }
+
+    /**
+     * 의류 엔티티와 가상 피팅 ID를 저장하고 작업을 FITTING 상태로 전환
+     */
+    private Mono<String> markFittingSubmittedAsync(TryOnRequestDto request, PreparedFitting prepared,
+            String virtualFittingId) {
+        return fromBlocking(() -> {
+            tryOnWriteService.markFittingSubmitted(request.tryOnJobId(), prepared.category(),
+                    prepared.clothImageUrl(), request.productPageUrl(), request.modelUrl(),
+                    prepared.defaultModel().getId(), virtualFittingId);
+            return virtualFittingId;
+        });
+    }
+
+    @Override
+    public List<TryOnResponse> completeVirtualFitting(VirtualFittingStatusResponse status, List<String> tryOnJobIds) {
+        List<TryOnResult> tryOnResults = tryOnJobIds.stream()
+                .map(tryOnReadService::getTryOnResultWithDetails)
+                .toList();
+        String modelUrl = tryOnResults.get(0).getModelUrl();
+
+        if (!"completed".equals(status.status())) {
+            // fashn.ai API 에러 구체적 로깅 및 처리
+            throw toVirtualFittingException(modelUrl, status);
         }
+
+        // 같은 가상 피팅에 연결된 작업은 결과 이미지가 같으므로 배경 제거/업로드는 한 번만 실행
+        String resultImageUrl = extractResultImageUrl(modelUrl, status);
+        Deadline deadline = Deadline.after(Duration.ofMillis(completionTimeoutMs));
+        String uploadedResultImageUrl = postprocessResultAsync(resultImageUrl, deadline).block();
+        log.info("[TryOnService] 가상 피팅 결과 S3 업로드 완료 - originalUrl={}, s3Url={}", resultImageUrl,
+                uploadedResultImageUrl);
+
+        List<TryOnResponse> responses = tryOnResults.stream()
+                .map(tryOnResult -> {
+                    DefaultModel defaultModel = tryOnReadService.getDefaultModel(tryOnResult.getDefaultModelId());
+                    return tryOnMetrics.timed(TryOnStage.DB_WRITE, () -> tryOnWriteService
+                            .saveCompletedFitting(tryOnResult, uploadedResultImageUrl, defaultModel));
+                })
+                .toList();
+
+        TryOnResult first = tryOnResults.get(0);
+        if (first.getCloth() != null) {
+            cacheResult(first.getTryOnJobId(), modelUrl, first.getCloth().getImageUrl(), uploadedResultImageUrl);
+        }
+        return responses;
+    }
+
+    /**
+     * 가상 피팅 준비 단계 (논블로킹)
+     * 기본 모델/피팅 결과 조회, 카테고리 예측, 의류 이미지 업로드는 서로 의존하지 않으므로 하나의 제한 시간 안에서
+     * 동시에 실행합니다. 의류 이미지 업로드는 분류 결과를 기다리지 않고 미리(추측 실행) 시작하며,
+     * 분류가 지원하지 않는 카테고리(ACCESSORY/SHOES)로 거절하거나 다른 단계가 실패하면 업로드된 이미지를 삭제합니다.
+     * 검증/정규화는 한 번만 실행하고 예측과 업로드가 같은 페이로드를 사용하므로, 예측 캐시 키와 의류 content_hash가 같은 해시입니다.
+     */
+    private Mono<PreparedFitting> prepareFittingAsync(TryOnRequestDto request, MultipartFile file,
+            Deadline deadline) {
+        Mono<ImagePayload> clothPayload = Mono.defer(() -> runStage(deadline, TryOnStage.CLOTH_NORMALIZE,
+                imageUploadUtil.prepareClothPayloadAsync(file, deadline))).cache();
+        return prepareFittingAsync(request, deadline,
+                clothPayload.flatMap(categoryPredictionUtil::predictCategoryAsync),
+                clothPayload.flatMap(payload -> runStage(deadline, TryOnStage.CLOTH_UPLOAD,
+                        imageUploadUtil.uploadPreparedClothImageAsync(payload, deadline))),
+                true);
+    }
+
+    /**
+     * 직접 업로드된 의류 이미지로 가상 피팅 준비 (논블로킹)
+     * 카테고리 예측은 이미지 URL로 실행하며, 실패해도 사용자가 올린 이미지는 삭제하지 않습니다 (작업 재요청 시 재사용).
+     */
+    private Mono<PreparedFitting> prepareUploadedFittingAsync(TryOnRequestDto request, String clothImageUrl,
+            Deadline deadline) {
+        return prepareFittingAsync(request, deadline,
+                Mono.defer(() -> categoryPredictionUtil.predictCategoryAsync(clothImageUrl)),
+                Mono.just(clothImageUrl), false);
+    }
+
+    /**
+     * 가상 피팅 준비 공통 단계 (discardUploadOnFailure면 실패/취소 시 업로드된 의류 이미지 삭제)
+     */
+    private Mono<PreparedFitting> prepareFittingAsync(TryOnRequestDto request, Deadline deadline,
+            Mono<CategoryPredictionResponse> categoryPrediction, Mono<String> clothImageUrl,
+            boolean discardUploadOnFailure) {
+        String tryOnJobId = request.tryOnJobId();
+
+        return updateJobStatusAsync(tryOnJobId, TryOnJobStatus.CLASSIFYING).then(Mono.defer(() -> {
+            // 취소되더라도 업로드는 끝까지 진행시켜, 완료된 결과를 정리할 수 있도록 Future로 분리
+            CompletableFuture<String> speculativeUpload = clothImageUrl.toFuture();
+
+            return Mono.zip(
+                    runStage(deadline, TryOnStage.LOOKUP, fromBlocking(
+                            () -> tryOnReadService.getDefaultModel(request.defaultModelId()))), // 검증
+                    runStage(deadline, TryOnStage.LOOKUP, fromBlocking(
+                            () -> tryOnReadService.getTryOnResult(tryOnJobId))),
+                    // 의류 이미지 카테고리 예측 및 지원 여부 검증
+                    runStage(deadline, TryOnStage.CLASSIFICATION, categoryPrediction)
+                            .map(this::toSupportedCategory),
+                    Mono.fromFuture(speculativeUpload, true))
+                    .map(prepared -> new PreparedFitting(prepared.getT1(), prepared.getT2(), prepared.getT3(),
+                            prepared.getT4()))
+                    .doOnError(error -> {
+                        if (discardUploadOnFailure) {
+                            discardSpeculativeUpload(tryOnJobId, speculativeUpload);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (discardUploadOnFailure) {
+                            discardSpeculativeUpload(tryOnJobId, speculativeUpload);
+                        }
+                    });
+        }));
+    }
+
+    /**
+     * 가상 피팅 요청 (논블로킹)
+     * 남은 시간이 최근 평균 완료 시간보다 짧으면 제한 시간 안에 끝날 수 없으므로 요청하지 않습니다 (크레딧 낭비 방지).
+     */
+    private Mono<VirtualFittingResponse> submitFittingAsync(VirtualFittingRequest virtualFittingRequest,
+            String webhookUrl, Deadline deadline) {
+        return Mono.defer(() -> {
+            deadlineGuard.ensureRemaining(deadline, TryOnStage.FITTING_SUBMIT,
+                    Duration.ofMillis(virtualFittingStatusPoller.getExpectedCompletionMs()));
+            return runStage(deadline, TryOnStage.FITTING_SUBMIT,
+                    virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, webhookUrl));
+        });
+    }
+
+    /**
+     * 남은 시간 안에서 단계를 실행하고 단계별 소요 시간을 기록
+     * (제한 시간 초과로 취소된 단계도 timeout으로 기록되도록 Deadline 적용 결과를 측정)
+     */
+    private <T> Mono<T> runStage(Deadline deadline, TryOnStage stage, Mono<T> source) {
+        return tryOnMetrics.timed(stage, deadlineGuard.within(deadline, stage, source));
+    }
+
+    /**
+     * 사용되지 않은 추측 업로드 이미지를 업로드 완료 후 삭제 (업로드 자체가 실패했다면 정리할 것이 없음)
+     */
+    private void discardSpeculativeUpload(String tryOnJobId, CompletableFuture<String> speculativeUpload) {
+        Mono.fromFuture(speculativeUpload, true)
+                .doOnNext(clothImageUrl -> log.info("[TryOnService] 사용되지 않은 의류 이미지 삭제 - tryOnJobId={}, url={}",
+                        tryOnJobId, clothImageUrl))
+                .flatMap(imageUploadUtil::deleteImageAsync)
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지) 쌍의 완료된 결과가 캐시에 있으면 가상 피팅 없이 재사용하고,
+     * 없으면 가상 피팅을 실행한 뒤 결과를 캐시에 등록 (논블로킹)
+     * 캐시 조회/등록 실패는 가상 피팅 자체를 실패시키지 않습니다.
+     */
+    private Mono<FittedResult> fitOrReuseResultAsync(String tryOnJobId, String modelUrl, String clothImageUrl,
+            Deadline deadline) {
+        return findCachedResultAsync(tryOnJobId, modelUrl, clothImageUrl, deadline)
+                .flatMap(cachedResultImageUrl -> cachedResultImageUrl
+                        // 캐시 적중 - 다른 작업의 가상 피팅 ID를 공유하지 않도록 virtualFittingId는 비워 둠
+                        .map(resultImageUrl -> Mono.just(new FittedResult(null, resultImageUrl)))
+                        .orElseGet(() -> fitAndUploadResultAsync(tryOnJobId, modelUrl, clothImageUrl, deadline)
+                                .flatMap(fittedResult -> Mono.fromRunnable(() -> cacheResult(tryOnJobId, modelUrl,
+                                        clothImageUrl, fittedResult.uploadedResultImageUrl()))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .thenReturn(fittedResult))));
+    }
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지) 쌍의 완료된 결과 이미지 URL을 캐시에서 조회 (논블로킹)
+     * 제한 시간 초과가 아닌 조회 실패는 캐시 미스로 처리합니다.
+     */
+    private Mono<Optional<String>> findCachedResultAsync(String tryOnJobId, String modelUrl, String clothImageUrl,
+            Deadline deadline) {
+        return runStage(deadline, TryOnStage.RESULT_CACHE,
+                fromBlocking(() -> tryOnResultCacheService.findResultImageUrl(modelUrl, clothImageUrl)))
+                .onErrorResume(error -> !(error instanceof CustomException customException
+                        && customException.getErrorCode() == ErrorCode.TRY_ON_DEADLINE_EXCEEDED), error -> {
+                    log.warn("[TryOnService] 피팅 결과 캐시 조회 실패 - tryOnJobId={}, error={}", tryOnJobId,
+                            error.getMessage());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    /**
+     * 완료된 가상 피팅 결과를 사용자 간 공유 캐시에 등록 (실패해도 피팅 결과에는 영향 없음)
+     */
+    private void cacheResult(String tryOnJobId, String modelUrl, String clothImageUrl, String resultImageUrl) {
+        try {
+            tryOnResultCacheService.put(modelUrl, clothImageUrl, resultImageUrl, tryOnJobId);
+        } catch (RuntimeException e) {
+            log.warn("[TryOnService] 피팅 결과 캐시 등록 실패 - tryOnJobId={}, error={}", tryOnJobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 가상 피팅 실행 → 완료 대기 → 배경 제거 → 결과 업로드 (논블로킹)
+     * 같은 (모델 이미지, 의류 이미지)의 피팅이 이미 진행 중이면 새로 요청하지 않고 그 결과를 공유합니다.
+     * 합류한 요청은 자신의 남은 시간 안에서만 기다리며, 다른 작업의 가상 피팅 ID는 공유하지 않습니다.
+     * 먼저 요청한 작업이 자신의 제한 시간 초과 등으로 실패하면 합류한 요청은 자신의 남은 시간으로 다시 실행하고,
+     * fashn.ai가 입력 이미지를 거절한 실패(포즈 인식 불가 등)만 그대로 공유합니다.
+     */
+    private Mono<FittedResult> fitAndUploadResultAsync(String tryOnJobId, String modelUrl, String clothImageUrl,
+            Deadline deadline) {
+        return updateJobStatusAsync(tryOnJobId, TryOnJobStatus.FITTING)
+                .then(Mono.defer(() -> {
+                    VirtualFittingCoalescer.Flight<FittedResult> flight = virtualFittingCoalescer.join(
+                            modelUrl + "|" + clothImageUrl,
+                            () -> submitAndPostprocessAsync(tryOnJobId, modelUrl, clothImageUrl, deadline));
+                    if (flight.leader()) {
+                        return flight.result();
+                    }
+                    Mono<FittedResult> leaderResult = flight.result().onErrorResume(
+                            error -> !isInputRejection(error), error -> {
+                                log.warn("[TryOnService] 병합된 가상 피팅 실패, 직접 실행 - tryOnJobId={}, error={}",
+                                        tryOnJobId, error.getMessage());
+                                return Mono.empty();
+                            });
+                    return runStage(deadline, TryOnStage.COALESCED_WAIT, leaderResult)
+                            .map(shared -> new FittedResult(null, shared.uploadedResultImageUrl()))
+                            .switchIfEmpty(Mono.defer(() -> submitAndPostprocessAsync(tryOnJobId, modelUrl,
+                                    clothImageUrl, deadline)));
+                }));
+    }
+
+    /**
+     * 같은 입력으로 다시 요청해도 같은 결과가 나오는 fashn.ai의 입력 이미지 거절인지 여부
+     */
+    private static boolean isInputRejection(Throwable error) {
+        return error instanceof CustomException customException
+                && INPUT_REJECTION_ERRORS.contains(customException.getErrorCode());
+    }
+
+    /**
+     * 가상 피팅 요청 → 완료 대기 → 배경 제거 → 결과 업로드 (병합된 요청 중 실제로 실행하는 쪽)
+     */
+    private Mono<FittedResult> submitAndPostprocessAsync(String tryOnJobId, String modelUrl, String clothImageUrl,
+            Deadline deadline) {
+        VirtualFittingRequest virtualFittingRequest = tryOnResultConverter.toVirtualFittingRequest(modelUrl,
+                clothImageUrl);
+
+        return submitFittingAsync(virtualFittingRequest, null, deadline)
+                .flatMap(virtualFittingResponse -> tryOnMetrics.timedFittingWait(deadlineGuard.within(deadline,
+                        TryOnStage.FITTING_WAIT,
+                        virtualFittingStatusPoller.trackAsMono(virtualFittingResponse.id(), maxWaitTimeMs)))
+                        .flatMap(finalStatus -> {
+                            if (!"completed".equals(finalStatus.status())) {
+                                return Mono.error(toVirtualFittingException(modelUrl, finalStatus));
+                            }
+                            String resultImageUrl = extractResultImageUrl(modelUrl, finalStatus);
+
+                            // fashn.ai 결과 이미지 배경 제거 후 S3에 업로드
+                            return updateJobStatusAsync(tryOnJobId, TryOnJobStatus.POSTPROCESSING)
+                                    .then(postprocessResultAsync(resultImageUrl, deadline))
+                                    .doOnNext(uploadedResultImageUrl -> log.info(
+                                            "[TryOnService] 가상 피팅 결과 S3 업로드 완료 - originalUrl={}, s3Url={}",
+                                            resultImageUrl, uploadedResultImageUrl))
+                                    .map(uploadedResultImageUrl -> new FittedResult(virtualFittingResponse.id(),
+                                            uploadedResultImageUrl));
+                        }));
+    }
+
+    /**
+     * 결과 이미지 다운로드 → 배경 제거 → S3 업로드
+     * 스트리밍 모드에서는 이미지 전체를 byte[]로 모으지 않고 DataBuffer 스트림으로 세 단계를 연결합니다.
+     */
+    private Mono<String> postprocessResultAsync(String resultImageUrl, Deadline deadline) {
+        if (streamingResultPostprocess) {
+            return runStage(deadline, TryOnStage.RESULT_POSTPROCESS, imageUploadUtil.uploadTryOnResultImageAsync(
+                    backgroundRemovalUtil.removeBackgroundStreaming(resultImageUrl), deadline));
+        }
+        return runStage(deadline, TryOnStage.RESULT_DOWNLOAD, backgroundRemovalUtil.downloadImageAsync(resultImageUrl))
+                .flatMap(imageBytes -> runStage(deadline, TryOnStage.BACKGROUND_REMOVAL,
+                        backgroundRemovalUtil.removeBackgroundAsync(imageBytes,
+                                BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME)))
+                .flatMap(imageBytes -> runStage(deadline, TryOnStage.RESULT_UPLOAD,
+                        imageUploadUtil.uploadTryOnResultImageAsync(imageBytes, deadline)));
+    }
+
+    private Mono<Void> updateJobStatusAsync(String tryOnJobId, TryOnJobStatus status) {
+        return Mono.fromRunnable(() -> tryOnWriteService.updateJobStatus(tryOnJobId, status))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * DB 접근 등 블로킹 작업은 이벤트 루프가 아닌 boundedElastic 스케줄러에서 실행
+     */
+    private static <T> Mono<T> fromBlocking(Callable<T> blockingCall) {
+        return Mono.fromCallable(blockingCall).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 가상 피팅 준비 단계 결과 (기본 모델, 피팅 결과 엔티티, 검증된 카테고리, 업로드된 의류 이미지 URL)
+     */
+    private record PreparedFitting(DefaultModel defaultModel, TryOnResult tryOnResult, Category category,
+            String clothImageUrl) {
+    }
+
+    /**
+     * 가상 피팅 및 결과 업로드 완료 정보
+     */
+    private record FittedResult(String virtualFittingId, String uploadedResultImageUrl) {
+    }
+
+    /**
+     * 카테고리 예측 결과의 가상 피팅 지원 여부를 검증하고 Category로 변환
+     */
+    private Category toSupportedCategory(CategoryPredictionResponse categoryPredictionResponse) {
+        log.info("[TryOnService] 카테고리 예측 완료 - className={}, confidence={}", categoryPredictionResponse.className(),
+                categoryPredictionResponse.confidence());
+
+        // 지원하지 않는 카테고리 검증
+        validateSupportedCategory(categoryPredictionResponse.className());
+        return parseCategory(categoryPredictionResponse.className());
+    }
+
+    /**
+     * 완료된 가상 피팅 응답에서 결과 이미지 URL 추출
+     */
+    private String extractResultImageUrl(String modelUrl, VirtualFittingStatusResponse finalStatus) {
+        // 안전한 결과 추출 - null/empty 체크
+        if (finalStatus.output() == null || finalStatus.output().isEmpty()) {
+            log.error("[TryOnService] 가상 피팅 완료되었으나 결과 이미지가 없음 - modelUrl={}, output={}", modelUrl,
+                    finalStatus.output());
+            throw new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "가상피팅이 완료되었으나 결과 이미지를 받지 못했습니다.");
+        }
+        return finalStatus.output().get(0); // 첫 번째 결과 이미지
     }
 
     /**
@@ -192,10 +611,10 @@ public class TryOnServiceImpl implements TryOnService {
     /**
      * fashn.ai API 에러를 구체적으로 로깅하고 적절한 예외로 변환
      */
-    private void handleVirtualFittingError(String modelUrl, VirtualFittingStatusResponse finalStatus) {
+    private CustomException toVirtualFittingException(String modelUrl, VirtualFittingStatusResponse finalStatus) {
         if (finalStatus.error() == null) {
             log.error("[TryOnService] 가상 피팅 실패 - modelUrl={}, status={}, error=null", modelUrl, finalStatus.status());
-            throw new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "가상피팅에 실패했습니다.");
+            return new CustomException(ErrorCode.VIRTUAL_FITTING_FAILED, "가상피팅에 실패했습니다.");
         }
 
         String errorName = finalStatus.error().name();
@@ -234,9 +653,9 @@ public class TryOnServiceImpl implements TryOnService {
             }
         };
 
-        // 구체적인 에러 메시지와 함께 예외 발생
+        // 구체적인 에러 메시지와 함께 예외 생성
         String detailedMessage = String.format("%s (fashn.ai 에러: %s)", errorCode.getMessage(), errorMessage);
-        throw new CustomException(errorCode, detailedMessage);
+        return new CustomException(errorCode, detailedMessage);
     }
 
     /**
@@ -284,31 +703,27 @@ public class TryOnServiceImpl implements TryOnService {
         log.info("[TryOnService] 이미지 URL을 Data URL로 변환 시작 - url={}", imageUrl);
 
         try {
-            ResponseEntity<byte[]> responseEntity = imageDownloadWebClient
-                    .get()
-                    .uri(imageUrl)
-                    .retrieve()
-                    .toEntity(byte[].class)
-                    .block();
-
-            byte[] imageBytes = responseEntity.getBody();
-            if (imageBytes == null || imageBytes.length == 0) {
+            // 최근 변환한 URL은 캐시된 원본을 재사용 (재검증 시간이 지났으면 원본 서버에 조건부 요청)
+            ImageDataUrlCache.CachedImage image = imageDataUrlCache.get(imageUrl);
+
+            byte[] imageBytes = image.content();
+            if (imageBytes.length == 0) {
                 throw new CustomException(ErrorCode.IMAGE_LOAD_ERROR, "다운로드된 이미지가 비어있습니다.");
             }
 
-            log.info("[TryOnService] 이미지 다운로드 완료 - size={}KB", imageBytes.length / 1024);
+            log.info("[TryOnService] 이미지 준비 완료 - size={}KB", imageBytes.length / 1024);
 
-            // Content-Type 헤더에서 MIME 타입 가져오기 (더 신뢰성 높음)
-            String mimeType = Optional.ofNullable(responseEntity.getHeaders().getContentType())
-                    .map(Object::toString)
+            // 실제 내용(매직 바이트)으로 판별한 형식을 우선 사용하고, 판별할 수 없으면 Content-Type 헤더, URL 순으로 추정
+            String mimeType = ImageInspector.inspect(imageBytes)
+                    .map(imageInfo -> imageInfo.format().getMimeType())
+                    .or(() -> Optional.ofNullable(image.contentType())
+                            .map(contentType -> contentType.getType() + "/" + contentType.getSubtype()))
                     .orElseGet(() -> detectMimeType(imageUrl)); // fallback
 
-            String base64 = Base64.getEncoder().encodeToString(imageBytes);
-            String dataUrl = String.format("data:%s;base64,%s", mimeType, base64);
-
             log.info("[TryOnService] Data URL 변환 완료 - mimeType={}", mimeType);
 
-            return new ImageDataUrlResponse(dataUrl);
+            // Base64 문자열은 만들지 않고 응답 직렬화 시 본문에 바로 인코딩
+            return new ImageDataUrlResponse(new ImageDataUrlResponse.DataUrl(mimeType, imageBytes));
 
         } catch (WebClientResponseException e) {
             log.error("[TryOnService] 이미지 URL 변환 실패 (WebClient) - url={}, status={}, body={}", imageUrl, e.getStatusCode(), e.getResponseBodyAsString(), e);
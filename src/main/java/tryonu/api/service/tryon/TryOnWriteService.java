@@ -1,13 +1,19 @@
 package tryonu.api.service.tryon;
 
 import tryonu.api.common.enums.Category;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.domain.SizeAdvice;
 import tryonu.api.domain.TryOnResult;
 import tryonu.api.domain.User;
 import tryonu.api.domain.DefaultModel;
 import tryonu.api.dto.responses.TryOnResponse;
 
+import java.util.List;
+
 /**
  * 가상 피팅 결과를 영속화하는 짧은 쓰기 트랜잭션 경계 서비스
+ * 호출하는 오케스트레이션 코드는 트랜잭션 밖에서 실행되므로, 각 메서드가 하나의 커넥션으로 시작과 커밋을 마친다.
  */
 public interface TryOnWriteService {
 
@@ -24,4 +30,74 @@ public interface TryOnWriteService {
             String virtualFittingId,
             DefaultModel defaultModel,
             User currentUser);
+
+    /**
+     * 가상 피팅을 요청한 뒤, 완료 콜백(WebHook 또는 상태 폴러)에서 후처리할 수 있도록
+     * 의류 엔티티와 가상 피팅 ID를 저장하고 작업을 FITTING 상태로 전환한다.
+     */
+    void markFittingSubmitted(
+            String tryOnJobId,
+            Category category,
+            String clothImageUrl,
+            String productPageUrl,
+            String modelUrl,
+            Long defaultModelId,
+            String virtualFittingId);
+
+    /**
+     * 같은 (모델 이미지, 의류 이미지)의 캐시된 결과로 가상 피팅 없이 작업을 완료하고 응답을 만든다.
+     * 작업 스레드에는 인증 정보가 없으므로 작업 소유자를 조회하여 최근 사용 모델을 갱신한다.
+     */
+    TryOnResponse saveCachedFitting(
+            String tryOnJobId,
+            Category category,
+            String clothImageUrl,
+            String productPageUrl,
+            String modelUrl,
+            String cachedResultImageUrl,
+            DefaultModel defaultModel);
+
+    /**
+     * 가상 피팅 완료를 처리할 권한을 선점한다. (FITTING -> POSTPROCESSING 작업별 조건부 전이)
+     * WebHook 중복 수신이나 상태 폴러/스위퍼와의 경합 시 한 곳에서만 후처리가 실행되도록 한다.
+     * 같은 가상 피팅에 연결된(병합된) 작업이 여러 개면 대기 중인 작업을 모두 선점한다.
+     *
+     * @return 선점에 성공한 작업의 tryOnJobId 목록, 이미 처리 중이거나 대상이 없으면 빈 목록
+     */
+    List<String> claimVirtualFitting(String virtualFittingId);
+
+    /**
+     * 대기 중인(FITTING) 작업 하나만 선점한다. 같은 가상 피팅에 연결된 다른 작업은 그대로 둔다.
+     * 작업별 제한 시간이 지나 그 작업만 실패로 기록할 때 사용한다.
+     *
+     * @return 선점에 성공하면 true
+     */
+    boolean claimTryOnJob(String tryOnJobId);
+
+    /**
+     * 완료 콜백에서 후처리한 피팅 작업의 결과 이미지를 저장하고 응답을 만든다.
+     */
+    TryOnResponse saveCompletedFitting(TryOnResult tryOnResult, String uploadedResultImageUrl,
+            DefaultModel defaultModel);
+
+    /**
+     * 피팅 작업을 접수 상태(QUEUED)로 전환한다.
+     * 다른 사용자의 작업이거나 이미 진행 중/완료된 작업이면 예외가 발생한다.
+     */
+    void markJobQueued(String tryOnJobId, Long userId);
+
+    /**
+     * 피팅 작업의 진행 상태를 갱신한다.
+     */
+    void updateJobStatus(String tryOnJobId, TryOnJobStatus status);
+
+    /**
+     * 피팅 작업을 실패(FAILED) 상태로 전환하고 에러 정보를 기록한다.
+     */
+    void markJobFailed(String tryOnJobId, ErrorCode errorCode, String errorMessage);
+
+    /**
+     * 외부 분석이 끝난 이후, 사이즈 정보와 조언을 저장한다.
+     */
+    SizeAdvice saveSizeAdvice(String tryOnJobId, String sizeInfo, String advice);
 }
@@ -1,20 +1,35 @@
 package tryonu.api.service.tryon;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
 import tryonu.api.common.enums.Category;
+import tryonu.api.common.enums.DerivativeTarget;
+import tryonu.api.common.event.ImageStoredEvent;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
 import tryonu.api.domain.Cloth;
 import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.SizeAdvice;
 import tryonu.api.domain.TryOnResult;
 import tryonu.api.domain.User;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
 import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.repository.cloth.ClothRepository;
+import tryonu.api.repository.sizeadvice.SizeAdviceRepository;
 import tryonu.api.repository.tryonresult.TryOnResultRepository;
 import tryonu.api.repository.user.UserRepository;
 import tryonu.api.converter.TryOnResultConverter;
 
+import tryonu.api.common.util.ImageUploadUtil;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TryOnWriteServiceImpl implements TryOnWriteService {
@@ -23,9 +38,11 @@ public class TryOnWriteServiceImpl implements TryOnWriteService {
     private final ClothRepository clothRepository;
     private final TryOnResultConverter tryOnResultConverter;
     private final UserRepository userRepository;
+    private final SizeAdviceRepository sizeAdviceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public TryOnResponse saveAndBuildResponse(
             TryOnResult tryOnResult,
             Category category,
@@ -36,8 +53,7 @@ public class TryOnWriteServiceImpl implements TryOnWriteService {
             String virtualFittingId,
             DefaultModel defaultModel,
             User currentUser) {
-        Cloth cloth = tryOnResultConverter.toClothEntity(clothImageUrl, productPageUrl, category);
-        clothRepository.save(cloth);
+        Cloth cloth = findOrCreateCloth(clothImageUrl, productPageUrl, category);
 
         // 기존 tryOnResult 업데이트
         tryOnResult.updateTryOnResult(
@@ -47,7 +63,9 @@ public class TryOnWriteServiceImpl implements TryOnWriteService {
                 uploadedResultImageUrl,
                 virtualFittingId,
                 defaultModel.getId());
+        tryOnResult.updateStatus(TryOnJobStatus.COMPLETED);
         tryOnResultRepository.save(tryOnResult);
+        publishImageStored(tryOnResult);
 
         currentUser.updateRecentlyUsedModelUrl(uploadedResultImageUrl);
         currentUser.updateRecentlyUsedModelName(defaultModel.getModelName());
@@ -56,4 +74,138 @@ public class TryOnWriteServiceImpl implements TryOnWriteService {
 
         return tryOnResultConverter.toTryOnResponse(tryOnResult, defaultModel.getModelName());
     }
+
+    @Override
+    @Transactional
+    public void markFittingSubmitted(
+            String tryOnJobId,
+            Category category,
+            String clothImageUrl,
+            String productPageUrl,
+            String modelUrl,
+            Long defaultModelId,
+            String virtualFittingId) {
+        Cloth cloth = findOrCreateCloth(clothImageUrl, productPageUrl, category);
+
+        TryOnResult tryOnResult = tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId);
+        tryOnResult.markFittingSubmitted(cloth, modelUrl, defaultModelId, virtualFittingId);
+        tryOnResultRepository.save(tryOnResult);
+        log.info("[TryOnWriteService] 가상 피팅 요청 정보 저장 - tryOnJobId={}, virtualFittingId={}", tryOnJobId,
+                virtualFittingId);
+    }
+
+    @Override
+    @Transactional
+    public TryOnResponse saveCachedFitting(
+            String tryOnJobId,
+            Category category,
+            String clothImageUrl,
+            String productPageUrl,
+            String modelUrl,
+            String cachedResultImageUrl,
+            DefaultModel defaultModel) {
+        TryOnResult tryOnResult = tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId);
+        // 캐시 적중 - 다른 작업의 가상 피팅 ID를 공유하지 않도록 virtualFittingId는 비워 둠
+        return saveAndBuildResponse(tryOnResult, category, clothImageUrl, productPageUrl, modelUrl,
+                cachedResultImageUrl, null, defaultModel, tryOnResult.getUser());
+    }
+
+    @Override
+    @Transactional
+    public List<String> claimVirtualFitting(String virtualFittingId) {
+        // 작업별 조건부 전이로 선점하여, 다른 호출이 먼저 선점한 작업은 제외
+        return tryOnResultRepository.findTryOnJobIdsByVirtualFittingId(virtualFittingId, TryOnJobStatus.FITTING)
+                .stream()
+                .filter(this::claimTryOnJob)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public boolean claimTryOnJob(String tryOnJobId) {
+        return tryOnResultRepository.updateStatusByTryOnJobId(tryOnJobId, TryOnJobStatus.FITTING,
+                TryOnJobStatus.POSTPROCESSING);
+    }
+
+    @Override
+    @Transactional
+    public TryOnResponse saveCompletedFitting(TryOnResult tryOnResult, String uploadedResultImageUrl,
+            DefaultModel defaultModel) {
+        tryOnResult.completeFitting(uploadedResultImageUrl);
+        tryOnResultRepository.save(tryOnResult);
+        publishImageStored(tryOnResult);
+
+        User user = tryOnResult.getUser();
+        user.updateRecentlyUsedModelUrl(uploadedResultImageUrl);
+        user.updateRecentlyUsedModelName(defaultModel.getModelName());
+        user.updateRecentlyUsedModelId(defaultModel.getId());
+        userRepository.save(user);
+
+        return tryOnResultConverter.toTryOnResponse(tryOnResult, defaultModel.getModelName());
+    }
+
+    @Override
+    @Transactional
+    public void markJobQueued(String tryOnJobId, Long userId) {
+        // 상태 확인과 전이를 한 번의 조건부 UPDATE로 처리하여, 같은 작업의 동시 요청 중 하나만 접수
+        if (tryOnResultRepository.markJobQueued(tryOnJobId, userId)) {
+            return;
+        }
+
+        // 전이되지 않은 이유 구분 (없거나 다른 사용자의 작업이면 NOT_FOUND)
+        TryOnJobStatusResponse currentJob = tryOnResultRepository.findTryOnJobStatusOrThrow(tryOnJobId, userId);
+        throw new CustomException(ErrorCode.TRY_ON_JOB_ALREADY_SUBMITTED,
+                String.format("이미 피팅이 요청된 작업입니다. (현재 상태: %s)", currentJob.status()));
+    }
+
+    @Override
+    @Transactional
+    public void updateJobStatus(String tryOnJobId, TryOnJobStatus status) {
+        TryOnResult tryOnResult = tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId);
+        tryOnResult.updateStatus(status);
+        tryOnResultRepository.save(tryOnResult);
+        log.debug("[TryOnWriteService] 피팅 작업 상태 변경 - tryOnJobId={}, status={}", tryOnJobId, status);
+    }
+
+    @Override
+    @Transactional
+    public void markJobFailed(String tryOnJobId, ErrorCode errorCode, String errorMessage) {
+        TryOnResult tryOnResult = tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId);
+        tryOnResult.markFailed(errorCode.getCode(), errorMessage);
+        tryOnResultRepository.save(tryOnResult);
+        log.info("[TryOnWriteService] 피팅 작업 실패 기록 - tryOnJobId={}, errorCode={}", tryOnJobId, errorCode.getCode());
+    }
+
+    @Override
+    @Transactional
+    public SizeAdvice saveSizeAdvice(String tryOnJobId, String sizeInfo, String advice) {
+        SizeAdvice sizeAdvice = sizeAdviceRepository.findByTryOnJobIdAndIsDeletedFalseOrThrow(tryOnJobId);
+        sizeAdvice.updateSizeInfoAndAdvice(sizeInfo, advice);
+        return sizeAdviceRepository.save(sizeAdvice);
+    }
+
+    /**
+     * 같은 상품 페이지에서 같은 이미지(내용 주소 해시)로 만든 의류가 있으면 재사용하고, 없으면 새로 저장한다.
+     */
+    private Cloth findOrCreateCloth(String clothImageUrl, String productPageUrl, Category category) {
+        Optional<Cloth> reusableCloth = ImageUploadUtil.contentHashOf(clothImageUrl)
+                .flatMap(contentHash -> clothRepository.findReusable(contentHash, productPageUrl));
+        if (reusableCloth.isPresent()) {
+            log.debug("[TryOnWriteService] 기존 의류 재사용 - clothId={}, imageUrl={}", reusableCloth.get().getId(),
+                    clothImageUrl);
+            return reusableCloth.get();
+        }
+
+        Cloth cloth = tryOnResultConverter.toClothEntity(clothImageUrl, productPageUrl, category);
+        clothRepository.save(cloth);
+        return cloth;
+    }
+
+    /**
+     * 결과 이미지 파생본(썸네일/중간 크기) 생성 요청 (커밋 후 비동기 처리)
+     */
+    private void publishImageStored(TryOnResult tryOnResult) {
+        eventPublisher.publishEvent(new ImageStoredEvent(DerivativeTarget.TRY_ON_RESULT, tryOnResult.getId(),
+                tryOnResult.getImageUrl()));
+    }
 }
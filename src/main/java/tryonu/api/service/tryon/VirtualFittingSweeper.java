@@ -0,0 +1,28 @@
+package tryonu.api.service.tryon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 피팅 Fallback 스위퍼
+ * WebHook이 도착하지 않았거나 서버 재시작 등으로 상태 폴러 추적이 끊긴 작업만 느린 주기로 폴링하여 마무리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualFittingSweeper {
+
+    private final TryOnJobService tryOnJobService;
+
+    @Scheduled(initialDelayString = "${virtual-fitting.sweeper.interval-ms:60000}",
+            fixedDelayString = "${virtual-fitting.sweeper.interval-ms:60000}")
+    public void sweep() {
+        try {
+            tryOnJobService.sweepPendingVirtualFittings();
+        } catch (Exception e) {
+            log.error("[VirtualFittingSweeper] 가상 피팅 스위퍼 실행 실패 - error={}", e.getMessage(), e);
+        }
+    }
+}
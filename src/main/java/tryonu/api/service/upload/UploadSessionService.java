@@ -0,0 +1,13 @@
+package tryonu.api.service.upload;
+
+import tryonu.api.dto.requests.UploadSessionRequest;
+import tryonu.api.dto.responses.UploadSessionResponse;
+
+public interface UploadSessionService {
+
+    /**
+     * 현재 사용자에게 S3 직접 업로드 세션(서명된 PUT URL)을 발급합니다.
+     * 업로드가 끝나면 용도별 확정 API(의류: POST /try-on/fitting/uploaded, 모델: POST /default-model/uploaded)에 객체 키를 전달합니다.
+     */
+    UploadSessionResponse createUploadSession(UploadSessionRequest request);
+}
@@ -0,0 +1,24 @@
+package tryonu.api.service.upload;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tryonu.api.common.auth.SecurityUtils;
+import tryonu.api.common.util.DirectUploadUtil;
+import tryonu.api.dto.requests.UploadSessionRequest;
+import tryonu.api.dto.responses.UploadSessionResponse;
+
+@Service
+@RequiredArgsConstructor
+public class UploadSessionServiceImpl implements UploadSessionService {
+
+    private final DirectUploadUtil directUploadUtil;
+
+    @Override
+    public UploadSessionResponse createUploadSession(UploadSessionRequest request) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        DirectUploadUtil.PresignedUpload presignedUpload = directUploadUtil.presign(request.purpose(), currentUserId,
+                request.contentType(), request.contentLength());
+        return new UploadSessionResponse(presignedUpload.objectKey(), presignedUpload.uploadUrl(), "PUT",
+                presignedUpload.headers(), presignedUpload.expiresAt());
+    }
+}
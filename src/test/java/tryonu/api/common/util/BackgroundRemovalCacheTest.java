@@ -0,0 +1,113 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import tryonu.api.config.BaseServiceTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BackgroundRemovalCache 단위 테스트 - 메모리 캐시 크기 제한과 LRU 제거
+ * S3에는 저장된 결과가 없는 것으로 두고 메모리 캐시 동작만 확인합니다.
+ */
+class BackgroundRemovalCacheTest extends BaseServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger removerCalls = new AtomicInteger();
+    private BackgroundRemovalCache backgroundRemovalCache;
+
+    @BeforeEach
+    void setUp() {
+        backgroundRemovalCache = new BackgroundRemovalCache(s3Client, meterRegistry);
+        ReflectionTestUtils.setField(backgroundRemovalCache, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(backgroundRemovalCache, "backgroundRemovedFolder", "background-removed");
+        ReflectionTestUtils.setField(backgroundRemovalCache, "enabled", true);
+        ReflectionTestUtils.setField(backgroundRemovalCache, "memoryMaxBytes", 100L);
+        ReflectionTestUtils.setField(backgroundRemovalCache, "memoryMaxEntryBytes", 200L);
+        backgroundRemovalCache.initMetrics();
+        given(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .willThrow(NoSuchKeyException.builder().build());
+    }
+
+    @Nested
+    @DisplayName("메모리 캐시 크기 제한")
+    class MemoryLimit {
+
+        @Test
+        @DisplayName("성공: 바이트 합계가 max-bytes를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+        void getOrRemove_OverMaxBytes_EvictsEldest() {
+            // Given
+            removeBackground("a", 40);
+            removeBackground("b", 40);
+
+            // When
+            removeBackground("c", 40);
+
+            // Then
+            assertThat(evictions()).isEqualTo(1.0);
+            assertThat(memoryBytes()).isEqualTo(80.0);
+            removerCalls.set(0);
+            removeBackground("c", 40);
+            removeBackground("b", 40);
+            assertThat(removerCalls).hasValue(0);
+            removeBackground("a", 40);
+            assertThat(removerCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("성공: max-entry-bytes 이하라도 max-bytes보다 큰 결과는 보관하지 않고 기존 항목도 유지")
+        void getOrRemove_EntryLargerThanMaxBytes_SkipsEntry() {
+            // Given
+            removeBackground("a", 40);
+            removeBackground("b", 40);
+
+            // When
+            byte[] large = removeBackground("large", 150);
+
+            // Then
+            assertThat(large).hasSize(150);
+            assertThat(evictions()).isZero();
+            assertThat(memoryBytes()).isEqualTo(80.0);
+            removerCalls.set(0);
+            removeBackground("a", 40);
+            removeBackground("b", 40);
+            assertThat(removerCalls).hasValue(0);
+            removeBackground("large", 150);
+            assertThat(removerCalls).hasValue(1);
+        }
+    }
+
+    /**
+     * 입력 이미지 이름으로 만든 페이로드의 배경 제거 (캐시 미스면 size 바이트 결과를 만드는 remover 호출)
+     */
+    private byte[] removeBackground(String name, int size) {
+        ImagePayload input = ImagePayload.wrap(name.getBytes(), name + ".png", "image/png");
+        return backgroundRemovalCache.getOrRemove(input, () -> {
+            removerCalls.incrementAndGet();
+            return Mono.just(new byte[size]);
+        }).block();
+    }
+
+    private double evictions() {
+        return meterRegistry.get("background.removal.cache.evictions").counter().count();
+    }
+
+    private double memoryBytes() {
+        return meterRegistry.get("background.removal.cache.memory.bytes").gauge().value();
+    }
+}
@@ -0,0 +1,139 @@
+package tryonu.api.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ImageCodec 단위 테스트 - EXIF 방향 반영과 긴 변 기준 축소
+ */
+class ImageCodecTest {
+
+    private static final int MARKER = Color.RED.getRGB();
+    private static final int BACKGROUND = Color.WHITE.getRGB();
+
+    @Nested
+    @DisplayName("EXIF 방향 반영")
+    class ApplyOrientation {
+
+        @Test
+        @DisplayName("성공: 6(시계 방향 90도)은 가로/세로를 바꾸고 왼쪽 위 픽셀이 오른쪽 위로 이동")
+        void applyOrientation_Six_RotatesClockwise() {
+            // Given
+            BufferedImage image = markedImage(40, 20);
+
+            // When
+            BufferedImage oriented = ImageCodec.applyOrientation(image, 6);
+
+            // Then
+            assertThat(oriented.getWidth()).isEqualTo(20);
+            assertThat(oriented.getHeight()).isEqualTo(40);
+            assertThat(oriented.getRGB(19, 0)).isEqualTo(MARKER);
+            assertThat(oriented.getRGB(0, 0)).isEqualTo(BACKGROUND);
+        }
+
+        @Test
+        @DisplayName("성공: 8(반시계 방향 90도)은 가로/세로를 바꾸고 왼쪽 위 픽셀이 왼쪽 아래로 이동")
+        void applyOrientation_Eight_RotatesCounterClockwise() {
+            // Given
+            BufferedImage image = markedImage(40, 20);
+
+            // When
+            BufferedImage oriented = ImageCodec.applyOrientation(image, 8);
+
+            // Then
+            assertThat(oriented.getWidth()).isEqualTo(20);
+            assertThat(oriented.getHeight()).isEqualTo(40);
+            assertThat(oriented.getRGB(0, 39)).isEqualTo(MARKER);
+            assertThat(oriented.getRGB(0, 0)).isEqualTo(BACKGROUND);
+        }
+
+        @Test
+        @DisplayName("성공: 3(180도)은 가로/세로를 유지하고 왼쪽 위 픽셀이 오른쪽 아래로 이동")
+        void applyOrientation_Three_Rotates180() {
+            // Given
+            BufferedImage image = markedImage(40, 20);
+
+            // When
+            BufferedImage oriented = ImageCodec.applyOrientation(image, 3);
+
+            // Then
+            assertThat(oriented.getWidth()).isEqualTo(40);
+            assertThat(oriented.getHeight()).isEqualTo(20);
+            assertThat(oriented.getRGB(39, 19)).isEqualTo(MARKER);
+        }
+
+        @Test
+        @DisplayName("성공: 1이나 범위 밖 값은 원본 이미지를 그대로 반환")
+        void applyOrientation_NoRotation_ReturnsSameImage() {
+            // Given
+            BufferedImage image = markedImage(40, 20);
+
+            // When & Then
+            assertThat(ImageCodec.applyOrientation(image, 1)).isSameAs(image);
+            assertThat(ImageCodec.applyOrientation(image, 9)).isSameAs(image);
+        }
+    }
+
+    @Nested
+    @DisplayName("긴 변 기준 축소")
+    class Downscale {
+
+        @Test
+        @DisplayName("성공: 긴 변이 정확히 max-edge가 되도록 비율을 유지해 축소")
+        void downscale_LongEdgeOverMax_HitsMaxEdgeExactly() {
+            // Given
+            BufferedImage image = new BufferedImage(4032, 3024, BufferedImage.TYPE_INT_RGB);
+
+            // When
+            BufferedImage scaled = ImageCodec.downscale(image, 2048);
+
+            // Then
+            assertThat(scaled.getWidth()).isEqualTo(2048);
+            assertThat(scaled.getHeight()).isEqualTo(1536);
+        }
+
+        @Test
+        @DisplayName("성공: 여러 번 절반씩 줄여도 마지막 단계에서 정확히 max-edge에 맞춤 (세로가 긴 이미지)")
+        void downscale_MultipleHalvings_HitsMaxEdgeExactly() {
+            // Given
+            BufferedImage image = new BufferedImage(1000, 3001, BufferedImage.TYPE_INT_RGB);
+
+            // When
+            BufferedImage scaled = ImageCodec.downscale(image, 700);
+
+            // Then
+            assertThat(scaled.getHeight()).isEqualTo(700);
+            assertThat(scaled.getWidth()).isEqualTo(233);
+        }
+
+        @Test
+        @DisplayName("성공: 긴 변이 max-edge와 같거나 작으면 원본 이미지를 그대로 반환")
+        void downscale_AtMaxEdge_ReturnsSameImage() {
+            // Given
+            BufferedImage image = new BufferedImage(2048, 1024, BufferedImage.TYPE_INT_RGB);
+
+            // When & Then
+            assertThat(ImageCodec.downscale(image, 2048)).isSameAs(image);
+        }
+    }
+
+    /**
+     * 왼쪽 위 픽셀만 빨간색인 흰색 이미지
+     */
+    private static BufferedImage markedImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, BACKGROUND);
+            }
+        }
+        image.setRGB(0, 0, MARKER);
+        return image;
+    }
+}
@@ -0,0 +1,251 @@
+package tryonu.api.common.util;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import tryonu.api.common.util.ImageDataUrlCache.CachedImage;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ImageDataUrlCache 단위 테스트 - ETag 재검증(304), 원본 오류 시 제거, 바이트 합계 기준 LRU 제거, 큰 항목 미보관
+ * 원본 서버는 경로별로 응답을 바꿀 수 있는 로컬 HTTP 서버로 대체합니다.
+ */
+class ImageDataUrlCacheTest {
+
+    private static final long NO_REVALIDATION_MS = 60_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, OriginResponse> originResponses = new ConcurrentHashMap<>();
+    private final List<OriginRequest> originRequests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ImageDataUrlCache imageDataUrlCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath();
+                String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+                originRequests.add(new OriginRequest(path, ifNoneMatch));
+                OriginResponse response = originResponses.get(path);
+                if (response == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                if (response.eTag() != null && response.eTag().equals(ifNoneMatch)) {
+                    exchange.getResponseHeaders().set("ETag", response.eTag());
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                exchange.getResponseHeaders().set("Content-Type", MediaType.IMAGE_PNG_VALUE);
+                if (response.eTag() != null) {
+                    exchange.getResponseHeaders().set("ETag", response.eTag());
+                }
+                exchange.sendResponseHeaders(200, response.content().length);
+                exchange.getResponseBody().write(response.content());
+            }
+        });
+        server.start();
+
+        imageDataUrlCache = new ImageDataUrlCache(WebClient.create(), meterRegistry);
+        ReflectionTestUtils.setField(imageDataUrlCache, "enabled", true);
+        ReflectionTestUtils.setField(imageDataUrlCache, "maxBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(imageDataUrlCache, "maxEntryBytes", 256L * 1024);
+        ReflectionTestUtils.setField(imageDataUrlCache, "revalidateAfterMs", NO_REVALIDATION_MS);
+        imageDataUrlCache.initMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Nested
+    @DisplayName("조회와 재검증")
+    class Get {
+
+        @Test
+        @DisplayName("성공: 재검증 시간 안에는 원본 서버에 요청하지 않고 보관한 바이트 재사용 (miss → hit)")
+        void get_WithinRevalidateWindow_ReusesWithoutRequest() {
+            // Given
+            byte[] image = bytes(100, 1);
+            origin("/a.png", image, "\"v1\"");
+
+            // When
+            CachedImage first = imageDataUrlCache.get(url("/a.png"));
+            CachedImage second = imageDataUrlCache.get(url("/a.png"));
+
+            // Then
+            assertThat(first.content()).isEqualTo(image);
+            assertThat(first.contentType()).isEqualTo(MediaType.IMAGE_PNG);
+            assertThat(first.eTag()).isEqualTo("\"v1\"");
+            assertThat(second).isSameAs(first);
+            assertThat(originRequests).hasSize(1);
+            assertThat(count("miss")).isEqualTo(1.0);
+            assertThat(count("hit")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 재검증 시간이 지나면 If-None-Match로 요청하고 304면 보관한 바이트 재사용 (revalidated)")
+        void get_NotModified_ReusesStoredBytes() {
+            // Given
+            ReflectionTestUtils.setField(imageDataUrlCache, "revalidateAfterMs", 0L);
+            byte[] image = bytes(100, 1);
+            origin("/a.png", image, "\"v1\"");
+            CachedImage first = imageDataUrlCache.get(url("/a.png"));
+
+            // When
+            CachedImage revalidated = imageDataUrlCache.get(url("/a.png"));
+
+            // Then
+            assertThat(originRequests).extracting(OriginRequest::ifNoneMatch).containsExactly(null, "\"v1\"");
+            assertThat(revalidated.content()).isSameAs(first.content());
+            assertThat(revalidated.eTag()).isEqualTo("\"v1\"");
+            assertThat(count("revalidated")).isEqualTo(1.0);
+            assertThat(gauge("image.data_url.cache.bytes")).isEqualTo(100.0);
+        }
+
+        @Test
+        @DisplayName("성공: 원본이 바뀌었으면(ETag 불일치 200) 새 내용으로 교체 (changed)")
+        void get_Modified_ReplacesStoredBytes() {
+            // Given
+            ReflectionTestUtils.setField(imageDataUrlCache, "revalidateAfterMs", 0L);
+            origin("/a.png", bytes(100, 1), "\"v1\"");
+            imageDataUrlCache.get(url("/a.png"));
+            byte[] changed = bytes(150, 2);
+            origin("/a.png", changed, "\"v2\"");
+
+            // When
+            CachedImage result = imageDataUrlCache.get(url("/a.png"));
+
+            // Then
+            assertThat(result.content()).isEqualTo(changed);
+            assertThat(result.eTag()).isEqualTo("\"v2\"");
+            assertThat(count("changed")).isEqualTo(1.0);
+            assertThat(gauge("image.data_url.cache.bytes")).isEqualTo(150.0);
+        }
+
+        @Test
+        @DisplayName("실패: 재검증 중 원본이 4xx를 반환하면 예외를 전달하고 보관한 항목도 제거")
+        void get_OriginNotFound_DropsEntry() {
+            // Given
+            ReflectionTestUtils.setField(imageDataUrlCache, "revalidateAfterMs", 0L);
+            origin("/a.png", bytes(100, 1), "\"v1\"");
+            imageDataUrlCache.get(url("/a.png"));
+            originResponses.remove("/a.png");
+
+            // When & Then
+            assertThatThrownBy(() -> imageDataUrlCache.get(url("/a.png")))
+                    .isInstanceOf(WebClientResponseException.NotFound.class);
+            assertThat(gauge("image.data_url.cache.size")).isZero();
+            assertThat(gauge("image.data_url.cache.bytes")).isZero();
+
+            // 다시 생기면 조건부 요청 없이 새로 내려받음
+            origin("/a.png", bytes(100, 3), "\"v3\"");
+            imageDataUrlCache.get(url("/a.png"));
+            assertThat(originRequests.get(originRequests.size() - 1).ifNoneMatch()).isNull();
+            assertThat(count("miss")).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("보관 용량 제한")
+    class Capacity {
+
+        @Test
+        @DisplayName("성공: 바이트 합계가 max-bytes를 넘으면 가장 오래 사용되지 않은 항목부터 제거")
+        void store_OverMaxBytes_EvictsLeastRecentlyUsed() {
+            // Given
+            ReflectionTestUtils.setField(imageDataUrlCache, "maxBytes", 250L);
+            origin("/a.png", bytes(100, 1), null);
+            origin("/b.png", bytes(100, 2), null);
+            origin("/c.png", bytes(100, 3), null);
+            imageDataUrlCache.get(url("/a.png"));
+            imageDataUrlCache.get(url("/b.png"));
+            imageDataUrlCache.get(url("/a.png")); // a를 최근 사용으로 갱신 (hit)
+
+            // When
+            imageDataUrlCache.get(url("/c.png"));
+
+            // Then
+            assertThat(meterRegistry.get("image.data_url.cache.evictions").counter().count()).isEqualTo(1.0);
+            assertThat(gauge("image.data_url.cache.bytes")).isEqualTo(200.0);
+            assertThat(gauge("image.data_url.cache.size")).isEqualTo(2.0);
+
+            originRequests.clear();
+            imageDataUrlCache.get(url("/a.png"));
+            imageDataUrlCache.get(url("/b.png"));
+            assertThat(originRequests).extracting(OriginRequest::path).containsExactly("/b.png");
+        }
+
+        @Test
+        @DisplayName("성공: max-entry-bytes를 넘는 이미지는 반환만 하고 보관하지 않음")
+        void store_OverMaxEntryBytes_SkipsEntry() {
+            // Given
+            ReflectionTestUtils.setField(imageDataUrlCache, "maxEntryBytes", 50L);
+            byte[] image = bytes(100, 1);
+            origin("/big.png", image, "\"v1\"");
+
+            // When
+            CachedImage first = imageDataUrlCache.get(url("/big.png"));
+            CachedImage second = imageDataUrlCache.get(url("/big.png"));
+
+            // Then
+            assertThat(first.content()).isEqualTo(image);
+            assertThat(second.content()).isEqualTo(image);
+            assertThat(originRequests).extracting(OriginRequest::ifNoneMatch).containsExactly(null, null);
+            assertThat(gauge("image.data_url.cache.size")).isZero();
+            assertThat(count("miss")).isEqualTo(2.0);
+        }
+    }
+
+    private void origin(String path, byte[] content, String eTag) {
+        originResponses.put(path, new OriginResponse(content, eTag));
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private double count(String result) {
+        Counter counter = meterRegistry.find("image.data_url.cache").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static byte[] bytes(int size, int fill) {
+        byte[] bytes = new byte[size];
+        Arrays.fill(bytes, (byte) fill);
+        return bytes;
+    }
+
+    private record OriginResponse(byte[] content, String eTag) {
+    }
+
+    private record OriginRequest(String path, String ifNoneMatch) {
+    }
+}
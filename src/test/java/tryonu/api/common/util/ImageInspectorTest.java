@@ -0,0 +1,344 @@
+package tryonu.api.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tryonu.api.common.enums.ImageFormat;
+import tryonu.api.common.util.ImageInspector.ImageInfo;
+import tryonu.api.fixture.ImageHeaderFixture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ImageInspector 단위 테스트 - 형식별 헤더에서 읽은 형식/크기와 잘리거나 이미지가 아닌 입력 처리
+ */
+class ImageInspectorTest {
+
+    private static final long UNSIGNED_OVERFLOW = 1L << 31; // int로 읽으면 음수가 되는 크기
+
+    @Nested
+    @DisplayName("PNG")
+    class Png {
+
+        @Test
+        @DisplayName("성공: IHDR의 너비/높이")
+        void inspect_Png_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.png(1080, 1920));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.PNG, 1080, 1920));
+        }
+
+        @Test
+        @DisplayName("성공: 2^31 이상인 너비는 부호 없이 읽어 Integer.MAX_VALUE로 제한")
+        void inspect_PngWithHugeWidth_ClampsInsteadOfNegative() {
+            // When
+            ImageInfo info = ImageInspector.inspect(ImageHeaderFixture.png(UNSIGNED_OVERFLOW, 100)).orElseThrow();
+
+            // Then
+            assertThat(info.width()).isEqualTo(Integer.MAX_VALUE);
+            assertThat(info.height()).isEqualTo(100);
+            assertThat(info.hasDimensions()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: IHDR 전에 잘린 헤더는 크기 0")
+        void inspect_TruncatedPng_Unmeasured() {
+            // Given
+            byte[] truncated = Arrays.copyOf(ImageHeaderFixture.png(1080, 1920), 20);
+
+            // When
+            ImageInfo info = ImageInspector.inspect(truncated).orElseThrow();
+
+            // Then
+            assertThat(info).isEqualTo(new ImageInfo(ImageFormat.PNG, 0, 0));
+            assertThat(info.hasDimensions()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("GIF")
+    class Gif {
+
+        @Test
+        @DisplayName("성공: 논리 화면 너비/높이")
+        void inspect_Gif_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.gif(640, 480));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.GIF, 640, 480));
+        }
+    }
+
+    @Nested
+    @DisplayName("BMP")
+    class Bmp {
+
+        @Test
+        @DisplayName("성공: BITMAPINFOHEADER의 너비/높이")
+        void inspect_Bmp_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.bmp(800, 600));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.BMP, 800, 600));
+        }
+
+        @Test
+        @DisplayName("성공: 위에서 아래로 저장된 비트맵(음수 높이)은 절댓값")
+        void inspect_TopDownBmp_ReadsAbsoluteHeight() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.bmp(800, -600));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.BMP, 800, 600));
+        }
+
+        @Test
+        @DisplayName("성공: BITMAPCOREHEADER의 16비트 너비/높이")
+        void inspect_CoreHeaderBmp_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.bmpCore(320, 240));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.BMP, 320, 240));
+        }
+
+        @Test
+        @DisplayName("성공: 2^31 이상인 너비는 부호 없이 읽어 Integer.MAX_VALUE로 제한")
+        void inspect_BmpWithHugeWidth_ClampsInsteadOfNegative() {
+            // When
+            ImageInfo info = ImageInspector.inspect(ImageHeaderFixture.bmp(UNSIGNED_OVERFLOW, 100)).orElseThrow();
+
+            // Then
+            assertThat(info.width()).isEqualTo(Integer.MAX_VALUE);
+            assertThat(info.height()).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("WebP")
+    class Webp {
+
+        @Test
+        @DisplayName("성공: 손실 압축(VP8) 키 프레임의 너비/높이")
+        void inspect_LossyWebp_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.webpLossy(1024, 768));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.WEBP, 1024, 768));
+        }
+
+        @Test
+        @DisplayName("성공: 무손실(VP8L)의 14비트 너비/높이")
+        void inspect_LosslessWebp_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.webpLossless(16384, 1));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.WEBP, 16384, 1));
+        }
+
+        @Test
+        @DisplayName("성공: 확장(VP8X)의 24비트 캔버스 너비/높이")
+        void inspect_ExtendedWebp_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.webpExtended(20000, 3000));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.WEBP, 20000, 3000));
+        }
+    }
+
+    @Nested
+    @DisplayName("HEIC")
+    class Heic {
+
+        @Test
+        @DisplayName("성공: ispe의 너비/높이")
+        void inspect_Heic_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.heic(new int[] {3024, 4032}));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.HEIC, 3024, 4032));
+        }
+
+        @Test
+        @DisplayName("성공: 그리드 이미지는 타일이 아니라 가장 큰 ispe(전체 크기)")
+        void inspect_GridHeic_ReadsLargestIspe() {
+            // Given
+            byte[] grid = ImageHeaderFixture.heic(new int[] {512, 512}, new int[] {4032, 3024}, new int[] {512, 512});
+
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(grid);
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.HEIC, 4032, 3024));
+        }
+
+        @Test
+        @DisplayName("성공: ispe가 없으면 크기 0")
+        void inspect_HeicWithoutIspe_Unmeasured() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.heic());
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.HEIC, 0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("JPEG")
+    class Jpeg {
+
+        @Test
+        @DisplayName("성공: SOF의 너비/높이")
+        void inspect_Jpeg_ReadsDimensions() {
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(ImageHeaderFixture.jpeg(4000, 3000, 0));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.JPEG, 4000, 3000));
+        }
+
+        @Test
+        @DisplayName("성공: SOF 앞에 큰 APP1(EXIF)이 있어도 건너뛰고 읽음")
+        void inspect_JpegWithLargeApp1_SkipsToStartOfFrame() {
+            // Given
+            byte[] jpeg = ImageHeaderFixture.jpeg(4000, 3000, 40 * 1024);
+
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(jpeg);
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.JPEG, 4000, 3000));
+        }
+
+        @Test
+        @DisplayName("성공: 스트림 검사도 헤더 크기(16KB)를 넘는 APP1 뒤의 SOF까지 읽음")
+        void inspectStream_JpegWithLargeApp1_ReadsPastProbe() throws IOException {
+            // Given
+            byte[] jpeg = ImageHeaderFixture.jpeg(4000, 3000, ImageInspector.HEADER_PROBE_BYTES + 1024);
+
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(new ByteArrayInputStream(jpeg));
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.JPEG, 4000, 3000));
+        }
+
+        @Test
+        @DisplayName("성공: SOF 중간에서 잘린 헤더는 크기 0")
+        void inspect_TruncatedJpeg_Unmeasured() throws IOException {
+            // Given
+            byte[] jpeg = ImageHeaderFixture.jpeg(4000, 3000, 100);
+            byte[] truncated = Arrays.copyOf(jpeg, 2 + 4 + 100 + 6); // SOI + APP1 + SOF 마커/길이/정밀도 일부
+
+            // When
+            Optional<ImageInfo> fromBytes = ImageInspector.inspect(truncated);
+            Optional<ImageInfo> fromStream = ImageInspector.inspect(new ByteArrayInputStream(truncated));
+
+            // Then
+            assertThat(fromBytes).contains(new ImageInfo(ImageFormat.JPEG, 0, 0));
+            assertThat(fromStream).contains(new ImageInfo(ImageFormat.JPEG, 0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("EXIF 방향")
+    class ExifOrientation {
+
+        @Test
+        @DisplayName("성공: 인텔(II) 바이트 순서의 IFD0 방향 태그")
+        void exifOrientation_LittleEndian_ReadsTag() {
+            // Given
+            byte[] jpeg = ImageHeaderFixture.withExifOrientation(ImageHeaderFixture.jpeg(4032, 3024, 0), 6, true);
+
+            // When & Then
+            assertThat(ImageInspector.exifOrientation(ByteBuffer.wrap(jpeg))).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("성공: 모토로라(MM) 바이트 순서의 IFD0 방향 태그")
+        void exifOrientation_BigEndian_ReadsTag() {
+            // Given
+            byte[] jpeg = ImageHeaderFixture.withExifOrientation(ImageHeaderFixture.jpeg(4032, 3024, 0), 8, false);
+
+            // When & Then
+            assertThat(ImageInspector.exifOrientation(ByteBuffer.wrap(jpeg))).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("성공: 방향 태그를 읽어도 SOF 크기는 그대로 읽음")
+        void inspect_JpegWithExif_ReadsDimensions() {
+            // Given
+            byte[] jpeg = ImageHeaderFixture.withExifOrientation(ImageHeaderFixture.jpeg(4032, 3024, 0), 6, true);
+
+            // When & Then
+            assertThat(ImageInspector.inspect(jpeg)).contains(new ImageInfo(ImageFormat.JPEG, 4032, 3024));
+        }
+
+        @Test
+        @DisplayName("성공: 범위를 벗어난 값, EXIF가 없는 JPEG, JPEG이 아닌 형식은 1(회전 없음)")
+        void exifOrientation_MissingOrInvalid_DefaultsToOne() {
+            // Given
+            byte[] invalid = ImageHeaderFixture.withExifOrientation(ImageHeaderFixture.jpeg(100, 100, 0), 9, false);
+
+            // When & Then
+            assertThat(ImageInspector.exifOrientation(ByteBuffer.wrap(invalid))).isEqualTo(1);
+            assertThat(ImageInspector.exifOrientation(ByteBuffer.wrap(ImageHeaderFixture.jpeg(100, 100, 64))))
+                    .isEqualTo(1);
+            assertThat(ImageInspector.exifOrientation(ByteBuffer.wrap(ImageHeaderFixture.png(100, 100))))
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("입력 처리")
+    class Input {
+
+        @Test
+        @DisplayName("성공: 버퍼의 현재 position부터 검사하고 position은 바꾸지 않음")
+        void inspect_BufferAtOffset_ReadsFromPosition() {
+            // Given
+            ByteBuffer buffer = ImageHeaderFixture.atOffset(ImageHeaderFixture.png(1080, 1920), 37);
+
+            // When
+            Optional<ImageInfo> info = ImageInspector.inspect(buffer);
+
+            // Then
+            assertThat(info).contains(new ImageInfo(ImageFormat.PNG, 1080, 1920));
+            assertThat(buffer.position()).isEqualTo(37);
+        }
+
+        @Test
+        @DisplayName("성공: 이미지가 아닌 내용은 empty")
+        void inspect_NonImage_Empty() throws IOException {
+            // Given
+            byte[] text = "<html><body>not an image</body></html>".getBytes(StandardCharsets.UTF_8);
+
+            // When & Then
+            assertThat(ImageInspector.inspect(text)).isEmpty();
+            assertThat(ImageInspector.inspect(new ByteArrayInputStream(text))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 빈 입력과 매직 바이트보다 짧은 입력은 empty")
+        void inspect_EmptyOrShort_Empty() {
+            // When & Then
+            assertThat(ImageInspector.inspect(new byte[0])).isEmpty();
+            assertThat(ImageInspector.inspect(new byte[] {(byte) 0x89, 'P', 'N'})).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import tryonu.api.common.enums.ImageFormat;
+import tryonu.api.common.util.ImageInspector.ImageInfo;
+import tryonu.api.config.BaseServiceTest;
+import tryonu.api.fixture.ImageHeaderFixture;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ImageNormalizer 단위 테스트 - 축소/방향 보정 결과와 원본을 그대로 쓰는 경우(rejected, timeout, 재인코딩이 더 큰 경우)
+ */
+class ImageNormalizerTest extends BaseServiceTest {
+
+    private static final int MAX_EDGE = 1000;
+
+    @Mock
+    private AsyncTaskExecutor mockExecutor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("정규화")
+    class Normalize {
+
+        @Test
+        @DisplayName("성공: 긴 변을 max-edge로 줄인 뒤 EXIF 방향(6)을 반영하여 가로/세로가 바뀐 JPEG 반환")
+        void normalize_RotatedLargeJpeg_DownscalesAndRotates() throws IOException {
+            // Given
+            ImageNormalizer normalizer = normalizer(new SimpleAsyncTaskExecutor(), 5000);
+            byte[] jpeg = ImageHeaderFixture.withExifOrientation(encode(opaqueImage(3000, 1000), "jpeg"), 6, false);
+            MockMultipartFile file = new MockMultipartFile("file", "photo.jpeg", "image/jpeg", jpeg);
+
+            // When
+            MultipartFile normalized = normalizer.normalize(file);
+
+            // Then
+            assertThat(normalized).isNotSameAs(file);
+            assertThat(ImageInspector.inspect(normalized.getBytes()))
+                    .contains(new ImageInfo(ImageFormat.JPEG, 333, 1000));
+            assertThat(normalized.getOriginalFilename()).isEqualTo("photo.jpg");
+            assertThat(count("normalized")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 축소/회전 없이 재인코딩한 결과가 원본보다 크면 원본 유지 (unchanged)")
+        void normalize_LargerReencode_KeepsOriginal() throws IOException {
+            // Given
+            ImageNormalizer normalizer = normalizer(new SimpleAsyncTaskExecutor(), 5000);
+            ReflectionTestUtils.setField(normalizer, "reencodeMinBytes", 0L);
+            byte[] png = encode(opaqueImage(64, 64), "png"); // 단색 PNG는 같은 크기 JPEG보다 작음
+            MockMultipartFile file = new MockMultipartFile("file", "flat.png", "image/png", png);
+
+            // When
+            MultipartFile normalized = normalizer.normalize(file);
+
+            // Then
+            assertThat(normalized).isSameAs(file);
+            assertThat(count("unchanged")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: ImageIO로 읽을 수 없는 형식은 풀에 넘기지 않고 원본 유지 (skipped)")
+        void normalize_UndecodableFormat_Skips() {
+            // Given
+            ImageNormalizer normalizer = normalizer(mockExecutor, 5000);
+            MockMultipartFile file = new MockMultipartFile("file", "photo.webp", "image/webp",
+                    ImageHeaderFixture.webpExtended(4000, 3000));
+
+            // When
+            MultipartFile normalized = normalizer.normalize(file);
+
+            // Then
+            assertThat(normalized).isSameAs(file);
+            assertThat(count("skipped")).isEqualTo(1.0);
+            then(mockExecutor).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("원본 사용 (정규화는 최적화이므로 실패해도 요청을 막지 않음)")
+    class Fallback {
+
+        @Test
+        @DisplayName("성공: 정규화 풀이 가득 차 작업이 거절되면 원본 반환 (rejected)")
+        void normalize_PoolRejected_ReturnsOriginal() throws IOException {
+            // Given
+            ImageNormalizer normalizer = normalizer(mockExecutor, 5000);
+            MockMultipartFile file = largeJpeg();
+            given(mockExecutor.submit(any(Callable.class))).willThrow(new TaskRejectedException("queue full"));
+
+            // When
+            MultipartFile normalized = normalizer.normalize(file);
+
+            // Then
+            assertThat(normalized).isSameAs(file);
+            assertThat(count("rejected")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 제한 시간 안에 끝나지 않으면 작업을 취소하고 원본 반환 (timeout)")
+        void normalize_Timeout_CancelsAndReturnsOriginal() throws IOException {
+            // Given
+            ImageNormalizer normalizer = normalizer(mockExecutor, 50);
+            MockMultipartFile file = largeJpeg();
+            CompletableFuture<ImagePayload> neverCompletes = new CompletableFuture<>();
+            given(mockExecutor.submit(any(Callable.class))).willReturn(neverCompletes);
+
+            // When
+            MultipartFile normalized = normalizer.normalize(file);
+
+            // Then
+            assertThat(normalized).isSameAs(file);
+            assertThat(neverCompletes).isCancelled();
+            assertThat(count("timeout")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("성공: 디코딩에 실패하면 원본 반환 (error)")
+        void normalize_DecodeFailure_ReturnsOriginal() {
+            // Given
+            ImageNormalizer normalizer = normalizer(new SimpleAsyncTaskExecutor(), 5000);
+            MockMultipartFile file = new MockMultipartFile("file", "broken.jpg", "image/jpeg",
+                    ImageHeaderFixture.jpeg(4000, 3000, 0)); // 헤더만 있고 스캔 데이터가 없음
+
+            // When
+            MultipartFile normalized = normalizer.normalize(file);
+
+            // Then
+            assertThat(normalized).isSameAs(file);
+            assertThat(count("error")).isEqualTo(1.0);
+        }
+    }
+
+    private ImageNormalizer normalizer(AsyncTaskExecutor executor, long timeoutMs) {
+        ImageNormalizer normalizer = new ImageNormalizer(executor, meterRegistry);
+        ReflectionTestUtils.setField(normalizer, "enabled", true);
+        ReflectionTestUtils.setField(normalizer, "maxEdge", MAX_EDGE);
+        ReflectionTestUtils.setField(normalizer, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(normalizer, "reencodeMinBytes", 524_288L);
+        ReflectionTestUtils.setField(normalizer, "timeoutMs", timeoutMs);
+        return normalizer;
+    }
+
+    /**
+     * 긴 변이 max-edge를 넘어 정규화가 필요한 JPEG
+     */
+    private static MockMultipartFile largeJpeg() throws IOException {
+        return new MockMultipartFile("file", "large.jpg", "image/jpeg", encode(opaqueImage(MAX_EDGE * 2, 100), "jpeg"));
+    }
+
+    private static BufferedImage opaqueImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.GRAY);
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String formatName) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, out);
+        return out.toByteArray();
+    }
+
+    private double count(String result) {
+        Counter counter = meterRegistry.find("image.normalize").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,189 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import tryonu.api.common.enums.ImageFormat;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.util.ImageInspector.ImageInfo;
+import tryonu.api.fixture.ImageHeaderFixture;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ImageValidator 단위 테스트 - 헤더 검사 결과에 따른 허용/거절과 image.validation 메트릭
+ */
+class ImageValidatorTest {
+
+    private static final int MAX_DIMENSION = 12000;
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageValidator imageValidator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageValidator = new ImageValidator(meterRegistry);
+        ReflectionTestUtils.setField(imageValidator, "allowedContentTypesConfig", "image/jpeg, image/png,image/webp");
+        ReflectionTestUtils.setField(imageValidator, "maxPixels", MAX_PIXELS);
+        ReflectionTestUtils.setField(imageValidator, "maxDimension", MAX_DIMENSION);
+        imageValidator.initAllowedContentTypes();
+    }
+
+    @Nested
+    @DisplayName("업로드 파일 검증")
+    class ValidateFile {
+
+        @Test
+        @DisplayName("성공: 허용 형식이고 제한 이하 해상도면 헤더 검사 결과 반환")
+        void validate_AllowedImage_ReturnsInfo() {
+            // Given
+            MockMultipartFile file = file(ImageHeaderFixture.jpeg(3000, 4000, 1024), "image/jpeg");
+
+            // When
+            ImageInfo info = imageValidator.validate(file);
+
+            // Then
+            assertThat(info).isEqualTo(new ImageInfo(ImageFormat.JPEG, 3000, 4000));
+            assertThat(count("jpeg", "accepted")).isEqualTo(1.0);
+            assertThat(meterRegistry.get("image.validation.pixels").tag("format", "jpeg").summary().totalAmount())
+                    .isEqualTo(12_000_000.0);
+        }
+
+        @Test
+        @DisplayName("성공: Content-Type이 아니라 실제 형식으로 판단 (PNG 내용을 image/gif로 보내도 허용)")
+        void validate_MismatchedContentType_UsesDetectedFormat() {
+            // Given
+            MockMultipartFile file = file(ImageHeaderFixture.png(1080, 1920), "image/gif");
+
+            // When
+            ImageInfo info = imageValidator.validate(file);
+
+            // Then
+            assertThat(info.format()).isEqualTo(ImageFormat.PNG);
+            assertThat(count("png", "accepted")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 이미지가 아닌 내용은 unknown_format")
+        void validate_NonImage_RejectsUnknownFormat() {
+            // Given
+            MockMultipartFile file = file("not an image".getBytes(StandardCharsets.UTF_8), "image/jpeg");
+
+            // When & Then
+            assertRejected(() -> imageValidator.validate(file));
+            assertThat(count("unknown", "unknown_format")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 허용하지 않는 실제 형식은 unsupported_format")
+        void validate_GifContent_RejectsUnsupportedFormat() {
+            // Given
+            MockMultipartFile file = file(ImageHeaderFixture.gif(640, 480), "image/png");
+
+            // When & Then
+            assertRejected(() -> imageValidator.validate(file));
+            assertThat(count("gif", "unsupported_format")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 크기를 읽을 수 없는 잘린 헤더는 unmeasured")
+        void validate_TruncatedHeader_RejectsUnmeasured() {
+            // Given
+            byte[] png = ImageHeaderFixture.png(1080, 1920);
+            MockMultipartFile file = file(Arrays.copyOf(png, 20), "image/png");
+
+            // When & Then
+            assertRejected(() -> imageValidator.validate(file));
+            assertThat(count("png", "unmeasured")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 부호 비트가 켜진 너비(2^31)는 0이 아니라 too_large")
+        void validate_PngWithHugeWidth_RejectsTooLarge() {
+            // Given
+            MockMultipartFile file = file(ImageHeaderFixture.png(1L << 31, 100), "image/png");
+
+            // When & Then
+            assertRejected(() -> imageValidator.validate(file));
+            assertThat(count("png", "too_large")).isEqualTo(1.0);
+            assertThat(count("png", "unmeasured")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("헤더 검사 결과 검증")
+    class ValidateInfo {
+
+        @Test
+        @DisplayName("성공: 제한과 같은 가로/세로와 픽셀 수는 허용")
+        void validate_AtLimits_Accepted() {
+            // Given
+            ImageInfo info = new ImageInfo(ImageFormat.WEBP, MAX_DIMENSION, (int) (MAX_PIXELS / MAX_DIMENSION));
+
+            // When
+            ImageInfo validated = imageValidator.validate(info, "at-limit.webp", "image/webp", 1024);
+
+            // Then
+            assertThat(validated).isSameAs(info);
+            assertThat(count("webp", "accepted")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 가로가 max-dimension을 넘으면 too_large")
+        void validate_WideImage_RejectsTooLarge() {
+            // Given
+            ImageInfo info = new ImageInfo(ImageFormat.JPEG, MAX_DIMENSION + 1, 10);
+
+            // When & Then
+            assertRejected(() -> imageValidator.validate(info, "wide.jpg", "image/jpeg", 1024));
+            assertThat(count("jpeg", "too_large")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 가로/세로는 제한 이하여도 픽셀 수가 max-pixels를 넘으면 too_large")
+        void validate_TooManyPixels_RejectsTooLarge() {
+            // Given
+            ImageInfo info = new ImageInfo(ImageFormat.PNG, 10000, 10000);
+
+            // When & Then
+            assertRejected(() -> imageValidator.validate(info, "bomb.png", "image/png", 1024));
+            assertThat(count("png", "too_large")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("실패: 헤더 검사 결과가 없으면 unknown_format")
+        void validate_NullInfo_RejectsUnknownFormat() {
+            // When & Then
+            assertRejected(() -> imageValidator.validate(null, "uploads/abc", "image/png", 1024));
+            assertThat(count("unknown", "unknown_format")).isEqualTo(1.0);
+            assertThat(meterRegistry.find("image.validation.pixels").summary()).isNull();
+        }
+    }
+
+    private static MockMultipartFile file(byte[] content, String contentType) {
+        return new MockMultipartFile("file", "upload", contentType, content);
+    }
+
+    private static void assertRejected(ThrowableAssert.ThrowingCallable validation) {
+        assertThatThrownBy(validation)
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REQUEST));
+    }
+
+    private double count(String format, String result) {
+        Counter counter = meterRegistry.find("image.validation").tag("format", format).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
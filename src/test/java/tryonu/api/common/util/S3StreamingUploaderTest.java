@@ -0,0 +1,361 @@
+package tryonu.api.common.util;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.config.BaseServiceTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * S3StreamingUploader 단위 테스트 - DataBuffer 해제, 업로드 클라이언트 선택(sync | async)과
+ * 스트리밍 결과 후처리(다운로드 → 배경 제거 → S3 업로드)
+ */
+class S3StreamingUploaderTest extends BaseServiceTest {
+
+    private static final int PART_SIZE_BYTES = 5 * 1024 * 1024;
+    private static final int CHUNK_SIZE_BYTES = 64 * 1024;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private ObjectProvider<S3AsyncClient> s3AsyncClientProvider;
+
+    private S3StreamingUploader s3StreamingUploader;
+    private final ByteArrayOutputStream uploadedBytes = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() {
+        s3StreamingUploader = streamingUploader("sync");
+    }
+
+    private S3StreamingUploader streamingUploader(String uploadClient) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        S3ObjectUploader s3ObjectUploader = new S3ObjectUploader(s3Client, s3AsyncClientProvider, meterRegistry);
+        ReflectionTestUtils.setField(s3ObjectUploader, "uploadClient", uploadClient);
+        s3ObjectUploader.initClient();
+        S3StreamingUploader uploader = new S3StreamingUploader(s3ObjectUploader, meterRegistry);
+        ReflectionTestUtils.setField(uploader, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(uploader, "partSizeBytes", PART_SIZE_BYTES);
+        uploader.initMetrics();
+        return uploader;
+    }
+
+    @Nested
+    @DisplayName("DataBuffer 스트림 업로드")
+    class Upload {
+
+        @Test
+        @DisplayName("성공: 파트 크기 미만이면 PutObject 한 번으로 올리고 받은 버퍼를 한 번씩 해제한다")
+        void upload_Success_SinglePut() {
+            // Given
+            byte[] image = randomBytes(300 * 1024);
+            List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+            stubPutObject();
+
+            // When
+            String s3Key = s3StreamingUploader.upload("tryon-results/a.png", "image/png", chunks(image, buffers),
+                    Duration.ofSeconds(5)).block();
+
+            // Then
+            assertThat(s3Key).isEqualTo("tryon-results/a.png");
+            assertThat(uploadedBytes.toByteArray()).isEqualTo(image);
+            assertThat(buffers).isNotEmpty().allSatisfy(buffer -> assertThat(buffer.refCnt()).isEqualTo(1));
+            then(s3Client).should(never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("성공: 파트 크기 이상이면 멀티파트로 올리고 받은 버퍼를 한 번씩 해제한다")
+        void upload_Success_Multipart() {
+            // Given
+            byte[] image = randomBytes(2 * PART_SIZE_BYTES + 123_456);
+            List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+            stubMultipart();
+
+            // When
+            String s3Key = s3StreamingUploader.upload("tryon-results/b.png", "image/png", chunks(image, buffers),
+                    null).block();
+
+            // Then
+            assertThat(s3Key).isEqualTo("tryon-results/b.png");
+            assertThat(uploadedBytes.toByteArray()).isEqualTo(image);
+            assertThat(buffers).isNotEmpty().allSatisfy(buffer -> assertThat(buffer.refCnt()).isEqualTo(1));
+            then(s3Client).should(times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+            then(s3Client).should().completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        }
+
+        @Test
+        @DisplayName("실패: S3 업로드가 실패하면 멀티파트를 중단하고 큐에 남은 버퍼까지 한 번씩 해제한다")
+        void upload_Fail_AbortsAndReleasesQueuedBuffers() {
+            // Given
+            byte[] image = randomBytes(2 * PART_SIZE_BYTES);
+            List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+            given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+            given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                    .willThrow(new IllegalStateException("S3 오류"));
+
+            // When & Then
+            assertThatThrownBy(() -> s3StreamingUploader.upload("tryon-results/c.png", "image/png",
+                    chunks(image, buffers), null).block())
+                    .isInstanceOf(IllegalStateException.class);
+            awaitReleased(buffers);
+            assertThat(buffers).isNotEmpty().allSatisfy(buffer -> assertThat(buffer.refCnt()).isEqualTo(1));
+            then(s3Client).should().abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("DataBuffer 스트림 업로드 (aws.s3.upload.client=async)")
+    class AsyncClientUpload {
+
+        @Test
+        @DisplayName("성공: 멀티파트 단계를 S3AsyncClient로 실행하고 동기 클라이언트는 사용하지 않는다")
+        void upload_Success_MultipartWithAsyncClient() {
+            // Given
+            given(s3AsyncClientProvider.getObject()).willReturn(s3AsyncClient);
+            S3StreamingUploader asyncUploader = streamingUploader("async");
+            byte[] image = randomBytes(PART_SIZE_BYTES + 345_678);
+            List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+            given(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                    .willReturn(CompletableFuture.completedFuture(
+                            CreateMultipartUploadResponse.builder().uploadId("upload-1").build()));
+            given(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                    .willAnswer(invocation -> {
+                        captureAsync(invocation.getArgument(1));
+                        UploadPartRequest request = invocation.getArgument(0);
+                        // 전송 완료를 다른 스레드에서 알리는 실제 비동기 클라이언트처럼 완료
+                        return CompletableFuture.supplyAsync(
+                                () -> UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build());
+                    });
+            given(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                    .willReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+            // When
+            String s3Key = asyncUploader.upload("tryon-results/f.png", "image/png", chunks(image, buffers),
+                    Duration.ofSeconds(5)).block(Duration.ofSeconds(30));
+
+            // Then
+            assertThat(s3Key).isEqualTo("tryon-results/f.png");
+            assertThat(uploadedBytes.toByteArray()).isEqualTo(image);
+            assertThat(buffers).isNotEmpty().allSatisfy(buffer -> assertThat(buffer.refCnt()).isEqualTo(1));
+            then(s3AsyncClient).should(times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+            then(s3Client).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("스트리밍 결과 후처리 (다운로드 → 배경 제거 → S3 업로드)")
+    class StreamingPostprocess {
+
+        private HttpServer server;
+        private ExecutorService serverExecutor;
+        private final AtomicLong backgroundRemovalRequestBytes = new AtomicLong();
+
+        @AfterEach
+        void tearDown() {
+            if (server != null) {
+                server.stop(0);
+                serverExecutor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 배경 제거 응답 스트림을 그대로 S3에 올린다")
+        void removeBackgroundStreaming_UploadsResult() throws IOException {
+            // Given
+            byte[] sourceImage = randomBytes(200 * 1024);
+            byte[] resultImage = randomBytes(PART_SIZE_BYTES + 777_777);
+            startServer(sourceImage, resultImage);
+            BackgroundRemovalUtil backgroundRemovalUtil = new BackgroundRemovalUtil(
+                    WebClient.builder().baseUrl(baseUrl() + "/remove-background").build(),
+                    WebClient.create(), mock(BackgroundRemovalCache.class));
+            stubMultipart();
+
+            // When
+            String s3Key = s3StreamingUploader.upload("tryon-results/d.png", "image/png",
+                    backgroundRemovalUtil.removeBackgroundStreaming(baseUrl() + "/result.png"),
+                    Duration.ofSeconds(30)).block(Duration.ofSeconds(30));
+
+            // Then
+            assertThat(s3Key).isEqualTo("tryon-results/d.png");
+            assertThat(uploadedBytes.toByteArray()).isEqualTo(resultImage);
+            assertThat(backgroundRemovalRequestBytes.get()).isGreaterThan(sourceImage.length);
+        }
+
+        @Test
+        @DisplayName("실패: 배경 제거 API가 실패하면 업로드 없이 배경 제거 실패로 끝난다")
+        void removeBackgroundStreaming_Fail_BackgroundRemovalError() throws IOException {
+            // Given
+            startServer(randomBytes(1024), null);
+            BackgroundRemovalUtil backgroundRemovalUtil = new BackgroundRemovalUtil(
+                    WebClient.builder().baseUrl(baseUrl() + "/remove-background").build(),
+                    WebClient.create(), mock(BackgroundRemovalCache.class));
+
+            // When & Then
+            assertThatThrownBy(() -> s3StreamingUploader.upload("tryon-results/e.png", "image/png",
+                    backgroundRemovalUtil.removeBackgroundStreaming(baseUrl() + "/result.png"),
+                    Duration.ofSeconds(30)).block(Duration.ofSeconds(30)))
+                    .isInstanceOf(CustomException.class);
+            then(s3Client).shouldHaveNoInteractions();
+        }
+
+        /**
+         * 결과 이미지 다운로드(/result.png)와 배경 제거 API(/remove-background) 대체 서버
+         * 배경 제거 요청 본문은 다운로드 응답을 그대로 흘려보내므로, 두 요청을 동시에 처리하도록 스레드 풀을 사용합니다.
+         * 배경 제거 응답은 chunked로 나눠 보내고, resultImage가 null이면 500으로 응답합니다.
+         */
+        private void startServer(byte[] sourceImage, byte[] resultImage) throws IOException {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            serverExecutor = Executors.newCachedThreadPool();
+            server.setExecutor(serverExecutor);
+            server.createContext("/result.png", exchange -> {
+                try (exchange) {
+                    exchange.getResponseHeaders().set("Content-Type", "image/png");
+                    exchange.sendResponseHeaders(200, sourceImage.length);
+                    exchange.getResponseBody().write(sourceImage);
+                }
+            });
+            server.createContext("/remove-background", exchange -> {
+                try (exchange) {
+                    try (InputStream requestBody = exchange.getRequestBody()) {
+                        backgroundRemovalRequestBytes.set(requestBody.transferTo(OutputStream.nullOutputStream()));
+                    }
+                    if (resultImage == null) {
+                        exchange.sendResponseHeaders(500, -1);
+                        return;
+                    }
+                    exchange.getResponseHeaders().set("Content-Type", "image/png");
+                    exchange.sendResponseHeaders(200, 0);
+                    OutputStream responseBody = exchange.getResponseBody();
+                    for (int offset = 0; offset < resultImage.length; offset += CHUNK_SIZE_BYTES) {
+                        responseBody.write(resultImage, offset, Math.min(CHUNK_SIZE_BYTES, resultImage.length - offset));
+                        responseBody.flush();
+                    }
+                }
+            });
+            server.start();
+        }
+
+        private String baseUrl() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+    }
+
+    private void stubPutObject() {
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            capture(invocation.getArgument(1));
+            return PutObjectResponse.builder().build();
+        });
+    }
+
+    private void stubMultipart() {
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).willAnswer(invocation -> {
+            capture(invocation.getArgument(1));
+            UploadPartRequest request = invocation.getArgument(0);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+        given(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .willReturn(CompleteMultipartUploadResponse.builder().build());
+    }
+
+    private void captureAsync(AsyncRequestBody requestBody) {
+        Flux.from(requestBody).doOnNext(byteBuffer -> {
+            byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.get(bytes);
+            uploadedBytes.writeBytes(bytes);
+        }).blockLast();
+    }
+
+    private void capture(RequestBody requestBody) {
+        try (InputStream content = requestBody.contentStreamProvider().newStream()) {
+            content.transferTo(uploadedBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 참조 카운트를 확인할 수 있는 Netty 버퍼로 이미지를 나눠 발행합니다. (발행한 버퍼는 buffers에 기록)
+     * Reactor Netty처럼 발행하는 쪽도 참조를 하나 더 잡고 있으므로, 업로더가 정확히 한 번 해제하면 참조 카운트가 1로 남습니다.
+     */
+    private static Flux<DataBuffer> chunks(byte[] image, List<ByteBuf> buffers) {
+        NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(new UnpooledByteBufAllocator(false));
+        int chunkCount = (image.length + CHUNK_SIZE_BYTES - 1) / CHUNK_SIZE_BYTES;
+        return Flux.range(0, chunkCount).map(index -> {
+            int offset = index * CHUNK_SIZE_BYTES;
+            NettyDataBuffer buffer = bufferFactory.allocateBuffer(CHUNK_SIZE_BYTES);
+            buffer.write(image, offset, Math.min(CHUNK_SIZE_BYTES, image.length - offset));
+            buffers.add(buffer.getNativeBuffer().retain());
+            return buffer;
+        });
+    }
+
+    /**
+     * 오류가 구독자에게 먼저 전달되고 publishOn 큐에 남은 버퍼는 업로드 스레드가 이어서 해제하므로, 해제될 때까지 대기
+     */
+    private static void awaitReleased(List<ByteBuf> buffers) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (buffers.stream().anyMatch(buffer -> buffer.refCnt() > 1) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,330 @@
+package tryonu.api.common.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.config.BaseServiceTest;
+import tryonu.api.dto.responses.VirtualFittingStatusResponse;
+import tryonu.api.fixture.ResponseFixture;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * VirtualFittingStatusPoller 단위 테스트
+ * 시계를 직접 움직이며 틱을 실행하여 폴링 시점(빠른 조회 → 예상 완료 시간 → 지수 백오프), 완료/타임아웃/연속 오류 처리와
+ * 동시 조회 수 상한을 확인합니다. 상태 조회 Mono는 동기적으로 완료되거나 Sinks로 완료 시점을 제어합니다.
+ */
+class VirtualFittingStatusPollerTest extends BaseServiceTest {
+
+    private static final long MIN_INTERVAL_MS = 500;
+    private static final long MAX_INTERVAL_MS = 5000;
+    private static final long EXPECTED_COMPLETION_MS = 3000;
+    private static final long MAX_WAIT_MS = 60_000;
+
+    @Mock
+    private VirtualFittingUtil virtualFittingUtil;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+    private VirtualFittingStatusPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new VirtualFittingStatusPoller(virtualFittingUtil, new TryOnMetrics(meterRegistry));
+        ReflectionTestUtils.setField(poller, "clock", clock);
+        ReflectionTestUtils.setField(poller, "maxInFlight", 16);
+        ReflectionTestUtils.setField(poller, "minIntervalMs", MIN_INTERVAL_MS);
+        ReflectionTestUtils.setField(poller, "maxIntervalMs", MAX_INTERVAL_MS);
+        ReflectionTestUtils.setField(poller, "fastPollCount", 2);
+        ReflectionTestUtils.setField(poller, "initialExpectedCompletionMs", EXPECTED_COMPLETION_MS);
+        ReflectionTestUtils.setField(poller, "maxConsecutiveErrors", 3);
+    }
+
+    @Nested
+    @DisplayName("폴링 시점")
+    class Schedule {
+
+        @Test
+        @DisplayName("성공: 빠른 조회 후 예상 완료 시간까지 기다리고, 넘기면 최소 간격부터 두 배씩 늘려 최대 간격에서 멈춤")
+        void pollDuePredictions_FastThenExpectedThenBackoff() {
+            // Given
+            List<Long> polledAt = new ArrayList<>();
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1")).willAnswer(invocation -> {
+                polledAt.add(clock.millis());
+                return Mono.just(ResponseFixture.createProcessingStatusResponse());
+            });
+            poller.track("prediction-1", MAX_WAIT_MS);
+
+            // When
+            tickUntil(16_000);
+
+            // Then
+            assertThat(polledAt).containsExactly(
+                    500L, 1000L, // 빠른 조회 2회 (최소 간격)
+                    3000L, // 예상 완료 시간(3초)까지 대기
+                    3500L, 4500L, 6500L, 10500L, // 500 → 1000 → 2000 → 4000ms 백오프
+                    15500L); // 최대 간격(5초)으로 제한
+        }
+
+        @Test
+        @DisplayName("성공: 완료 시간 이력이 쌓이면 예상 완료 시간이 EWMA로 갱신됨")
+        void getExpectedCompletionMs_UpdatesWithCompletions() {
+            // Given
+            given(virtualFittingUtil.fetchVirtualFittingStatus(anyString()))
+                    .willReturn(Mono.just(ResponseFixture.createCompletedStatusResponse()));
+
+            // When
+            poller.track("first", MAX_WAIT_MS);
+            clock.advanceTo(2000);
+            poller.pollDuePredictions(); // 2초에 완료 → 첫 이력은 그대로 평균
+
+            long afterFirst = poller.getExpectedCompletionMs();
+
+            poller.track("second", MAX_WAIT_MS);
+            clock.advanceTo(9000);
+            poller.pollDuePredictions(); // 7초에 완료 → 2000 + 0.2 * (7000 - 2000)
+
+            // Then
+            assertThat(afterFirst).isEqualTo(2000);
+            assertThat(poller.getExpectedCompletionMs()).isEqualTo(3000);
+        }
+
+        @Test
+        @DisplayName("성공: 같은 가상피팅을 다시 등록하면 기존 Future를 공유하고 한 번만 조회")
+        void track_SamePrediction_SharesFuture() {
+            // Given
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1"))
+                    .willReturn(Mono.just(ResponseFixture.createProcessingStatusResponse()));
+
+            // When
+            CompletableFuture<VirtualFittingStatusResponse> first = poller.track("prediction-1", MAX_WAIT_MS);
+            CompletableFuture<VirtualFittingStatusResponse> second = poller.track("prediction-1", MAX_WAIT_MS);
+            clock.advanceTo(MIN_INTERVAL_MS);
+            poller.pollDuePredictions();
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(poller.getTrackedCount()).isEqualTo(1);
+            then(virtualFittingUtil).should(times(1)).fetchVirtualFittingStatus("prediction-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("완료 처리")
+    class Completion {
+
+        @Test
+        @DisplayName("성공: completed 상태를 받으면 Future를 완료하고 추적을 해제")
+        void pollDuePredictions_Completed_CompletesFuture() {
+            // Given
+            VirtualFittingStatusResponse completed = ResponseFixture.createCompletedStatusResponse();
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1"))
+                    .willReturn(Mono.just(ResponseFixture.createProcessingStatusResponse()), Mono.just(completed));
+            CompletableFuture<VirtualFittingStatusResponse> future = poller.track("prediction-1", MAX_WAIT_MS);
+
+            // When
+            tickUntil(1000);
+
+            // Then
+            assertThat(future).isCompletedWithValue(completed);
+            assertThat(poller.getTrackedCount()).isZero();
+            assertThat(statusPolls("completed").count()).isEqualTo(1);
+            assertThat(statusPolls("completed").totalAmount()).isEqualTo(2.0);
+
+            tickUntil(20_000);
+            then(virtualFittingUtil).should(times(2)).fetchVirtualFittingStatus("prediction-1");
+        }
+
+        @Test
+        @DisplayName("성공: failed 상태도 최종 상태로 Future를 완료 (에러 변환은 호출부에서 처리)")
+        void pollDuePredictions_Failed_CompletesFutureWithStatus() {
+            // Given
+            VirtualFittingStatusResponse failed = ResponseFixture.createFailedStatusResponse();
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1")).willReturn(Mono.just(failed));
+            CompletableFuture<VirtualFittingStatusResponse> future = poller.track("prediction-1", MAX_WAIT_MS);
+
+            // When
+            tickUntil(MIN_INTERVAL_MS);
+
+            // Then
+            assertThat(future).isCompletedWithValue(failed);
+            assertThat(statusPolls("failed").count()).isEqualTo(1);
+            assertThat(poller.getExpectedCompletionMs()).isEqualTo(EXPECTED_COMPLETION_MS); // 실패는 평균에 반영하지 않음
+        }
+
+        @Test
+        @DisplayName("실패: 최대 대기 시간이 지나면 VIRTUAL_FITTING_TIMEOUT으로 실패하고 더 이상 조회하지 않음")
+        void pollDuePredictions_MaxWaitExceeded_TimesOut() {
+            // Given
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1"))
+                    .willReturn(Mono.just(ResponseFixture.createProcessingStatusResponse()));
+            CompletableFuture<VirtualFittingStatusResponse> future = poller.track("prediction-1", 4000);
+
+            // When
+            tickUntil(3999);
+            boolean pendingBeforeDeadline = !future.isDone();
+            tickUntil(4000);
+
+            // Then
+            assertThat(pendingBeforeDeadline).isTrue();
+            assertErrorCode(future, ErrorCode.VIRTUAL_FITTING_TIMEOUT);
+            assertThat(poller.getTrackedCount()).isZero();
+            assertThat(statusPolls("timeout").count()).isEqualTo(1);
+
+            clearInvocations(virtualFittingUtil);
+            tickUntil(20_000);
+            then(virtualFittingUtil).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패: 상태 조회가 max-consecutive-errors번 연속 실패하면 VIRTUAL_FITTING_API_ERROR로 실패")
+        void pollDuePredictions_ConsecutiveErrors_Fails() {
+            // Given
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1"))
+                    .willReturn(Mono.error(new IllegalStateException("503")));
+            CompletableFuture<VirtualFittingStatusResponse> future = poller.track("prediction-1", MAX_WAIT_MS);
+
+            // When
+            tickUntil(1000);
+            boolean pendingAfterTwoErrors = !future.isDone();
+            tickUntil(20_000);
+
+            // Then
+            assertThat(pendingAfterTwoErrors).isTrue();
+            assertErrorCode(future, ErrorCode.VIRTUAL_FITTING_API_ERROR);
+            then(virtualFittingUtil).should(times(3)).fetchVirtualFittingStatus("prediction-1");
+            assertThat(statusPolls("error").count()).isEqualTo(1);
+            assertThat(statusPolls("error").totalAmount()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("성공: 중간에 조회가 성공하면 연속 실패 횟수를 초기화")
+        void pollDuePredictions_ErrorsInterruptedBySuccess_KeepsTracking() {
+            // Given
+            Mono<VirtualFittingStatusResponse> error = Mono.error(new IllegalStateException("503"));
+            Mono<VirtualFittingStatusResponse> processing = Mono.just(ResponseFixture.createProcessingStatusResponse());
+            given(virtualFittingUtil.fetchVirtualFittingStatus("prediction-1"))
+                    .willReturn(error, error, processing, error, error, processing);
+            CompletableFuture<VirtualFittingStatusResponse> future = poller.track("prediction-1", MAX_WAIT_MS);
+
+            // When
+            tickUntil(20_000);
+
+            // Then
+            assertThat(future).isNotDone();
+            then(virtualFittingUtil).should(atLeast(6)).fetchVirtualFittingStatus("prediction-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 조회 수 상한")
+    class InFlightBound {
+
+        @Test
+        @DisplayName("성공: 응답을 기다리는 조회가 max-in-flight개면 나머지는 다음 틱으로 미루고, 응답이 오면 이어서 조회")
+        void pollDuePredictions_AtMaxInFlight_DefersRest() {
+            // Given
+            ReflectionTestUtils.setField(poller, "maxInFlight", 2);
+            List<String> polled = new ArrayList<>();
+            List<Sinks.One<VirtualFittingStatusResponse>> responses = new ArrayList<>();
+            given(virtualFittingUtil.fetchVirtualFittingStatus(anyString())).willAnswer(invocation -> {
+                polled.add(invocation.getArgument(0));
+                Sinks.One<VirtualFittingStatusResponse> response = Sinks.one();
+                responses.add(response);
+                return response.asMono();
+            });
+            poller.track("a", MAX_WAIT_MS);
+            clock.advanceTo(1);
+            poller.track("b", MAX_WAIT_MS);
+            clock.advanceTo(2);
+            poller.track("c", MAX_WAIT_MS);
+
+            // When
+            tickUntil(2000);
+            List<String> polledWhileSaturated = List.copyOf(polled);
+            responses.get(0).tryEmitValue(ResponseFixture.createCompletedStatusResponse());
+            poller.pollDuePredictions();
+
+            // Then
+            assertThat(polledWhileSaturated).containsExactly("a", "b"); // 응답이 없는 동안 다시 조회하지 않음
+            assertThat(polled).containsExactly("a", "b", "c");
+            assertThat(poller.getTrackedCount()).isEqualTo(2);
+        }
+    }
+
+    /**
+     * 현재 시각부터 until까지 100ms 단위로 시계를 움직이며 틱 실행
+     */
+    private void tickUntil(long untilMs) {
+        long now = clock.millis();
+        while (true) {
+            clock.advanceTo(now);
+            poller.pollDuePredictions();
+            if (now >= untilMs) {
+                return;
+            }
+            now = Math.min(now + 100, untilMs);
+        }
+    }
+
+    private DistributionSummary statusPolls(String outcome) {
+        return meterRegistry.get("tryon.fashn.status.polls").tag("outcome", outcome).summary();
+    }
+
+    private static void assertErrorCode(CompletableFuture<?> future, ErrorCode errorCode) {
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::join)
+                .cause()
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+    }
+
+    /**
+     * 테스트에서 직접 움직이는 시계 (0ms부터 시작)
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile long millis;
+
+        void advanceTo(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
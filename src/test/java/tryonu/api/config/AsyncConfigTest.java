@@ -0,0 +1,183 @@
+package tryonu.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AsyncConfig 단위 테스트 - 플랫폼/가상 스레드 모드별 Executor 구성
+ */
+class AsyncConfigTest {
+
+    @Nested
+    @DisplayName("플랫폼 스레드 모드")
+    class PlatformThreads {
+
+        @Test
+        @DisplayName("성공: 피팅 작업 Executor는 설정한 크기의 스레드 풀이며 한도를 넘으면 거절한다")
+        void tryOnJobTaskExecutor_ThreadPool() {
+            // Given
+            AsyncConfig asyncConfig = asyncConfig(false);
+
+            // When
+            AsyncTaskExecutor executor = asyncConfig.tryOnJobTaskExecutor();
+
+            // Then
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+            ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) executor;
+            pool.initialize();
+            try {
+                assertThat(pool.getCorePoolSize()).isEqualTo(3);
+                assertThat(pool.getMaxPoolSize()).isEqualTo(5);
+                assertThat(pool.getQueueCapacity()).isEqualTo(7);
+                assertThat(pool.getThreadPoolExecutor().getRejectedExecutionHandler())
+                        .isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 비동기 작업 Executor는 플랫폼 스레드에서 실행한다")
+        void taskExecutor_PlatformThread() throws Exception {
+            // Given
+            AsyncConfig asyncConfig = asyncConfig(false);
+
+            // When
+            Executor executor = asyncConfig.taskExecutor();
+
+            // Then
+            try {
+                assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+                assertThat(runsOnVirtualThread(executor)).isFalse();
+            } finally {
+                ((ThreadPoolTaskExecutor) executor).shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 파생본 Executor")
+    class ImageDerivative {
+
+        @Test
+        @DisplayName("성공: 정규화 풀과 별도의 작은 고정 크기 풀이며 낮은 우선순위로 실행하고 한도를 넘으면 거절한다")
+        void imageDerivativeExecutor_SeparateLowPriorityPool() throws Exception {
+            // Given
+            AsyncConfig asyncConfig = asyncConfig(true);
+
+            // When
+            AsyncTaskExecutor derivativeExecutor = asyncConfig.imageDerivativeExecutor();
+            AsyncTaskExecutor normalizationExecutor = asyncConfig.imageNormalizationExecutor();
+
+            // Then
+            assertThat(derivativeExecutor).isInstanceOf(ThreadPoolTaskExecutor.class).isNotSameAs(normalizationExecutor);
+            ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) derivativeExecutor;
+            pool.initialize();
+            try {
+                assertThat(pool.getCorePoolSize()).isEqualTo(1);
+                assertThat(pool.getMaxPoolSize()).isEqualTo(1);
+                assertThat(pool.getQueueCapacity()).isEqualTo(3);
+                assertThat(pool.getThreadPoolExecutor().getRejectedExecutionHandler())
+                        .isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+
+                CompletableFuture<Integer> priority = new CompletableFuture<>();
+                pool.execute(() -> priority.complete(Thread.currentThread().getPriority()));
+                assertThat(priority.get(5, TimeUnit.SECONDS)).isEqualTo(Thread.MIN_PRIORITY);
+                assertThat(runsOnVirtualThread(pool)).isFalse();
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("가상 스레드 모드")
+    class VirtualThreads {
+
+        @Test
+        @DisplayName("성공: 피팅 작업 Executor는 동시 실행 수 상한이 있는 가상 스레드 Executor다")
+        void tryOnJobTaskExecutor_BoundedVirtualThreads() throws Exception {
+            // Given
+            AsyncConfig asyncConfig = asyncConfig(true);
+
+            // When
+            AsyncTaskExecutor executor = asyncConfig.tryOnJobTaskExecutor();
+
+            // Then
+            assertThat(executor).isInstanceOf(BoundedVirtualThreadTaskExecutor.class);
+            try {
+                assertThat(runsOnVirtualThread(executor)).isTrue();
+            } finally {
+                ((BoundedVirtualThreadTaskExecutor) executor).destroy();
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 비동기 작업 Executor는 가상 스레드에서 실행한다")
+        void taskExecutor_VirtualThread() throws Exception {
+            // Given
+            AsyncConfig asyncConfig = asyncConfig(true);
+
+            // When
+            Executor executor = asyncConfig.taskExecutor();
+
+            // Then
+            assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+            assertThat(runsOnVirtualThread(executor)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 이미지 정규화 Executor는 가상 스레드 모드에서도 고정 크기 플랫폼 스레드 풀이다")
+        void imageNormalizationExecutor_StaysOnPlatformThreads() throws Exception {
+            // Given
+            AsyncConfig asyncConfig = asyncConfig(true);
+
+            // When
+            AsyncTaskExecutor executor = asyncConfig.imageNormalizationExecutor();
+
+            // Then
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+            ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor) executor;
+            pool.initialize();
+            try {
+                assertThat(pool.getCorePoolSize()).isEqualTo(2);
+                assertThat(pool.getMaxPoolSize()).isEqualTo(2);
+                assertThat(runsOnVirtualThread(pool)).isFalse();
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static AsyncConfig asyncConfig(boolean virtualThreadsEnabled) {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreadsEnabled", virtualThreadsEnabled);
+        ReflectionTestUtils.setField(asyncConfig, "tryOnJobCorePoolSize", 3);
+        ReflectionTestUtils.setField(asyncConfig, "tryOnJobMaxPoolSize", 5);
+        ReflectionTestUtils.setField(asyncConfig, "tryOnJobQueueCapacity", 7);
+        ReflectionTestUtils.setField(asyncConfig, "tryOnJobVirtualMaxConcurrency", 4);
+        ReflectionTestUtils.setField(asyncConfig, "imageNormalizationThreads", 2);
+        ReflectionTestUtils.setField(asyncConfig, "imageNormalizationQueueCapacity", 4);
+        ReflectionTestUtils.setField(asyncConfig, "imageDerivativeThreads", 1);
+        ReflectionTestUtils.setField(asyncConfig, "imageDerivativeQueueCapacity", 3);
+        return asyncConfig;
+    }
+
+    private static boolean runsOnVirtualThread(Executor executor) throws Exception {
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+        executor.execute(() -> isVirtual.complete(Thread.currentThread().isVirtual()));
+        return isVirtual.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,156 @@
+package tryonu.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BoundedVirtualThreadTaskExecutor 단위 테스트
+ */
+class BoundedVirtualThreadTaskExecutorTest {
+
+    private static final int MAX_CONCURRENCY = 2;
+
+    private BoundedVirtualThreadTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BoundedVirtualThreadTaskExecutor("test-vt-", MAX_CONCURRENCY, 5);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.destroy();
+    }
+
+    @Nested
+    @DisplayName("작업 실행")
+    class Execute {
+
+        @Test
+        @DisplayName("성공: 작업마다 이름이 붙은 가상 스레드에서 실행한다")
+        void execute_RunsOnVirtualThread() throws InterruptedException {
+            // Given
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicReference<Thread> worker = new AtomicReference<>();
+
+            // When
+            executor.execute(() -> {
+                worker.set(Thread.currentThread());
+                done.countDown();
+            });
+
+            // Then
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(worker.get().isVirtual()).isTrue();
+            assertThat(worker.get().getName()).startsWith("test-vt-");
+        }
+
+        @Test
+        @DisplayName("실패: 동시 실행 수 상한에 도달하면 호출 스레드를 막지 않고 즉시 거절한다")
+        void execute_RejectsAtLimit() throws InterruptedException {
+            // Given
+            CountDownLatch started = new CountDownLatch(MAX_CONCURRENCY);
+            CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < MAX_CONCURRENCY; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                });
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            AtomicBoolean ran = new AtomicBoolean();
+            assertThatThrownBy(() -> executor.execute(() -> ran.set(true)))
+                    .isInstanceOf(TaskRejectedException.class);
+            assertThat(ran).isFalse();
+            assertThat(executor.getActiveCount()).isEqualTo(MAX_CONCURRENCY);
+
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("성공: 작업이 끝나면 허가를 반환하여 다음 작업을 받는다")
+        void execute_ReleasesPermitAfterCompletion() throws InterruptedException {
+            // Given
+            fillAndDrain(() -> {
+            });
+
+            // When
+            CountDownLatch done = new CountDownLatch(1);
+            executor.execute(done::countDown);
+
+            // Then
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공: 작업이 예외를 던져도 허가를 반환한다")
+        void execute_ReleasesPermitWhenTaskThrows() throws InterruptedException {
+            // Given
+            fillAndDrain(() -> {
+                throw new IllegalStateException("작업 실패");
+            });
+
+            // When & Then
+            assertThat(executor.getActiveCount()).isZero();
+            CountDownLatch done = new CountDownLatch(MAX_CONCURRENCY);
+            for (int i = 0; i < MAX_CONCURRENCY; i++) {
+                executor.execute(done::countDown);
+            }
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("실패: 종료된 뒤에는 거절하고 허가를 돌려준다")
+        void execute_RejectsAfterShutdown() throws InterruptedException {
+            // Given
+            executor.destroy();
+
+            // When & Then
+            assertThatThrownBy(() -> executor.execute(() -> {
+            })).isInstanceOf(TaskRejectedException.class);
+            assertThat(executor.getActiveCount()).isZero();
+        }
+    }
+
+    /**
+     * 상한만큼 작업을 실행하고 모두 끝나 허가가 반환될 때까지 대기
+     */
+    private void fillAndDrain(Runnable task) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(MAX_CONCURRENCY);
+        for (int i = 0; i < MAX_CONCURRENCY; i++) {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package tryonu.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+import static tryonu.api.config.VirtualThreadEnvironmentPostProcessor.REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS;
+import static tryonu.api.config.VirtualThreadEnvironmentPostProcessor.VIRTUAL_THREADS_ENABLED;
+
+/**
+ * VirtualThreadEnvironmentPostProcessor 단위 테스트
+ */
+class VirtualThreadEnvironmentPostProcessorTest {
+
+    private final VirtualThreadEnvironmentPostProcessor postProcessor = new VirtualThreadEnvironmentPostProcessor();
+    private String originalValue;
+
+    @BeforeEach
+    void setUp() {
+        originalValue = System.clearProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (originalValue != null) {
+            System.setProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS, originalValue);
+        } else {
+            System.clearProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reactor boundedElastic 가상 스레드 설정")
+    class PostProcessEnvironment {
+
+        @Test
+        @DisplayName("성공: 가상 스레드 모드면 boundedElastic도 가상 스레드를 사용하도록 설정한다")
+        void virtualThreadsEnabled_SetsReactorProperty() {
+            // Given
+            MockEnvironment environment = new MockEnvironment().withProperty(VIRTUAL_THREADS_ENABLED, "true");
+
+            // When
+            postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+            // Then
+            assertThat(System.getProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS)).isEqualTo("true");
+        }
+
+        @Test
+        @DisplayName("성공: 플랫폼 스레드 모드(기본)에서는 설정하지 않는다")
+        void virtualThreadsDisabled_LeavesReactorPropertyUnset() {
+            // Given
+            MockEnvironment environment = new MockEnvironment();
+
+            // When
+            postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+            // Then
+            assertThat(System.getProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS)).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 명시적으로 지정한 값은 덮어쓰지 않는다")
+        void explicitValue_IsKept() {
+            // Given
+            System.setProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS, "false");
+            MockEnvironment environment = new MockEnvironment().withProperty(VIRTUAL_THREADS_ENABLED, "true");
+
+            // When
+            postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+            // Then
+            assertThat(System.getProperty(REACTOR_BOUNDED_ELASTIC_ON_VIRTUAL_THREADS)).isEqualTo("false");
+        }
+    }
+}
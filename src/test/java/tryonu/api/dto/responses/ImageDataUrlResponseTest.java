@@ -0,0 +1,81 @@
+package tryonu.api.dto.responses;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tryonu.api.common.wrapper.ApiResponseWrapper;
+import tryonu.api.dto.responses.ImageDataUrlResponse.DataUrl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ImageDataUrlResponse 직렬화 테스트 - raw로 기록한 Data URL이 올바른 JSON 문자열이 되고 뒤따르는 필드/요소가 깨지지 않는지 확인
+ */
+class ImageDataUrlResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("Data URL 직렬화")
+    class Serialize {
+
+        @Test
+        @DisplayName("성공: 응답 래퍼 안의 dataUrl이 \"data:{mimeType};base64,{Base64}\" 문자열로 기록됨 (문자열/바이트 출력 모두)")
+        void serialize_WrappedResponse_WritesExactDataUrl() throws Exception {
+            // Given
+            byte[] content = randomBytes(20_000); // 인코딩 버퍼(8KB)보다 커서 여러 청크로 기록됨
+            ApiResponseWrapper<ImageDataUrlResponse> response = ApiResponseWrapper
+                    .ofSuccess(new ImageDataUrlResponse(new DataUrl("image/png", content)));
+            String expected = "{\"isSuccess\":true,\"data\":{\"dataUrl\":\"data:image/png;base64,"
+                    + Base64.getEncoder().encodeToString(content) + "\"}}";
+
+            // When
+            String asString = objectMapper.writeValueAsString(response);
+            String asBytes = new String(objectMapper.writeValueAsBytes(response), StandardCharsets.UTF_8);
+
+            // Then
+            assertThat(asString).isEqualTo(expected);
+            assertThat(asBytes).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("성공: dataUrl 뒤의 형제 필드와 배열 요소에 구분자가 정상적으로 들어감")
+        void serialize_FollowedBySiblings_KeepsValidJson() throws Exception {
+            // Given
+            byte[] first = randomBytes(3);
+            byte[] second = randomBytes(10);
+            DataUrlHolder holder = new DataUrlHolder(new DataUrl("image/jpeg", first),
+                    List.of(new DataUrl("image/png", second), new DataUrl("image/png", new byte[0])), "after");
+
+            // When
+            String json = objectMapper.writeValueAsString(holder);
+            JsonNode parsed = objectMapper.readTree(json);
+
+            // Then
+            assertThat(json).isEqualTo("{\"dataUrl\":\"data:image/jpeg;base64," + Base64.getEncoder().encodeToString(first)
+                    + "\",\"dataUrls\":[\"data:image/png;base64," + Base64.getEncoder().encodeToString(second)
+                    + "\",\"data:image/png;base64,\"],\"sibling\":\"after\"}");
+            assertThat(parsed.get("sibling").asText()).isEqualTo("after");
+            assertThat(parsed.get("dataUrls")).hasSize(2);
+        }
+    }
+
+    /**
+     * Data URL 뒤에 다른 필드가 오는 응답 형태
+     */
+    private record DataUrlHolder(DataUrl dataUrl, List<DataUrl> dataUrls, String sibling) {
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,219 @@
+package tryonu.api.fixture;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 테스트용 이미지 헤더 Fixture
+ * 픽셀 없이 ImageInspector가 읽는 헤더 부분만 형식별로 만듭니다.
+ */
+public class ImageHeaderFixture {
+
+    public static byte[] png(long width, long height) {
+        return new Bytes()
+                .raw(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)
+                .u32be(13).ascii("IHDR").u32be(width).u32be(height)
+                .raw(8, 6, 0, 0, 0) // 비트 깊이, 색 형식, 압축, 필터, 인터레이스
+                .u32be(0) // CRC (검사하지 않음)
+                .toArray();
+    }
+
+    public static byte[] gif(int width, int height) {
+        return new Bytes().ascii("GIF89a").u16le(width).u16le(height).raw(0, 0, 0).toArray();
+    }
+
+    /**
+     * BITMAPINFOHEADER(40바이트) BMP (height가 음수면 위에서 아래로 저장된 비트맵)
+     */
+    public static byte[] bmp(long width, int height) {
+        return new Bytes()
+                .ascii("BM").u32le(0).u32le(0).u32le(54)
+                .u32le(40).u32le(width).u32le(height)
+                .u16le(1).u16le(24).u32le(0).u32le(0).u32le(0).u32le(0).u32le(0).u32le(0)
+                .toArray();
+    }
+
+    /**
+     * BITMAPCOREHEADER(12바이트) BMP
+     */
+    public static byte[] bmpCore(int width, int height) {
+        return new Bytes()
+                .ascii("BM").u32le(0).u32le(0).u32le(26)
+                .u32le(12).u16le(width).u16le(height).u16le(1).u16le(24)
+                .toArray();
+    }
+
+    /**
+     * 손실 압축 WebP (VP8 키 프레임 헤더)
+     */
+    public static byte[] webpLossy(int width, int height) {
+        return new Bytes()
+                .ascii("RIFF").u32le(0).ascii("WEBP")
+                .ascii("VP8 ").u32le(0)
+                .raw(0x10, 0x02, 0x00) // 프레임 태그
+                .raw(0x9D, 0x01, 0x2A) // 시작 코드
+                .u16le(width).u16le(height)
+                .toArray();
+    }
+
+    /**
+     * 무손실 WebP (VP8L, 너비/높이 - 1을 14비트씩 저장)
+     */
+    public static byte[] webpLossless(int width, int height) {
+        return new Bytes()
+                .ascii("RIFF").u32le(0).ascii("WEBP")
+                .ascii("VP8L").u32le(0)
+                .raw(0x2F)
+                .u32le((width - 1) | (long) (height - 1) << 14)
+                .toArray();
+    }
+
+    /**
+     * 확장 WebP (VP8X, 캔버스 너비/높이 - 1을 24비트씩 저장)
+     */
+    public static byte[] webpExtended(int width, int height) {
+        return new Bytes()
+                .ascii("RIFF").u32le(0).ascii("WEBP")
+                .ascii("VP8X").u32le(10)
+                .u32le(0) // 플래그
+                .u24le(width - 1).u24le(height - 1)
+                .toArray();
+    }
+
+    /**
+     * HEIC (ftyp + meta/iprp/ipco 안의 ispe 상자들)
+     *
+     * @param ispeSizes {너비, 높이} 쌍 (그리드 이미지는 타일 크기와 전체 크기를 함께 넣음)
+     */
+    public static byte[] heic(int[]... ispeSizes) {
+        Bytes ipcoContent = new Bytes();
+        for (int[] size : ispeSizes) {
+            ipcoContent.bytes(box("ispe", new Bytes().u32be(0).u32be(size[0]).u32be(size[1]).toArray()));
+        }
+        byte[] ipco = box("ipco", ipcoContent.toArray());
+        byte[] iprp = box("iprp", ipco);
+        byte[] meta = box("meta", new Bytes().u32be(0).bytes(iprp).toArray()); // full box (버전/플래그)
+        byte[] ftyp = box("ftyp", new Bytes().ascii("heic").u32be(0).ascii("mif1").ascii("heic").toArray());
+        return new Bytes().bytes(ftyp).bytes(meta).toArray();
+    }
+
+    /**
+     * SOF 앞에 padding 크기의 APP1 세그먼트가 있는 JPEG (휴대폰 사진의 큰 EXIF 블록)
+     */
+    public static byte[] jpeg(int width, int height, int app1Padding) {
+        Bytes jpeg = new Bytes().raw(0xFF, 0xD8);
+        if (app1Padding > 0) {
+            jpeg.raw(0xFF, 0xE1).u16be(app1Padding + 2).bytes(new byte[app1Padding]);
+        }
+        return jpeg.bytes(startOfFrame(width, height)).raw(0xFF, 0xD9).toArray();
+    }
+
+    /**
+     * JPEG의 SOI 바로 뒤에 EXIF 방향 태그가 있는 APP1 세그먼트를 넣은 JPEG (헤더만 있는 JPEG과 실제 인코딩된 JPEG 모두 사용 가능)
+     *
+     * @param littleEndian true면 "II"(인텔), false면 "MM"(모토로라) 바이트 순서
+     */
+    public static byte[] withExifOrientation(byte[] jpeg, int orientation, boolean littleEndian) {
+        Bytes tiff = new Bytes().order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN)
+                .ascii(littleEndian ? "II" : "MM").u16(42).u32(8) // TIFF 헤더, IFD0 오프셋
+                .u16(2) // 항목 수
+                .u16(0x0110).u16(2).u32(4).u32(0) // Model (ASCII) - 방향 앞의 다른 태그
+                .u16(0x0112).u16(3).u32(1).u16(orientation).u16(0) // Orientation (SHORT)
+                .u32(0); // 다음 IFD 없음
+        byte[] exif = new Bytes().ascii("Exif").raw(0, 0).bytes(tiff.toArray()).toArray();
+        return new Bytes()
+                .raw(0xFF, 0xD8)
+                .raw(0xFF, 0xE1).u16be(exif.length + 2).bytes(exif)
+                .bytes(Arrays.copyOfRange(jpeg, 2, jpeg.length))
+                .toArray();
+    }
+
+    /**
+     * 버퍼 앞에 다른 데이터를 붙이고 position을 이미지 시작 위치로 옮긴 버퍼
+     */
+    public static ByteBuffer atOffset(byte[] image, int offset) {
+        ByteBuffer buffer = ByteBuffer.allocate(offset + image.length);
+        buffer.position(offset);
+        buffer.put(image);
+        buffer.position(offset);
+        return buffer;
+    }
+
+    private static byte[] startOfFrame(int width, int height) {
+        return new Bytes()
+                .raw(0xFF, 0xC0).u16be(17).raw(8).u16be(height).u16be(width)
+                .raw(3, 1, 0x22, 0, 2, 0x11, 1, 3, 0x11, 1)
+                .toArray();
+    }
+
+    private static byte[] box(String type, byte[] content) {
+        return new Bytes().u32be(8 + content.length).ascii(type).bytes(content).toArray();
+    }
+
+    /**
+     * 바이트 배열 작성기
+     */
+    private static final class Bytes {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private ByteOrder order = ByteOrder.BIG_ENDIAN;
+
+        Bytes order(ByteOrder order) {
+            this.order = order;
+            return this;
+        }
+
+        Bytes raw(int... values) {
+            for (int value : values) {
+                out.write(value);
+            }
+            return this;
+        }
+
+        Bytes bytes(byte[] values) {
+            out.writeBytes(values);
+            return this;
+        }
+
+        Bytes ascii(String value) {
+            return bytes(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        Bytes u16be(int value) {
+            return raw(value >>> 8 & 0xFF, value & 0xFF);
+        }
+
+        Bytes u16le(int value) {
+            return raw(value & 0xFF, value >>> 8 & 0xFF);
+        }
+
+        Bytes u16(int value) {
+            return order == ByteOrder.BIG_ENDIAN ? u16be(value) : u16le(value);
+        }
+
+        Bytes u24le(int value) {
+            return raw(value & 0xFF, value >>> 8 & 0xFF, value >>> 16 & 0xFF);
+        }
+
+        Bytes u32be(long value) {
+            return raw((int) (value >>> 24 & 0xFF), (int) (value >>> 16 & 0xFF), (int) (value >>> 8 & 0xFF),
+                    (int) (value & 0xFF));
+        }
+
+        Bytes u32le(long value) {
+            return raw((int) (value & 0xFF), (int) (value >>> 8 & 0xFF), (int) (value >>> 16 & 0xFF),
+                    (int) (value >>> 24 & 0xFF));
+        }
+
+        Bytes u32(long value) {
+            return order == ByteOrder.BIG_ENDIAN ? u32be(value) : u32le(value);
+        }
+
+        byte[] toArray() {
+            return out.toByteArray();
+        }
+    }
+}
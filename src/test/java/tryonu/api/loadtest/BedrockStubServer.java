@@ -0,0 +1,36 @@
+package tryonu.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+
+/**
+ * Bedrock Runtime InvokeModel 대체 서버 (POST /model/{modelId}/invoke)
+ * Anthropic Messages 형식의 고정 사이즈 조언을 반환합니다. (spring.ai.bedrock.aws.endpoint로 연결)
+ */
+class BedrockStubServer extends StubHttpServer {
+
+    private static final String RESPONSE_JSON = """
+            {"id":"msg_stub","type":"message","role":"assistant","model":"stub",\
+            "content":[{"type":"text","text":"이 제품은 일반적인 사이즈보다 어깨너비가 2cm 정도 넓게 나온 오버핏 제품입니다.\\n\
+            평소 사이즈를 선택하면 여유 있게 입을 수 있습니다."}],\
+            "stop_reason":"end_turn","usage":{"input_tokens":420,"output_tokens":80}}""";
+
+    private final LatencyDistribution latency;
+
+    BedrockStubServer(LatencyDistribution latency) {
+        super("bedrock");
+        this.latency = latency;
+        route("/model/", this::invoke);
+    }
+
+    private void invoke(HttpExchange exchange) throws IOException {
+        readBody(exchange);
+        if (!exchange.getRequestURI().getPath().endsWith("/invoke")) {
+            respondJson(exchange, 404, "{\"message\":\"Unknown operation\"}");
+            return;
+        }
+        sleep(latency);
+        respondJson(exchange, 200, RESPONSE_JSON);
+    }
+}
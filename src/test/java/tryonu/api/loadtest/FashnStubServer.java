@@ -0,0 +1,241 @@
+package tryonu.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * FASHN 가상 피팅 API 대체 서버
+ * - POST /run (?webhook_url=) : 예측 ID 발급. 처리 시간과 결과(완료 또는 에러 이름)는 접수할 때 정해집니다.
+ * - GET /status/{id} : 처리 시간이 지나기 전에는 in_queue/processing, 이후에는 completed(output) 또는 failed(error)
+ * - GET /output/{id}.png : 완료된 예측의 결과 이미지 (결과 캐시는 모델/의류 URL 기준이므로 모든 예측이 같은 이미지를 씀)
+ * webhook_url이 있으면 처리 시간이 지난 뒤 최종 상태를 해당 주소로 POST합니다.
+ *
+ * 에러 구성은 "이름:비율" 목록이며(예: PoseError:0.02,ImageLoadError:0.01), 이름은 TryOnServiceImpl이
+ * 구분하는 FASHN 에러 이름(ImageLoadError, ContentModerationError, PhotoTypeError, PoseError, PipelineError)을 씁니다.
+ */
+class FashnStubServer extends StubHttpServer {
+
+    private static final String API_KEY_PREFIX = "Bearer ";
+
+    private final LatencyDistribution processingTime;
+    private final LatencyDistribution apiLatency;
+    private final Map<String, Double> errorMix;
+    private final byte[] outputImage;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Prediction> predictions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService webhookScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final HttpClient webhookClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    FashnStubServer(LatencyDistribution processingTime, LatencyDistribution apiLatency, Map<String, Double> errorMix,
+            int outputWidth, int outputHeight) {
+        super("fashn");
+        double errorRatio = errorMix.values().stream().mapToDouble(Double::doubleValue).sum();
+        if (errorRatio > 1.0) {
+            throw new IllegalArgumentException("FASHN 에러 비율 합계가 1을 넘습니다: " + errorMix);
+        }
+        this.processingTime = processingTime;
+        this.apiLatency = apiLatency;
+        this.errorMix = errorMix;
+        this.outputImage = StubImages.random(outputWidth, outputHeight, "png");
+        route("/run", this::run);
+        route("/status/", this::status);
+        route("/output/", this::output);
+    }
+
+    /**
+     * "PoseError:0.02,ImageLoadError:0.01" 형식의 에러 구성을 읽습니다. (비어 있으면 에러 없음)
+     */
+    static Map<String, Double> parseErrorMix(String spec) {
+        Map<String, Double> errorMix = new LinkedHashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return errorMix;
+        }
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("FASHN 에러 구성 형식이 올바르지 않습니다: " + entry);
+            }
+            errorMix.put(parts[0], Double.parseDouble(parts[1]));
+        }
+        return errorMix;
+    }
+
+    /**
+     * 최종 결과별 예측 수 (completed 또는 에러 이름)
+     */
+    Map<String, Long> outcomes() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        webhookScheduler.shutdownNow();
+        webhookClient.close();
+        super.close();
+    }
+
+    private void run(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respondText(exchange, 405, "method not allowed");
+            return;
+        }
+        if (!authorized(exchange)) {
+            respondJson(exchange, 401, "{\"error\":\"Unauthorized\"}");
+            return;
+        }
+        readBody(exchange);
+        sleep(apiLatency);
+
+        String id = UUID.randomUUID() + "-stub";
+        Prediction prediction = new Prediction(id, System.currentTimeMillis(),
+                Math.max(0, processingTime.sampleMs()), pickError(), webhookUrl(exchange));
+        predictions.put(id, prediction);
+        if (prediction.webhookUrl() != null) {
+            webhookScheduler.schedule(() -> sendWebhook(prediction), prediction.durationMs(), TimeUnit.MILLISECONDS);
+        }
+        respondJson(exchange, 200, objectMapper.writeValueAsString(Map.of("id", id)));
+    }
+
+    private void status(HttpExchange exchange) throws IOException {
+        if (!authorized(exchange)) {
+            respondJson(exchange, 401, "{\"error\":\"Unauthorized\"}");
+            return;
+        }
+        sleep(apiLatency);
+        String id = exchange.getRequestURI().getPath().substring("/status/".length());
+        Prediction prediction = predictions.get(id);
+        if (prediction == null) {
+            respondJson(exchange, 404, "{\"error\":\"Prediction not found\"}");
+            return;
+        }
+        respondJson(exchange, 200, objectMapper.writeValueAsString(statusOf(prediction)));
+    }
+
+    private void output(HttpExchange exchange) throws IOException {
+        String fileName = exchange.getRequestURI().getPath().substring("/output/".length());
+        Prediction prediction = predictions.get(fileName.replace(".png", ""));
+        if (prediction == null || prediction.error() != null || !prediction.isDone(System.currentTimeMillis())) {
+            respondText(exchange, 404, "not found");
+            return;
+        }
+        respond(exchange, 200, "image/png", outputImage);
+    }
+
+    private Map<String, Object> statusOf(Prediction prediction) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", prediction.id());
+        if (!prediction.isDone(now)) {
+            status.put("status", now - prediction.submittedAtMs() < prediction.durationMs() / 5 ? "in_queue" : "processing");
+            status.put("output", null);
+            status.put("error", null);
+            return status;
+        }
+        if (prediction.markReported()) {
+            outcomes.computeIfAbsent(prediction.error() != null ? prediction.error() : "completed",
+                    outcome -> new LongAdder()).increment();
+        }
+        if (prediction.error() != null) {
+            status.put("status", "failed");
+            status.put("output", null);
+            status.put("error", Map.of("name", prediction.error(), "message", "stub " + prediction.error()));
+        } else {
+            status.put("status", "completed");
+            status.put("output", List.of(baseUrl() + "/output/" + prediction.id() + ".png"));
+            status.put("error", null);
+        }
+        return status;
+    }
+
+    private void sendWebhook(Prediction prediction) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(prediction.webhookUrl()))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(statusOf(prediction))))
+                    .build();
+            webhookClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            // WebHook 전송 실패는 앱의 상태 조회 스위퍼가 처리
+        }
+    }
+
+    private String pickError() {
+        double draw = ThreadLocalRandom.current().nextDouble();
+        double cumulative = 0;
+        for (Map.Entry<String, Double> entry : errorMix.entrySet()) {
+            cumulative += entry.getValue();
+            if (draw < cumulative) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static boolean authorized(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        return authorization != null && authorization.startsWith(API_KEY_PREFIX)
+                && authorization.length() > API_KEY_PREFIX.length();
+    }
+
+    private static String webhookUrl(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("webhook_url=")) {
+                return URLDecoder.decode(parameter.substring("webhook_url=".length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 접수된 예측 (error가 null이면 completed로 끝남)
+     */
+    private record Prediction(String id, long submittedAtMs, long durationMs, String error, String webhookUrl,
+            AtomicBoolean reported) {
+
+        Prediction(String id, long submittedAtMs, long durationMs, String error, String webhookUrl) {
+            this(id, submittedAtMs, durationMs, error, webhookUrl, new AtomicBoolean());
+        }
+
+        boolean isDone(long now) {
+            return now >= submittedAtMs + durationMs;
+        }
+
+        /**
+         * 최종 상태를 처음 보고하는 경우에만 true (결과별 집계가 폴링 횟수에 따라 중복되지 않도록)
+         */
+        boolean markReported() {
+            return reported.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package tryonu.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 의류 카테고리 예측 API와 배경 제거 API 대체 서버
+ * 두 API 모두 multipart/form-data의 file 파트로 이미지를 받습니다. (요청 본문은 WebClient 기본 주소로 POST)
+ */
+final class ImageApiStubServers {
+
+    private ImageApiStubServers() {
+    }
+
+    /**
+     * 카테고리 예측 API - 설정한 카테고리를 항상 높은 신뢰도로 반환
+     */
+    static final class CategoryPrediction extends StubHttpServer {
+
+        private final LatencyDistribution latency;
+        private final String responseJson;
+
+        CategoryPrediction(LatencyDistribution latency, String className) {
+            super("category-prediction");
+            this.latency = latency;
+            this.responseJson = "{\"class_idx\":0,\"class_name\":\"" + className + "\",\"confidence\":0.97}";
+            route("/", this::predict);
+        }
+
+        private void predict(HttpExchange exchange) throws IOException {
+            readBody(exchange);
+            sleep(latency);
+            respondJson(exchange, 200, responseJson);
+        }
+    }
+
+    /**
+     * 배경 제거 API - 받은 이미지를 그대로 PNG로 반환 (입력마다 결과가 달라 내용 기반 캐시를 거치지 않음)
+     */
+    static final class BackgroundRemoval extends StubHttpServer {
+
+        private final LatencyDistribution latency;
+
+        BackgroundRemoval(LatencyDistribution latency) {
+            super("background-removal");
+            this.latency = latency;
+            route("/", this::removeBackground);
+        }
+
+        private void removeBackground(HttpExchange exchange) throws IOException {
+            byte[] body = readBody(exchange);
+            sleep(latency);
+            byte[] image = firstPart(exchange.getRequestHeaders().getFirst("Content-Type"), body);
+            if (image == null || image.length == 0) {
+                respondJson(exchange, 400, "{\"detail\":\"file is required\"}");
+                return;
+            }
+            respond(exchange, 200, "image/png", image);
+        }
+
+        /**
+         * multipart 본문에서 첫 번째 파트의 내용을 꺼냅니다. (파트 헤더 이후 ~ 다음 경계 전까지)
+         */
+        private static byte[] firstPart(String contentType, byte[] body) {
+            if (contentType == null || !contentType.contains("boundary=")) {
+                return null;
+            }
+            String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length())
+                    .replace("\"", "").split(";")[0].trim();
+            byte[] headerEnd = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+            byte[] delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+            int start = indexOf(body, headerEnd, 0);
+            if (start < 0) {
+                return null;
+            }
+            start += headerEnd.length;
+            int end = indexOf(body, delimiter, start);
+            return end < 0 ? null : Arrays.copyOfRange(body, start, end);
+        }
+
+        private static int indexOf(byte[] source, byte[] target, int from) {
+            outer:
+            for (int i = from; i <= source.length - target.length; i++) {
+                for (int j = 0; j < target.length; j++) {
+                    if (source[i + j] != target[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
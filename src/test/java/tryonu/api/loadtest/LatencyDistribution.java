@@ -0,0 +1,49 @@
+package tryonu.api.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 서버 응답 지연 분포
+ *
+ * 설정 문자열 형식:
+ * - fixed:{ms} - 고정 지연
+ * - uniform:{minMs}:{maxMs} - 균등 분포
+ * - lognormal:{medianMs}:{p95Ms} - 로그 정규 분포 (외부 API처럼 긴 꼬리를 갖는 지연)
+ */
+public interface LatencyDistribution {
+
+    long sampleMs();
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            return switch (parts[0]) {
+                case "fixed" -> fixed(Long.parseLong(parts[1]));
+                case "uniform" -> uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                case "lognormal" -> logNormal(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                default -> throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + spec);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("지연 분포 형식이 올바르지 않습니다: " + spec, e);
+        }
+    }
+
+    static LatencyDistribution fixed(long ms) {
+        return () -> ms;
+    }
+
+    static LatencyDistribution uniform(long minMs, long maxMs) {
+        return () -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+    }
+
+    /**
+     * 중앙값과 95번째 백분위수로 정한 로그 정규 분포 (p95 = median * e^(1.645σ))
+     */
+    static LatencyDistribution logNormal(long medianMs, long p95Ms) {
+        if (medianMs <= 0 || p95Ms < medianMs) {
+            throw new IllegalArgumentException("lognormal은 0 < median <= p95 이어야 합니다.");
+        }
+        double sigma = Math.log((double) p95Ms / medianMs) / 1.645;
+        return () -> Math.round(medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
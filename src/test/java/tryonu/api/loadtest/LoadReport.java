@@ -0,0 +1,109 @@
+package tryonu.api.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 결과 집계 - 측정 구간(워밍업 이후)에 도착한 요청만 기록합니다.
+ * 지연 시간은 요청이 예정된 도착 시각부터 측정하므로, 부하 생성기가 밀려 늦게 보낸 요청의 대기 시간도 포함됩니다.
+ */
+final class LoadReport {
+
+    static final String CREATE_JOB = "POST /try-on/job";
+    static final String SUBMIT_FITTING = "POST /try-on/fitting";
+    static final String END_TO_END = "end-to-end (job -> COMPLETED)";
+    static final String SIZE_ADVICE = "POST /try-on/size-advice";
+
+    private static final String FAILED_PREFIX = "FAILED:";
+    private static final String ERROR_PREFIX = "ERROR:";
+    private static final List<String> STEPS = List.of(CREATE_JOB, SUBMIT_FITTING, END_TO_END, SIZE_ADVICE);
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder arrivals = new LongAdder();
+    private final AtomicLong maxSchedulingLagMs = new AtomicLong();
+    private final AtomicLong lastFinishedAtMs = new AtomicLong();
+
+    void recordArrival(long schedulingLagMs) {
+        arrivals.increment();
+        maxSchedulingLagMs.accumulateAndGet(schedulingLagMs, Math::max);
+    }
+
+    void recordLatency(String step, long latencyMs) {
+        latencies.computeIfAbsent(step, key -> new ConcurrentLinkedQueue<>()).add(latencyMs);
+    }
+
+    /**
+     * 요청 하나의 최종 결과 (COMPLETED, FAILED:{에러 코드}, HTTP {상태}@{단계}, TIMEOUT, ERROR:{예외})
+     */
+    void recordOutcome(String outcome, long finishedAtMs) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        lastFinishedAtMs.accumulateAndGet(finishedAtMs, Math::max);
+    }
+
+    long count(String outcome) {
+        LongAdder count = outcomes.get(outcome);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * 작업 실패(FAILED:{에러 코드})와 클라이언트 오류(ERROR:{예외}) 중 expectedErrorCodes에 없는 결과별 건수
+     * HTTP 거절과 TIMEOUT은 도착률이 처리 용량을 넘었다는 측정 결과이므로 포함하지 않습니다.
+     */
+    Map<String, Long> unexpectedFailures(Set<String> expectedErrorCodes) {
+        Map<String, Long> failures = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> {
+            boolean unexpected = outcome.startsWith(FAILED_PREFIX)
+                    ? !expectedErrorCodes.contains(outcome.substring(FAILED_PREFIX.length()))
+                    : outcome.startsWith(ERROR_PREFIX);
+            if (unexpected) {
+                failures.put(outcome, count.sum());
+            }
+        });
+        return failures;
+    }
+
+    void print(PrintStream out, LoadTestSettings settings, long measureStartMs) {
+        long arrived = arrivals.sum();
+        long completed = count("COMPLETED");
+        double windowSeconds = Math.max(1, lastFinishedAtMs.get() - measureStartMs) / 1000.0;
+
+        out.printf("offered rate       : %.2f req/s for %ds (warmup %ds excluded)%n", settings.arrivalsPerSecond(),
+                settings.duration().toSeconds(), settings.warmup().toSeconds());
+        out.printf("arrivals measured  : %d (max scheduling lag %d ms)%n", arrived, maxSchedulingLagMs.get());
+        out.printf("throughput         : %.2f completed jobs/s (%d of %d over %.1fs until the last job finished)%n",
+                completed / windowSeconds, completed, arrived, windowSeconds);
+        out.println();
+        out.printf("%-40s %8s %10s %10s %10s %10s %10s%n", "latency (ms)", "count", "mean", "p50", "p95", "p99",
+                "max");
+        for (String step : STEPS) {
+            ConcurrentLinkedQueue<Long> samples = latencies.get(step);
+            if (samples == null || samples.isEmpty()) {
+                continue;
+            }
+            long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            out.printf("%-40s %8d %10.0f %10d %10d %10d %10d%n", step, sorted.length,
+                    Arrays.stream(sorted).average().orElse(0), percentile(sorted, 50), percentile(sorted, 95),
+                    percentile(sorted, 99), sorted[sorted.length - 1]);
+        }
+        out.println();
+        out.printf("%-40s %8s%n", "outcome", "count");
+        new TreeMap<>(outcomes).forEach((outcome, count) -> out.printf("%-40s %8d%n", outcome, count.sum()));
+    }
+
+    /**
+     * nearest-rank 백분위수
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,99 @@
+package tryonu.api.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, Gradle에서는 -Ploadtest.*=값으로 전달)
+ *
+ * 부하:
+ * - loadtest.rate (기본 2) - 초당 도착하는 피팅 요청 수 (응답을 기다리지 않는 고정 도착률)
+ * - loadtest.warmup-seconds (기본 10) / loadtest.duration-seconds (기본 60) - 워밍업 구간은 결과에서 제외
+ * - loadtest.job-timeout-seconds (기본 180) - 작업이 이 시간 안에 끝나지 않으면 timeout으로 집계
+ * - loadtest.poll-interval-ms (기본 1000) - 클라이언트의 작업 상태 조회 간격
+ * - loadtest.size-advice-ratio (기본 0.1) - 피팅 완료 후 사이즈 조언까지 요청하는 비율
+ * - loadtest.cloth.width / loadtest.cloth.height (기본 576 x 768) - 업로드하는 의류 이미지(JPEG) 크기
+ *
+ * 외부 API 대체 서버 (지연 분포 형식은 {@link LatencyDistribution}):
+ * - loadtest.fashn.processing (기본 lognormal:9000:18000) - 피팅 접수부터 완료까지 걸리는 시간
+ * - loadtest.fashn.api-latency (기본 lognormal:120:400) - /run, /status 응답 지연
+ * - loadtest.fashn.error-mix (기본 PoseError:0.02,ImageLoadError:0.01,PhotoTypeError:0.005,ContentModerationError:0.005,PipelineError:0.01)
+ * - loadtest.fashn.output.width / loadtest.fashn.output.height (기본 576 x 768) - 결과 이미지(PNG) 크기
+ * - loadtest.category.latency (기본 lognormal:150:400), loadtest.category.class-name (기본 short_sleeve)
+ * - loadtest.background-removal.latency (기본 lognormal:900:2000)
+ * - loadtest.bedrock.latency (기본 lognormal:2500:5000)
+ * - loadtest.s3.latency (기본 lognormal:25:80)
+ *
+ * 애플리케이션 설정 덮어쓰기:
+ * - loadtest.app.{프로퍼티} - 접두사를 뗀 프로퍼티로 애플리케이션에 전달
+ *   (예: -Ploadtest.app.spring.threads.virtual.enabled=true, -Ploadtest.app.aws.s3.upload.client=async)
+ */
+record LoadTestSettings(
+        double arrivalsPerSecond,
+        Duration warmup,
+        Duration duration,
+        Duration jobTimeout,
+        Duration pollInterval,
+        double sizeAdviceRatio,
+        int clothWidth,
+        int clothHeight,
+        LatencyDistribution fashnProcessing,
+        LatencyDistribution fashnApiLatency,
+        Map<String, Double> fashnErrorMix,
+        int fashnOutputWidth,
+        int fashnOutputHeight,
+        LatencyDistribution categoryLatency,
+        String categoryClassName,
+        LatencyDistribution backgroundRemovalLatency,
+        LatencyDistribution bedrockLatency,
+        LatencyDistribution s3Latency,
+        Map<String, String> appOverrides) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = "loadtest.app.";
+
+    static LoadTestSettings fromSystemProperties() {
+        Map<String, String> appOverrides = new TreeMap<>();
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .forEach(name -> appOverrides.put(name.substring(APP_PREFIX.length()), System.getProperty(name)));
+
+        double arrivalsPerSecond = Double.parseDouble(get("rate", "2"));
+        if (arrivalsPerSecond <= 0) {
+            throw new IllegalArgumentException("loadtest.rate는 0보다 커야 합니다.");
+        }
+        return new LoadTestSettings(
+                arrivalsPerSecond,
+                Duration.ofSeconds(Long.parseLong(get("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(get("duration-seconds", "60"))),
+                Duration.ofSeconds(Long.parseLong(get("job-timeout-seconds", "180"))),
+                Duration.ofMillis(Long.parseLong(get("poll-interval-ms", "1000"))),
+                Double.parseDouble(get("size-advice-ratio", "0.1")),
+                Integer.parseInt(get("cloth.width", "576")),
+                Integer.parseInt(get("cloth.height", "768")),
+                LatencyDistribution.parse(get("fashn.processing", "lognormal:9000:18000")),
+                LatencyDistribution.parse(get("fashn.api-latency", "lognormal:120:400")),
+                FashnStubServer.parseErrorMix(get("fashn.error-mix",
+                        "PoseError:0.02,ImageLoadError:0.01,PhotoTypeError:0.005,ContentModerationError:0.005,PipelineError:0.01")),
+                Integer.parseInt(get("fashn.output.width", "576")),
+                Integer.parseInt(get("fashn.output.height", "768")),
+                LatencyDistribution.parse(get("category.latency", "lognormal:150:400")),
+                get("category.class-name", "short_sleeve"),
+                LatencyDistribution.parse(get("background-removal.latency", "lognormal:900:2000")),
+                LatencyDistribution.parse(get("bedrock.latency", "lognormal:2500:5000")),
+                LatencyDistribution.parse(get("s3.latency", "lognormal:25:80")),
+                appOverrides);
+    }
+
+    /**
+     * 워밍업을 포함한 전체 도착 수
+     */
+    int totalArrivals() {
+        return (int) Math.ceil(arrivalsPerSecond * (warmup.toMillis() + duration.toMillis()) / 1000.0);
+    }
+
+    private static String get(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
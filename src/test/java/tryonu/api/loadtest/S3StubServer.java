@@ -0,0 +1,244 @@
+package tryonu.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * S3(경로 방식 주소) 및 CloudFront 대체 서버 - 객체는 메모리에 보관
+ * 애플리케이션이 쓰는 작업만 구현합니다: PutObject(사전 서명 URL 포함), HeadObject, GetObject(조건부 요청 304),
+ * DeleteObject, 멀티파트 업로드(Create/UploadPart/Complete/Abort).
+ * aws.cloudfront.domain을 {baseUrl}/{bucket}으로 지정하면 업로드된 이미지 URL도 이 서버에서 내려받습니다.
+ * SDK가 체크섬 트레일러를 붙여 보내는 aws-chunked 본문은 풀어서 원래 내용만 보관합니다.
+ */
+class S3StubServer extends StubHttpServer {
+
+    private static final String S3_XMLNS = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final LatencyDistribution latency;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    S3StubServer(LatencyDistribution latency) {
+        super("s3");
+        this.latency = latency;
+        route("/", this::handle);
+    }
+
+    /**
+     * 테스트 준비용 - 객체를 직접 저장하고 URL 경로(/{bucket}/{key})를 반환합니다.
+     */
+    String putObject(String bucket, String key, byte[] content, String contentType) {
+        String path = "/" + bucket + "/" + key;
+        store(path, content, contentType);
+        return path;
+    }
+
+    long objectCount() {
+        return objects.size();
+    }
+
+    long storedBytes() {
+        return storedBytes.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        sleep(latency);
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+        String method = exchange.getRequestMethod();
+
+        if ("POST".equals(method) && query.containsKey("uploads")) {
+            createMultipartUpload(exchange, path);
+        } else if ("PUT".equals(method) && query.containsKey("uploadId")) {
+            uploadPart(exchange, query);
+        } else if ("POST".equals(method) && query.containsKey("uploadId")) {
+            completeMultipartUpload(exchange, path, query.get("uploadId"));
+        } else if ("DELETE".equals(method) && query.containsKey("uploadId")) {
+            readBody(exchange);
+            multipartUploads.remove(query.get("uploadId"));
+            respond(exchange, 204, null, new byte[0]);
+        } else if ("PUT".equals(method)) {
+            StoredObject stored = store(path, decodedBody(exchange),
+                    exchange.getRequestHeaders().getFirst("Content-Type"));
+            exchange.getResponseHeaders().set("ETag", stored.eTag());
+            respond(exchange, 200, null, new byte[0]);
+        } else if ("GET".equals(method) || "HEAD".equals(method)) {
+            getObject(exchange, path);
+        } else if ("DELETE".equals(method)) {
+            StoredObject removed = objects.remove(path);
+            if (removed != null) {
+                storedBytes.addAndGet(-removed.content().length);
+            }
+            respond(exchange, 204, null, new byte[0]);
+        } else {
+            respondText(exchange, 405, "method not allowed");
+        }
+    }
+
+    private void getObject(HttpExchange exchange, String path) throws IOException {
+        StoredObject stored = objects.get(path);
+        if (stored == null) {
+            respond(exchange, 404, "application/xml", error("NoSuchKey", path));
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", stored.eTag());
+        exchange.getResponseHeaders().set("Last-Modified", stored.lastModified());
+        if (stored.eTag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            respond(exchange, 304, null, new byte[0]);
+            return;
+        }
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().set("Content-Type", stored.contentType());
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(stored.content().length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        respond(exchange, 200, stored.contentType(), stored.content());
+    }
+
+    private void createMultipartUpload(HttpExchange exchange, String path) throws IOException {
+        readBody(exchange);
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentHashMap<>());
+        String[] bucketAndKey = bucketAndKey(path);
+        respond(exchange, 200, "application/xml", xml("<InitiateMultipartUploadResult xmlns=\"" + S3_XMLNS + "\">"
+                + "<Bucket>" + bucketAndKey[0] + "</Bucket><Key>" + bucketAndKey[1] + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>"));
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query) throws IOException {
+        Map<Integer, byte[]> parts = multipartUploads.get(query.get("uploadId"));
+        byte[] content = decodedBody(exchange);
+        if (parts == null) {
+            respond(exchange, 404, "application/xml", error("NoSuchUpload", query.get("uploadId")));
+            return;
+        }
+        parts.put(Integer.parseInt(query.get("partNumber")), content);
+        exchange.getResponseHeaders().set("ETag", eTag(content));
+        respond(exchange, 200, null, new byte[0]);
+    }
+
+    private void completeMultipartUpload(HttpExchange exchange, String path, String uploadId) throws IOException {
+        readBody(exchange);
+        Map<Integer, byte[]> parts = multipartUploads.remove(uploadId);
+        if (parts == null) {
+            respond(exchange, 404, "application/xml", error("NoSuchUpload", uploadId));
+            return;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        new TreeMap<>(parts).values().forEach(content::writeBytes);
+        StoredObject stored = store(path, content.toByteArray(), null);
+        String[] bucketAndKey = bucketAndKey(path);
+        respond(exchange, 200, "application/xml", xml("<CompleteMultipartUploadResult xmlns=\"" + S3_XMLNS + "\">"
+                + "<Location>" + baseUrl() + path + "</Location>"
+                + "<Bucket>" + bucketAndKey[0] + "</Bucket><Key>" + bucketAndKey[1] + "</Key>"
+                + "<ETag>" + stored.eTag().replace("\"", "&quot;") + "</ETag></CompleteMultipartUploadResult>"));
+    }
+
+    private StoredObject store(String path, byte[] content, String contentType) {
+        StoredObject stored = new StoredObject(content,
+                contentType != null ? contentType : "application/octet-stream", eTag(content),
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+        StoredObject previous = objects.put(path, stored);
+        storedBytes.addAndGet(content.length - (previous != null ? previous.content().length : 0));
+        return stored;
+    }
+
+    /**
+     * 요청 본문을 읽고, aws-chunked 인코딩이면 청크 헤더/서명과 체크섬 트레일러를 제거합니다.
+     */
+    private static byte[] decodedBody(HttpExchange exchange) throws IOException {
+        byte[] body = readBody(exchange);
+        String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        boolean awsChunked = (contentSha256 != null && contentSha256.startsWith("STREAMING-"))
+                || (contentEncoding != null && contentEncoding.contains("aws-chunked"));
+        return awsChunked ? decodeAwsChunked(body) : body;
+    }
+
+    private static byte[] decodeAwsChunked(byte[] body) {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(body.length);
+        int position = 0;
+        while (position < body.length) {
+            int lineEnd = indexOfCrlf(body, position);
+            if (lineEnd < 0) {
+                break;
+            }
+            String header = new String(body, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break; // 이후는 체크섬 트레일러
+            }
+            decoded.write(body, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] body, int from) {
+        for (int i = from; i < body.length - 1; i++) {
+            if (body[i] == '\r' && body[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            query.put(separator < 0 ? parameter : parameter.substring(0, separator),
+                    separator < 0 ? "" : parameter.substring(separator + 1));
+        }
+        return query;
+    }
+
+    private static String[] bucketAndKey(String path) {
+        String withoutSlash = path.substring(1);
+        int separator = withoutSlash.indexOf('/');
+        return separator < 0
+                ? new String[] { withoutSlash, "" }
+                : new String[] { withoutSlash.substring(0, separator), withoutSlash.substring(separator + 1) };
+    }
+
+    private static String eTag(byte[] content) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] error(String code, String resource) {
+        return xml("<Error><Code>" + code + "</Code><Message>" + code + "</Message><Resource>" + resource
+                + "</Resource></Error>");
+    }
+
+    private static byte[] xml(String body) {
+        return ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record StoredObject(byte[] content, String contentType, String eTag, String lastModified) {
+    }
+}
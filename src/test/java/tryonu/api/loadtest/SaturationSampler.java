@@ -0,0 +1,157 @@
+package tryonu.api.loadtest;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 MeterRegistry의 게이지를 주기적으로 읽어 스레드/커넥션 풀 포화도를 기록합니다.
+ * 같은 지표라도 태그(실행기 이름, 커넥션 풀 이름 + 원격 주소)별로 따로 집계하며, 용량 지표가 있으면 최대 사용률을 함께 보고합니다.
+ */
+final class SaturationSampler implements AutoCloseable {
+
+    private static final double MB = 1024 * 1024;
+
+    /**
+     * 기록할 지표
+     *
+     * @param capacityMeter 같은 태그 조합의 용량 지표 (없으면 null)
+     * @param groupTags     따로 집계할 태그 이름
+     * @param filterTag     "태그=값" 조건 (없으면 null)
+     * @param scale         출력 시 나눌 값 (바이트 → MB 등)
+     */
+    record Series(String label, String meter, String capacityMeter, List<String> groupTags, String filterTag,
+            double scale) {
+
+        static Series of(String label, String meter, String capacityMeter, String... groupTags) {
+            return new Series(label, meter, capacityMeter, List.of(groupTags), null, 1);
+        }
+    }
+
+    static final List<Series> DEFAULT_SERIES = List.of(
+            Series.of("tomcat threads busy", "tomcat.threads.busy", "tomcat.threads.config.max"),
+            Series.of("executor active", "executor.active", "executor.pool.max", "name"),
+            Series.of("executor queued", "executor.queued", null, "name"),
+            Series.of("hikari connections active", "hikaricp.connections.active", "hikaricp.connections.max", "pool"),
+            Series.of("hikari connections pending", "hikaricp.connections.pending", null, "pool"),
+            Series.of("webclient pool active", "reactor.netty.connection.provider.active.connections",
+                    "reactor.netty.connection.provider.max.connections", "name", "remote.address"),
+            Series.of("webclient pool pending", "reactor.netty.connection.provider.pending.connections", null,
+                    "name", "remote.address"),
+            Series.of("jvm threads live", "jvm.threads.live", null),
+            new Series("jvm heap used (MB)", "jvm.memory.used", "jvm.memory.max", List.of(), "area=heap", MB),
+            Series.of("process cpu usage", "process.cpu.usage", null));
+
+    private final MeterRegistry registry;
+    private final List<Series> series;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-saturation-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    SaturationSampler(MeterRegistry registry, List<Series> series) {
+        this.registry = registry;
+        this.series = series;
+    }
+
+    void start(long intervalMs) {
+        scheduler.scheduleAtFixedRate(this::sample, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    synchronized void sample() {
+        for (Series s : series) {
+            Map<String, Double> values = read(s, s.meter());
+            Map<String, Double> capacities = s.capacityMeter() != null ? read(s, s.capacityMeter()) : Map.of();
+            values.forEach((group, value) -> stats
+                    .computeIfAbsent(s.label() + (group.isEmpty() ? "" : " [" + group + "]"), key -> new Stats(s))
+                    .record(value, capacities.get(group)));
+        }
+    }
+
+    synchronized void print(PrintStream out) {
+        out.printf("%-90s %10s %10s %10s %8s%n", "saturation", "mean", "peak", "capacity", "peak%");
+        stats.forEach((key, stat) -> {
+            double scale = stat.series.scale();
+            boolean hasCapacity = stat.capacity != null && stat.capacity > 0;
+            out.printf("%-90s %10.2f %10.2f %10s %8s%n", key, stat.mean() / scale, stat.peak / scale,
+                    hasCapacity ? String.format("%.0f", stat.capacity / scale) : "-",
+                    hasCapacity ? String.format("%.0f%%", stat.peak * 100 / stat.capacity) : "-");
+        });
+    }
+
+    /**
+     * 지표 값을 그룹 태그 조합별로 합산 (그룹 태그가 없으면 전체 합계 하나)
+     */
+    private Map<String, Double> read(Series s, String meterName) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Meter meter : registry.find(meterName).meters()) {
+            if (s.filterTag() != null && !matches(meter, s.filterTag())) {
+                continue;
+            }
+            double value = firstValue(meter);
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            List<String> group = new ArrayList<>();
+            for (String tag : s.groupTags()) {
+                String tagValue = meter.getId().getTag(tag);
+                group.add(tag + "=" + (tagValue != null ? tagValue : "-"));
+            }
+            values.merge(String.join(", ", group), value, Double::sum);
+        }
+        return values;
+    }
+
+    private static boolean matches(Meter meter, String filterTag) {
+        String[] tag = filterTag.split("=", 2);
+        return tag[1].equals(meter.getId().getTag(tag[0]));
+    }
+
+    private static double firstValue(Meter meter) {
+        for (Measurement measurement : meter.measure()) {
+            return measurement.getValue();
+        }
+        return Double.NaN;
+    }
+
+    private static final class Stats {
+        private final Series series;
+        private double sum;
+        private long samples;
+        private double peak;
+        private Double capacity;
+
+        private Stats(Series series) {
+            this.series = series;
+        }
+
+        private void record(double value, Double capacityValue) {
+            sum += value;
+            samples++;
+            peak = Math.max(peak, value);
+            if (capacityValue != null && capacityValue > 0) {
+                capacity = capacityValue;
+            }
+        }
+
+        private double mean() {
+            return samples == 0 ? 0 : sum / samples;
+        }
+    }
+}
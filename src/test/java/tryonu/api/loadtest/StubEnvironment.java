@@ -0,0 +1,126 @@
+package tryonu.api.loadtest;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.util.List;
+
+/**
+ * 부하 테스트용 외부 의존성 묶음 - 대체 서버를 띄우고 애플리케이션이 이 서버들을 보도록 설정합니다.
+ * 데이터베이스는 H2(PostgreSQL 호환 모드) 인메모리 DB를 씁니다.
+ */
+final class StubEnvironment implements AutoCloseable {
+
+    static final String BUCKET = "tryonu-loadtest";
+    private static final String MODEL_FOLDER = "models";
+
+    private final LoadTestSettings settings;
+    private final FashnStubServer fashn;
+    private final ImageApiStubServers.CategoryPrediction categoryPrediction;
+    private final ImageApiStubServers.BackgroundRemoval backgroundRemoval;
+    private final BedrockStubServer bedrock;
+    private final S3StubServer s3;
+    private final String defaultModelUrl;
+
+    StubEnvironment(LoadTestSettings settings) {
+        this.settings = settings;
+        this.fashn = new FashnStubServer(settings.fashnProcessing(), settings.fashnApiLatency(),
+                settings.fashnErrorMix(), settings.fashnOutputWidth(), settings.fashnOutputHeight());
+        this.categoryPrediction = new ImageApiStubServers.CategoryPrediction(settings.categoryLatency(),
+                settings.categoryClassName());
+        this.backgroundRemoval = new ImageApiStubServers.BackgroundRemoval(settings.backgroundRemovalLatency());
+        this.bedrock = new BedrockStubServer(settings.bedrockLatency());
+        this.s3 = new S3StubServer(settings.s3Latency());
+        servers().forEach(StubHttpServer::start);
+
+        // 기본 모델 이미지 (FASHN 대체 서버는 모델 이미지를 내려받지 않지만 URL은 실제로 열리도록 준비)
+        this.defaultModelUrl = s3.baseUrl() + s3.putObject(BUCKET, MODEL_FOLDER + "/default-female-model.png",
+                StubImages.random(settings.fashnOutputWidth(), settings.fashnOutputHeight(), "png"), "image/png");
+    }
+
+    List<StubHttpServer> servers() {
+        return List.of(fashn, categoryPrediction, backgroundRemoval, bedrock, s3);
+    }
+
+    FashnStubServer fashn() {
+        return fashn;
+    }
+
+    S3StubServer s3() {
+        return s3;
+    }
+
+    String defaultModelUrl() {
+        return defaultModelUrl;
+    }
+
+    /**
+     * 애플리케이션 설정 등록 (loadtest.app.* 덮어쓰기를 마지막에 적용)
+     */
+    void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("server.servlet.context-path", () -> "/api");
+        registry.add("server.tomcat.mbeanregistry.enabled", () -> "true"); // tomcat.threads.* 지표
+
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+
+        registry.add("app.cors.allowed-origin-patterns", () -> "*");
+        registry.add("app.swagger.servers.prod-https", () -> "http://localhost");
+        registry.add("app.swagger.servers.staging-https", () -> "http://localhost");
+        registry.add("app.swagger.servers.staging-http", () -> "http://localhost");
+        registry.add("assets.default-models.female.url", () -> defaultModelUrl);
+        registry.add("assets.default-models.male.url", () -> defaultModelUrl);
+        registry.add("assets.fallback.btn.url", () -> defaultModelUrl);
+        registry.add("assets.fallback.logo.url", () -> defaultModelUrl);
+        registry.add("assets.fallback.slogan.url", () -> defaultModelUrl);
+
+        registry.add("aws.credentials.access-key", () -> "stub-access-key");
+        registry.add("aws.credentials.secret-key", () -> "stub-secret-key");
+        registry.add("aws.s3.region", () -> "ap-northeast-2");
+        registry.add("aws.s3.endpoint", s3::baseUrl);
+        registry.add("aws.s3.path-style-access", () -> "true");
+        registry.add("aws.s3.bucket-name", () -> BUCKET);
+        registry.add("aws.s3.cloth-folder", () -> "clothes");
+        registry.add("aws.s3.model-folder", () -> MODEL_FOLDER);
+        registry.add("aws.s3.default-model-folder", () -> "default-models");
+        registry.add("aws.s3.tryonresult-folder", () -> "tryon-results");
+        registry.add("aws.cloudfront.domain", () -> s3.baseUrl() + "/" + BUCKET);
+
+        registry.add("external.fitting-api.base-url", fashn::baseUrl);
+        registry.add("external.fashn-api.api-key", () -> "stub-fashn-key");
+        registry.add("external.category-prediction-api.base-url", categoryPrediction::baseUrl);
+        registry.add("external.background-removal-api.base-url", backgroundRemoval::baseUrl);
+        registry.add("spring.ai.bedrock.aws.endpoint", bedrock::baseUrl);
+        registry.add("spring.ai.bedrock.aws.region", () -> "us-east-1");
+        registry.add("spring.ai.bedrock.aws.access-key", () -> "stub-access-key");
+        registry.add("spring.ai.bedrock.aws.secret-key", () -> "stub-secret-key");
+        registry.add("spring.ai.chat.model", () -> "anthropic.claude-stub");
+
+        registry.add("file.upload.allowed-content-types", () -> "image/jpeg,image/jpg,image/png");
+        registry.add("file.upload.allowed-types", () -> "jpg,jpeg,png");
+        registry.add("file.upload.max-size", () -> "10485760");
+
+        registry.add("webclient.max-in-memory-size-mb", () -> "20");
+        registry.add("webclient.timeout.connect-timeout-ms", () -> "5000");
+        registry.add("webclient.timeout.read-timeout-ms", () -> "10000");
+        registry.add("webclient.timeout.response-timeout-ms", () -> "10000");
+        registry.add("webclient.heavy-timeout.connect-timeout-ms", () -> "5000");
+        registry.add("webclient.heavy-timeout.read-timeout-ms", () -> "60000");
+        registry.add("webclient.heavy-timeout.response-timeout-ms", () -> "60000");
+        registry.add("webclient.connection-pool.max-connections", () -> "100");
+        registry.add("webclient.connection-pool.pending-acquire-timeout-ms", () -> "10000");
+        registry.add("webclient.connection-pool.max-idle-time-ms", () -> "30000");
+        registry.add("webclient.connection-pool.max-life-time-ms", () -> "300000");
+        registry.add("webclient.connection-pool.metrics-enabled", () -> "true");
+
+        settings.appOverrides().forEach((name, value) -> registry.add(name, () -> value));
+    }
+
+    @Override
+    public void close() {
+        servers().forEach(StubHttpServer::close);
+    }
+}
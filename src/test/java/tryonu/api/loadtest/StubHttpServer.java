@@ -0,0 +1,132 @@
+package tryonu.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 외부 API 대체 서버 공통 기반 (JDK HttpServer, 127.0.0.1의 임의 포트)
+ * 요청마다 플랫폼 스레드(캐시 풀)로 처리하므로 지연을 sleep으로 흉내 내도 동시 요청 수에 제한이 없습니다.
+ * 가상 스레드를 쓰지 않는 이유: 애플리케이션(spring.threads.virtual.enabled)과 같은 캐리어 스레드를 나눠 쓰게 되어,
+ * CPU가 적은 환경에서는 대체 서버의 응답 지연이 애플리케이션 부하에 섞여 측정됩니다.
+ * 처리한 요청 수와 최대 동시 처리 수를 기록하여 결과 보고에 함께 출력합니다.
+ */
+abstract class StubHttpServer implements AutoCloseable {
+
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder requests = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    protected StubHttpServer(String name) {
+        this.name = name;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-" + name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        } catch (IOException e) {
+            throw new IllegalStateException("[" + name + "] 스텁 서버를 만들 수 없습니다.", e);
+        }
+        server.setExecutor(executor);
+    }
+
+    /**
+     * 경로별 핸들러를 등록합니다. (start 전에 호출)
+     */
+    protected final void route(String path, HttpHandler handler) {
+        server.createContext(path, exchange -> {
+            requests.increment();
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try (exchange) {
+                handler.handle(exchange);
+            } catch (RuntimeException | IOException e) {
+                respondText(exchange, 500, e.getClass().getSimpleName() + ": " + e.getMessage());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    public final void start() {
+        server.start();
+    }
+
+    public final String name() {
+        return name;
+    }
+
+    public final String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public final long requestCount() {
+        return requests.sum();
+    }
+
+    public final int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    protected static void sleep(LatencyDistribution latency) {
+        long delayMs = latency.sampleMs();
+        if (delayMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return body.readAllBytes();
+        }
+    }
+
+    protected static void respond(HttpExchange exchange, int status, String contentType, byte[] body)
+            throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        boolean noBody = body.length == 0 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    protected static void respondJson(HttpExchange exchange, int status, String json) throws IOException {
+        respond(exchange, status, "application/json", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static void respondText(HttpExchange exchange, int status, String text) throws IOException {
+        respond(exchange, status, "text/plain; charset=utf-8", text.getBytes(StandardCharsets.UTF_8));
+    }
+}
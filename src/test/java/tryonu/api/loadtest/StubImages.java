@@ -0,0 +1,41 @@
+package tryonu.api.loadtest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 이미지 생성
+ * 내용 해시 기반 캐시(카테고리 예측, 피팅 결과, 내용 주소 업로드)가 요청마다 적중하지 않도록
+ * 호출할 때마다 서로 다른 픽셀로 채운 이미지를 만듭니다.
+ */
+final class StubImages {
+
+    private StubImages() {
+    }
+
+    /**
+     * @param format ImageIO 포맷 이름 (png, jpg)
+     */
+    static byte[] random(int width, int height, String format) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int base = random.nextInt(0xFFFFFF);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                // 완전한 잡음보다 실제 사진에 가까운 압축률이 나오도록 완만한 그라데이션에 잡음을 섞음
+                image.setRGB(x, y, (base + x * 257 + y * 65_537 + random.nextInt(16)) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, format, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
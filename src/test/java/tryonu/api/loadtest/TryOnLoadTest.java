@@ -0,0 +1,337 @@
+package tryonu.api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.User;
+import tryonu.api.repository.defaultmodel.DefaultModelRepository;
+import tryonu.api.repository.user.UserRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 피팅 흐름 부하 테스트 (기본 test 태스크에서는 제외, 실행: ./gradlew loadTest -Ploadtest.rate=5)
+ *
+ * 외부 API(FASHN, 카테고리 예측, 배경 제거, Bedrock, S3/CloudFront)를 로컬 대체 서버로 바꾼 애플리케이션에
+ * 고정 도착률(응답을 기다리지 않는 열린 부하 모델)로 POST /try-on/job → POST /try-on/fitting → GET /try-on/job/{id} 폴링을 보내고,
+ * 처리량, 단계별 p50/p95/p99 지연 시간, 스레드/커넥션 풀 포화도를 출력합니다.
+ * 설정 항목은 {@link LoadTestSettings}를 참고합니다.
+ */
+@Tag("load")
+@ActiveProfiles("local")
+// 요청별 INFO 로그가 콘솔 출력을 점유하지 않도록 WARN으로 (DynamicPropertySource는 로깅 초기화 이후라 여기서 지정)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "logging.level.tryonu=WARN")
+class TryOnLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final StubEnvironment STUBS = new StubEnvironment(SETTINGS);
+    private static final int USER_COUNT = 50;
+    private static final String UUID_HEADER = "X-UUID";
+    private static final Map<String, ErrorCode> INJECTED_FASHN_ERRORS = Map.of(
+            "ImageLoadError", ErrorCode.IMAGE_LOAD_ERROR,
+            "ContentModerationError", ErrorCode.CONTENT_MODERATION_ERROR,
+            "PhotoTypeError", ErrorCode.PHOTO_TYPE_ERROR,
+            "PoseError", ErrorCode.POSE_ERROR,
+            "PipelineError", ErrorCode.PIPELINE_ERROR);
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        STUBS.registerProperties(registry);
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        STUBS.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DefaultModelRepository defaultModelRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    @DisplayName("고정 도착률로 피팅 작업을 접수하고 완료될 때까지 처리량과 지연 시간, 포화도를 측정한다")
+    void measureTryOnFlow() throws Exception {
+        List<Client> clients = seedClients();
+        int totalArrivals = SETTINGS.totalArrivals();
+        // 요청마다 다른 이미지를 측정 전에 모두 만들어 둠 (부하 생성 중 인코딩 CPU 사용 방지)
+        List<byte[]> clothImages = new ArrayList<>(totalArrivals);
+        for (int i = 0; i < totalArrivals; i++) {
+            clothImages.add(StubImages.random(SETTINGS.clothWidth(), SETTINGS.clothHeight(), "jpg"));
+        }
+
+        LoadReport report = new LoadReport();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / SETTINGS.arrivalsPerSecond());
+        long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        long startMs = System.currentTimeMillis() + 500;
+        long measureStartMs = startMs + SETTINGS.warmup().toMillis();
+
+        try (SaturationSampler sampler = new SaturationSampler(meterRegistry, SaturationSampler.DEFAULT_SERIES);
+                ExecutorService scenarios = Executors.newVirtualThreadPerTaskExecutor()) {
+            boolean samplerStarted = false;
+            for (int i = 0; i < totalArrivals; i++) {
+                long scheduledNanos = startNanos + i * intervalNanos;
+                LockSupport.parkNanos(scheduledNanos - System.nanoTime());
+                long scheduledAtMs = startMs + TimeUnit.NANOSECONDS.toMillis(scheduledNanos - startNanos);
+                boolean measured = scheduledAtMs >= measureStartMs;
+                if (measured && !samplerStarted) {
+                    sampler.start(1000);
+                    samplerStarted = true;
+                }
+                if (measured) {
+                    report.recordArrival(TimeUnit.NANOSECONDS.toMillis(Math.max(0, System.nanoTime() - scheduledNanos)));
+                }
+                Client client = clients.get(i % clients.size());
+                byte[] clothImage = clothImages.set(i, null);
+                scenarios.execute(() -> runScenario(client, clothImage, scheduledAtMs, measured ? report : null));
+            }
+            scenarios.shutdown();
+            scenarios.awaitTermination(SETTINGS.jobTimeout().toSeconds() + 60, TimeUnit.SECONDS);
+            sampler.sample();
+
+            PrintStream out = System.out;
+            out.println();
+            out.println("==================== try-on load test ====================");
+            report.print(out, SETTINGS, measureStartMs);
+            out.println();
+            sampler.print(out);
+            out.println();
+            printStageTimers(out);
+            out.println();
+            printStubs(out);
+            out.println("==========================================================");
+        }
+
+        assertThat(report.count("COMPLETED")).as("완료된 피팅 작업 수").isPositive();
+        // 대체 서버가 주입한 FASHN 에러 외의 작업 실패는 회귀 (예: 스트리밍 후처리의 DataBuffer 이중 해제 → VF003)
+        assertThat(report.unexpectedFailures(injectedErrorCodes())).as("주입한 에러 외의 원인으로 실패한 작업").isEmpty();
+    }
+
+    /**
+     * 설정한 FASHN 에러 구성이 작업 실패로 기록될 때의 에러 코드 (TryOnServiceImpl의 에러 이름 매핑과 같음)
+     */
+    private static Set<String> injectedErrorCodes() {
+        return SETTINGS.fashnErrorMix().keySet().stream()
+                .map(errorName -> INJECTED_FASHN_ERRORS.getOrDefault(errorName, ErrorCode.VIRTUAL_FITTING_FAILED))
+                .map(ErrorCode::getCode)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 요청 하나의 흐름: 작업 생성 → 피팅 접수 → 완료까지 상태 조회 (→ 일부는 사이즈 조언)
+     *
+     * @param report 측정 구간 밖의 요청이면 null
+     */
+    private void runScenario(Client client, byte[] clothImage, long scheduledAtMs, LoadReport report) {
+        String outcome;
+        try {
+            outcome = execute(client, clothImage, scheduledAtMs, report);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "ERROR:Interrupted";
+        } catch (IOException | RuntimeException e) {
+            outcome = "ERROR:" + e.getClass().getSimpleName();
+        }
+        if (report != null) {
+            report.recordOutcome(outcome, System.currentTimeMillis());
+        }
+    }
+
+    private String execute(Client client, byte[] clothImage, long scheduledAtMs, LoadReport report)
+            throws IOException, InterruptedException {
+        long stepStart = System.currentTimeMillis();
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/try-on/job"))
+                .header(UUID_HEADER, client.uuid())
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (created.statusCode() != 200) {
+            return "HTTP " + created.statusCode() + "@job";
+        }
+        record(report, LoadReport.CREATE_JOB, stepStart);
+        String tryOnJobId = data(created).path("tryOnJobId").asText();
+
+        stepStart = System.currentTimeMillis();
+        String boundary = "loadtest-" + UUID.randomUUID();
+        String requestJson = objectMapper.writeValueAsString(Map.of(
+                "tryOnJobId", tryOnJobId,
+                "modelUrl", STUBS.defaultModelUrl(),
+                "defaultModelId", client.defaultModelId()));
+        HttpResponse<String> submitted = send(HttpRequest.newBuilder(uri("/try-on/fitting"))
+                .header(UUID_HEADER, client.uuid())
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(multipart(boundary, requestJson, clothImage))));
+        if (submitted.statusCode() != 200) {
+            return "HTTP " + submitted.statusCode() + "@fitting";
+        }
+        record(report, LoadReport.SUBMIT_FITTING, stepStart);
+
+        long deadlineMs = scheduledAtMs + SETTINGS.jobTimeout().toMillis();
+        while (System.currentTimeMillis() < deadlineMs) {
+            Thread.sleep(SETTINGS.pollInterval().toMillis());
+            HttpResponse<String> polled = send(HttpRequest.newBuilder(uri("/try-on/job/" + tryOnJobId))
+                    .header(UUID_HEADER, client.uuid())
+                    .GET());
+            if (polled.statusCode() != 200) {
+                return "HTTP " + polled.statusCode() + "@status";
+            }
+            JsonNode status = data(polled);
+            switch (status.path("status").asText()) {
+                case "COMPLETED" -> {
+                    record(report, LoadReport.END_TO_END, scheduledAtMs);
+                    if (ThreadLocalRandom.current().nextDouble() < SETTINGS.sizeAdviceRatio()) {
+                        return requestSizeAdvice(client, tryOnJobId, report);
+                    }
+                    return "COMPLETED";
+                }
+                case "FAILED" -> {
+                    return "FAILED:" + status.path("errorCode").asText();
+                }
+                default -> {
+                    // QUEUED, CLASSIFYING, FITTING, POSTPROCESSING
+                }
+            }
+        }
+        return "TIMEOUT";
+    }
+
+    private String requestSizeAdvice(Client client, String tryOnJobId, LoadReport report)
+            throws IOException, InterruptedException {
+        long stepStart = System.currentTimeMillis();
+        HttpResponse<String> advised = send(HttpRequest.newBuilder(uri("/try-on/size-advice"))
+                .header(UUID_HEADER, client.uuid())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of(
+                        "tryOnJobId", tryOnJobId,
+                        "sizeInfo", "S 가슴 50 총장 68 / M 가슴 53 총장 70 / L 가슴 56 총장 72")))));
+        if (advised.statusCode() != 200) {
+            // 피팅 자체는 완료되었으므로 COMPLETED로 집계하되 사이즈 조언 실패는 따로 표시
+            return "COMPLETED (size-advice HTTP " + advised.statusCode() + ")";
+        }
+        record(report, LoadReport.SIZE_ADVICE, stepStart);
+        return "COMPLETED";
+    }
+
+    private List<Client> seedClients() {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(User.builder()
+                    .uuid("loadtest-" + UUID.randomUUID())
+                    .build());
+            DefaultModel defaultModel = defaultModelRepository.save(DefaultModel.builder()
+                    .user(user)
+                    .imageUrl(STUBS.defaultModelUrl())
+                    .modelName("부하 테스트 모델")
+                    .sortOrder(1)
+                    .isCustom(false)
+                    .isDeleted(false)
+                    .build());
+            clients.add(new Client(user.getUuid(), defaultModel.getId()));
+        }
+        return clients;
+    }
+
+    /**
+     * 가상 피팅 단계별 처리 시간 (tryon.stage.duration, 전체 실행 누적)
+     */
+    private void printStageTimers(PrintStream out) {
+        out.printf("%-60s %8s %10s %10s%n", "tryon.stage.duration (ms)", "count", "mean", "max");
+        Map<String, Timer> timers = new TreeMap<>();
+        meterRegistry.find("tryon.stage.duration").timers().forEach(timer -> timers.put(
+                timer.getId().getTag("stage") + " " + timer.getId().getTag("outcome") + " "
+                        + timer.getId().getTag("error"), timer));
+        timers.forEach((key, timer) -> out.printf("%-60s %8d %10.0f %10.0f%n", key, timer.count(),
+                timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS)));
+    }
+
+    private void printStubs(PrintStream out) {
+        out.printf("%-40s %10s %10s%n", "stub server", "requests", "peak");
+        STUBS.servers().forEach(server -> out.printf("%-40s %10d %10d%n", server.name(), server.requestCount(),
+                server.peakInFlight()));
+        out.println("fashn outcomes: " + STUBS.fashn().outcomes());
+        out.printf("s3 objects: %d (%.1f MB)%n", STUBS.s3().objectCount(), STUBS.s3().storedBytes() / 1024.0 / 1024.0);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(60)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode data(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body()).path("data");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + "/api" + path);
+    }
+
+    private static void record(LoadReport report, String step, long startMs) {
+        if (report != null) {
+            report.recordLatency(step, System.currentTimeMillis() - startMs);
+        }
+    }
+
+    private static byte[] multipart(String boundary, String requestJson, byte[] clothImage) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(clothImage.length + 1024);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"request\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + requestJson + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"cloth.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(clothImage);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+
+    private record Client(String uuid, Long defaultModelId) {
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Nested;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import tryonu.api.config.BaseServiceTest;
@@ -14,12 +15,20 @@ import tryonu.api.repository.defaultmodel.DefaultModelRepository;
 import tryonu.api.converter.DefaultModelConverter;
 import tryonu.api.common.util.ImageUploadUtil;
 import tryonu.api.common.util.BackgroundRemovalUtil;
+import tryonu.api.common.util.DirectUploadUtil;
+import tryonu.api.common.util.ImagePayload;
+import tryonu.api.common.util.ImageNormalizer;
+import tryonu.api.common.util.ImageValidator;
 import tryonu.api.common.auth.SecurityUtils;
+import tryonu.api.common.enums.DerivativeTarget;
+import tryonu.api.common.enums.UploadPurpose;
+import tryonu.api.common.event.ImageStoredEvent;
 import tryonu.api.domain.User;
 import tryonu.api.domain.DefaultModel;
 import tryonu.api.dto.responses.DefaultModelResponse;
 import tryonu.api.dto.responses.DefaultModelDto;
 import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
 
 import tryonu.api.fixture.*;
 
@@ -49,6 +58,18 @@ class DefaultModelServiceImplTest extends BaseServiceTest {
     @Mock
     private BackgroundRemovalUtil backgroundRemovalUtil;
 
+    @Mock
+    private ImageValidator imageValidator;
+
+    @Mock
+    private ImageNormalizer imageNormalizer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DirectUploadUtil directUploadUtil;
+
     private User testUser;
     private MultipartFile testFile;
     private DefaultModel testDefaultModel;
@@ -68,6 +89,7 @@ class DefaultModelServiceImplTest extends BaseServiceTest {
         @DisplayName("성공: 정상적인 모델 이미지 업로드")
         void uploadDefaultModel_Success() {
             // Given
+            MultipartFile normalizedFile = MockFileFixture.createMockImageFile("model.jpg", "image/jpeg");
             byte[] backgroundRemovedImage = MockFileFixture.createMockImageBytes();
             String uploadedImageUrl = "https://test-bucket.s3.amazonaws.com/models/uploaded-model.jpg";
             Integer nextSortOrder = 3;
@@ -76,6 +98,7 @@ class DefaultModelServiceImplTest extends BaseServiceTest {
 
             try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
                 mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                given(imageNormalizer.normalize(testFile)).willReturn(normalizedFile);
                 given(backgroundRemovalUtil.removeBackground(any(MultipartFile.class)))
                         .willReturn(backgroundRemovedImage);
                 given(imageUploadUtil.uploadModelImage(any(byte[].class))).willReturn(uploadedImageUrl);
@@ -94,6 +117,12 @@ class DefaultModelServiceImplTest extends BaseServiceTest {
                 assertThat(result.imageUrl()).isEqualTo(uploadedImageUrl);
                 assertThat(result.sortOrder()).isEqualTo(nextSortOrder);
                 assertThat(result.isCustom()).isTrue();
+
+                // 정규화된 이미지로 배경 제거
+                then(backgroundRemovalUtil).should().removeBackground(normalizedFile);
+                // 목록용 파생본 생성 요청
+                then(eventPublisher).should().publishEvent(new ImageStoredEvent(DerivativeTarget.DEFAULT_MODEL,
+                        testDefaultModel.getId(), uploadedImageUrl));
             }
         }
 
@@ -112,6 +141,92 @@ class DefaultModelServiceImplTest extends BaseServiceTest {
                         .hasMessageContaining("업로드할 파일이 비어있습니다");
             }
         }
+
+        @Test
+        @DisplayName("실패: 해상도 제한을 넘는 이미지는 배경 제거 전에 거절")
+        void uploadDefaultModel_Fail_ImageTooLarge() {
+            // Given
+            given(imageValidator.validate(testFile))
+                    .willThrow(new CustomException(ErrorCode.INVALID_REQUEST, "이미지 해상도가 너무 큽니다. (50000x50000)"));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+
+                // When & Then
+                assertThatThrownBy(() -> defaultModelService.uploadDefaultModel(testFile))
+                        .isInstanceOf(CustomException.class)
+                        .hasMessageContaining("이미지 해상도가 너무 큽니다");
+                then(imageNormalizer).shouldHaveNoInteractions();
+                then(backgroundRemovalUtil).shouldHaveNoInteractions();
+                then(imageUploadUtil).shouldHaveNoInteractions();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("직접 업로드한 기본 모델 등록")
+    class UploadDefaultModelFromUpload {
+
+        private final String objectKey = "uploads/model/1/20250101_120000_test.jpg";
+
+        @Test
+        @DisplayName("성공: S3 원본으로 배경 제거 후 등록하고 원본을 삭제")
+        void uploadDefaultModelFromUpload_Success() {
+            // Given
+            DirectUploadUtil.UploadedImage uploadedImage = new DirectUploadUtil.UploadedImage(objectKey,
+                    "https://cdn.example.com/" + objectKey, null, 1024L);
+            ImagePayload original = ImagePayload.wrap(MockFileFixture.createMockImageBytes(), "model.jpg",
+                    "image/jpeg");
+            byte[] backgroundRemovedImage = MockFileFixture.createMockImageBytes();
+            String uploadedImageUrl = "https://test-bucket.s3.amazonaws.com/models/uploaded-model.png";
+            DefaultModelResponse expectedResponse = ResponseFixture.createDefaultModelResponse(
+                    1L, uploadedImageUrl, "커스텀 모델", 3, true);
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                given(directUploadUtil.verify(UploadPurpose.MODEL, testUser.getId(), objectKey))
+                        .willReturn(uploadedImage);
+                given(directUploadUtil.download(uploadedImage)).willReturn(original);
+                given(imageNormalizer.normalize(original)).willReturn(original);
+                given(backgroundRemovalUtil.removeBackground(original)).willReturn(backgroundRemovedImage);
+                given(imageUploadUtil.uploadModelImage(backgroundRemovedImage)).willReturn(uploadedImageUrl);
+                given(defaultModelRepository.findMaxSortOrderByUserId(testUser.getId())).willReturn(2);
+                given(defaultModelConverter.createDefaultModel(testUser, uploadedImageUrl, "커스텀 모델", 3))
+                        .willReturn(testDefaultModel);
+                given(defaultModelRepository.save(testDefaultModel)).willReturn(testDefaultModel);
+                given(defaultModelConverter.toDefaultModelResponse(testDefaultModel)).willReturn(expectedResponse);
+
+                // When
+                DefaultModelResponse result = defaultModelService.uploadDefaultModelFromUpload(objectKey);
+
+                // Then
+                assertThat(result.imageUrl()).isEqualTo(uploadedImageUrl);
+                then(directUploadUtil).should().delete(objectKey);
+                then(eventPublisher).should().publishEvent(new ImageStoredEvent(DerivativeTarget.DEFAULT_MODEL,
+                        testDefaultModel.getId(), uploadedImageUrl));
+                then(imageValidator).shouldHaveNoInteractions();
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 업로드 검증에 실패하면 내려받거나 배경 제거하지 않는다")
+        void uploadDefaultModelFromUpload_Fail_Rejected() {
+            // Given
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                given(directUploadUtil.verify(UploadPurpose.MODEL, testUser.getId(), objectKey))
+                        .willThrow(new CustomException(ErrorCode.IMAGE_TOO_LARGE));
+
+                // When & Then
+                assertThatThrownBy(() -> defaultModelService.uploadDefaultModelFromUpload(objectKey))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ErrorCode.IMAGE_TOO_LARGE);
+                then(directUploadUtil).should(never()).download(any());
+                then(backgroundRemovalUtil).shouldHaveNoInteractions();
+                then(defaultModelRepository).shouldHaveNoInteractions();
+            }
+        }
     }
 
     @Nested
@@ -125,9 +240,11 @@ class DefaultModelServiceImplTest extends BaseServiceTest {
             Long userId = 1L;
             List<DefaultModelDto> expectedModels = List.of(
                     new DefaultModelDto(1L, "https://test-bucket.s3.amazonaws.com/models/model1.jpg", "기본 여성 모델", 1,
-                            false),
+                            false, "https://test-bucket.s3.amazonaws.com/models/derived/thumb/model1.jpg",
+                            "https://test-bucket.s3.amazonaws.com/models/derived/medium/model1.jpg"),
                     new DefaultModelDto(2L, "https://test-bucket.s3.amazonaws.com/models/model2.jpg", "기본 남성 모델", 2,
-                            false));
+                            false, "https://test-bucket.s3.amazonaws.com/models/derived/thumb/model2.jpg",
+                            "https://test-bucket.s3.amazonaws.com/models/derived/medium/model2.jpg"));
 
             try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
                 mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
@@ -0,0 +1,255 @@
+package tryonu.api.service.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import tryonu.api.config.BaseServiceTest;
+import tryonu.api.common.enums.Category;
+import tryonu.api.common.enums.DerivativeTarget;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.util.ImageDerivativeGenerator;
+import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.TryOnResult;
+import tryonu.api.domain.User;
+import tryonu.api.repository.defaultmodel.DefaultModelRepository;
+import tryonu.api.repository.tryonresult.TryOnResultRepository;
+
+import tryonu.api.fixture.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * ImageDerivativeServiceImpl 단위 테스트
+ */
+class ImageDerivativeServiceImplTest extends BaseServiceTest {
+
+    @InjectMocks
+    private ImageDerivativeServiceImpl imageDerivativeService;
+
+    @Mock
+    private ImageDerivativeGenerator imageDerivativeGenerator;
+
+    @Mock
+    private TryOnResultRepository tryOnResultRepository;
+
+    @Mock
+    private DefaultModelRepository defaultModelRepository;
+
+    private static final int MAX_FAILURES = 3;
+    private static final String IMAGE_URL = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+    private static final ImageDerivativeGenerator.Derivatives DERIVATIVES = new ImageDerivativeGenerator.Derivatives(
+            "https://test-bucket.s3.amazonaws.com/results/derived/thumb/test-result.jpg",
+            "https://test-bucket.s3.amazonaws.com/results/derived/medium/test-result.jpg");
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = UserFixture.createUserWithId(1L, "test-uuid");
+        ReflectionTestUtils.setField(imageDerivativeService, "backfillConcurrency", 2);
+        ReflectionTestUtils.setField(imageDerivativeService, "backfillMaxFailures", MAX_FAILURES);
+    }
+
+    @Nested
+    @DisplayName("파생본 생성")
+    class GenerateAsync {
+
+        @Test
+        @DisplayName("성공: 생성한 파생본 URL을 원본 URL 조건으로 저장")
+        void generateAsync_Success() {
+            // Given
+            given(imageDerivativeGenerator.generateAsync(IMAGE_URL)).willReturn(Mono.just(DERIVATIVES));
+            given(tryOnResultRepository.updateDerivatives(1L, IMAGE_URL, DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl())).willReturn(true);
+
+            // When
+            imageDerivativeService.generateAsync(DerivativeTarget.TRY_ON_RESULT, 1L, IMAGE_URL).block();
+
+            // Then
+            then(tryOnResultRepository).should().updateDerivatives(1L, IMAGE_URL, DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl());
+            then(defaultModelRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패: 생성 실패는 전파하지 않고 저장하지 않음")
+        void generateAsync_Fail_GeneratorError() {
+            // Given
+            given(imageDerivativeGenerator.generateAsync(IMAGE_URL)).willReturn(
+                    Mono.error(new CustomException(ErrorCode.FILE_UPLOAD_FAILED, "업로드 실패")));
+
+            // When & Then
+            assertThatCode(() -> imageDerivativeService.generateAsync(DerivativeTarget.DEFAULT_MODEL, 1L, IMAGE_URL)
+                    .block()).doesNotThrowAnyException();
+            then(defaultModelRepository).should(never()).updateDerivatives(anyLong(), anyString(), anyString(),
+                    anyString());
+            then(defaultModelRepository).should().incrementDerivativeFailures(1L, IMAGE_URL);
+        }
+
+        @Test
+        @DisplayName("성공: 파생본 풀 포화로 거절되면 실패 횟수에 세지 않음")
+        void generateAsync_Rejected_NotCountedAsFailure() {
+            // Given
+            given(imageDerivativeGenerator.generateAsync(IMAGE_URL)).willReturn(
+                    Mono.error(new RejectedExecutionException("pool full")));
+
+            // When
+            imageDerivativeService.generateAsync(DerivativeTarget.TRY_ON_RESULT, 1L, IMAGE_URL).block();
+
+            // Then
+            then(tryOnResultRepository).should(never()).incrementDerivativeFailures(anyLong(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공: 같은 이미지 URL로 저장된 파생본이 있으면 생성하지 않고 재사용")
+        void generateAsync_ReusesStoredDerivatives() {
+            // Given
+            TryOnResult cachedResult = TryOnResult.builder()
+                    .id(9L)
+                    .tryOnJobId("cached-job")
+                    .user(testUser)
+                    .imageUrl(IMAGE_URL)
+                    .thumbnailUrl(DERIVATIVES.thumbnailUrl())
+                    .mediumUrl(DERIVATIVES.mediumUrl())
+                    .build();
+            given(tryOnResultRepository.findWithDerivativesByImageUrl(IMAGE_URL)).willReturn(Optional.of(cachedResult));
+            given(tryOnResultRepository.updateDerivatives(1L, IMAGE_URL, DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl())).willReturn(true);
+
+            // When
+            imageDerivativeService.generateAsync(DerivativeTarget.TRY_ON_RESULT, 1L, IMAGE_URL).block();
+
+            // Then
+            then(imageDerivativeGenerator).shouldHaveNoInteractions();
+            then(tryOnResultRepository).should().updateDerivatives(1L, IMAGE_URL, DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl());
+        }
+
+        @Test
+        @DisplayName("성공: 이미지 URL이 없으면 아무것도 하지 않음")
+        void generateAsync_Skip_NoImageUrl() {
+            // When
+            imageDerivativeService.generateAsync(DerivativeTarget.TRY_ON_RESULT, 1L, null).block();
+
+            // Then
+            then(imageDerivativeGenerator).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("파생본 백필")
+    class Backfill {
+
+        @Test
+        @DisplayName("성공: 파생본이 없는 피팅 결과와 기본 모델의 파생본 생성")
+        void backfill_Success() {
+            // Given
+            DefaultModel defaultModel = DefaultModelFixture.createDefaultModelWithId(2L, testUser);
+            TryOnResult tryOnResult = TryOnResultFixture.createTryOnResultWithId(3L,
+                    ClothFixture.createClothWithId(1L, Category.LONG_SLEEVE), testUser, defaultModel);
+            given(tryOnResultRepository.findMissingDerivatives(0L, MAX_FAILURES, 10)).willReturn(List.of(tryOnResult));
+            given(defaultModelRepository.findMissingDerivatives(0L, MAX_FAILURES, 10)).willReturn(List.of(defaultModel));
+            given(imageDerivativeGenerator.generateAsync(tryOnResult.getImageUrl())).willReturn(Mono.just(DERIVATIVES));
+            given(imageDerivativeGenerator.generateAsync(defaultModel.getImageUrl())).willReturn(Mono.just(DERIVATIVES));
+            given(tryOnResultRepository.updateDerivatives(3L, tryOnResult.getImageUrl(), DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl())).willReturn(true);
+            given(defaultModelRepository.updateDerivatives(2L, defaultModel.getImageUrl(),
+                    DERIVATIVES.thumbnailUrl(), DERIVATIVES.mediumUrl())).willReturn(true);
+
+            // When
+            int count = imageDerivativeService.backfill(10);
+
+            // Then
+            assertThat(count).isEqualTo(2);
+            then(tryOnResultRepository).should().updateDerivatives(3L, tryOnResult.getImageUrl(),
+                    DERIVATIVES.thumbnailUrl(), DERIVATIVES.mediumUrl());
+            then(defaultModelRepository).should().updateDerivatives(2L, defaultModel.getImageUrl(),
+                    DERIVATIVES.thumbnailUrl(), DERIVATIVES.mediumUrl());
+        }
+
+        @Test
+        @DisplayName("성공: 배치 안에서 같은 이미지 URL을 쓰는 기본 모델은 한 번만 생성하여 모두 저장")
+        void backfill_Success_DeduplicatesByImageUrl() {
+            // Given
+            User otherUser = UserFixture.createUserWithId(2L, "other-uuid");
+            DefaultModel defaultModel = DefaultModelFixture.createDefaultModelWithId(2L, testUser);
+            DefaultModel sameAssetModel = DefaultModelFixture.createDefaultModelWithId(5L, otherUser);
+            String assetUrl = defaultModel.getImageUrl();
+            assertThat(sameAssetModel.getImageUrl()).isEqualTo(assetUrl);
+            given(tryOnResultRepository.findMissingDerivatives(0L, MAX_FAILURES, 10)).willReturn(List.of());
+            given(defaultModelRepository.findMissingDerivatives(0L, MAX_FAILURES, 10))
+                    .willReturn(List.of(defaultModel, sameAssetModel));
+            given(imageDerivativeGenerator.generateAsync(assetUrl)).willReturn(Mono.just(DERIVATIVES));
+            given(defaultModelRepository.updateDerivatives(anyLong(), eq(assetUrl), eq(DERIVATIVES.thumbnailUrl()),
+                    eq(DERIVATIVES.mediumUrl()))).willReturn(true);
+
+            // When
+            int count = imageDerivativeService.backfill(10);
+
+            // Then
+            assertThat(count).isEqualTo(2);
+            then(imageDerivativeGenerator).should(times(1)).generateAsync(assetUrl);
+            then(defaultModelRepository).should().updateDerivatives(2L, assetUrl, DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl());
+            then(defaultModelRepository).should().updateDerivatives(5L, assetUrl, DERIVATIVES.thumbnailUrl(),
+                    DERIVATIVES.mediumUrl());
+        }
+
+        @Test
+        @DisplayName("성공: 생성에 실패하면 같은 이미지를 쓰는 행 모두의 실패 횟수를 기록")
+        void backfill_Fail_RecordsFailures() {
+            // Given
+            DefaultModel defaultModel = DefaultModelFixture.createDefaultModelWithId(2L, testUser);
+            DefaultModel sameAssetModel = DefaultModelFixture.createDefaultModelWithId(5L, testUser);
+            String assetUrl = defaultModel.getImageUrl();
+            given(tryOnResultRepository.findMissingDerivatives(0L, MAX_FAILURES, 10)).willReturn(List.of());
+            given(defaultModelRepository.findMissingDerivatives(0L, MAX_FAILURES, 10))
+                    .willReturn(List.of(defaultModel, sameAssetModel));
+            given(imageDerivativeGenerator.generateAsync(assetUrl)).willReturn(Mono.error(
+                    new CustomException(ErrorCode.INVALID_REQUEST, "파생본을 만들 수 없는 이미지입니다.")));
+
+            // When
+            imageDerivativeService.backfill(10);
+
+            // Then
+            then(defaultModelRepository).should().incrementDerivativeFailures(2L, assetUrl);
+            then(defaultModelRepository).should().incrementDerivativeFailures(5L, assetUrl);
+            then(defaultModelRepository).should(never()).updateDerivatives(anyLong(), anyString(), anyString(),
+                    anyString());
+        }
+
+        @Test
+        @DisplayName("성공: 다음 백필은 마지막으로 조회한 id 이후부터 조회")
+        void backfill_Success_ContinuesFromCursor() {
+            // Given
+            DefaultModel defaultModel = DefaultModelFixture.createDefaultModelWithId(2L, testUser);
+            given(tryOnResultRepository.findMissingDerivatives(0L, MAX_FAILURES, 10)).willReturn(List.of());
+            given(defaultModelRepository.findMissingDerivatives(0L, MAX_FAILURES, 10)).willReturn(List.of(defaultModel));
+            given(imageDerivativeGenerator.generateAsync(defaultModel.getImageUrl())).willReturn(Mono.just(DERIVATIVES));
+            given(defaultModelRepository.updateDerivatives(2L, defaultModel.getImageUrl(),
+                    DERIVATIVES.thumbnailUrl(), DERIVATIVES.mediumUrl())).willReturn(true);
+            given(defaultModelRepository.findMissingDerivatives(2L, MAX_FAILURES, 10)).willReturn(List.of());
+
+            // When
+            imageDerivativeService.backfill(10);
+            int count = imageDerivativeService.backfill(10);
+
+            // Then
+            assertThat(count).isZero();
+            then(defaultModelRepository).should().findMissingDerivatives(2L, MAX_FAILURES, 10);
+            then(tryOnResultRepository).should(times(2)).findMissingDerivatives(0L, MAX_FAILURES, 10);
+        }
+    }
+}
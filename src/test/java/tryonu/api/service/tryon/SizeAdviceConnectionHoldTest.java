@@ -0,0 +1,98 @@
+package tryonu.api.service.tryon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import tryonu.api.analyzer.SizeAnalyzeResult;
+import tryonu.api.analyzer.SizeAnalyzer;
+import tryonu.api.common.notification.SlackNotifier;
+import tryonu.api.config.ConnectionHoldMonitor;
+import tryonu.api.domain.SizeAdvice;
+import tryonu.api.domain.User;
+import tryonu.api.repository.sizeadvice.SizeAdviceRepository;
+import tryonu.api.repository.user.UserRepository;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사이즈 조언 요청의 DB 커넥션 점유 테스트
+ * 요청 스레드 전체에 EntityManager를 묶는 OSIV(spring.jpa.open-in-view)가 꺼져 있어,
+ * 외부 모델(Bedrock) 호출 동안에는 대여 중인 커넥션이 없어야 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SizeAdviceConnectionHoldTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConnectionHoldMonitor connectionHoldMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SizeAdviceRepository sizeAdviceRepository;
+
+    @MockitoBean
+    private SizeAnalyzer sizeAnalyzer;
+
+    @MockitoBean
+    private SlackNotifier slackNotifier;
+
+    @Nested
+    @DisplayName("사이즈 조언 요청")
+    class GiveSizeAdvice {
+
+        @Test
+        @DisplayName("성공: 외부 모델 호출 중에는 대여 중인 DB 커넥션이 없다")
+        void giveSizeAdvice_HoldsNoConnectionDuringExternalCall() throws Exception {
+            // Given
+            User user = userRepository.save(User.builder().uuid("size-advice-" + UUID.randomUUID()).build());
+            String tryOnJobId = UUID.randomUUID().toString();
+            sizeAdviceRepository.save(SizeAdvice.builder().tryOnJobId(tryOnJobId).user(user).build());
+
+            AtomicInteger leasesDuringExternalCall = new AtomicInteger(-1);
+            given(sizeAnalyzer.analyze(any(), any())).willAnswer(invocation -> {
+                leasesDuringExternalCall.set(activeLeases().size());
+                return new SizeAnalyzeResult("M 사이즈를 추천합니다.");
+            });
+
+            // When
+            mockMvc.perform(post("/try-on/size-advice")
+                            .header("X-UUID", user.getUuid())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"tryOnJobId\":\"" + tryOnJobId + "\",\"sizeInfo\":\"S M L\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.advice").value("M 사이즈를 추천합니다."));
+
+            // Then
+            assertThat(leasesDuringExternalCall).hasValue(0);
+            assertThat(activeLeases()).isEmpty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<ConnectionHoldMonitor.Lease> activeLeases() {
+        return (Set<ConnectionHoldMonitor.Lease>) ReflectionTestUtils.getField(connectionHoldMonitor, "activeLeases");
+    }
+}
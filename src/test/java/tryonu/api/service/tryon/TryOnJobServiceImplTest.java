@@ -0,0 +1,564 @@
+package tryonu.api.service.tryon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Spy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import tryonu.api.common.auth.SecurityUtils;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.enums.UploadPurpose;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.util.ContentHashUtil;
+import tryonu.api.common.util.Deadline;
+import tryonu.api.common.util.DeadlineGuard;
+import tryonu.api.common.util.DirectUploadUtil;
+import tryonu.api.common.util.ImagePayload;
+import tryonu.api.common.util.ImageValidator;
+import tryonu.api.common.util.TryOnMetrics;
+import tryonu.api.common.util.VirtualFittingStatusPoller;
+import tryonu.api.common.util.VirtualFittingUtil;
+import tryonu.api.config.BaseServiceTest;
+import tryonu.api.dto.requests.TryOnRequestDto;
+import tryonu.api.domain.TryOnResult;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
+import tryonu.api.dto.responses.TryOnResponse;
+import tryonu.api.dto.responses.VirtualFittingStatusResponse;
+import tryonu.api.fixture.MockFileFixture;
+import tryonu.api.fixture.RequestFixture;
+import tryonu.api.fixture.ResponseFixture;
+import tryonu.api.fixture.TryOnResultFixture;
+import tryonu.api.repository.tryonresult.TryOnResultRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * TryOnJobServiceImpl 단위 테스트
+ *
+ * 테스트 전략:
+ * - 작업 실행기(Executor)는 호출 스레드에서 즉시 실행하도록 Mock 처리
+ * - 작업 접수 / 실패 기록 / 큐 포화 거절 흐름 검증
+ * - WebHook 콜백 및 Fallback 스위퍼의 중복 처리 방지 검증
+ * - GWT(Given-When-Then) 패턴으로 테스트 작성
+ */
+class TryOnJobServiceImplTest extends BaseServiceTest {
+
+    @InjectMocks
+    private TryOnJobServiceImpl tryOnJobService;
+
+    @Mock
+    private TryOnService tryOnService;
+
+    @Mock
+    private TryOnWriteService tryOnWriteService;
+
+    @Mock
+    private TryOnResultRepository tryOnResultRepository;
+
+    @Mock
+    private VirtualFittingUtil virtualFittingUtil;
+
+    @Mock
+    private VirtualFittingStatusPoller virtualFittingStatusPoller;
+
+    @Mock
+    private AsyncTaskExecutor tryOnJobExecutor;
+
+    @Mock
+    private ImageValidator imageValidator;
+
+    @Mock
+    private DirectUploadUtil directUploadUtil;
+
+    @Spy
+    private DeadlineGuard deadlineGuard = new DeadlineGuard(new SimpleMeterRegistry());
+
+    @Spy
+    private TryOnMetrics tryOnMetrics = new TryOnMetrics(new SimpleMeterRegistry());
+
+    private final Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+    private void runTasksImmediately() {
+        willAnswer(invocation -> {
+            Runnable task = invocation.getArgument(0);
+            task.run();
+            return null;
+        }).given(tryOnJobExecutor).execute(any(Runnable.class));
+    }
+
+    @Nested
+    @DisplayName("피팅 작업 접수")
+    class SubmitTryOn {
+
+        @Test
+        @DisplayName("실패: 이미지 검증에 실패하면 작업을 접수하지 않는다")
+        void submitTryOn_Fail_InvalidImage() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            given(imageValidator.validate(any(ImagePayload.class)))
+                    .willThrow(new CustomException(ErrorCode.INVALID_REQUEST, "이미지 형식을 확인할 수 없습니다."));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When & Then
+                assertThatThrownBy(() -> tryOnJobService.submitTryOn(request, file, deadline))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ErrorCode.INVALID_REQUEST);
+
+                then(tryOnWriteService).should(never()).markJobQueued(anyString(), anyLong());
+                then(tryOnJobExecutor).should(never()).execute(any(Runnable.class));
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 작업을 QUEUED 상태로 접수하고, 상태 폴러가 완료를 감지하면 후처리한다")
+        void submitTryOn_Success() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+            runTasksImmediately();
+            given(tryOnService.submitVirtualFitting(eq(request), any(MultipartFile.class), isNull(), eq(deadline)))
+                    .willReturn(Optional.of(completedStatus.id()));
+            given(virtualFittingStatusPoller.trackAsMono(eq(completedStatus.id()), anyLong()))
+                    .willReturn(Mono.just(completedStatus));
+            given(tryOnWriteService.claimVirtualFitting(completedStatus.id())).willReturn(List.of(request.tryOnJobId()));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnJobStatusResponse response = tryOnJobService.submitTryOn(request, file, deadline);
+
+                // Then
+                assertThat(response.tryOnJobId()).isEqualTo(request.tryOnJobId());
+                assertThat(response.status()).isEqualTo(TryOnJobStatus.QUEUED);
+                assertThat(response.defaultModelId()).isEqualTo(request.defaultModelId());
+
+                then(tryOnWriteService).should().markJobQueued(request.tryOnJobId(), 1L);
+                then(tryOnService).should().completeVirtualFitting(eq(completedStatus), anyList());
+                then(tryOnService).should(never()).tryOn(any(), any(), any());
+                then(tryOnWriteService).should(never()).markJobFailed(anyString(), any(), anyString());
+            }
+        }
+
+        @Test
+        @DisplayName("성공: 캐시된 결과로 작업이 바로 완료되면 상태 폴러를 기다리지 않는다")
+        void submitTryOn_CachedResult_SkipsPolling() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            runTasksImmediately();
+            given(tryOnService.submitVirtualFitting(eq(request), any(MultipartFile.class), isNull(), eq(deadline)))
+                    .willReturn(Optional.empty());
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnJobStatusResponse response = tryOnJobService.submitTryOn(request, file, deadline);
+
+                // Then
+                assertThat(response.status()).isEqualTo(TryOnJobStatus.QUEUED);
+                then(virtualFittingStatusPoller).shouldHaveNoInteractions();
+                then(tryOnService).should(never()).completeVirtualFitting(any(), anyList());
+                then(tryOnWriteService).should(never()).markJobFailed(anyString(), any(), anyString());
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 파이프라인에서 예외 발생 시 작업을 FAILED로 기록한다")
+        void submitTryOn_PipelineFailure_MarksFailed() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            runTasksImmediately();
+            given(tryOnService.submitVirtualFitting(eq(request), any(MultipartFile.class), isNull(), eq(deadline)))
+                    .willThrow(new CustomException(ErrorCode.CATEGORY_PREDICTION_FAILED));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnJobStatusResponse response = tryOnJobService.submitTryOn(request, file, deadline);
+
+                // Then
+                assertThat(response.status()).isEqualTo(TryOnJobStatus.QUEUED);
+                then(tryOnWriteService).should().markJobFailed(request.tryOnJobId(),
+                        ErrorCode.CATEGORY_PREDICTION_FAILED, ErrorCode.CATEGORY_PREDICTION_FAILED.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 상태 폴러가 타임아웃되면 작업을 FAILED로 기록한다")
+        void submitTryOn_PollerTimeout_MarksFailed() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            String virtualFittingId = "test-fitting-id-12345";
+            runTasksImmediately();
+            given(tryOnService.submitVirtualFitting(eq(request), any(MultipartFile.class), isNull(), eq(deadline)))
+                    .willReturn(Optional.of(virtualFittingId));
+            given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingId), anyLong())).willReturn(
+                    Mono.error(new CustomException(ErrorCode.VIRTUAL_FITTING_TIMEOUT)));
+            given(tryOnWriteService.claimTryOnJob(request.tryOnJobId())).willReturn(true);
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                tryOnJobService.submitTryOn(request, file, deadline);
+
+                // Then
+                then(tryOnService).should(never()).completeVirtualFitting(any(), anyList());
+                then(tryOnWriteService).should().markJobFailed(request.tryOnJobId(), ErrorCode.VIRTUAL_FITTING_TIMEOUT,
+                        ErrorCode.VIRTUAL_FITTING_TIMEOUT.getMessage());
+                // 같은 가상 피팅에 연결된 다른 작업은 각자의 제한 시간으로 계속 대기
+                then(tryOnWriteService).should(never()).claimVirtualFitting(anyString());
+            }
+        }
+
+        @Test
+        @DisplayName("성공: WebHook 방식이면 가상 피팅 요청 후 완료를 기다리지 않는다")
+        void submitTryOn_WebhookMode_SubmitsOnly() {
+            // Given
+            String webhookUrl = "https://api.test.com/webhook/virtual-fitting";
+            ReflectionTestUtils.setField(tryOnJobService, "webhookEnabled", true);
+            ReflectionTestUtils.setField(tryOnJobService, "webhookUrl", webhookUrl);
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            runTasksImmediately();
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnJobStatusResponse response = tryOnJobService.submitTryOn(request, file, deadline);
+
+                // Then
+                assertThat(response.status()).isEqualTo(TryOnJobStatus.QUEUED);
+                then(tryOnService).should().submitVirtualFitting(eq(request), any(MultipartFile.class), eq(webhookUrl), eq(deadline));
+                then(tryOnService).should(never()).tryOn(any(), any(), any());
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 작업 큐가 가득 차면 FAILED로 기록하고 거절한다")
+        void submitTryOn_QueueFull_Rejected() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            willThrow(new TaskRejectedException("queue full")).given(tryOnJobExecutor).execute(any(Runnable.class));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When & Then
+                assertThatThrownBy(() -> tryOnJobService.submitTryOn(request, file, deadline))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ErrorCode.TRY_ON_JOB_REJECTED);
+
+                then(tryOnWriteService).should().markJobFailed(eq(request.tryOnJobId()),
+                        eq(ErrorCode.TRY_ON_JOB_REJECTED), anyString());
+                then(tryOnService).shouldHaveNoInteractions();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("직접 업로드한 이미지로 피팅 작업 접수")
+    class SubmitUploadedTryOn {
+
+        private final String objectKey = "uploads/cloth/1/20250101_120000_test.jpg";
+
+        @Test
+        @DisplayName("성공: 업로드 객체를 검증한 뒤 CDN URL로 가상 피팅을 요청한다")
+        void submitUploadedTryOn_Success() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            String clothImageUrl = "https://cdn.example.com/" + objectKey;
+            VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+            runTasksImmediately();
+            given(directUploadUtil.verify(UploadPurpose.CLOTH, 1L, objectKey))
+                    .willReturn(new DirectUploadUtil.UploadedImage(objectKey, clothImageUrl, null, 1024L));
+            given(tryOnService.submitUploadedVirtualFitting(eq(request), eq(clothImageUrl), isNull(), eq(deadline)))
+                    .willReturn(Optional.of(completedStatus.id()));
+            given(virtualFittingStatusPoller.trackAsMono(eq(completedStatus.id()), anyLong()))
+                    .willReturn(Mono.just(completedStatus));
+            given(tryOnWriteService.claimVirtualFitting(completedStatus.id())).willReturn(List.of(request.tryOnJobId()));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnJobStatusResponse response = tryOnJobService.submitUploadedTryOn(request, objectKey, deadline);
+
+                // Then
+                assertThat(response.status()).isEqualTo(TryOnJobStatus.QUEUED);
+                then(tryOnWriteService).should().markJobQueued(request.tryOnJobId(), 1L);
+                then(tryOnService).should().completeVirtualFitting(eq(completedStatus), anyList());
+                then(tryOnService).should(never()).submitVirtualFitting(any(), any(), any(), any());
+                then(imageValidator).shouldHaveNoInteractions();
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 다른 사용자의 업로드 객체면 작업을 접수하지 않는다")
+        void submitUploadedTryOn_Fail_Forbidden() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            given(directUploadUtil.verify(UploadPurpose.CLOTH, 1L, objectKey))
+                    .willThrow(new CustomException(ErrorCode.FORBIDDEN));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When & Then
+                assertThatThrownBy(() -> tryOnJobService.submitUploadedTryOn(request, objectKey, deadline))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ErrorCode.FORBIDDEN);
+
+                then(tryOnWriteService).should(never()).markJobQueued(anyString(), anyLong());
+                then(tryOnJobExecutor).should(never()).execute(any(Runnable.class));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("피팅 작업 접수 후 결과 대기")
+    class TryOnAndAwait {
+
+        @Test
+        @DisplayName("성공: 작업을 QUEUED로 접수하고 파이프라인 결과를 반환한다")
+        void tryOnAndAwait_Success() throws Exception {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(request.tryOnJobId(),
+                    "https://test-bucket.s3.amazonaws.com/results/test-result.jpg", request.defaultModelId(), "모델");
+            given(tryOnService.tryOnAsync(eq(request), any(MultipartFile.class), eq(deadline))).willReturn(Mono.just(expectedResponse));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnResponse response = tryOnJobService.tryOnAndAwait(request, file, deadline).block();
+
+                // Then
+                assertThat(response).isEqualTo(expectedResponse);
+                then(tryOnWriteService).should().markJobQueued(request.tryOnJobId(), 1L);
+                then(tryOnWriteService).should(never()).markJobFailed(anyString(), any(), anyString());
+
+                // 업로드 파일은 한 번 읽어 해시가 계산된 페이로드로 전달
+                ArgumentCaptor<MultipartFile> fileCaptor = ArgumentCaptor.forClass(MultipartFile.class);
+                then(tryOnService).should().tryOnAsync(eq(request), fileCaptor.capture(), eq(deadline));
+                String expectedSha256 = ContentHashUtil.sha256Hex(file.getBytes());
+                assertThat(fileCaptor.getValue()).isInstanceOfSatisfying(ImagePayload.class, payload -> {
+                    assertThat(payload.getSha256()).isEqualTo(expectedSha256);
+                    assertThat(payload.getSize()).isEqualTo(file.getSize());
+                    assertThat(payload.getOriginalFilename()).isEqualTo(file.getOriginalFilename());
+                });
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 파이프라인 실패 시 작업을 FAILED로 기록하고 같은 예외로 종료한다")
+        void tryOnAndAwait_PipelineFailure_MarksFailed() {
+            // Given
+            TryOnRequestDto request = RequestFixture.createTryOnRequest();
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            given(tryOnService.tryOnAsync(eq(request), any(MultipartFile.class), eq(deadline)))
+                    .willReturn(Mono.error(new CustomException(ErrorCode.VIRTUAL_FITTING_TIMEOUT)));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When & Then
+                assertThatThrownBy(() -> tryOnJobService.tryOnAndAwait(request, file, deadline).block())
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode").isEqualTo(ErrorCode.VIRTUAL_FITTING_TIMEOUT);
+                then(tryOnWriteService).should().markJobFailed(request.tryOnJobId(),
+                        ErrorCode.VIRTUAL_FITTING_TIMEOUT, ErrorCode.VIRTUAL_FITTING_TIMEOUT.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("피팅 작업 상태 조회")
+    class GetTryOnJobStatus {
+
+        @Test
+        @DisplayName("성공: 현재 사용자의 작업 상태를 조회한다")
+        void getTryOnJobStatus_Success() {
+            // Given
+            String tryOnJobId = "test-job-12345";
+            TryOnJobStatusResponse expected = new TryOnJobStatusResponse(tryOnJobId, TryOnJobStatus.FITTING, null,
+                    1L, "기본 모델", null, null);
+            given(tryOnResultRepository.findTryOnJobStatusOrThrow(tryOnJobId, 1L)).willReturn(expected);
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                TryOnJobStatusResponse response = tryOnJobService.getTryOnJobStatus(tryOnJobId);
+
+                // Then
+                assertThat(response).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("가상 피팅 WebHook 처리")
+    class HandleVirtualFittingCallback {
+
+        @Test
+        @DisplayName("성공: 최종 상태를 다시 조회하고 선점에 성공하면 후처리한다")
+        void handleVirtualFittingCallback_Success() {
+            // Given
+            VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+            runTasksImmediately();
+            given(virtualFittingUtil.getVirtualFittingStatus(completedStatus.id())).willReturn(completedStatus);
+            given(tryOnWriteService.claimVirtualFitting(completedStatus.id())).willReturn(List.of("test-job-12345"));
+
+            // When
+            tryOnJobService.handleVirtualFittingCallback(completedStatus.id());
+
+            // Then
+            then(tryOnService).should().completeVirtualFitting(eq(completedStatus), anyList());
+            then(tryOnWriteService).should(never()).markJobFailed(anyString(), any(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공: 같은 가상 피팅에 연결된 작업을 모두 선점하여 함께 후처리한다")
+        void handleVirtualFittingCallback_CompletesAttachedJobs() {
+            // Given
+            VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+            List<String> attachedJobIds = List.of("leader-job", "follower-job");
+            runTasksImmediately();
+            given(virtualFittingUtil.getVirtualFittingStatus(completedStatus.id())).willReturn(completedStatus);
+            given(tryOnWriteService.claimVirtualFitting(completedStatus.id())).willReturn(attachedJobIds);
+            given(tryOnService.completeVirtualFitting(completedStatus, attachedJobIds))
+                    .willThrow(new CustomException(ErrorCode.POSE_ERROR, "포즈 인식 실패"));
+
+            // When
+            tryOnJobService.handleVirtualFittingCallback(completedStatus.id());
+
+            // Then
+            then(tryOnService).should(times(1)).completeVirtualFitting(completedStatus, attachedJobIds);
+            then(tryOnWriteService).should().markJobFailed("leader-job", ErrorCode.POSE_ERROR, "포즈 인식 실패");
+            then(tryOnWriteService).should().markJobFailed("follower-job", ErrorCode.POSE_ERROR, "포즈 인식 실패");
+        }
+
+        @Test
+        @DisplayName("성공: 이미 처리된 가상 피팅이면 후처리하지 않는다")
+        void handleVirtualFittingCallback_AlreadyClaimed() {
+            // Given
+            VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+            runTasksImmediately();
+            given(virtualFittingUtil.getVirtualFittingStatus(completedStatus.id())).willReturn(completedStatus);
+            given(tryOnWriteService.claimVirtualFitting(completedStatus.id())).willReturn(List.of());
+
+            // When
+            tryOnJobService.handleVirtualFittingCallback(completedStatus.id());
+
+            // Then
+            then(tryOnService).should(never()).completeVirtualFitting(any(), anyList());
+        }
+
+        @Test
+        @DisplayName("성공: 아직 처리 중인 가상 피팅이면 선점하지 않는다")
+        void handleVirtualFittingCallback_NotFinished() {
+            // Given
+            VirtualFittingStatusResponse processingStatus = ResponseFixture.createProcessingStatusResponse();
+            runTasksImmediately();
+            given(virtualFittingUtil.getVirtualFittingStatus(processingStatus.id())).willReturn(processingStatus);
+
+            // When
+            tryOnJobService.handleVirtualFittingCallback(processingStatus.id());
+
+            // Then
+            then(tryOnWriteService).should(never()).claimVirtualFitting(anyString());
+            then(tryOnService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패: 후처리 중 예외 발생 시 작업을 FAILED로 기록한다")
+        void handleVirtualFittingCallback_Failure_MarksFailed() {
+            // Given
+            VirtualFittingStatusResponse failedStatus = ResponseFixture.createFailedStatusResponse();
+            runTasksImmediately();
+            given(virtualFittingUtil.getVirtualFittingStatus(failedStatus.id())).willReturn(failedStatus);
+            given(tryOnWriteService.claimVirtualFitting(failedStatus.id())).willReturn(List.of("test-job-12345"));
+            given(tryOnService.completeVirtualFitting(failedStatus, List.of("test-job-12345")))
+                    .willThrow(new CustomException(ErrorCode.IMAGE_LOAD_ERROR, "이미지 로드 실패"));
+
+            // When
+            tryOnJobService.handleVirtualFittingCallback(failedStatus.id());
+
+            // Then
+            then(tryOnWriteService).should().markJobFailed("test-job-12345", ErrorCode.IMAGE_LOAD_ERROR, "이미지 로드 실패");
+        }
+    }
+
+    @Nested
+    @DisplayName("놓친 가상 피팅 작업 스위핑")
+    class SweepPendingVirtualFittings {
+
+        @Test
+        @DisplayName("성공: 완료된 작업은 후처리하고, 제한 시간을 넘긴 작업은 타임아웃 처리한다")
+        void sweepPendingVirtualFittings_CompletesAndTimesOut() {
+            // Given
+            ReflectionTestUtils.setField(tryOnJobService, "sweeperTimeoutMs", 600_000L);
+            TryOnResult completedFitting = TryOnResultFixture.createTryOnResultWithUrls(null, null, "fitting-completed");
+            TryOnResult staleFitting = TryOnResultFixture.createTryOnResultWithUrls(null, null, "fitting-stale");
+            ReflectionTestUtils.setField(completedFitting, "updatedAt", Instant.now().minus(3, ChronoUnit.MINUTES));
+            ReflectionTestUtils.setField(staleFitting, "updatedAt", Instant.now().minus(30, ChronoUnit.MINUTES));
+
+            VirtualFittingStatusResponse completedStatus = new VirtualFittingStatusResponse("fitting-completed",
+                    "completed", List.of("https://fashn-ai.s3.amazonaws.com/results/test-result.jpg"), null);
+            VirtualFittingStatusResponse processingStatus = new VirtualFittingStatusResponse("fitting-stale",
+                    "processing", null, null);
+
+            runTasksImmediately();
+            given(tryOnResultRepository.findPendingVirtualFittings(eq(TryOnJobStatus.FITTING), any(Instant.class),
+                    anyInt())).willReturn(List.of(completedFitting, staleFitting));
+            given(virtualFittingUtil.getVirtualFittingStatus("fitting-completed")).willReturn(completedStatus);
+            given(virtualFittingUtil.getVirtualFittingStatus("fitting-stale")).willReturn(processingStatus);
+            given(tryOnWriteService.claimVirtualFitting("fitting-completed")).willReturn(List.of("job-completed"));
+            given(tryOnWriteService.claimVirtualFitting("fitting-stale")).willReturn(List.of("job-stale"));
+
+            // When
+            tryOnJobService.sweepPendingVirtualFittings();
+
+            // Then
+            then(tryOnService).should().completeVirtualFitting(eq(completedStatus), anyList());
+            then(tryOnWriteService).should().markJobFailed(eq("job-stale"), eq(ErrorCode.VIRTUAL_FITTING_TIMEOUT),
+                    anyString());
+            then(tryOnWriteService).should(never()).markJobFailed(eq("job-completed"), any(), anyString());
+        }
+    }
+}
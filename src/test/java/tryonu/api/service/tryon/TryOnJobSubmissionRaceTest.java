@@ -0,0 +1,145 @@
+package tryonu.api.service.tryon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.multipart.MultipartFile;
+
+import tryonu.api.analyzer.SizeAnalyzer;
+import tryonu.api.common.auth.UuidAuthenticationToken;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.notification.SlackNotifier;
+import tryonu.api.common.util.Deadline;
+import tryonu.api.common.util.ImageValidator;
+import tryonu.api.domain.TryOnResult;
+import tryonu.api.domain.User;
+import tryonu.api.dto.requests.TryOnRequestDto;
+import tryonu.api.fixture.MockFileFixture;
+import tryonu.api.repository.tryonresult.TryOnResultRepository;
+import tryonu.api.repository.user.UserRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * 같은 피팅 작업의 동시 접수 테스트
+ * 상태 확인과 QUEUED 전이가 조건부 UPDATE 한 번으로 처리되어, 동시에 들어온 요청 중 하나만 작업 큐에 들어가야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TryOnJobSubmissionRaceTest {
+
+    private static final int CONCURRENT_SUBMITS = 2;
+
+    @Autowired
+    private TryOnJobService tryOnJobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TryOnResultRepository tryOnResultRepository;
+
+    @MockitoBean(name = "tryOnJobExecutor")
+    private AsyncTaskExecutor tryOnJobExecutor;
+
+    @MockitoBean
+    private ImageValidator imageValidator;
+
+    @MockitoBean
+    private SizeAnalyzer sizeAnalyzer;
+
+    @MockitoBean
+    private SlackNotifier slackNotifier;
+
+    private final ExecutorService requestThreads = Executors.newFixedThreadPool(CONCURRENT_SUBMITS);
+
+    @AfterEach
+    void tearDown() {
+        requestThreads.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("피팅 작업 동시 접수")
+    class ConcurrentSubmit {
+
+        @Test
+        @DisplayName("성공: 같은 작업을 동시에 두 번 요청하면 한 번만 작업 큐에 넣고 나머지는 TRY_ON_JOB_ALREADY_SUBMITTED")
+        void submitTryOn_Concurrently_EnqueuesOnce() throws Exception {
+            // Given
+            User user = userRepository.save(User.builder().uuid("race-" + UUID.randomUUID()).build());
+            String tryOnJobId = UUID.randomUUID().toString();
+            tryOnResultRepository.save(TryOnResult.builder().tryOnJobId(tryOnJobId).user(user).build());
+            TryOnRequestDto request = new TryOnRequestDto(tryOnJobId, "https://cdn.example.com/models/model.png", 1L,
+                    null);
+            MultipartFile file = MockFileFixture.createMockClothImageFile();
+            Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+            // When
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<TryOnJobStatus>> submits = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_SUBMITS; i++) {
+                submits.add(requestThreads.submit(asUser(user, () -> {
+                    start.await();
+                    return tryOnJobService.submitTryOn(request, file, deadline).status();
+                })));
+            }
+            start.countDown();
+
+            // Then
+            int accepted = 0;
+            List<Throwable> rejections = new ArrayList<>();
+            for (Future<TryOnJobStatus> submit : submits) {
+                try {
+                    assertThat(submit.get(10, TimeUnit.SECONDS)).isEqualTo(TryOnJobStatus.QUEUED);
+                    accepted++;
+                } catch (ExecutionException e) {
+                    rejections.add(e.getCause());
+                }
+            }
+
+            assertThat(accepted).isEqualTo(1);
+            assertThat(rejections).singleElement()
+                    .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getErrorCode())
+                            .isEqualTo(ErrorCode.TRY_ON_JOB_ALREADY_SUBMITTED));
+            then(tryOnJobExecutor).should(times(1)).execute(any(Runnable.class));
+            assertThat(tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId).getStatus())
+                    .isEqualTo(TryOnJobStatus.QUEUED);
+        }
+    }
+
+    /**
+     * 요청 스레드마다 인증 정보를 설정하여 실행
+     */
+    private static <T> Callable<T> asUser(User user, Callable<T> task) {
+        return () -> {
+            SecurityContextHolder.getContext().setAuthentication(new UuidAuthenticationToken(user, List.of()));
+            try {
+                return task.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        };
+    }
+}
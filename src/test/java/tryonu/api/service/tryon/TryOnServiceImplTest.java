@@ -4,26 +4,52 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import tryonu.api.config.BaseServiceTest;
 import tryonu.api.common.util.VirtualFittingUtil;
+import tryonu.api.common.util.VirtualFittingStatusPoller;
 import tryonu.api.common.util.ImageUploadUtil;
 import tryonu.api.common.util.CategoryPredictionUtil;
 import tryonu.api.common.util.BackgroundRemovalUtil;
+import tryonu.api.common.util.Deadline;
+import tryonu.api.common.util.ImageDataUrlCache;
+import tryonu.api.common.util.ImagePayload;
+import tryonu.api.common.util.DeadlineGuard;
+import tryonu.api.common.util.TryOnMetrics;
+import tryonu.api.common.util.VirtualFittingCoalescer;
 import tryonu.api.repository.tryonresult.TryOnResultRepository;
 import tryonu.api.repository.defaultmodel.DefaultModelRepository;
 import tryonu.api.converter.TryOnResultConverter;
 import tryonu.api.converter.UserConverter;
+import tryonu.api.converter.SizeAdviceConverter;
+import tryonu.api.analyzer.SizeAnalyzer;
+import tryonu.api.analyzer.SizeAnalyzeRequest;
+import tryonu.api.analyzer.SizeAnalyzeResult;
 import tryonu.api.common.auth.SecurityUtils;
 import tryonu.api.domain.TryOnResult;
 import tryonu.api.domain.User;
 import tryonu.api.domain.DefaultModel;
+import tryonu.api.domain.SizeAdvice;
 import tryonu.api.dto.requests.TryOnRequestDto;
+import tryonu.api.dto.requests.SizeAdviceRequest;
 import tryonu.api.dto.requests.VirtualFittingRequest;
+import tryonu.api.dto.requests.ImageUrlRequest;
 import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.dto.responses.CategoryPredictionResponse;
 import tryonu.api.dto.responses.VirtualFittingResponse;
@@ -31,12 +57,21 @@ import tryonu.api.dto.responses.VirtualFittingStatusResponse;
 import tryonu.api.dto.responses.TryOnResultDto;
 import tryonu.api.dto.responses.UserInfoResponse;
 import tryonu.api.dto.responses.DefaultModelDto;
+import tryonu.api.dto.responses.SizeAdviceResponse;
+import tryonu.api.dto.responses.ImageDataUrlResponse;
 import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
 import tryonu.api.common.enums.Category;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.enums.TryOnStage;
 
 import tryonu.api.fixture.*;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -53,6 +88,9 @@ class TryOnServiceImplTest extends BaseServiceTest {
         @Mock
         private VirtualFittingUtil virtualFittingUtil;
 
+        @Mock
+        private VirtualFittingStatusPoller virtualFittingStatusPoller;
+
         @Mock
         private ImageUploadUtil imageUploadUtil;
 
@@ -74,21 +112,93 @@ class TryOnServiceImplTest extends BaseServiceTest {
         @Mock
         private TryOnWriteService tryOnWriteService;
 
+        @Mock
+        private TryOnReadService tryOnReadService;
+
+        @Mock
+        private TryOnResultCacheService tryOnResultCacheService;
+
         @Mock
         private BackgroundRemovalUtil backgroundRemovalUtil;
 
+        @Mock
+        private SizeAnalyzer sizeAnalyzer;
+
+        @Mock
+        private SizeAdviceConverter sizeAdviceConverter;
+
+        @Mock
+        private ImageDataUrlCache imageDataUrlCache;
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        @Spy
+        private DeadlineGuard deadlineGuard = new DeadlineGuard(meterRegistry);
+
+        @Spy
+        private TryOnMetrics tryOnMetrics = new TryOnMetrics(meterRegistry);
+
+        @Spy
+        private VirtualFittingCoalescer virtualFittingCoalescer = new VirtualFittingCoalescer(meterRegistry);
+
         private User testUser;
         private DefaultModel testDefaultModel;
         private TryOnRequestDto testRequest;
         private MultipartFile testFile;
+        private ImagePayload testPayload;
+        private Deadline testDeadline;
 
         @BeforeEach
-        void setUp() {
+        void setUp() throws IOException {
                 testUser = UserFixture.createUserWithId(1L, "test-uuid");
                 testDefaultModel = DefaultModelFixture.createDefaultModelWithId(1L, testUser);
                 testRequest = RequestFixture.createTryOnRequest(testDefaultModel.getImageUrl(),
                                 testDefaultModel.getId());
                 testFile = MockFileFixture.createMockClothImageFile();
+                testPayload = ImagePayload.wrap(testFile.getBytes(), testFile.getOriginalFilename(),
+                                testFile.getContentType());
+                testDeadline = Deadline.after(Duration.ofMinutes(1));
+                ReflectionTestUtils.setField(virtualFittingCoalescer, "enabled", true);
+                ReflectionTestUtils.setField(tryOnService, "completionTimeoutMs", 600_000L);
+        }
+
+        /**
+         * 분류 실패 시 동시 실행 중인 조회는 취소될 수 있으므로 호출 여부를 강제하지 않음
+         */
+        private void stubLookupsLeniently() {
+                lenient().when(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                .thenReturn(testDefaultModel);
+                lenient().when(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                .thenReturn(TryOnResultFixture.createTryOnResult());
+        }
+
+        /**
+         * 의류 이미지 정규화/업로드 스텁 (요청 파일 → 준비된 페이로드 → 업로드 URL)
+         */
+        private void stubClothUpload(String clothImageUrl) {
+                given(imageUploadUtil.prepareClothPayloadAsync(testFile, testDeadline))
+                                .willReturn(Mono.just(testPayload));
+                given(imageUploadUtil.uploadPreparedClothImageAsync(testPayload, testDeadline))
+                                .willReturn(Mono.just(clothImageUrl));
+        }
+
+        private void stubPreparation(TryOnResult tryOnResult, String clothImageUrl) {
+                given(tryOnReadService.getDefaultModel(testRequest.defaultModelId())).willReturn(testDefaultModel);
+                given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId())).willReturn(tryOnResult);
+                given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                .willReturn(Mono.just(ResponseFixture.createCategoryPredictionResponse()));
+                stubClothUpload(clothImageUrl);
+        }
+
+        /**
+         * 병렬로 준비된 요청이 진행 중인 가상 피팅에 합류할 때까지 대기
+         */
+        private void awaitCoalesceFollower() {
+                long waitUntil = System.currentTimeMillis() + 5_000;
+                while (meterRegistry.find("tryon.fitting.coalesce").tag("role", "follower").counter() == null
+                                && System.currentTimeMillis() < waitUntil) {
+                        Thread.onSpinWait();
+                }
         }
 
         @Nested
@@ -116,27 +226,28 @@ class TryOnServiceImplTest extends BaseServiceTest {
 
                         try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
                                 mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
-                                given(defaultModelRepository
-                                                .findByIdAndIsDeletedFalseOrThrow(testRequest.defaultModelId()))
+                                given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
                                                 .willReturn(testDefaultModel);
-                                given(tryOnResultRepository.findByTryOnJobIdOrThrow(testRequest.tryOnJobId()))
+                                given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
                                                 .willReturn(testTryOnResult);
-                                given(categoryPredictionUtil.predictCategory(any(MultipartFile.class)))
-                                                .willReturn(categoryResponse);
-                                given(imageUploadUtil.uploadClothImage(any(MultipartFile.class)))
-                                                .willReturn(clothImageUrl);
+                                given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                                .willReturn(Mono.just(categoryResponse));
+                                stubClothUpload(clothImageUrl);
                                 given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(),
                                                 clothImageUrl))
                                                 .willReturn(virtualFittingRequest);
-                                given(virtualFittingUtil.runVirtualFitting(virtualFittingRequest))
-                                                .willReturn(virtualFittingResponse);
-                                given(virtualFittingUtil.waitForCompletion(eq(virtualFittingResponse.id()), anyLong(),
+                                given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                                .willReturn(Mono.just(virtualFittingResponse));
+                                given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingResponse.id()),
                                                 anyLong()))
-                                                .willReturn(completedStatus);
-                                given(backgroundRemovalUtil.removeBackground(completedStatus.output().get(0)))
-                                                .willReturn(testImageBytes);
-                                given(imageUploadUtil.uploadTryOnResultImage(testImageBytes))
-                                                .willReturn(uploadedResultImageUrl);
+                                                .willReturn(Mono.just(completedStatus));
+                                given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                                .willReturn(Mono.just(testImageBytes));
+                                given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                                BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                                .willReturn(Mono.just(testImageBytes));
+                                given(imageUploadUtil.uploadTryOnResultImageAsync(testImageBytes, testDeadline))
+                                                .willReturn(Mono.just(uploadedResultImageUrl));
                                 given(tryOnWriteService.saveAndBuildResponse(
                                                 eq(testTryOnResult),
                                                 eq(Category.LONG_SLEEVE),
@@ -149,7 +260,7 @@ class TryOnServiceImplTest extends BaseServiceTest {
                                                 eq(testUser))).willReturn(expectedResponse);
 
                                 // When
-                                TryOnResponse result = tryOnService.tryOn(testRequest, testFile);
+                                TryOnResponse result = tryOnService.tryOn(testRequest, testFile, testDeadline);
 
                                 // Then
                                 assertThat(result).isNotNull();
@@ -159,42 +270,882 @@ class TryOnServiceImplTest extends BaseServiceTest {
                                 assertThat(result.defaultModelId()).isEqualTo(testDefaultModel.getId());
 
                                 // Verify interactions
-                                then(categoryPredictionUtil).should().predictCategory(any(MultipartFile.class));
-                                then(imageUploadUtil).should().uploadClothImage(any(MultipartFile.class));
-                                then(virtualFittingUtil).should().runVirtualFitting(virtualFittingRequest);
-                                then(virtualFittingUtil).should().waitForCompletion(eq(virtualFittingResponse.id()),
-                                                anyLong(),
-                                                anyLong());
-                                then(backgroundRemovalUtil).should().removeBackground(completedStatus.output().get(0));
-                                then(imageUploadUtil).should().uploadTryOnResultImage(testImageBytes);
+                                // 예측과 업로드가 한 번 정규화한 같은 페이로드를 사용 (예측 캐시 키 = 의류 content_hash)
+                                then(imageUploadUtil).should().prepareClothPayloadAsync(testFile, testDeadline);
+                                then(categoryPredictionUtil).should().predictCategoryAsync(testPayload);
+                                then(imageUploadUtil).should().uploadPreparedClothImageAsync(testPayload, testDeadline);
+                                then(imageUploadUtil).should(never()).deleteImageAsync(anyString());
+                                then(virtualFittingUtil).should().runVirtualFittingAsync(virtualFittingRequest, null);
+                                then(virtualFittingStatusPoller).should().trackAsMono(
+                                                eq(virtualFittingResponse.id()), anyLong());
+                                then(backgroundRemovalUtil).should()
+                                                .downloadImageAsync(completedStatus.output().get(0));
+                                then(backgroundRemovalUtil).should().removeBackgroundAsync(testImageBytes,
+                                                BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME);
+                                then(imageUploadUtil).should().uploadTryOnResultImageAsync(testImageBytes,
+                                                testDeadline);
                         }
                 }
 
                 @Test
-                @DisplayName("실패: 지원하지 않는 카테고리 (액세서리)")
+                @DisplayName("실패: 지원하지 않는 카테고리 (액세서리) - 추측 업로드한 의류 이미지 삭제")
                 void tryOn_Fail_UnsupportedCategory_Accessory() {
                         // Given
                         CategoryPredictionResponse accessoryResponse = ResponseFixture.createCategoryPredictionResponse(
                                         "ACCESSORY",
                                         0.98);
 
+                        String speculativeClothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        stubLookupsLeniently();
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(accessoryResponse));
+                        stubClothUpload(speculativeClothImageUrl);
+                        given(imageUploadUtil.deleteImageAsync(speculativeClothImageUrl)).willReturn(Mono.empty());
+
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+
+                                // When & Then
+                                assertThatThrownBy(() -> tryOnService.tryOn(testRequest, testFile, testDeadline))
+                                                .isInstanceOf(CustomException.class)
+                                                .hasMessageContaining("액세서리와 신발은 가상피팅에서 지원하지 않습니다");
+
+                                // 분류와 동시에 시작된 추측 업로드는 삭제
+                                then(imageUploadUtil).should(timeout(1000)).deleteImageAsync(speculativeClothImageUrl);
+                                then(virtualFittingUtil).should(never()).runVirtualFittingAsync(any(), any());
+                        }
+                }
+        }
+
+        @Nested
+        @DisplayName("가상 피팅 실행 (논블로킹)")
+        class TryOnAsync {
+
+                @Test
+                @DisplayName("성공: 반응형 파이프라인으로 가상 피팅 완료")
+                void tryOnAsync_Success() {
+                        // Given
+                        final byte[] testImageBytes = "test-image-bytes".getBytes();
+                        CategoryPredictionResponse categoryResponse = ResponseFixture
+                                        .createCategoryPredictionResponse();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+                        TryOnResult testTryOnResult = TryOnResultFixture.createTryOnResult();
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(
+                                        testRequest.tryOnJobId(),
+                                        uploadedResultImageUrl,
+                                        testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(testTryOnResult);
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(categoryResponse));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(),
+                                        clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+                        given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingResponse.id()), anyLong()))
+                                        .willReturn(Mono.just(completedStatus));
+                        given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(imageUploadUtil.uploadTryOnResultImageAsync(testImageBytes, testDeadline))
+                                        .willReturn(Mono.just(uploadedResultImageUrl));
+                        given(tryOnWriteService.saveAndBuildResponse(
+                                        eq(testTryOnResult),
+                                        eq(Category.LONG_SLEEVE),
+                                        eq(clothImageUrl),
+                                        eq(testRequest.productPageUrl()),
+                                        eq(testRequest.modelUrl()),
+                                        eq(uploadedResultImageUrl),
+                                        eq(virtualFittingResponse.id()),
+                                        eq(testDefaultModel),
+                                        eq(testUser))).willReturn(expectedResponse);
+
+                        // When: 사용자 조회는 호출 시점에만 일어나므로 구독은 SecurityContext 밖에서 수행
+                        Mono<TryOnResponse> resultMono;
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                                resultMono = tryOnService.tryOnAsync(testRequest, testFile, testDeadline);
+                        }
+                        TryOnResponse result = resultMono.block();
+
+                        // Then
+                        assertThat(result).isEqualTo(expectedResponse);
+                        then(tryOnWriteService).should().updateJobStatus(testRequest.tryOnJobId(),
+                                        TryOnJobStatus.CLASSIFYING);
+                        then(tryOnWriteService).should().updateJobStatus(testRequest.tryOnJobId(),
+                                        TryOnJobStatus.FITTING);
+                        then(tryOnWriteService).should().updateJobStatus(testRequest.tryOnJobId(),
+                                        TryOnJobStatus.POSTPROCESSING);
+                        then(virtualFittingUtil).should(never()).runVirtualFitting(any());
+                        then(backgroundRemovalUtil).should(never()).removeBackground(anyString());
+
+                        // 단계별 소요 시간 기록
+                        for (String stage : List.of("classification", "cloth_upload", "fitting_submit",
+                                        "fitting_wait", "result_download", "background_removal", "result_upload",
+                                        "db_write", "total")) {
+                                assertThat(meterRegistry.find("tryon.stage.duration")
+                                                .tags("stage", stage, "outcome", "success").timer())
+                                                .as(stage)
+                                                .isNotNull()
+                                                .extracting(timer -> timer.count())
+                                                .isEqualTo(1L);
+                        }
+
+                        // 캐시 미스 결과는 다른 사용자를 위해 캐시에 등록
+                        then(tryOnResultCacheService).should().put(testRequest.modelUrl(), clothImageUrl,
+                                        uploadedResultImageUrl, testRequest.tryOnJobId());
+                }
+
+                @Test
+                @DisplayName("성공: 스트리밍 모드에서는 결과 이미지를 byte[]로 모으지 않고 배경 제거 스트림을 그대로 업로드")
+                void tryOnAsync_Success_StreamingResultPostprocess() {
+                        // Given
+                        ReflectionTestUtils.setField(tryOnService, "streamingResultPostprocess", true);
+                        CategoryPredictionResponse categoryResponse = ResponseFixture
+                                        .createCategoryPredictionResponse();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+                        TryOnResult testTryOnResult = TryOnResultFixture.createTryOnResult();
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(
+                                        testRequest.tryOnJobId(),
+                                        uploadedResultImageUrl,
+                                        testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+                        Flux<DataBuffer> removedImage = Flux.just(
+                                        DefaultDataBufferFactory.sharedInstance.wrap("test-image-bytes".getBytes()));
+
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(testTryOnResult);
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(categoryResponse));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(),
+                                        clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+                        given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingResponse.id()), anyLong()))
+                                        .willReturn(Mono.just(completedStatus));
+                        given(backgroundRemovalUtil.removeBackgroundStreaming(completedStatus.output().get(0)))
+                                        .willReturn(removedImage);
+                        given(imageUploadUtil.uploadTryOnResultImageAsync(removedImage, testDeadline))
+                                        .willReturn(Mono.just(uploadedResultImageUrl));
+                        given(tryOnWriteService.saveAndBuildResponse(
+                                        eq(testTryOnResult),
+                                        eq(Category.LONG_SLEEVE),
+                                        eq(clothImageUrl),
+                                        eq(testRequest.productPageUrl()),
+                                        eq(testRequest.modelUrl()),
+                                        eq(uploadedResultImageUrl),
+                                        eq(virtualFittingResponse.id()),
+                                        eq(testDefaultModel),
+                                        eq(testUser))).willReturn(expectedResponse);
+
+                        // When
+                        Mono<TryOnResponse> resultMono;
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                                resultMono = tryOnService.tryOnAsync(testRequest, testFile, testDeadline);
+                        }
+                        TryOnResponse result = resultMono.block();
+
+                        // Then
+                        assertThat(result).isEqualTo(expectedResponse);
+                        then(backgroundRemovalUtil).should(never()).downloadImageAsync(anyString());
+                        then(backgroundRemovalUtil).should(never()).removeBackgroundAsync(any(byte[].class),
+                                        anyString());
+                        assertThat(meterRegistry.find("tryon.stage.duration")
+                                        .tags("stage", "result_postprocess", "outcome", "success").timer())
+                                        .isNotNull()
+                                        .extracting(timer -> timer.count())
+                                        .isEqualTo(1L);
+                }
+
+                @Test
+                @DisplayName("성공: 같은 모델/의류 이미지의 캐시된 결과가 있으면 가상 피팅 없이 재사용")
+                void tryOnAsync_Success_ResultCacheHit() {
+                        // Given
+                        CategoryPredictionResponse categoryResponse = ResponseFixture
+                                        .createCategoryPredictionResponse();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "a".repeat(64) + ".jpg";
+                        String cachedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/cached.png";
+                        TryOnResult testTryOnResult = TryOnResultFixture.createTryOnResult();
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(
+                                        testRequest.tryOnJobId(),
+                                        cachedResultImageUrl,
+                                        testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(testTryOnResult);
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(categoryResponse));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultCacheService.findResultImageUrl(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(Optional.of(cachedResultImageUrl));
+                        given(tryOnWriteService.saveAndBuildResponse(
+                                        eq(testTryOnResult),
+                                        eq(Category.LONG_SLEEVE),
+                                        eq(clothImageUrl),
+                                        eq(testRequest.productPageUrl()),
+                                        eq(testRequest.modelUrl()),
+                                        eq(cachedResultImageUrl),
+                                        isNull(),
+                                        eq(testDefaultModel),
+                                        eq(testUser))).willReturn(expectedResponse);
+
+                        // When
+                        Mono<TryOnResponse> resultMono;
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                                resultMono = tryOnService.tryOnAsync(testRequest, testFile, testDeadline);
+                        }
+                        TryOnResponse result = resultMono.block();
+
+                        // Then
+                        assertThat(result).isEqualTo(expectedResponse);
+                        then(virtualFittingUtil).shouldHaveNoInteractions();
+                        then(virtualFittingStatusPoller).shouldHaveNoInteractions();
+                        then(backgroundRemovalUtil).shouldHaveNoInteractions();
+                        then(tryOnResultCacheService).should(never()).put(any(), any(), any(), any());
+                        then(tryOnWriteService).should(never()).updateJobStatus(testRequest.tryOnJobId(),
+                                        TryOnJobStatus.FITTING);
+                        assertThat(meterRegistry.find("tryon.stage.duration")
+                                        .tags("stage", "result_cache", "outcome", "success").timer())
+                                        .isNotNull();
+                }
+
+                @Test
+                @DisplayName("성공: 동일한 가상 피팅이 진행 중이면 새로 요청하지 않고 결과를 공유")
+                void tryOnAsync_Success_CoalesceIdenticalFitting() throws Exception {
+                        // Given
+                        final byte[] testImageBytes = "test-image-bytes".getBytes();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "b".repeat(64) + ".jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        Sinks.One<VirtualFittingStatusResponse> fittingStatus = Sinks.one();
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+                        TryOnResult testTryOnResult = TryOnResultFixture.createTryOnResult();
+                        TryOnResponse leaderResponse = ResponseFixture.createTryOnResponse(testRequest.tryOnJobId(),
+                                        uploadedResultImageUrl, testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+                        TryOnResponse followerResponse = ResponseFixture.createTryOnResponse("follower-job",
+                                        uploadedResultImageUrl, testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(testTryOnResult);
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(ResponseFixture.createCategoryPredictionResponse()));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+                        given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingResponse.id()), anyLong()))
+                                        .willReturn(fittingStatus.asMono());
+                        given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(imageUploadUtil.uploadTryOnResultImageAsync(testImageBytes, testDeadline))
+                                        .willReturn(Mono.just(uploadedResultImageUrl));
+                        given(tryOnWriteService.saveAndBuildResponse(eq(testTryOnResult), eq(Category.LONG_SLEEVE),
+                                        eq(clothImageUrl), eq(testRequest.productPageUrl()), eq(testRequest.modelUrl()),
+                                        eq(uploadedResultImageUrl), eq(virtualFittingResponse.id()),
+                                        eq(testDefaultModel), eq(testUser))).willReturn(leaderResponse);
+                        given(tryOnWriteService.saveAndBuildResponse(eq(testTryOnResult), eq(Category.LONG_SLEEVE),
+                                        eq(clothImageUrl), eq(testRequest.productPageUrl()), eq(testRequest.modelUrl()),
+                                        eq(uploadedResultImageUrl), isNull(),
+                                        eq(testDefaultModel), eq(testUser))).willReturn(followerResponse);
+
+                        // When: 첫 번째 요청의 가상 피팅이 끝나기 전에 같은 요청이 한 번 더 들어옴
+                        CompletableFuture<TryOnResponse> first;
+                        CompletableFuture<TryOnResponse> second;
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                                first = tryOnService.tryOnAsync(testRequest, testFile, testDeadline).toFuture();
+                                second = tryOnService.tryOnAsync(testRequest, testFile, testDeadline).toFuture();
+                        }
+                        long waitUntil = System.currentTimeMillis() + 5_000;
+                        while (meterRegistry.find("tryon.fitting.coalesce").tag("role", "follower").counter() == null
+                                        && System.currentTimeMillis() < waitUntil) {
+                                Thread.sleep(10);
+                        }
+                        fittingStatus.tryEmitValue(completedStatus);
+
+                        // Then: 두 요청은 병렬로 준비되므로 어느 쪽이 먼저 가상 피팅을 요청할지는 정해지지 않음
+                        assertThat(List.of(first.get(), second.get()))
+                                        .containsExactlyInAnyOrder(leaderResponse, followerResponse);
+                        then(virtualFittingUtil).should(times(1)).runVirtualFittingAsync(virtualFittingRequest, null);
+                        then(backgroundRemovalUtil).should(times(1)).removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME);
+                        assertThat(meterRegistry.get("tryon.fitting.coalesce").tag("role", "leader").counter()
+                                        .count()).isEqualTo(1.0);
+                        assertThat(meterRegistry.get("tryon.fitting.coalesce").tag("role", "follower").counter()
+                                        .count()).isEqualTo(1.0);
+                }
+
+                @Test
+                @DisplayName("성공: 먼저 요청한 작업이 자신의 제한 시간 초과로 실패하면 합류한 요청은 직접 가상 피팅을 실행")
+                void tryOnAsync_Success_RerunWhenCoalescedLeaderTimesOut() {
+                        // Given
+                        final byte[] testImageBytes = "test-image-bytes".getBytes();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "1".repeat(64) + ".jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+                        TryOnResult testTryOnResult = TryOnResultFixture.createTryOnResult();
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(testRequest.tryOnJobId(),
+                                        uploadedResultImageUrl, testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+                        stubPreparation(testTryOnResult, clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+                        given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingResponse.id()), anyLong()))
+                                        .willReturn(Mono.just(completedStatus));
+                        given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(imageUploadUtil.uploadTryOnResultImageAsync(testImageBytes, testDeadline))
+                                        .willReturn(Mono.just(uploadedResultImageUrl));
+                        given(tryOnWriteService.saveAndBuildResponse(eq(testTryOnResult), eq(Category.LONG_SLEEVE),
+                                        eq(clothImageUrl), eq(testRequest.productPageUrl()), eq(testRequest.modelUrl()),
+                                        eq(uploadedResultImageUrl), eq(virtualFittingResponse.id()),
+                                        eq(testDefaultModel), eq(testUser))).willReturn(expectedResponse);
+                        // 남은 시간이 더 짧은 다른 요청이 같은 가상 피팅을 진행 중
+                        Sinks.One<Object> leaderFitting = Sinks.one();
+                        virtualFittingCoalescer.join(testRequest.modelUrl() + "|" + clothImageUrl,
+                                        leaderFitting::asMono);
+
+                        // When
+                        CompletableFuture<TryOnResponse> follower;
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                                follower = tryOnService.tryOnAsync(testRequest, testFile, testDeadline).toFuture();
+                        }
+                        awaitCoalesceFollower();
+                        leaderFitting.tryEmitError(new CustomException(ErrorCode.TRY_ON_DEADLINE_EXCEEDED));
+
+                        // Then
+                        assertThat(follower.join()).isEqualTo(expectedResponse);
+                        then(virtualFittingUtil).should(times(1)).runVirtualFittingAsync(virtualFittingRequest, null);
+                }
+
+                @Test
+                @DisplayName("실패: 먼저 요청한 작업이 fashn.ai 입력 이미지 거절로 실패하면 합류한 요청도 다시 실행하지 않고 같은 에러로 실패")
+                void tryOnAsync_Fail_CoalescedLeaderInputRejected() {
+                        // Given
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "2".repeat(64) + ".jpg";
+                        stubPreparation(TryOnResultFixture.createTryOnResult(), clothImageUrl);
+                        Sinks.One<Object> leaderFitting = Sinks.one();
+                        virtualFittingCoalescer.join(testRequest.modelUrl() + "|" + clothImageUrl,
+                                        leaderFitting::asMono);
+
+                        // When
+                        CompletableFuture<TryOnResponse> follower;
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+                                follower = tryOnService.tryOnAsync(testRequest, testFile, testDeadline).toFuture();
+                        }
+                        awaitCoalesceFollower();
+                        leaderFitting.tryEmitError(new CustomException(ErrorCode.POSE_ERROR));
+
+                        // Then
+                        assertThatThrownBy(follower::join)
+                                        .hasCauseInstanceOf(CustomException.class)
+                                        .extracting(Throwable::getCause)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.POSE_ERROR);
+                        then(virtualFittingUtil).shouldHaveNoInteractions();
+                }
+
+                @Test
+                @DisplayName("실패: 가상 피팅이 실패 상태로 끝나면 fashn.ai 에러 이름으로 대기 단계를 기록")
+                void tryOnAsync_Fail_FashnPoseError() {
+                        // Given
+                        CategoryPredictionResponse categoryResponse = ResponseFixture
+                                        .createCategoryPredictionResponse();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        VirtualFittingStatusResponse failedStatus = ResponseFixture.createFailedStatusResponse(
+                                        "PoseError", "Pose not detected");
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(TryOnResultFixture.createTryOnResult());
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(categoryResponse));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+                        given(virtualFittingStatusPoller.trackAsMono(eq(virtualFittingResponse.id()), anyLong()))
+                                        .willReturn(Mono.just(failedStatus));
+
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+
+                                // When & Then
+                                assertThatThrownBy(() -> tryOnService.tryOnAsync(testRequest, testFile, testDeadline)
+                                                .block())
+                                                .isInstanceOf(CustomException.class)
+                                                .extracting("errorCode")
+                                                .isEqualTo(ErrorCode.POSE_ERROR);
+                        }
+
+                        assertThat(meterRegistry.find("tryon.stage.duration")
+                                        .tags("stage", "fitting_wait", "outcome", "failed", "error", "PoseError")
+                                        .timer()).isNotNull();
+                        assertThat(meterRegistry.find("tryon.stage.duration")
+                                        .tags("stage", "total", "outcome", "error", "error", "POSE_ERROR")
+                                        .timer()).isNotNull();
+                        then(backgroundRemovalUtil).shouldHaveNoInteractions();
+                }
+
+                @Test
+                @DisplayName("실패: 지원하지 않는 카테고리 (신발) - 추측 업로드한 의류 이미지 삭제")
+                void tryOnAsync_Fail_UnsupportedCategory_Shoes() {
+                        // Given
+                        CategoryPredictionResponse shoesResponse = ResponseFixture.createCategoryPredictionResponse(
+                                        "SHOES",
+                                        0.97);
+                        String speculativeClothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        stubLookupsLeniently();
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(shoesResponse));
+                        stubClothUpload(speculativeClothImageUrl);
+                        given(imageUploadUtil.deleteImageAsync(speculativeClothImageUrl)).willReturn(Mono.empty());
+
                         try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
                                 mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
-                                given(defaultModelRepository
-                                                .findByIdAndIsDeletedFalseOrThrow(testRequest.defaultModelId()))
-                                                .willReturn(testDefaultModel);
-                                given(categoryPredictionUtil.predictCategory(any(MultipartFile.class)))
-                                                .willReturn(accessoryResponse);
 
                                 // When & Then
-                                assertThatThrownBy(() -> tryOnService.tryOn(testRequest, testFile))
+                                assertThatThrownBy(() -> tryOnService.tryOnAsync(testRequest, testFile, testDeadline).block())
                                                 .isInstanceOf(CustomException.class)
                                                 .hasMessageContaining("액세서리와 신발은 가상피팅에서 지원하지 않습니다");
 
-                                then(imageUploadUtil).should(never()).uploadClothImage(any(MultipartFile.class));
-                                then(virtualFittingUtil).should(never()).runVirtualFitting(any());
+                                then(imageUploadUtil).should(timeout(1000)).deleteImageAsync(speculativeClothImageUrl);
+                                then(virtualFittingUtil).should(never()).runVirtualFittingAsync(any(), any());
                         }
                 }
+
+                @Test
+                @DisplayName("실패: 남은 시간이 예상 완료 시간보다 짧으면 가상 피팅을 요청하지 않음")
+                void tryOnAsync_Fail_DeadlineInsufficientForFitting() {
+                        // Given
+                        CategoryPredictionResponse categoryResponse = ResponseFixture
+                                        .createCategoryPredictionResponse();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(TryOnResultFixture.createTryOnResult());
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(categoryResponse));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        // 최근 완료 시간(EWMA)이 남은 예산(1분)보다 김
+                        given(virtualFittingStatusPoller.getExpectedCompletionMs()).willReturn(90_000L);
+
+                        try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                                mockedSecurityUtils.when(SecurityUtils::getCurrentUser).thenReturn(testUser);
+
+                                // When & Then
+                                assertThatThrownBy(() -> tryOnService.tryOnAsync(testRequest, testFile, testDeadline)
+                                                .block())
+                                                .isInstanceOf(CustomException.class)
+                                                .extracting("errorCode")
+                                                .isEqualTo(ErrorCode.TRY_ON_DEADLINE_EXCEEDED);
+
+                                then(virtualFittingUtil).should(never()).runVirtualFittingAsync(any(), any());
+                                then(tryOnWriteService).should(never()).saveAndBuildResponse(any(), any(), any(),
+                                                any(), any(), any(), any(), any(), any());
+                        }
+                }
+        }
+
+        @Nested
+        @DisplayName("가상 피팅 요청 (작업)")
+        class SubmitVirtualFitting {
+
+                @Test
+                @DisplayName("성공: 캐시된 결과가 없으면 가상 피팅을 요청하고 가상 피팅 ID를 저장")
+                void submitVirtualFitting_Success_ResultCacheMiss() {
+                        // Given
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "c".repeat(64) + ".jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(TryOnResultFixture.createTryOnResult());
+                        given(categoryPredictionUtil.predictCategoryAsync(any(MultipartFile.class)))
+                                        .willReturn(Mono.just(ResponseFixture.createCategoryPredictionResponse()));
+                        stubClothUpload(clothImageUrl);
+                        given(tryOnResultCacheService.findResultImageUrl(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(Optional.empty());
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+
+                        // When
+                        Optional<String> result = tryOnService.submitVirtualFitting(testRequest, testFile, null,
+                                        testDeadline);
+
+                        // Then
+                        assertThat(result).contains(virtualFittingResponse.id());
+                        then(tryOnWriteService).should().markFittingSubmitted(testRequest.tryOnJobId(),
+                                        Category.LONG_SLEEVE, clothImageUrl, testRequest.productPageUrl(),
+                                        testRequest.modelUrl(), testDefaultModel.getId(),
+                                        virtualFittingResponse.id());
+                        then(tryOnWriteService).should(never()).saveCachedFitting(any(), any(), any(), any(), any(),
+                                        any(), any());
+                }
+
+                @Test
+                @DisplayName("성공: 같은 모델/의류 이미지의 캐시된 결과가 있으면 가상 피팅 없이 작업을 바로 완료")
+                void submitVirtualFitting_Success_ResultCacheHit() {
+                        // Given
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "d".repeat(64) + ".jpg";
+                        String cachedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/cached.png";
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(TryOnResultFixture.createTryOnResult());
+                        given(categoryPredictionUtil.predictCategoryAsync(clothImageUrl))
+                                        .willReturn(Mono.just(ResponseFixture.createCategoryPredictionResponse()));
+                        given(tryOnResultCacheService.findResultImageUrl(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(Optional.of(cachedResultImageUrl));
+
+                        // When
+                        Optional<String> result = tryOnService.submitUploadedVirtualFitting(testRequest,
+                                        clothImageUrl, null, testDeadline);
+
+                        // Then
+                        assertThat(result).isEmpty();
+                        then(tryOnWriteService).should().saveCachedFitting(testRequest.tryOnJobId(),
+                                        Category.LONG_SLEEVE, clothImageUrl, testRequest.productPageUrl(),
+                                        testRequest.modelUrl(), cachedResultImageUrl, testDefaultModel);
+                        then(tryOnWriteService).should(never()).markFittingSubmitted(any(), any(), any(), any(),
+                                        any(), any(), any());
+                        then(virtualFittingUtil).shouldHaveNoInteractions();
+                        then(virtualFittingStatusPoller).shouldHaveNoInteractions();
+                }
+
+                @Test
+                @DisplayName("성공: 같은 모델/의류 이미지의 가상 피팅이 진행 중이면 새로 요청하지 않고 그 가상 피팅 ID에 작업을 연결")
+                void submitVirtualFitting_Success_AttachToInProgressFitting() {
+                        // Given
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "e".repeat(64) + ".jpg";
+                        String inProgressFittingId = "in-progress-fitting-id";
+                        stubUploadedPreparation(clothImageUrl);
+                        given(tryOnReadService.findInProgressVirtualFittingId(eq(testRequest.modelUrl()),
+                                        eq(clothImageUrl), any())).willReturn(Optional.of(inProgressFittingId));
+
+                        // When
+                        Optional<String> result = tryOnService.submitUploadedVirtualFitting(testRequest,
+                                        clothImageUrl, null, testDeadline);
+
+                        // Then
+                        assertThat(result).contains(inProgressFittingId);
+                        then(tryOnWriteService).should().markFittingSubmitted(testRequest.tryOnJobId(),
+                                        Category.LONG_SLEEVE, clothImageUrl, testRequest.productPageUrl(),
+                                        testRequest.modelUrl(), testDefaultModel.getId(), inProgressFittingId);
+                        then(virtualFittingUtil).shouldHaveNoInteractions();
+                }
+
+                @Test
+                @DisplayName("성공: 동시에 들어온 요청의 가상 피팅 요청이 실패하면 합류한 작업은 자신의 남은 시간으로 직접 요청")
+                void submitVirtualFitting_Success_RerunWhenLeaderSubmitFails() {
+                        // Given
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/"
+                                        + "f".repeat(64) + ".jpg";
+                        VirtualFittingRequest virtualFittingRequest = RequestFixture.createVirtualFittingRequest();
+                        VirtualFittingResponse virtualFittingResponse = ResponseFixture.createVirtualFittingResponse();
+                        stubUploadedPreparation(clothImageUrl);
+                        given(tryOnResultConverter.toVirtualFittingRequest(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(virtualFittingRequest);
+                        given(virtualFittingUtil.runVirtualFittingAsync(virtualFittingRequest, null))
+                                        .willReturn(Mono.just(virtualFittingResponse));
+                        // 먼저 들어온 요청이 남은 시간 부족으로 가상 피팅을 요청하지 못하는 중
+                        Sinks.One<String> leaderSubmission = Sinks.one();
+                        virtualFittingCoalescer.join("submit|" + testRequest.modelUrl() + "|" + clothImageUrl,
+                                        leaderSubmission::asMono);
+
+                        // When
+                        CompletableFuture<Optional<String>> follower = CompletableFuture.supplyAsync(
+                                        () -> tryOnService.submitUploadedVirtualFitting(testRequest, clothImageUrl,
+                                                        null, testDeadline));
+                        awaitCoalesceFollower();
+                        leaderSubmission.tryEmitError(new CustomException(ErrorCode.TRY_ON_DEADLINE_EXCEEDED));
+
+                        // Then
+                        assertThat(follower.join()).contains(virtualFittingResponse.id());
+                        then(virtualFittingUtil).should(times(1)).runVirtualFittingAsync(virtualFittingRequest, null);
+                        then(tryOnWriteService).should().markFittingSubmitted(testRequest.tryOnJobId(),
+                                        Category.LONG_SLEEVE, clothImageUrl, testRequest.productPageUrl(),
+                                        testRequest.modelUrl(), testDefaultModel.getId(),
+                                        virtualFittingResponse.id());
+                }
+
+                private void stubUploadedPreparation(String clothImageUrl) {
+                        given(tryOnReadService.getDefaultModel(testRequest.defaultModelId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnReadService.getTryOnResult(testRequest.tryOnJobId()))
+                                        .willReturn(TryOnResultFixture.createTryOnResult());
+                        given(categoryPredictionUtil.predictCategoryAsync(clothImageUrl))
+                                        .willReturn(Mono.just(ResponseFixture.createCategoryPredictionResponse()));
+                        given(tryOnResultCacheService.findResultImageUrl(testRequest.modelUrl(), clothImageUrl))
+                                        .willReturn(Optional.empty());
+                }
+        }
+
+        @Nested
+        @DisplayName("사이즈 조언")
+        class GiveSizeAdvice {
+
+                @Test
+                @DisplayName("성공: 조회와 저장은 각각 짧은 트랜잭션으로, 모델 분석은 트랜잭션 밖에서 실행")
+                void giveSizeAdvice_Success() {
+                        // Given
+                        String tryOnJobId = "test-job-12345";
+                        String sizeInfo = "S 90 M 95 L 100";
+                        String advice = "M 사이즈를 추천합니다.";
+                        SizeAdviceRequest request = new SizeAdviceRequest(tryOnJobId, sizeInfo);
+                        SizeAdvice savedSizeAdvice = SizeAdvice.builder()
+                                        .tryOnJobId(tryOnJobId)
+                                        .user(testUser)
+                                        .sizeInfo(sizeInfo)
+                                        .advice(advice)
+                                        .build();
+                        SizeAdviceResponse expectedResponse = new SizeAdviceResponse(tryOnJobId, advice);
+
+                        given(tryOnReadService.getSizeAdvice(tryOnJobId)).willReturn(SizeAdvice.builder()
+                                        .tryOnJobId(tryOnJobId)
+                                        .user(testUser)
+                                        .build());
+                        given(sizeAnalyzer.analyze(new SizeAnalyzeRequest(tryOnJobId, sizeInfo), testDeadline))
+                                        .willReturn(new SizeAnalyzeResult(advice));
+                        given(tryOnWriteService.saveSizeAdvice(tryOnJobId, sizeInfo, advice))
+                                        .willReturn(savedSizeAdvice);
+                        given(sizeAdviceConverter.toSizeAdviceResponse(savedSizeAdvice)).willReturn(expectedResponse);
+
+                        // When
+                        SizeAdviceResponse result = tryOnService.giveSizeAdvice(request, testDeadline);
+
+                        // Then
+                        assertThat(result).isEqualTo(expectedResponse);
+                        InOrder inOrder = inOrder(tryOnReadService, sizeAnalyzer, tryOnWriteService);
+                        inOrder.verify(tryOnReadService).getSizeAdvice(tryOnJobId);
+                        inOrder.verify(sizeAnalyzer).analyze(any(SizeAnalyzeRequest.class), eq(testDeadline));
+                        inOrder.verify(tryOnWriteService).saveSizeAdvice(tryOnJobId, sizeInfo, advice);
+                }
+
+                @Test
+                @DisplayName("실패: 사이즈 조언 작업이 없으면 모델을 호출하지 않음")
+                void giveSizeAdvice_Fail_NotFound() {
+                        // Given
+                        SizeAdviceRequest request = new SizeAdviceRequest("unknown-job", "S 90");
+                        given(tryOnReadService.getSizeAdvice("unknown-job"))
+                                        .willThrow(new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
+
+                        // When & Then
+                        assertThatThrownBy(() -> tryOnService.giveSizeAdvice(request, testDeadline))
+                                        .isInstanceOf(CustomException.class);
+
+                        then(sizeAnalyzer).shouldHaveNoInteractions();
+                        then(tryOnWriteService).should(never()).saveSizeAdvice(anyString(), anyString(), anyString());
+                }
+        }
+
+        @Nested
+        @DisplayName("가상 피팅 완료 후처리")
+        class CompleteVirtualFitting {
+
+                @Test
+                @DisplayName("성공: 완료된 가상 피팅 결과를 후처리하여 저장")
+                void completeVirtualFitting_Success() {
+                        // Given
+                        final byte[] testImageBytes = "test-image-bytes".getBytes();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        TryOnResult pendingTryOnResult = TryOnResultFixture.createTryOnResult(
+                                        ClothFixture.createCloth(), testUser, testDefaultModel);
+                        ReflectionTestUtils.setField(pendingTryOnResult, "tryOnJobId", "test-job-12345");
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(
+                                        "test-job-12345",
+                                        uploadedResultImageUrl,
+                                        testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+
+                        given(tryOnReadService.getTryOnResultWithDetails("test-job-12345"))
+                                        .willReturn(pendingTryOnResult);
+                        given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(imageUploadUtil.uploadTryOnResultImageAsync(eq(testImageBytes), any(Deadline.class)))
+                                        .willReturn(Mono.just(uploadedResultImageUrl));
+                        given(tryOnReadService.getDefaultModel(testDefaultModel.getId()))
+                                        .willReturn(testDefaultModel);
+                        given(tryOnWriteService.saveCompletedFitting(pendingTryOnResult, uploadedResultImageUrl,
+                                        testDefaultModel)).willReturn(expectedResponse);
+
+                        // When
+                        List<TryOnResponse> result = tryOnService.completeVirtualFitting(completedStatus,
+                                        List.of("test-job-12345"));
+
+                        // Then
+                        assertThat(result).containsExactly(expectedResponse);
+                        then(virtualFittingUtil).shouldHaveNoInteractions();
+                        then(tryOnWriteService).should().saveCompletedFitting(pendingTryOnResult,
+                                        uploadedResultImageUrl, testDefaultModel);
+                        then(tryOnResultCacheService).should().put(pendingTryOnResult.getModelUrl(),
+                                        pendingTryOnResult.getCloth().getImageUrl(), uploadedResultImageUrl,
+                                        pendingTryOnResult.getTryOnJobId());
+                }
+
+                @Test
+                @DisplayName("성공: 같은 가상 피팅에 연결된 작업은 배경 제거/업로드 한 번의 결과를 함께 저장")
+                void completeVirtualFitting_Success_AttachedJobsShareResult() {
+                        // Given
+                        final byte[] testImageBytes = "test-image-bytes".getBytes();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        TryOnResult leaderTryOnResult = TryOnResultFixture.createTryOnResult(
+                                        ClothFixture.createCloth(), testUser, testDefaultModel);
+                        TryOnResult followerTryOnResult = TryOnResultFixture.createTryOnResult(
+                                        ClothFixture.createCloth(), UserFixture.createUserWithId(2L, "follower-uuid"),
+                                        testDefaultModel);
+                        ReflectionTestUtils.setField(leaderTryOnResult, "tryOnJobId", "leader-job");
+                        ReflectionTestUtils.setField(followerTryOnResult, "tryOnJobId", "follower-job");
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+
+                        given(tryOnReadService.getTryOnResultWithDetails("leader-job"))
+                                        .willReturn(leaderTryOnResult);
+                        given(tryOnReadService.getTryOnResultWithDetails("follower-job"))
+                                        .willReturn(followerTryOnResult);
+                        given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(imageUploadUtil.uploadTryOnResultImageAsync(eq(testImageBytes), any(Deadline.class)))
+                                        .willReturn(Mono.just(uploadedResultImageUrl));
+                        given(tryOnReadService.getDefaultModel(testDefaultModel.getId()))
+                                        .willReturn(testDefaultModel);
+
+                        // When
+                        tryOnService.completeVirtualFitting(completedStatus,
+                                        List.of("leader-job", "follower-job"));
+
+                        // Then
+                        then(backgroundRemovalUtil).should(times(1)).removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME);
+                        then(imageUploadUtil).should(times(1)).uploadTryOnResultImageAsync(eq(testImageBytes),
+                                        any(Deadline.class));
+                        then(tryOnWriteService).should().saveCompletedFitting(leaderTryOnResult,
+                                        uploadedResultImageUrl, testDefaultModel);
+                        then(tryOnWriteService).should().saveCompletedFitting(followerTryOnResult,
+                                        uploadedResultImageUrl, testDefaultModel);
+                }
+
+                @Test
+                @DisplayName("실패: 후처리가 완료 제한 시간(virtual-fitting.sweeper.timeout-ms)을 넘기면 취소하고 저장하지 않음")
+                void completeVirtualFitting_Fail_PostprocessTimeout() {
+                        // Given
+                        ReflectionTestUtils.setField(tryOnService, "completionTimeoutMs", 50L);
+                        final byte[] testImageBytes = "test-image-bytes".getBytes();
+                        VirtualFittingStatusResponse completedStatus = ResponseFixture.createCompletedStatusResponse();
+                        TryOnResult pendingTryOnResult = TryOnResultFixture.createTryOnResult(
+                                        ClothFixture.createCloth(), testUser, testDefaultModel);
+                        ReflectionTestUtils.setField(pendingTryOnResult, "tryOnJobId", "test-job-12345");
+
+                        given(tryOnReadService.getTryOnResultWithDetails("test-job-12345"))
+                                        .willReturn(pendingTryOnResult);
+                        given(backgroundRemovalUtil.downloadImageAsync(completedStatus.output().get(0)))
+                                        .willReturn(Mono.just(testImageBytes));
+                        given(backgroundRemovalUtil.removeBackgroundAsync(testImageBytes,
+                                        BackgroundRemovalUtil.DOWNLOADED_IMAGE_FILENAME))
+                                        .willReturn(Mono.never());
+
+                        // When & Then
+                        assertThatThrownBy(() -> tryOnService.completeVirtualFitting(completedStatus,
+                                        List.of("test-job-12345")))
+                                        .isInstanceOf(CustomException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.TRY_ON_DEADLINE_EXCEEDED);
+
+                        then(imageUploadUtil).should(never()).uploadTryOnResultImageAsync(any(byte[].class),
+                                        any(Deadline.class));
+                        then(tryOnWriteService).should(never()).saveCompletedFitting(any(), any(), any());
+                        assertThat(meterRegistry.get("tryon.deadline.exhausted")
+                                        .tag("stage", TryOnStage.BACKGROUND_REMOVAL.getTag())
+                                        .tag("reason", "timeout").counter().count()).isEqualTo(1.0);
+                }
+
+                @Test
+                @DisplayName("실패: 가상 피팅 실패 상태면 에러 코드로 변환하여 예외 발생")
+                void completeVirtualFitting_Fail_FailedStatus() {
+                        // Given
+                        VirtualFittingStatusResponse failedStatus = ResponseFixture.createFailedStatusResponse();
+                        TryOnResult pendingTryOnResult = TryOnResultFixture.createTryOnResult(
+                                        ClothFixture.createCloth(), testUser, testDefaultModel);
+                        ReflectionTestUtils.setField(pendingTryOnResult, "tryOnJobId", "test-job-12345");
+                        given(tryOnReadService.getTryOnResultWithDetails("test-job-12345"))
+                                        .willReturn(pendingTryOnResult);
+
+                        // When & Then
+                        assertThatThrownBy(() -> tryOnService.completeVirtualFitting(failedStatus,
+                                        List.of("test-job-12345")))
+                                        .isInstanceOf(CustomException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.IMAGE_LOAD_ERROR);
+
+                        then(backgroundRemovalUtil).shouldHaveNoInteractions();
+                        then(tryOnWriteService).should(never()).saveCompletedFitting(any(), any(), any());
+                }
         }
 
         @Nested
@@ -211,7 +1162,9 @@ class TryOnServiceImplTest extends BaseServiceTest {
                                                         "test-job-12345",
                                                         "https://test-bucket.s3.amazonaws.com/results/result1.jpg",
                                                         1L,
-                                                        "기본 여성 모델"));
+                                                        "기본 여성 모델",
+                                                        "https://test-bucket.s3.amazonaws.com/results/derived/thumb/result1.jpg",
+                                                        "https://test-bucket.s3.amazonaws.com/results/derived/medium/result1.jpg"));
 
                         try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
                                 mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(userId);
@@ -246,13 +1199,17 @@ class TryOnServiceImplTest extends BaseServiceTest {
                                         new DefaultModelDto(1L,
                                                         "https://test-bucket.s3.amazonaws.com/models/model1.jpg",
                                                         "기본 여성 모델", 1,
-                                                        false));
+                                                        false,
+                                                        "https://test-bucket.s3.amazonaws.com/models/model1.jpg",
+                                                        "https://test-bucket.s3.amazonaws.com/models/model1.jpg"));
                         List<TryOnResultDto> tryOnResults = List.of(
                                         new TryOnResultDto(
                                                         "test-job-12345",
                                                         "https://test-bucket.s3.amazonaws.com/results/result1.jpg",
                                                         1L,
-                                                        "기본 여성 모델"));
+                                                        "기본 여성 모델",
+                                                        "https://test-bucket.s3.amazonaws.com/results/derived/thumb/result1.jpg",
+                                                        "https://test-bucket.s3.amazonaws.com/results/derived/medium/result1.jpg"));
                         UserInfoResponse expectedResponse = new UserInfoResponse(defaultModels, tryOnResults);
 
                         try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
@@ -278,4 +1235,58 @@ class TryOnServiceImplTest extends BaseServiceTest {
                         }
                 }
         }
+
+        @Nested
+        @DisplayName("이미지 URL Data URL 변환")
+        class ConvertImageUrlToDataUrl {
+
+                private final String imageUrl = "https://cdn.example.com/results/result1.png";
+
+                @Test
+                @DisplayName("성공: 캐시된 원본을 사용하고 실제 내용으로 판별한 MIME 타입을 사용")
+                void convertImageUrlToDataUrl_Success() {
+                        // Given
+                        byte[] pngBytes = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n',
+                                        0, 0, 0, 13, 'I', 'H', 'D', 'R', 0, 0, 0, 1, 0, 0, 0, 1, 8, 6, 0, 0, 0 };
+                        given(imageDataUrlCache.get(imageUrl)).willReturn(new ImageDataUrlCache.CachedImage(pngBytes,
+                                        MediaType.IMAGE_JPEG, "\"etag\"", null, System.currentTimeMillis()));
+
+                        // When
+                        ImageDataUrlResponse response = tryOnService.convertImageUrlToDataUrl(new ImageUrlRequest(imageUrl));
+
+                        // Then
+                        assertThat(response.dataUrl().mimeType()).isEqualTo("image/png");
+                        assertThat(response.dataUrl().content()).isSameAs(pngBytes);
+                }
+
+                @Test
+                @DisplayName("성공: 형식을 판별할 수 없으면 Content-Type 헤더의 type/subtype만 사용")
+                void convertImageUrlToDataUrl_FallbackToContentType() {
+                        // Given
+                        byte[] imageBytes = MockFileFixture.createMockImageBytes();
+                        MediaType contentType = MediaType.parseMediaType("image/webp;q=0.9");
+                        given(imageDataUrlCache.get(imageUrl)).willReturn(new ImageDataUrlCache.CachedImage(imageBytes,
+                                        contentType, null, null, System.currentTimeMillis()));
+
+                        // When
+                        ImageDataUrlResponse response = tryOnService.convertImageUrlToDataUrl(new ImageUrlRequest(imageUrl));
+
+                        // Then
+                        assertThat(response.dataUrl().mimeType()).isEqualTo("image/webp");
+                }
+
+                @Test
+                @DisplayName("실패: 원본 서버가 404를 반환하면 RESOURCE_NOT_FOUND")
+                void convertImageUrlToDataUrl_Fail_NotFound() {
+                        // Given
+                        given(imageDataUrlCache.get(imageUrl)).willThrow(WebClientResponseException.create(
+                                        HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null));
+
+                        // When & Then
+                        assertThatThrownBy(() -> tryOnService.convertImageUrlToDataUrl(new ImageUrlRequest(imageUrl)))
+                                        .isInstanceOf(CustomException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.RESOURCE_NOT_FOUND);
+                }
+        }
 }
@@ -8,21 +8,32 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 
 import tryonu.api.config.BaseServiceTest;
 import tryonu.api.repository.cloth.ClothRepository;
 import tryonu.api.repository.tryonresult.TryOnResultRepository;
 import tryonu.api.repository.user.UserRepository;
+import tryonu.api.repository.sizeadvice.SizeAdviceRepository;
 import tryonu.api.converter.TryOnResultConverter;
 import tryonu.api.domain.User;
 import tryonu.api.domain.DefaultModel;
 import tryonu.api.domain.Cloth;
 import tryonu.api.domain.TryOnResult;
+import tryonu.api.domain.SizeAdvice;
+import tryonu.api.dto.responses.TryOnJobStatusResponse;
 import tryonu.api.dto.responses.TryOnResponse;
 import tryonu.api.common.enums.Category;
+import tryonu.api.common.enums.DerivativeTarget;
+import tryonu.api.common.enums.TryOnJobStatus;
+import tryonu.api.common.event.ImageStoredEvent;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
 
 import tryonu.api.fixture.*;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
@@ -51,6 +62,12 @@ class TryOnWriteServiceImplTest extends BaseServiceTest {
         @Mock
         private UserRepository userRepository;
 
+        @Mock
+        private SizeAdviceRepository sizeAdviceRepository;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         // Test Fixtures
         private User testUser;
         private DefaultModel testDefaultModel;
@@ -122,6 +139,10 @@ class TryOnWriteServiceImplTest extends BaseServiceTest {
                         then(userRepository).should().save(testUser);
                         then(tryOnResultConverter).should().toTryOnResponse(testTryOnResult, defaultModelName);
 
+                        // 결과 이미지 파생본 생성 요청
+                        then(eventPublisher).should().publishEvent(new ImageStoredEvent(
+                                        DerivativeTarget.TRY_ON_RESULT, testTryOnResult.getId(), uploadedResultImageUrl));
+
                         // Verify user information update
                         assertThat(testUser.getRecentlyUsedModelUrl()).isEqualTo(uploadedResultImageUrl);
                         assertThat(testUser.getRecentlyUsedModelName()).isEqualTo(defaultModelName);
@@ -180,6 +201,51 @@ class TryOnWriteServiceImplTest extends BaseServiceTest {
                         then(tryOnResultConverter).should().toClothEntity(clothImageUrl, null, category);
                 }
 
+                @Test
+                @DisplayName("성공: 같은 상품의 동일 이미지(content hash)면 기존 의류 재사용")
+                void saveAndBuildResponse_Success_ReuseClothByContentHash() {
+                        // Given
+                        Category category = Category.LONG_SLEEVE;
+                        String contentHash = "a".repeat(64);
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/sha256/" + contentHash
+                                        + ".jpg";
+                        String productPageUrl = "https://test-shop.com/product/123";
+                        String uploadedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/test-result.jpg";
+                        String defaultModelName = testDefaultModel.getModelName();
+                        Cloth existingCloth = ClothFixture.createCloth(clothImageUrl, productPageUrl, category);
+
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(
+                                        "test-job-12345",
+                                        uploadedResultImageUrl,
+                                        testDefaultModel.getId(),
+                                        defaultModelName);
+
+                        given(clothRepository.findReusable(contentHash, productPageUrl))
+                                        .willReturn(Optional.of(existingCloth));
+                        given(tryOnResultRepository.save(testTryOnResult)).willReturn(testTryOnResult);
+                        given(userRepository.save(testUser)).willReturn(testUser);
+                        given(tryOnResultConverter.toTryOnResponse(testTryOnResult, defaultModelName))
+                                        .willReturn(expectedResponse);
+
+                        // When
+                        TryOnResponse result = tryOnWriteService.saveAndBuildResponse(
+                                        testTryOnResult,
+                                        category,
+                                        clothImageUrl,
+                                        productPageUrl,
+                                        testDefaultModel.getImageUrl(),
+                                        uploadedResultImageUrl,
+                                        "test-fitting-id-12345",
+                                        testDefaultModel,
+                                        testUser);
+
+                        // Then
+                        assertThat(result).isEqualTo(expectedResponse);
+                        assertThat(testTryOnResult.getCloth()).isSameAs(existingCloth);
+                        then(tryOnResultConverter).should(never()).toClothEntity(any(), any(), any());
+                        then(clothRepository).should(never()).save(any(Cloth.class));
+                }
+
                 @ParameterizedTest
                 @EnumSource(value = Category.class, names = { "LONG_SLEEVE", "LONG_PANTS", "SLEEVELESS" })
                 @DisplayName("성공: 다양한 카테고리 처리")
@@ -231,4 +297,124 @@ class TryOnWriteServiceImplTest extends BaseServiceTest {
                         then(tryOnResultConverter).should().toClothEntity(clothImageUrl, productPageUrl, category);
                 }
         }
+
+        @Nested
+        @DisplayName("캐시된 결과로 작업 완료")
+        class SaveCachedFitting {
+
+                @Test
+                @DisplayName("성공: 작업 소유자의 최근 사용 모델을 갱신하고 가상 피팅 ID 없이 완료")
+                void saveCachedFitting_Success() {
+                        // Given
+                        String tryOnJobId = testTryOnResult.getTryOnJobId();
+                        String clothImageUrl = "https://test-bucket.s3.amazonaws.com/clothes/test-cloth.jpg";
+                        String productPageUrl = "https://test-shop.com/product/123";
+                        String modelUrl = "https://test-bucket.s3.amazonaws.com/models/test-model.jpg";
+                        String cachedResultImageUrl = "https://test-bucket.s3.amazonaws.com/results/cached.png";
+                        TryOnResponse expectedResponse = ResponseFixture.createTryOnResponse(tryOnJobId,
+                                        cachedResultImageUrl, testDefaultModel.getId(),
+                                        testDefaultModel.getModelName());
+
+                        given(tryOnResultRepository.findByTryOnJobIdOrThrow(tryOnJobId)).willReturn(testTryOnResult);
+                        given(tryOnResultConverter.toClothEntity(clothImageUrl, productPageUrl, Category.LONG_SLEEVE))
+                                        .willReturn(testCloth);
+                        given(clothRepository.save(testCloth)).willReturn(testCloth);
+                        given(tryOnResultConverter.toTryOnResponse(testTryOnResult, testDefaultModel.getModelName()))
+                                        .willReturn(expectedResponse);
+
+                        // When
+                        TryOnResponse result = tryOnWriteService.saveCachedFitting(tryOnJobId, Category.LONG_SLEEVE,
+                                        clothImageUrl, productPageUrl, modelUrl, cachedResultImageUrl,
+                                        testDefaultModel);
+
+                        // Then
+                        assertThat(result).isEqualTo(expectedResponse);
+                        assertThat(testTryOnResult.getStatus()).isEqualTo(TryOnJobStatus.COMPLETED);
+                        assertThat(testTryOnResult.getVirtualFittingId()).isNull();
+                        assertThat(testTryOnResult.getImageUrl()).isEqualTo(cachedResultImageUrl);
+                        assertThat(testUser.getRecentlyUsedModelUrl()).isEqualTo(cachedResultImageUrl);
+                        then(userRepository).should().save(testUser);
+                }
+        }
+
+        @Nested
+        @DisplayName("피팅 작업 접수 상태 전이")
+        class MarkJobQueued {
+
+                @Test
+                @DisplayName("성공: 조건부 전이에 성공하면 추가 조회 없이 접수한다")
+                void markJobQueued_Success() {
+                        // Given
+                        String tryOnJobId = testTryOnResult.getTryOnJobId();
+                        given(tryOnResultRepository.markJobQueued(tryOnJobId, testUser.getId())).willReturn(true);
+
+                        // When
+                        tryOnWriteService.markJobQueued(tryOnJobId, testUser.getId());
+
+                        // Then
+                        then(tryOnResultRepository).should().markJobQueued(tryOnJobId, testUser.getId());
+                        then(tryOnResultRepository).shouldHaveNoMoreInteractions();
+                }
+
+                @Test
+                @DisplayName("실패: 이미 진행 중인 작업이면 TRY_ON_JOB_ALREADY_SUBMITTED 예외")
+                void markJobQueued_Fail_AlreadySubmitted() {
+                        // Given
+                        String tryOnJobId = testTryOnResult.getTryOnJobId();
+                        given(tryOnResultRepository.markJobQueued(tryOnJobId, testUser.getId())).willReturn(false);
+                        given(tryOnResultRepository.findTryOnJobStatusOrThrow(tryOnJobId, testUser.getId()))
+                                        .willReturn(new TryOnJobStatusResponse(tryOnJobId, TryOnJobStatus.FITTING,
+                                                        null, 1L, null, null, null));
+
+                        // When & Then
+                        assertThatThrownBy(() -> tryOnWriteService.markJobQueued(tryOnJobId, testUser.getId()))
+                                        .isInstanceOf(CustomException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.TRY_ON_JOB_ALREADY_SUBMITTED);
+                }
+
+                @Test
+                @DisplayName("실패: 다른 사용자의 작업이면 TRY_ON_RESULT_NOT_FOUND 예외")
+                void markJobQueued_Fail_OtherUsersJob() {
+                        // Given
+                        String tryOnJobId = testTryOnResult.getTryOnJobId();
+                        given(tryOnResultRepository.markJobQueued(tryOnJobId, 2L)).willReturn(false);
+                        given(tryOnResultRepository.findTryOnJobStatusOrThrow(tryOnJobId, 2L))
+                                        .willThrow(new CustomException(ErrorCode.TRY_ON_RESULT_NOT_FOUND));
+
+                        // When & Then
+                        assertThatThrownBy(() -> tryOnWriteService.markJobQueued(tryOnJobId, 2L))
+                                        .isInstanceOf(CustomException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.TRY_ON_RESULT_NOT_FOUND);
+                }
+        }
+
+        @Nested
+        @DisplayName("사이즈 조언 저장")
+        class SaveSizeAdvice {
+
+                @Test
+                @DisplayName("성공: 사이즈 정보와 조언을 갱신하여 저장")
+                void saveSizeAdvice_Success() {
+                        // Given
+                        String tryOnJobId = "test-job-12345";
+                        SizeAdvice sizeAdvice = SizeAdvice.builder()
+                                        .tryOnJobId(tryOnJobId)
+                                        .user(testUser)
+                                        .build();
+                        given(sizeAdviceRepository.findByTryOnJobIdAndIsDeletedFalseOrThrow(tryOnJobId))
+                                        .willReturn(sizeAdvice);
+                        given(sizeAdviceRepository.save(sizeAdvice)).willReturn(sizeAdvice);
+
+                        // When
+                        SizeAdvice result = tryOnWriteService.saveSizeAdvice(tryOnJobId, "S 90 M 95",
+                                        "M 사이즈를 추천합니다.");
+
+                        // Then
+                        assertThat(result.getSizeInfo()).isEqualTo("S 90 M 95");
+                        assertThat(result.getAdvice()).isEqualTo("M 사이즈를 추천합니다.");
+                        then(sizeAdviceRepository).should().save(sizeAdvice);
+                }
+        }
 }
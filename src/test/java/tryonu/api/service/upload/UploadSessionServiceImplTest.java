@@ -0,0 +1,86 @@
+package tryonu.api.service.upload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+
+import tryonu.api.common.auth.SecurityUtils;
+import tryonu.api.common.enums.UploadPurpose;
+import tryonu.api.common.exception.CustomException;
+import tryonu.api.common.exception.enums.ErrorCode;
+import tryonu.api.common.util.DirectUploadUtil;
+import tryonu.api.config.BaseServiceTest;
+import tryonu.api.dto.requests.UploadSessionRequest;
+import tryonu.api.dto.responses.UploadSessionResponse;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UploadSessionServiceImpl 단위 테스트
+ */
+class UploadSessionServiceImplTest extends BaseServiceTest {
+
+    @InjectMocks
+    private UploadSessionServiceImpl uploadSessionService;
+
+    @Mock
+    private DirectUploadUtil directUploadUtil;
+
+    @Nested
+    @DisplayName("직접 업로드 세션 발급")
+    class CreateUploadSession {
+
+        @Test
+        @DisplayName("성공: 현재 사용자 기준으로 서명된 PUT URL을 발급한다")
+        void createUploadSession_Success() {
+            // Given
+            UploadSessionRequest request = new UploadSessionRequest(UploadPurpose.CLOTH, "image/jpeg", 2048L);
+            Instant expiresAt = Instant.parse("2025-01-01T12:05:00Z");
+            Map<String, String> headers = Map.of("content-type", "image/jpeg", "content-length", "2048");
+            DirectUploadUtil.PresignedUpload presignedUpload = new DirectUploadUtil.PresignedUpload(
+                    "uploads/cloth/1/20250101_120000_test.jpg", "https://bucket.s3.amazonaws.com/uploads/cloth/1/x",
+                    headers, expiresAt);
+            given(directUploadUtil.presign(UploadPurpose.CLOTH, 1L, "image/jpeg", 2048L)).willReturn(presignedUpload);
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When
+                UploadSessionResponse response = uploadSessionService.createUploadSession(request);
+
+                // Then
+                assertThat(response.objectKey()).isEqualTo(presignedUpload.objectKey());
+                assertThat(response.uploadUrl()).isEqualTo(presignedUpload.uploadUrl());
+                assertThat(response.method()).isEqualTo("PUT");
+                assertThat(response.headers()).isEqualTo(headers);
+                assertThat(response.expiresAt()).isEqualTo(expiresAt);
+            }
+        }
+
+        @Test
+        @DisplayName("실패: 크기 제한을 넘으면 URL을 발급하지 않는다")
+        void createUploadSession_Fail_TooLarge() {
+            // Given
+            UploadSessionRequest request = new UploadSessionRequest(UploadPurpose.MODEL, "image/png", 50_000_000L);
+            given(directUploadUtil.presign(UploadPurpose.MODEL, 1L, "image/png", 50_000_000L))
+                    .willThrow(new CustomException(ErrorCode.IMAGE_TOO_LARGE));
+
+            try (MockedStatic<SecurityUtils> mockedSecurityUtils = mockStatic(SecurityUtils.class)) {
+                mockedSecurityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+                // When & Then
+                assertThatThrownBy(() -> uploadSessionService.createUploadSession(request))
+                        .isInstanceOf(CustomException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(ErrorCode.IMAGE_TOO_LARGE);
+            }
+        }
+    }
+}
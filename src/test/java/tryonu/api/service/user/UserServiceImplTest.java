@@ -78,10 +78,14 @@ class UserServiceImplTest extends BaseServiceTest {
                 defaultModelDtos = List.of(
                                 new DefaultModelDto(1L,
                                                 "https://test-bucket.s3.amazonaws.com/models/default-female-model.jpg",
-                                                "기본 여성 모델", 1, false),
+                                                "기본 여성 모델", 1, false,
+                                                "https://test-bucket.s3.amazonaws.com/models/default-female-model.jpg",
+                                                "https://test-bucket.s3.amazonaws.com/models/default-female-model.jpg"),
                                 new DefaultModelDto(2L,
                                                 "https://test-bucket.s3.amazonaws.com/models/default-male-model.jpg",
-                                                "기본 남성 모델", 2, false));
+                                                "기본 남성 모델", 2, false,
+                                                "https://test-bucket.s3.amazonaws.com/models/default-male-model.jpg",
+                                                "https://test-bucket.s3.amazonaws.com/models/default-male-model.jpg"));
 
                 tryOnResultDtos = List.of();
         }